@@ -0,0 +1,88 @@
+package com.example.schoolmate.domain.calendar.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.schoolmate.domain.dashboard.dto.SchoolCalendarDTO;
+import com.example.schoolmate.global.config.metrics.NeisMetricsInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NEIS 학사일정(SchoolSchedule) 한 달치 응답 파싱 비용.
+ *
+ * <p>RestClient 가 하는 것과 같이 JSON → Map 으로 읽은 뒤 일정 DTO 로 변환합니다
+ * (네트워크 호출 제외). 학년 필터가 있는 경우와 없는 경우를 나눠 측정합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NeisCalendarParseBenchmark {
+
+    private static final String[][] EVENTS = {
+            { "입학식", "해당없음", "Y", "N", "N" },
+            { "1학기 중간고사", "해당없음", "Y", "Y", "Y" },
+            { "전국연합학력평가", "해당없음", "N", "N", "Y" },
+            { "어린이날", "공휴일", "Y", "Y", "Y" },
+            { "체육대회", "해당없음", "Y", "Y", "Y" },
+            { "재량휴업일", "휴업일", "Y", "Y", "Y" },
+            { "진로체험의 날", "해당없음", "N", "Y", "N" },
+            { "토요휴업일", "토요휴업일", "Y", "Y", "Y" },
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private NeisCalendarService service;
+    private String response;
+
+    @Setup
+    public void setup() throws Exception {
+        service = new NeisCalendarService(new NeisMetricsInterceptor(new SimpleMeterRegistry()));
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int day = 1; day <= 31; day++) {
+            String[] e = EVENTS[day % EVENTS.length];
+            Map<String, String> row = new LinkedHashMap<>();
+            row.put("ATPT_OFCDC_SC_CODE", "B10");
+            row.put("SD_SCHUL_CODE", "7010536");
+            row.put("SCHUL_NM", "벤치마크고등학교");
+            row.put("AY", "2025");
+            row.put("DGHT_CRSE_SC_NM", "주간");
+            row.put("SCHUL_CRSE_SC_NM", "고등학교");
+            row.put("SBTR_DD_SC_NM", e[1]);
+            row.put("AA_YMD", String.format("202505%02d", day));
+            row.put("EVENT_NM", e[0]);
+            row.put("EVENT_CNTNT", e[0] + " 안내");
+            row.put("ONE_GRADE_EVENT_YN", e[2]);
+            row.put("TW_GRADE_EVENT_YN", e[3]);
+            row.put("THREE_GRADE_EVENT_YN", e[4]);
+            rows.add(row);
+        }
+        Map<String, Object> body = Map.of("SchoolSchedule", List.of(
+                Map.of("head", List.of(Map.of("list_total_count", rows.size()))),
+                Map.of("row", rows)));
+        response = objectMapper.writeValueAsString(body);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<SchoolCalendarDTO> monthAllGrades() throws Exception {
+        return service.toEvents(objectMapper.readValue(response, Map.class), null);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<SchoolCalendarDTO> monthSingleGrade() throws Exception {
+        return service.toEvents(objectMapper.readValue(response, Map.class), 2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.schoolmate.domain.dashboard.controller;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 한 반 학생 이름 가나다순 정렬 비용 (DashboardApiController.toChildDTO 의 출석번호 계산).
+ *
+ * <ul>
+ *   <li>{@code collatorPerCall}: 현재 코드 그대로 — 호출마다 Collator.getInstance(KOREAN)</li>
+ *   <li>{@code sharedCollator}: Collator 인스턴스를 재사용 (clone 비용 제외)</li>
+ *   <li>{@code collationKeys}: 이름당 CollationKey 를 한 번만 만들고 바이트 비교</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassmateSortBenchmark {
+
+    private static final String[] LAST = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권" };
+    private static final String[] FIRST = { "민준", "서연", "도윤", "하윤", "시우", "지우", "주원", "서아", "하준", "지호",
+            "예린", "수아", "지안", "은우", "유나", "건우", "채원", "현우", "다인", "태윤" };
+
+    @Param({ "30", "300" })
+    public int students;
+
+    private List<String> names;
+    private Collator shared;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        names = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            names.add(LAST[random.nextInt(LAST.length)] + FIRST[random.nextInt(FIRST.length)]);
+        }
+        shared = Collator.getInstance(Locale.KOREAN);
+    }
+
+    @Benchmark
+    public List<String> collatorPerCall() {
+        return names.stream()
+                .sorted(Collator.getInstance(Locale.KOREAN)::compare)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> sharedCollator() {
+        return names.stream()
+                .sorted(shared::compare)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> collationKeys() {
+        return names.stream()
+                .map(shared::getCollationKey)
+                .sorted(Comparator.naturalOrder())
+                .map(CollationKey::getSourceString)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.schoolmate.domain.meal.service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.schoolmate.global.config.metrics.NeisMetricsInterceptor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NEIS 급식(mealServiceDietInfo) 응답 파싱 비용 — 조식·중식·석식 3건 중 중식을 골라
+ * 메뉴·알레르기·열량을 추출합니다 (네트워크 호출 제외).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NeisMealParseBenchmark {
+
+    private static final String RESPONSE = """
+            {"mealServiceDietInfo":[
+              {"head":[{"list_total_count":3},{"RESULT":{"CODE":"INFO-000","MESSAGE":"정상 처리되었습니다."}}]},
+              {"row":[
+                {"ATPT_OFCDC_SC_CODE":"B10","ATPT_OFCDC_SC_NM":"서울특별시교육청","SD_SCHUL_CODE":"7010536",
+                 "SCHUL_NM":"벤치마크고등학교","MMEAL_SC_CODE":"1","MMEAL_SC_NM":"조식","MLSV_YMD":"20250312",
+                 "MLSV_FGR":412,"DDISH_NM":"흑미밥<br/>북엇국5.6.<br/>계란말이1.5.<br/>깍두기9.",
+                 "ORPLC_INFO":"쌀 : 국내산<br/>김치류 : 국내산","CAL_INFO":"512.3 Kcal",
+                 "NTR_INFO":"탄수화물(g) : 80.1<br/>단백질(g) : 21.4","MLSV_FROM_YMD":"20250312","MLSV_TO_YMD":"20250312"},
+                {"ATPT_OFCDC_SC_CODE":"B10","ATPT_OFCDC_SC_NM":"서울특별시교육청","SD_SCHUL_CODE":"7010536",
+                 "SCHUL_NM":"벤치마크고등학교","MMEAL_SC_CODE":"2","MMEAL_SC_NM":"중식","MLSV_YMD":"20250312",
+                 "MLSV_FGR":1024,"DDISH_NM":"기장밥(친환경)<br/>돼지고기김치찌개(영)1.5.9.10.13.<br/>닭갈비(고)5.6.13.15.<br/>도토리묵무침5.6.<br/>배추김치(완)9.13.<br/>딸기요플레2.13.",
+                 "ORPLC_INFO":"쌀 : 국내산<br/>돼지고기 : 국내산<br/>닭고기 : 국내산","CAL_INFO":"644.9 Kcal",
+                 "NTR_INFO":"탄수화물(g) : 92.3<br/>단백질(g) : 32.1<br/>지방(g) : 17.8","MLSV_FROM_YMD":"20250312","MLSV_TO_YMD":"20250312"},
+                {"ATPT_OFCDC_SC_CODE":"B10","ATPT_OFCDC_SC_NM":"서울특별시교육청","SD_SCHUL_CODE":"7010536",
+                 "SCHUL_NM":"벤치마크고등학교","MMEAL_SC_CODE":"3","MMEAL_SC_NM":"석식","MLSV_YMD":"20250312",
+                 "MLSV_FGR":388,"DDISH_NM":"잡곡밥<br/>순두부찌개5.9.<br/>제육볶음5.6.10.13.<br/>배추김치9.13.",
+                 "ORPLC_INFO":"쌀 : 국내산","CAL_INFO":"701.0 Kcal",
+                 "NTR_INFO":"탄수화물(g) : 95.0","MLSV_FROM_YMD":"20250312","MLSV_TO_YMD":"20250312"}
+              ]}
+            ]}
+            """;
+
+    private NeisMealService service;
+
+    @Setup
+    public void setup() {
+        service = new NeisMealService(new NeisMetricsInterceptor(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Map<String, Object> parseMealResponse() throws Exception {
+        return service.parseMealResponse(RESPONSE);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.schoolmate.domain.quiz.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.schoolmate.domain.quiz.dto.QuizDTO;
+import com.example.schoolmate.domain.quiz.entity.QuestionType;
+import com.example.schoolmate.domain.quiz.entity.Quiz;
+import com.example.schoolmate.domain.quiz.entity.QuizOption;
+import com.example.schoolmate.domain.quiz.entity.QuizQuestion;
+import com.example.schoolmate.domain.quiz.entity.QuizSubmission;
+
+/**
+ * 퀴즈 자동 채점 비용 (QuizService.submitQuiz 의 DB 접근을 뺀 채점 부분).
+ *
+ * <p>문제의 4분의 3은 4지선다 객관식, 나머지는 복수 정답 단답형이며
+ * 답안은 고정 시드로 절반쯤 맞도록 만듭니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizGradingBenchmark {
+
+    @Param({ "20", "100" })
+    public int questions;
+
+    private Quiz quiz;
+    private List<QuizDTO.AnswerRequest> answers;
+    private QuizQuestion shortAnswerQuestion;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        quiz = Quiz.builder().title("벤치마크 퀴즈").build();
+        answers = new ArrayList<>();
+        long optionId = 1;
+        for (int q = 0; q < questions; q++) {
+            long questionId = q + 1;
+            boolean choice = q % 4 != 3;
+            QuizQuestion question = QuizQuestion.builder()
+                    .id(questionId)
+                    .quiz(quiz)
+                    .questionText("문제 " + questionId)
+                    .questionOrder(q + 1)
+                    .points(1 + q % 3)
+                    .questionType(choice ? QuestionType.MULTIPLE_CHOICE : QuestionType.SHORT_ANSWER)
+                    .correctAnswer(choice ? null : "광합성, photosynthesis, 광합성작용")
+                    .options(new ArrayList<>())
+                    .build();
+            long correctOptionId = 0;
+            long wrongOptionId = 0;
+            if (choice) {
+                int correctIndex = random.nextInt(4);
+                for (int o = 0; o < 4; o++) {
+                    long id = optionId++;
+                    if (o == correctIndex) correctOptionId = id;
+                    else wrongOptionId = id;
+                    question.getOptions().add(QuizOption.builder()
+                            .id(id).question(question).optionText("보기 " + (o + 1))
+                            .optionOrder(o + 1).isCorrect(o == correctIndex).build());
+                }
+            }
+            quiz.getQuestions().add(question);
+
+            boolean right = random.nextBoolean();
+            answers.add(choice
+                    ? QuizDTO.AnswerRequest.builder().questionId(questionId)
+                            .selectedOptionId(right ? correctOptionId : wrongOptionId)
+                            .build()
+                    : QuizDTO.AnswerRequest.builder().questionId(questionId)
+                            .answerText(right ? " Photosynthesis " : "호흡").build());
+            if (!choice) shortAnswerQuestion = question;
+        }
+    }
+
+    @Benchmark
+    public int gradeSubmission() {
+        QuizSubmission submission = QuizSubmission.builder()
+                .quiz(quiz)
+                .answers(new ArrayList<>())
+                .build();
+        return QuizService.grade(quiz, submission, answers);
+    }
+
+    @Benchmark
+    public boolean checkShortAnswer() {
+        return shortAnswerQuestion.checkShortAnswer(" Photosynthesis ");
+    }
+}
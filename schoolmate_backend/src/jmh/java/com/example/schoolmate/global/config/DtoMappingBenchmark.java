@@ -0,0 +1,111 @@
+package com.example.schoolmate.global.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.example.schoolmate.domain.classroom.entity.Classroom;
+import com.example.schoolmate.domain.grade.entity.Subject;
+import com.example.schoolmate.domain.school.entity.School;
+import com.example.schoolmate.domain.student.dto.StudentDTO;
+import com.example.schoolmate.domain.student.entity.StudentAssignment;
+import com.example.schoolmate.domain.student.entity.StudentInfo;
+import com.example.schoolmate.domain.student.entity.constant.StudentStatus;
+import com.example.schoolmate.domain.teacher.dto.TeacherDTO;
+import com.example.schoolmate.domain.teacher.entity.TeacherInfo;
+import com.example.schoolmate.domain.teacher.entity.constant.TeacherStatus;
+import com.example.schoolmate.domain.term.entity.SchoolYear;
+import com.example.schoolmate.domain.term.entity.SchoolYearStatus;
+import com.example.schoolmate.domain.user.entity.User;
+import com.example.schoolmate.domain.user.entity.constant.UserRole;
+import com.example.schoolmate.global.config.school.SchoolContextHolder;
+
+/**
+ * Entity → DTO 변환 비용: ModelMapperConfig 설정 그대로의 ModelMapper 와
+ * DTO 의 수작업 생성자({@code new DetailResponse(user)})를 비교합니다.
+ *
+ * <p>학생은 3개 학년도 배정 이력을 가진 StudentInfo, 교사는 과목이 지정된 TeacherInfo 를 가집니다.
+ * 생성자는 SchoolContextHolder 의 학교로 info 를 고르므로 측정 스레드에 학교 ID 를 설정해 둡니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private static final long SCHOOL_ID = 7L;
+
+    private ModelMapper modelMapper;
+    private User student;
+    private User teacher;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapperConfig().modelMapper();
+        School school = School.builder().id(SCHOOL_ID).name("벤치마크고등학교").build();
+
+        student = User.builder().uid(1001L).email("student1001@schoolmate.test").name("김하늘").build();
+        student.addRole(UserRole.STUDENT);
+        StudentInfo studentInfo = new StudentInfo();
+        studentInfo.setId(2001L);
+        studentInfo.setCode("S2025-0001");
+        studentInfo.setSchool(school);
+        studentInfo.setPrimary(true);
+        studentInfo.setStatus(StudentStatus.ENROLLED);
+        for (int grade = 1; grade <= 3; grade++) {
+            SchoolYear year = new SchoolYear(2022 + grade,
+                    grade == 3 ? SchoolYearStatus.CURRENT : SchoolYearStatus.PAST);
+            Classroom classroom = Classroom.builder().cid(100L + grade).schoolYear(year)
+                    .grade(grade).classNum(4).build();
+            studentInfo.getAssignments().add(new StudentAssignment(studentInfo, year, classroom, 12));
+        }
+        student.addInfo(studentInfo);
+
+        teacher = User.builder().uid(1002L).email("teacher1002@schoolmate.test").name("이서준").build();
+        teacher.addRole(UserRole.TEACHER);
+        TeacherInfo teacherInfo = new TeacherInfo();
+        teacherInfo.setId(3001L);
+        teacherInfo.setCode("T2025-0001");
+        teacherInfo.setSchool(school);
+        teacherInfo.setPrimary(true);
+        teacherInfo.setSubject(Subject.builder().id(51L).code("MATH01").name("수학").build());
+        teacherInfo.setDepartment("교무부");
+        teacherInfo.setPosition("평교사");
+        teacherInfo.setStatus(TeacherStatus.EMPLOYED);
+        teacher.addInfo(teacherInfo);
+
+        SchoolContextHolder.setSchoolId(SCHOOL_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SchoolContextHolder.clear();
+    }
+
+    @Benchmark
+    public StudentDTO.DetailResponse studentHandWritten() {
+        return new StudentDTO.DetailResponse(student);
+    }
+
+    @Benchmark
+    public StudentDTO.DetailResponse studentModelMapper() {
+        return modelMapper.map(student, StudentDTO.DetailResponse.class);
+    }
+
+    @Benchmark
+    public TeacherDTO.DetailResponse teacherHandWritten() {
+        return new TeacherDTO.DetailResponse(teacher);
+    }
+
+    @Benchmark
+    public TeacherDTO.DetailResponse teacherModelMapper() {
+        return modelMapper.map(teacher, TeacherDTO.DetailResponse.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.schoolmate.global.config.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 액세스 토큰 검증 비용.
+ *
+ * <p>{@code filterPerRequest} 는 JwtAuthFilter 가 요청마다 하는 그대로
+ * isValid → getEmail → getSchoolId → getInfoId (서명 검증 4회)를 재현하고,
+ * {@code parseOnce} 는 한 번 파싱한 Claims 에서 모두 읽는 경우입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private String tampered;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, 1_800_000L, 604_800_000L);
+        token = jwtUtil.generateAccessToken(1024L, "teacher1024@schoolmate.test", "TEACHER", 7L, 31L);
+        // 서명 중간 한 글자만 바꿔 검증 실패 경로 측정 (마지막 글자는 패딩 비트라 바꿔도 같은 값일 수 있음)
+        int i = token.length() - 10;
+        char c = token.charAt(i);
+        tampered = token.substring(0, i) + (c == 'A' ? 'B' : 'A') + token.substring(i + 1);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean isValidRejectsTampered() {
+        return jwtUtil.isValid(tampered);
+    }
+
+    @Benchmark
+    public void filterPerRequest(Blackhole bh) {
+        bh.consume(jwtUtil.isValid(token));
+        bh.consume(jwtUtil.getEmail(token));
+        bh.consume(jwtUtil.getSchoolId(token));
+        bh.consume(jwtUtil.getInfoId(token));
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole bh) {
+        Claims claims = jwtUtil.parseToken(token);
+        bh.consume(claims.getSubject());
+        bh.consume(claims.get("schoolId", Long.class));
+        bh.consume(claims.get("infoId", Long.class));
+    }
+}
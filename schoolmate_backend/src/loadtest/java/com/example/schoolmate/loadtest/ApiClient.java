@@ -0,0 +1,119 @@
+package com.example.schoolmate.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 가상 사용자 한 명의 HTTP 클라이언트. 로그인 후 받은 accessToken 을 Bearer 로 붙이고,
+ * 모든 호출의 소요 시간을 엔드포인트({@code METHOD /route/{pattern}})별로 기록합니다.
+ *
+ * <p>엔드포인트 이름은 서버의 매핑 패턴과 같게 지정해야 서버 측 SQL 집계와 합쳐집니다.</p>
+ */
+final class ApiClient {
+
+    /** 가상 사용자 전체가 공유하는 기록 */
+    static final class Recorder {
+        private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+        void record(String endpoint, long elapsedNanos, boolean ok) {
+            endpoints.computeIfAbsent(endpoint, k -> new EndpointStats()).record(elapsedNanos, ok);
+        }
+
+        Map<String, EndpointStats> endpoints() {
+            return endpoints;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Recorder recorder;
+    private String accessToken;
+
+    ApiClient(HttpClient http, String baseUrl, Recorder recorder) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    boolean login(String email, String password) {
+        JsonNode body = post("POST /api/auth/login", "/api/auth/login",
+                Map.of("email", email, "password", password));
+        if (body == null || !body.hasNonNull("accessToken")) return false;
+        accessToken = body.get("accessToken").asText();
+        return true;
+    }
+
+    JsonNode get(String endpoint, String path) {
+        return send(endpoint, request(path).GET());
+    }
+
+    JsonNode post(String endpoint, String path, Object body) {
+        return send(endpoint, request(path).POST(bodyOf(body)));
+    }
+
+    JsonNode put(String endpoint, String path, Object body) {
+        return send(endpoint, request(path).PUT(bodyOf(body)));
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("User-Agent", "schoolmate-loadtest");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private static HttpRequest.BodyPublisher bodyOf(Object body) {
+        if (body == null) return HttpRequest.BodyPublishers.noBody();
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * @return 2xx 응답 본문(JSON, 없으면 빈 노드); 실패하면 null
+     */
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        boolean ok = response.statusCode() / 100 == 2;
+        recorder.record(endpoint, System.nanoTime() - start, ok);
+        if (!ok) return null;
+        return parse(response.body());
+    }
+
+    /** JSON 이 아닌 본문(빈 본문·문자열)은 빈 노드로 취급 */
+    private static JsonNode parse(byte[] body) {
+        if (body.length == 0) return MAPPER.createObjectNode();
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            return MAPPER.createObjectNode();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.schoolmate.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 엔드포인트 한 곳의 응답 시간 표본과 오류 수.
+ * 표본을 모두 보관했다가 정렬해 백분위를 구합니다 (수백만 건까지는 충분).
+ */
+final class EndpointStats {
+
+    record Summary(long count, long errors, double p50Ms, double p95Ms, double p99Ms,
+                   double meanMs, double maxMs, double perSecond) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void record(long elapsedNanos, boolean ok) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = elapsedNanos;
+        if (!ok) errors++;
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long n : sorted) total += n;
+        return new Summary(size, errors,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)),
+                size == 0 ? 0 : millis(total / size),
+                size == 0 ? 0 : millis(sorted[size - 1]),
+                seconds > 0 ? size / seconds : 0);
+    }
+
+    /** nearest-rank 백분위 */
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.schoolmate.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.schoolmate.SchoolmateApplication;
+import com.example.schoolmate.domain.school.entity.School;
+import com.example.schoolmate.domain.school.repository.SchoolRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * I/O 대기 위주 엔드포인트의 플랫폼 스레드 / 가상 스레드 비교 — {@code gradle ioBenchmark}.
+ *
+ * <p>나이스 Open API 를 고정 지연(iobench.neisDelayMs)으로 응답하는 로컬 스텁으로 바꾸고,
+ * 앱을 모드마다 새로 띄워 학사일정·시간표 조회(요청당 DB 조회 1회 + 나이스 호출 1회)에
+ * Tomcat 스레드 수보다 많은 동시 클라이언트를 쉬지 않고 보냅니다.</p>
+ *
+ * <ul>
+ *   <li>platform: spring.threads.virtual.enabled=false (Tomcat 요청 스레드 풀, 기본 200개)</li>
+ *   <li>virtual: spring.threads.virtual.enabled=true — Java 21 이상 런타임에서만 실행
+ *       ({@code gradle ioBenchmark -PjavaVersion=21}), 그보다 낮으면 건너뜀</li>
+ * </ul>
+ *
+ * <p>모드별 엔드포인트 p50/p95/p99·처리량을 표로 출력하고 build/reports/loadtest/io-benchmark.json 에 씁니다.
+ * 데이터는 학교 한 곳(school_code=IOBENCH)만 있으면 되며 없으면 만듭니다.</p>
+ */
+public final class IoBoundBenchmark {
+
+    private static final String BENCH_SCHOOL_CODE = "IOBENCH";
+    private static final String EVENTS = "GET /api/calendar/events";
+    private static final String TIMETABLE = "GET /api/calendar/timetable";
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * 벤치마크 설정 — 시스템 프로퍼티 {@code iobench.*} (gradle ioBenchmark -Piobench.clients=800 처럼 전달)
+     *
+     * @param clients       동시 클라이언트 수 (각자 응답을 받자마자 다음 요청)
+     * @param warmupSeconds 모드마다 측정 전에 버리는 구간
+     * @param seconds       모드마다 측정 구간
+     * @param neisDelayMs   스텁 나이스 API 응답 지연
+     * @param modes         실행할 모드 (platform,virtual)
+     */
+    record Config(int clients, int warmupSeconds, int seconds, int neisDelayMs, List<String> modes, Path report) {
+
+        static Config fromSystemProperties() {
+            return new Config(
+                    intProp("clients", 400),
+                    intProp("warmupSeconds", 5),
+                    intProp("seconds", 30),
+                    intProp("neisDelayMs", 100),
+                    List.of(System.getProperty("iobench.modes", "platform,virtual").split(",")),
+                    Path.of(System.getProperty("iobench.report", "build/reports/loadtest/io-benchmark.json")));
+        }
+
+        private static int intProp(String name, int defaultValue) {
+            return Integer.parseInt(System.getProperty("iobench." + name, String.valueOf(defaultValue)));
+        }
+    }
+
+    private IoBoundBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.fromSystemProperties();
+        HttpServer neis = startNeisStub(config.neisDelayMs());
+        Map<String, Object> modes = new LinkedHashMap<>();
+        try {
+            for (String mode : config.modes()) {
+                boolean virtual = "virtual".equals(mode.trim());
+                if (virtual && Runtime.version().feature() < 21) {
+                    System.out.printf("[iobench] virtual 건너뜀 — Java %d 런타임 (21 이상 필요, -PjavaVersion=21)%n",
+                            Runtime.version().feature());
+                    continue;
+                }
+                modes.put(virtual ? "virtual" : "platform", runMode(config, neis, virtual));
+            }
+        } finally {
+            neis.stop(0);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("java", Runtime.version().toString());
+        report.put("modes", modes);
+        Files.createDirectories(config.report().toAbsolutePath().getParent());
+        MAPPER.writeValue(config.report().toFile(), report);
+        System.out.println("[iobench] 결과: " + config.report().toAbsolutePath());
+        System.exit(0);
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    /** 앱을 해당 모드로 띄워 예열 후 측정하고 엔드포인트별 요약을 반환합니다. */
+    private static Map<String, EndpointStats.Summary> runMode(Config config, HttpServer neis, boolean virtual)
+            throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = boot(neis, virtual)) {
+            long schoolId = benchSchoolId(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            System.out.printf("[iobench] %s — %s, 동시 클라이언트 %d, 나이스 지연 %dms%n",
+                    mode, baseUrl, config.clients(), config.neisDelayMs());
+
+            drive(http, baseUrl, schoolId, config.clients(), config.warmupSeconds(), new ApiClient.Recorder());
+            ApiClient.Recorder recorder = new ApiClient.Recorder();
+            long started = System.nanoTime();
+            drive(http, baseUrl, schoolId, config.clients(), config.seconds(), recorder);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            Map<String, EndpointStats.Summary> summaries = new LinkedHashMap<>();
+            recorder.endpoints().forEach((endpoint, stats) -> summaries.put(endpoint, stats.summarize(seconds)));
+            print(mode, summaries);
+            return summaries;
+        }
+    }
+
+    /**
+     * 앱 기동 — 나이스 주소를 스텁으로, 스레드 모드를 지정값으로 덮어씁니다.
+     * 모드마다 다시 띄우므로 {@link LoadTestRunner} 와 달리 이미 지정된 값도 덮어씁니다.
+     */
+    private static ConfigurableApplicationContext boot(HttpServer neis, boolean virtual) {
+        Map<String, String> overrides = Map.of(
+                "server.port", "0",
+                "management.server.port", "0",
+                "spring.threads.virtual.enabled", String.valueOf(virtual),
+                "neis.api.base-url", "http://localhost:" + neis.getAddress().getPort() + "/hub",
+                "logging.level.org.hibernate.SQL", "warn",
+                "logging.level.org.hibernate.orm.jdbc.bind", "warn",
+                "logging.level.com.example.schoolmate.domain.calendar", "warn",
+                "spring.main.banner-mode", "off");
+        overrides.forEach(System::setProperty);
+        return new SpringApplicationBuilder(SchoolmateApplication.class).run();
+    }
+
+    private static long benchSchoolId(ConfigurableApplicationContext context) {
+        SchoolRepository schools = context.getBean(SchoolRepository.class);
+        return schools.findBySchoolCode(BENCH_SCHOOL_CODE)
+                .orElseGet(() -> schools.save(School.builder()
+                        .name("I/O 벤치마크 고등학교")
+                        .schoolCode(BENCH_SCHOOL_CODE)
+                        .officeCode("B10")
+                        .schoolKind("고등학교")
+                        .build()))
+                .getId();
+    }
+
+    /** clients 명이 seconds 동안 학사일정·시간표 조회를 번갈아 보냅니다 (closed loop, think time 없음). */
+    private static void drive(HttpClient http, String baseUrl, long schoolId, int clients, int seconds,
+            ApiClient.Recorder recorder) throws Exception {
+        LocalDate today = LocalDate.now();
+        String eventsPath = "/api/calendar/events?year=" + today.getYear() + "&month=" + today.getMonthValue()
+                + "&schoolId=" + schoolId;
+        String timetablePath = "/api/calendar/timetable?grade=1&classNum=1&schoolId=" + schoolId;
+        long deadline = SchoolDayUsers.secondsFromNow(seconds);
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(clients, r -> {
+            Thread t = new Thread(r, "iobench-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                boolean eventsFirst = i % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    ApiClient client = new ApiClient(http, baseUrl, recorder);
+                    boolean events = eventsFirst;
+                    while (System.nanoTime() < deadline) {
+                        if (events) {
+                            client.get(EVENTS, eventsPath);
+                        } else {
+                            client.get(TIMETABLE, timetablePath);
+                        }
+                        events = !events;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void print(String mode, Map<String, EndpointStats.Summary> summaries) {
+        System.out.printf("%n[iobench] %s%n", mode);
+        System.out.printf("%-30s %9s %7s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "p50(ms)", "p95(ms)",
+                "p99(ms)", "req/s");
+        summaries.forEach((endpoint, s) -> System.out.printf("%-30s %9d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, s.count(), s.errors(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.perSecond()));
+    }
+
+    /**
+     * 나이스 Open API 스텁 — 모든 경로에 delayMs 뒤 행 하나짜리 응답을 돌려줍니다.
+     * 응답 키는 경로 마지막 부분(SchoolSchedule, hisTimetable ...)입니다.
+     */
+    private static HttpServer startNeisStub(int delayMs) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        AtomicInteger threadSeq = new AtomicInteger();
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "neis-stub-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }));
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        server.createContext("/hub", exchange -> respond(exchange, delayMs, today));
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, int delayMs, String today) throws IOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String path = exchange.getRequestURI().getPath();
+        String key = path.substring(path.lastIndexOf('/') + 1);
+        String json = "{\"" + key + "\":[{\"head\":[{\"list_total_count\":1}]},{\"row\":[{"
+                + "\"AA_YMD\":\"" + today + "\",\"EVENT_NM\":\"벤치마크\",\"SBTR_DD_SC_NM\":\"해당없음\","
+                + "\"ALL_TI_YMD\":\"" + today + "\",\"PERIO\":\"1\",\"ITRT_CNTNT\":\"국어\"}]}]}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
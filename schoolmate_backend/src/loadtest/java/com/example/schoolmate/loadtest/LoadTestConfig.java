@@ -0,0 +1,60 @@
+package com.example.schoolmate.loadtest;
+
+import java.nio.file.Path;
+
+import com.example.schoolmate.domain.admin.service.LoadDataGenerator;
+
+/**
+ * 부하 테스트 설정. 모두 시스템 프로퍼티 {@code loadtest.*} 로 바꿀 수 있습니다
+ * (gradle loadTest -Ploadtest.classes=16 처럼 전달).
+ *
+ * @param seed             LoadDataGenerator seed — 같은 seed 데이터가 있으면 재사용
+ * @param classes          구동할 올해 학급 수 (가상 사용자 = 학급 수 × (학생 + 담임))
+ * @param loginRampSeconds 등교 로그인을 흩뿌리는 구간 길이
+ * @param schoolDaySeconds 게시판 열람·출결 처리 구간 길이
+ * @param quizBursts       학급 전원이 동시에 퀴즈를 제출하는 횟수
+ * @param thinkTimeMs      학생 요청 사이 평균 대기 (교사는 5배)
+ * @param budgets          한도 파일 (클래스패스 리소스 또는 파일 경로)
+ * @param writeBudgets     지정하면 이번 결과로 한도 파일을 새로 씀 (기준선 갱신용)
+ */
+record LoadTestConfig(
+        int seed,
+        int schools,
+        int grades,
+        int classesPerGrade,
+        int studentsPerClass,
+        int classes,
+        int loginRampSeconds,
+        int schoolDaySeconds,
+        int quizBursts,
+        int thinkTimeMs,
+        String budgets,
+        String writeBudgets,
+        Path report) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProp("seed", 4242),
+                intProp("schools", 2),
+                intProp("grades", 6),
+                intProp("classesPerGrade", 4),
+                intProp("studentsPerClass", 25),
+                intProp("classes", 8),
+                intProp("loginRampSeconds", 30),
+                intProp("schoolDaySeconds", 120),
+                intProp("quizBursts", 3),
+                intProp("thinkTimeMs", 1000),
+                System.getProperty("loadtest.budgets", "loadtest-budgets.json"),
+                System.getProperty("loadtest.writeBudgets"),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json")));
+    }
+
+    /** 합성 데이터 규모 — 이력 1년, 학급당 게시글 20·퀴즈 3개 */
+    LoadDataGenerator.Spec spec() {
+        return new LoadDataGenerator.Spec(schools, grades, classesPerGrade, studentsPerClass, 1, 20, 3, 1, seed);
+    }
+
+    private static int intProp(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+}
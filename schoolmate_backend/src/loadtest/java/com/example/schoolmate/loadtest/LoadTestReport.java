@@ -0,0 +1,183 @@
+package com.example.schoolmate.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.example.schoolmate.global.config.sql.SqlStatementStats;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 엔드포인트별 결과(클라이언트 지연 + 서버 SQL 문 수)를 표와 JSON 으로 내보내고 한도와 비교합니다.
+ *
+ * <p>한도 파일 형식:</p>
+ * <pre>
+ * {
+ *   "defaults":  { "errorRate": 0.01 },
+ *   "endpoints": { "POST /api/auth/login": { "p95Ms": 800, "p99Ms": 1500, "sqlPerRequest": 8 } }
+ * }
+ * </pre>
+ * 항목을 생략하면 검사하지 않습니다.
+ */
+final class LoadTestReport {
+
+    /** 생성한 한도의 여유 — 지연은 관측치의 1.5배, SQL 문 수는 평균 올림 + 1 */
+    private static final double LATENCY_HEADROOM = 1.5;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record Row(String endpoint, EndpointStats.Summary latency, SqlStatementStats.Route sql) {}
+
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<String, Object> run;
+
+    LoadTestReport(ApiClient.Recorder recorder, Map<String, SqlStatementStats.Route> sql,
+                   double seconds, Map<String, Object> run) {
+        this.run = run;
+        TreeSet<String> endpoints = new TreeSet<>(recorder.endpoints().keySet());
+        endpoints.addAll(sql.keySet());
+        for (String endpoint : endpoints) {
+            EndpointStats stats = recorder.endpoints().get(endpoint);
+            rows.add(new Row(endpoint,
+                    stats != null ? stats.summarize(seconds) : null,
+                    sql.get(endpoint)));
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-45s %8s %7s %9s %9s %9s %8s %8s %6s %9s %7s%n",
+                "endpoint", "count", "err%", "p50(ms)", "p95(ms)", "p99(ms)", "req/s", "sql/req", "sqlMax",
+                "jdbcMs/req", "repeat");
+        for (Row row : rows) {
+            EndpointStats.Summary l = row.latency();
+            SqlStatementStats.Route s = row.sql();
+            out.printf("%-45s %8s %7s %9s %9s %9s %8s %8s %6s %9s %7s%n", row.endpoint(),
+                    l != null ? l.count() : "-",
+                    l != null ? String.format("%.2f", l.errorRate() * 100) : "-",
+                    l != null ? l.p50Ms() : "-",
+                    l != null ? l.p95Ms() : "-",
+                    l != null ? l.p99Ms() : "-",
+                    l != null ? String.format("%.1f", l.perSecond()) : "-",
+                    s != null ? String.format("%.1f", s.statementsPerRequest()) : "-",
+                    s != null ? s.maxStatements() : "-",
+                    s != null ? String.format("%.2f", s.jdbcMillisPerRequest()) : "-",
+                    s != null ? s.maxRepeats() : "-");
+        }
+    }
+
+    void write(Path path) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Row row : rows) {
+            Map<String, Object> e = new LinkedHashMap<>();
+            EndpointStats.Summary l = row.latency();
+            if (l != null) {
+                e.put("count", l.count());
+                e.put("errors", l.errors());
+                e.put("errorRate", l.errorRate());
+                e.put("p50Ms", l.p50Ms());
+                e.put("p95Ms", l.p95Ms());
+                e.put("p99Ms", l.p99Ms());
+                e.put("meanMs", l.meanMs());
+                e.put("maxMs", l.maxMs());
+                e.put("perSecond", l.perSecond());
+            }
+            SqlStatementStats.Route s = row.sql();
+            if (s != null) {
+                e.put("serverRequests", s.requests());
+                e.put("sqlPerRequest", s.statementsPerRequest());
+                e.put("sqlMax", s.maxStatements());
+                e.put("sqlJdbcMsPerRequest", s.jdbcMillisPerRequest());
+                e.put("sqlMaxRepeats", s.maxRepeats());
+                e.put("sqlOverBudget", s.overBudget());
+                e.put("sqlHistogram", s.histogram());
+            }
+            endpoints.put(row.endpoint(), e);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("run", run);
+        report.put("endpoints", endpoints);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        MAPPER.writeValue(path.toFile(), report);
+    }
+
+    /**
+     * @return 한도 위반 목록 (비어 있으면 통과)
+     */
+    List<String> check(JsonNode budgets) {
+        List<String> violations = new ArrayList<>();
+        double defaultErrorRate = budgets.path("defaults").path("errorRate").asDouble(1.0);
+        Map<String, Row> byEndpoint = new LinkedHashMap<>();
+        rows.forEach(r -> byEndpoint.put(r.endpoint(), r));
+
+        for (Map.Entry<String, JsonNode> entry : budgets.path("endpoints").properties()) {
+            String endpoint = entry.getKey();
+            JsonNode budget = entry.getValue();
+            Row row = byEndpoint.get(endpoint);
+            if (row == null || row.latency() == null || row.latency().count() == 0) {
+                violations.add(endpoint + ": 요청이 없습니다 (시나리오 확인 필요)");
+                continue;
+            }
+            EndpointStats.Summary l = row.latency();
+            over(violations, endpoint, "p95Ms", l.p95Ms(), budget);
+            over(violations, endpoint, "p99Ms", l.p99Ms(), budget);
+            if (row.sql() != null) {
+                over(violations, endpoint, "sqlPerRequest", row.sql().statementsPerRequest(), budget);
+            }
+            double errorLimit = budget.path("errorRate").asDouble(defaultErrorRate);
+            if (l.errorRate() > errorLimit) {
+                violations.add(String.format("%s: errorRate %.4f > %.4f", endpoint, l.errorRate(), errorLimit));
+            }
+        }
+        return violations;
+    }
+
+    /** 이번 결과에 여유를 더한 한도 파일을 씁니다 (기준선 갱신). */
+    void writeBudgets(Path path) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.putObject("defaults").put("errorRate", 0.01);
+        ObjectNode endpoints = root.putObject("endpoints");
+        for (Row row : rows) {
+            if (row.latency() == null || row.latency().count() == 0) continue;
+            ObjectNode budget = endpoints.putObject(row.endpoint());
+            budget.put("p95Ms", Math.ceil(row.latency().p95Ms() * LATENCY_HEADROOM));
+            budget.put("p99Ms", Math.ceil(row.latency().p99Ms() * LATENCY_HEADROOM));
+            if (row.sql() != null) {
+                budget.put("sqlPerRequest", Math.ceil(row.sql().statementsPerRequest()) + 1);
+            }
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        MAPPER.writeValue(path.toFile(), root);
+    }
+
+    /** 파일 경로가 있으면 파일, 없으면 클래스패스 리소스 */
+    static JsonNode readBudgets(String location) throws IOException {
+        Path file = Path.of(location);
+        if (Files.isRegularFile(file)) {
+            return MAPPER.readTree(file.toFile());
+        }
+        try (InputStream in = LoadTestReport.class.getClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                throw new IllegalArgumentException("한도 파일을 찾을 수 없습니다: " + location);
+            }
+            return MAPPER.readTree(in);
+        }
+    }
+
+    private static void over(List<String> violations, String endpoint, String metric, double actual, JsonNode budget) {
+        if (!budget.has(metric)) return;
+        double limit = budget.get(metric).asDouble();
+        if (actual > limit) {
+            violations.add(String.format("%s: %s %.1f > %.1f", endpoint, metric, actual, limit));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.schoolmate.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.schoolmate.SchoolmateApplication;
+import com.example.schoolmate.global.config.sql.SqlStatementStats;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 학교 하루 시나리오 부하 테스트 — {@code gradle loadTest}.
+ *
+ * <p>앱을 같은 JVM 에서 임의 포트로 띄우고(로컬 MySQL, application.properties 설정 그대로),
+ * {@link SchoolDayFixtures} 로 데이터를 준비한 뒤 학급마다 담임 1명·학생 전원을 가상 사용자로 돌립니다.</p>
+ *
+ * <ol>
+ *   <li>morning-login: 등교 시간대 로그인 폭주 (loginRampSeconds 안에 전원 로그인 + 대시보드)</li>
+ *   <li>school-day: 학생은 학급 게시판·대시보드·퀴즈 목록, 담임은 출결 처리</li>
+ *   <li>quiz-burst: 학급 전원이 같은 순간 퀴즈를 열고 몇 초 안에 제출 (quizBursts 회)</li>
+ * </ol>
+ *
+ * <p>엔드포인트별 p50/p95/p99·처리량과 요청당 SQL 문 수(서버 StatementInspector 집계)를
+ * 표로 출력하고 build/reports/loadtest/report.json 에 쓴 뒤, 한도 파일을 넘으면 종료 코드 1 로 끝냅니다.</p>
+ */
+public final class LoadTestRunner {
+
+    @FunctionalInterface
+    private interface Action<U> {
+        void run(U user) throws Exception;
+    }
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int exitCode;
+        try (ConfigurableApplicationContext context = boot()) {
+            exitCode = run(context, config);
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 측정에 방해되는 SQL 디버그 로그를 끄고 SQL 집계 필터를 켭니다.
+     * 가상 사용자가 모두 같은 IP(localhost)이므로 IP 단위 호출 제한도 끕니다.
+     * application.properties 보다 우선하도록 시스템 프로퍼티로 설정합니다 (이미 지정된 값은 유지).
+     */
+    private static ConfigurableApplicationContext boot() {
+        Map<String, String> overrides = Map.of(
+                "server.port", "0",
+                "management.server.port", "0",
+                "app.sql-stats.enabled", "true",
+                "app.rate-limit.enabled", "false",
+                "logging.level.org.hibernate.SQL", "warn",
+                "logging.level.org.hibernate.orm.jdbc.bind", "warn",
+                "spring.main.banner-mode", "off");
+        overrides.forEach((key, value) -> {
+            if (System.getProperty(key) == null) System.setProperty(key, value);
+        });
+        return new SpringApplicationBuilder(SchoolmateApplication.class).run();
+    }
+
+    private static int run(ConfigurableApplicationContext context, LoadTestConfig config) throws Exception {
+        List<SchoolDayFixtures.ClassFixture> fixtures = SchoolDayFixtures.prepare(context, config);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port;
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        ApiClient.Recorder recorder = new ApiClient.Recorder();
+        List<SchoolDayUsers.Student> students = new ArrayList<>();
+        List<SchoolDayUsers.Teacher> teachers = new ArrayList<>();
+        long userSeed = config.seed() * 1_000_003L;
+        for (SchoolDayFixtures.ClassFixture fixture : fixtures) {
+            teachers.add(new SchoolDayUsers.Teacher(new ApiClient(http, baseUrl, recorder),
+                    fixture.teacherEmail(), userSeed++, config.thinkTimeMs()));
+            for (String email : fixture.studentEmails()) {
+                students.add(new SchoolDayUsers.Student(new ApiClient(http, baseUrl, recorder),
+                        email, userSeed++, config.thinkTimeMs(), fixture.burstQuizId()));
+            }
+        }
+        List<SchoolDayUsers.User> users = new ArrayList<>(teachers);
+        users.addAll(students);
+        System.out.printf("[loadtest] %s — 학급 %d개, 가상 사용자 %d명 (교사 %d, 학생 %d)%n",
+                baseUrl, fixtures.size(), users.size(), teachers.size(), students.size());
+
+        SqlStatementStats sqlStats = context.getBean(SqlStatementStats.class);
+        sqlStats.reset();
+        Map<String, Object> phases = new LinkedHashMap<>();
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(users.size(), r -> {
+            Thread t = new Thread(r, "vu-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        long started = System.nanoTime();
+        try {
+            phase(pool, phases, "morning-login", users, null,
+                    u -> u.morningLogin(config.loginRampSeconds()));
+            long deadline = SchoolDayUsers.secondsFromNow(config.schoolDaySeconds());
+            phase(pool, phases, "school-day", users, null, u -> u.schoolDay(deadline));
+            for (int burst = 1; burst <= config.quizBursts(); burst++) {
+                CountDownLatch start = new CountDownLatch(1);
+                phase(pool, phases, "quiz-burst-" + burst, students, start, u -> u.quizBurst(start));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("config", config);
+        run.put("classes", fixtures.size());
+        run.put("virtualUsers", users.size());
+        run.put("seconds", Math.round(seconds * 10) / 10.0);
+        run.put("phases", phases);
+
+        LoadTestReport report = new LoadTestReport(recorder, sqlStats.snapshot(), seconds, run);
+        report.print(System.out);
+        report.write(config.report());
+        System.out.println("[loadtest] 결과: " + config.report().toAbsolutePath());
+        if (config.writeBudgets() != null) {
+            report.writeBudgets(Path.of(config.writeBudgets()));
+            System.out.println("[loadtest] 한도 파일 갱신: " + config.writeBudgets());
+            return 0;
+        }
+
+        JsonNode budgets = LoadTestReport.readBudgets(config.budgets());
+        List<String> violations = report.check(budgets);
+        if (violations.isEmpty()) {
+            System.out.println("[loadtest] 한도 통과");
+            return 0;
+        }
+        System.out.println("[loadtest] 한도 초과 " + violations.size() + "건:");
+        violations.forEach(v -> System.out.println("  - " + v));
+        return 1;
+    }
+
+    /**
+     * 가상 사용자 전원에게 같은 동작을 시키고 모두 끝날 때까지 기다립니다.
+     * start 가 있으면 전원이 대기 상태에 들어간 뒤 한 번에 출발시킵니다.
+     */
+    private static <U extends SchoolDayUsers.User> void phase(ExecutorService pool, Map<String, Object> phases,
+            String name, List<U> users, CountDownLatch start, Action<? super U> action) throws InterruptedException {
+        long begin = System.nanoTime();
+        CountDownLatch ready = new CountDownLatch(users.size());
+        List<Future<?>> futures = new ArrayList<>(users.size());
+        for (U user : users) {
+            futures.add(pool.submit(() -> {
+                ready.countDown();
+                action.run(user);
+                return null;
+            }));
+        }
+        if (start != null) {
+            ready.await();
+            start.countDown();
+        }
+        int failed = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failed++;
+            }
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        phases.put(name, Map.of("seconds", Math.round(seconds * 10) / 10.0, "failedUsers", failed));
+        System.out.printf("[loadtest] %-14s %6.1fs%s%n", name, seconds, failed > 0 ? " (실패 " + failed + "명)" : "");
+    }
+}
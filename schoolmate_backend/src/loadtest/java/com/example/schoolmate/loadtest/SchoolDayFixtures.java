@@ -0,0 +1,106 @@
+package com.example.schoolmate.loadtest;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.example.schoolmate.domain.admin.service.LoadDataGenerator;
+import com.example.schoolmate.domain.admin.service.TestDataService;
+
+/**
+ * 부하 테스트 대상 데이터 준비.
+ *
+ * <ul>
+ *   <li>테스트 모드를 켜고, 같은 seed 학교가 없으면 {@link LoadDataGenerator} 로 생성 (비밀번호 Test1234!)</li>
+ *   <li>올해 학급 중 앞쪽 N개와 담임·재학생 계정을 조회</li>
+ *   <li>학급마다 응시 횟수 제한 없는 진행 중 퀴즈를 하나씩 추가 (동시 제출 구간용)</li>
+ * </ul>
+ */
+final class SchoolDayFixtures {
+
+    static final String PASSWORD = "Test1234!";
+    static final int BURST_QUESTIONS = 5;
+
+    /** 부하를 거는 학급 하나 */
+    record ClassFixture(long classroomId, String teacherEmail, List<String> studentEmails, long burstQuizId) {}
+
+    private SchoolDayFixtures() {}
+
+    static List<ClassFixture> prepare(ApplicationContext context, LoadTestConfig config) {
+        TestDataService testDataService = context.getBean(TestDataService.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        if (!testDataService.isTestMode()) {
+            testDataService.toggleTestMode();
+        }
+
+        String schoolCodes = "LOAD" + config.seed() + "-%";
+        Integer existing = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM school WHERE school_code LIKE ?", Integer.class, schoolCodes);
+        if (existing == null || existing == 0) {
+            context.getBean(LoadDataGenerator.class).generate(config.spec());
+        }
+
+        List<ClassFixture> fixtures = new ArrayList<>();
+        jdbc.query("SELECT c.cid, c.school_id, c.homeroom_teacher_id, u.email FROM classroom c "
+                + "JOIN school s ON s.id = c.school_id "
+                + "JOIN user_main u ON u.uid = c.uid "
+                + "WHERE s.school_code LIKE ? AND c.status = 'ACTIVE' ORDER BY c.cid LIMIT ?",
+                rs -> {
+                    long classroomId = rs.getLong(1);
+                    long schoolId = rs.getLong(2);
+                    long teacherInfoId = rs.getLong(3);
+                    List<String> students = jdbc.queryForList(
+                            "SELECT u.email FROM student_assignment sa "
+                                    + "JOIN student_info si ON si.id = sa.student_info_id "
+                                    + "JOIN user_main u ON u.uid = si.uid "
+                                    + "WHERE sa.classroom_id = ? AND si.status = 'ENROLLED' ORDER BY sa.attendance_num",
+                            String.class, classroomId);
+                    long quizId = insertBurstQuiz(jdbc, schoolId, classroomId, teacherInfoId);
+                    fixtures.add(new ClassFixture(classroomId, rs.getString(4), students, quizId));
+                },
+                schoolCodes, config.classes());
+        if (fixtures.isEmpty()) {
+            throw new IllegalStateException("seed=" + config.seed() + " 의 올해 학급을 찾을 수 없습니다.");
+        }
+        return fixtures;
+    }
+
+    /** 단답형 5문항, 정답은 "정답1" ~ "정답5" */
+    private static long insertBurstQuiz(JdbcTemplate jdbc, long schoolId, long classroomId, long teacherInfoId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder key = new GeneratedKeyHolder();
+        jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO quiz (school_id, classroom_id, teacher_info_id, title, description, week, due_date, "
+                            + "status, max_attempts, show_answer, is_deleted, create_date, update_date) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, 'OPEN', NULL, 1, 0, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, schoolId);
+            ps.setLong(2, classroomId);
+            ps.setLong(3, teacherInfoId);
+            ps.setString(4, "부하 테스트 쪽지시험");
+            ps.setString(5, "동시 제출 구간용");
+            ps.setInt(6, 1);
+            ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now().plusDays(1)));
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+            return ps;
+        }, key);
+        long quizId = key.getKey().longValue();
+        List<Object[]> questions = new ArrayList<>();
+        for (int n = 1; n <= BURST_QUESTIONS; n++) {
+            questions.add(new Object[] { quizId, n, "문제 " + n, "SHORT_ANSWER", "정답" + n, 20, now, now });
+        }
+        jdbc.batchUpdate("INSERT INTO quiz_question (quiz_id, question_order, question_text, question_type, "
+                + "correct_answer, points, create_date, update_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", questions);
+        return quizId;
+    }
+}
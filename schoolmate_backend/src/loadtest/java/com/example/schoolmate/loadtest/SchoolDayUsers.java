@@ -0,0 +1,172 @@
+package com.example.schoolmate.loadtest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 하루 일과를 흉내 내는 가상 사용자.
+ *
+ * <p>엔드포인트 이름은 컨트롤러 매핑 패턴과 같아야 서버 SQL 집계와 합쳐집니다.</p>
+ */
+final class SchoolDayUsers {
+
+    static final String DASHBOARD_STUDENT = "GET /api/dashboard/student";
+    static final String DASHBOARD_TEACHER = "GET /api/dashboard/teacher";
+    static final String CLASS_BOARD = "GET /api/board/class-board";
+    static final String BOARD_DETAIL = "GET /api/board/{id}";
+    static final String BOARD_VIEW = "POST /api/board/{id}/view";
+    static final String BOARD_COMMENTS = "GET /api/board/{boardId}/comments";
+    static final String QUIZ_LIST = "GET /api/quiz/student";
+    static final String QUIZ_DETAIL = "GET /api/quiz/{id}";
+    static final String QUIZ_SUBMIT = "POST /api/quiz/{id}/submit";
+    static final String ROLL_CALL = "GET /api/attendance/student";
+    static final String ROLL_CALL_ALL_PRESENT = "POST /api/attendance/student/all-present";
+    static final String ROLL_CALL_UPDATE = "PUT /api/attendance/student/update";
+
+    private SchoolDayUsers() {}
+
+    /** 가상 사용자 공통 — 로그인, 생각 시간 */
+    abstract static class User {
+        final ApiClient client;
+        final String email;
+        final Random random;
+        final int thinkTimeMs;
+        boolean loggedIn;
+
+        User(ApiClient client, String email, long seed, int thinkTimeMs) {
+            this.client = client;
+            this.email = email;
+            this.random = new Random(seed);
+            this.thinkTimeMs = thinkTimeMs;
+        }
+
+        /** 등교 시간대: 구간 안의 임의 시점에 로그인하고 대시보드를 엽니다. */
+        void morningLogin(int rampSeconds) throws InterruptedException {
+            Thread.sleep(random.nextInt(Math.max(rampSeconds * 1000, 1)));
+            loggedIn = client.login(email, SchoolDayFixtures.PASSWORD);
+            if (loggedIn) dashboard();
+        }
+
+        abstract void dashboard();
+
+        abstract void schoolDay(long deadlineNanos) throws InterruptedException;
+
+        /** 평균 thinkTimeMs 의 지수 분포 대기 */
+        void think(int scale) throws InterruptedException {
+            double wait = -Math.log(1 - random.nextDouble()) * thinkTimeMs * scale;
+            Thread.sleep(Math.min((long) wait, 10L * thinkTimeMs * scale));
+        }
+    }
+
+    /** 학생: 게시판 열람 위주, 가끔 대시보드·퀴즈 목록 */
+    static final class Student extends User {
+        private final long burstQuizId;
+
+        Student(ApiClient client, String email, long seed, int thinkTimeMs, long burstQuizId) {
+            super(client, email, seed, thinkTimeMs);
+            this.burstQuizId = burstQuizId;
+        }
+
+        @Override
+        void dashboard() {
+            client.get(DASHBOARD_STUDENT, "/api/dashboard/student");
+        }
+
+        @Override
+        void schoolDay(long deadlineNanos) throws InterruptedException {
+            if (!loggedIn) return;
+            while (System.nanoTime() < deadlineNanos) {
+                int action = random.nextInt(10);
+                if (action < 2) {
+                    dashboard();
+                } else if (action < 8) {
+                    browseClassBoard();
+                } else {
+                    client.get(QUIZ_LIST, "/api/quiz/student?page=0&size=10");
+                }
+                think(1);
+            }
+        }
+
+        private void browseClassBoard() throws InterruptedException {
+            JsonNode page = client.get(CLASS_BOARD, "/api/board/class-board?page=" + random.nextInt(2) + "&size=10");
+            if (page == null || !page.path("content").isArray() || page.path("content").isEmpty()) return;
+            JsonNode content = page.get("content");
+            int reads = 1 + random.nextInt(2);
+            for (int i = 0; i < reads; i++) {
+                long id = content.get(random.nextInt(content.size())).path("id").asLong();
+                client.get(BOARD_DETAIL, "/api/board/" + id);
+                client.post(BOARD_VIEW, "/api/board/" + id + "/view", null);
+                client.get(BOARD_COMMENTS, "/api/board/" + id + "/comments?size=20");
+                think(1);
+            }
+        }
+
+        /** 시작 신호에 맞춰 학급 전원이 동시에 문제를 받고 제출합니다. 절반쯤은 정답. */
+        void quizBurst(CountDownLatch start) throws InterruptedException {
+            if (!loggedIn) return;
+            start.await();
+            JsonNode quiz = client.get(QUIZ_DETAIL, "/api/quiz/" + burstQuizId);
+            if (quiz == null) return;
+            List<Map<String, Object>> answers = new ArrayList<>();
+            for (JsonNode question : quiz.path("questions")) {
+                int order = question.path("questionOrder").asInt();
+                answers.add(Map.of(
+                        "questionId", question.path("id").asLong(),
+                        "answerText", random.nextBoolean() ? "정답" + order : "오답"));
+            }
+            // 문제를 푸는 시간 (1~5초) 뒤 제출
+            Thread.sleep(1000 + random.nextInt(4000));
+            client.post(QUIZ_SUBMIT, "/api/quiz/" + burstQuizId + "/submit", Map.of("answers", answers));
+        }
+    }
+
+    /** 담임: 출결 처리(전원 출석 → 몇 명 수정)와 대시보드 */
+    static final class Teacher extends User {
+
+        Teacher(ApiClient client, String email, long seed, int thinkTimeMs) {
+            super(client, email, seed, thinkTimeMs);
+        }
+
+        @Override
+        void dashboard() {
+            client.get(DASHBOARD_TEACHER, "/api/dashboard/teacher");
+        }
+
+        @Override
+        void schoolDay(long deadlineNanos) throws InterruptedException {
+            if (!loggedIn) return;
+            while (System.nanoTime() < deadlineNanos) {
+                rollCall();
+                think(5);
+                dashboard();
+                think(5);
+            }
+        }
+
+        private void rollCall() {
+            String date = LocalDate.now().toString();
+            client.post(ROLL_CALL_ALL_PRESENT, "/api/attendance/student/all-present?date=" + date, null);
+            JsonNode roster = client.get(ROLL_CALL, "/api/attendance/student?date=" + date);
+            if (roster == null || !roster.isArray() || roster.isEmpty()) return;
+            String[] statuses = { "LATE", "ABSENT", "SICK", "EARLY_LEAVE" };
+            for (int i = 0; i < 2; i++) {
+                long studentInfoId = roster.get(random.nextInt(roster.size())).path("studentInfoId").asLong();
+                client.put(ROLL_CALL_UPDATE,
+                        "/api/attendance/student/update?studentInfoId=" + studentInfoId + "&date=" + date,
+                        Map.of("status", statuses[random.nextInt(statuses.length)], "reason", "부하 테스트"));
+            }
+        }
+    }
+
+    static long secondsFromNow(int seconds) {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    }
+}
@@ -1,22 +1,23 @@
 package com.example.schoolmate.domain.admin.controller;
 
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.schoolmate.global.config.SchoolmateUrls;
 import com.example.schoolmate.domain.classroom.dto.ClassDTO;
 import com.example.schoolmate.domain.term.service.AcademicTermService;
 import com.example.schoolmate.domain.classroom.service.ClassroomService;
+import com.example.schoolmate.domain.export.service.ExportService;
+import com.example.schoolmate.domain.export.writer.ExportFormat;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,7 @@ public class AdminClassApiController {
 
     private final ClassroomService classService;
     private final AcademicTermService academicTermService;
+    private final ExportService exportService;
 
     @PreAuthorize("@grants.canAccessAdmin()")
     @GetMapping
@@ -128,14 +130,14 @@ public class AdminClassApiController {
         }
     }
 
+    // 학급 명단 다운로드 (format=csv|xlsx, 응답으로 바로 스트리밍)
     @GetMapping("/{cid}/roster-csv")
-    public ResponseEntity<byte[]> rosterCsv(@PathVariable Long cid) {
-        String csv = classService.generateRosterCsv(cid);
-        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"class_" + cid + "_roster.csv\"")
-                .header(HttpHeaders.CONTENT_TYPE, "text/csv; charset=UTF-8")
-                .body(bytes);
+    public ResponseEntity<StreamingResponseBody> rosterCsv(@PathVariable Long cid,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat fmt = ExportFormat.from(format);
+        exportService.requireClassroom(cid);
+        return AdminExportApiController.download("class_" + cid + "_roster", fmt,
+                out -> exportService.writeClassRoster(cid, fmt, out));
     }
 
     // 담임 미배정 교사 목록 (생성용)
@@ -0,0 +1,94 @@
+package com.example.schoolmate.domain.admin.controller;
+
+import java.time.YearMonth;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.schoolmate.domain.export.service.ExportService;
+import com.example.schoolmate.domain.export.writer.ExportFormat;
+import com.example.schoolmate.domain.term.service.AcademicTermService;
+import com.example.schoolmate.global.config.SchoolmateUrls;
+import com.example.schoolmate.global.config.school.SchoolContextHolder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학교 단위 데이터 내보내기 REST API (CSV / XLSX 스트리밍 다운로드)
+ *
+ * 응답 본문은 StreamingResponseBody 로 별도 스레드에서 작성되므로,
+ * 학교 컨텍스트와 파라미터 검증은 요청 스레드에서 먼저 끝내고 값으로 넘깁니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping(SchoolmateUrls.ADMIN_EXPORTS)
+@RequiredArgsConstructor
+@PreAuthorize("@grants.canManageStudents()")
+public class AdminExportApiController {
+
+    private final ExportService exportService;
+    private final AcademicTermService academicTermService;
+
+    // 학년도 전체 명단
+    @GetMapping("/rosters")
+    public ResponseEntity<StreamingResponseBody> rosters(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "csv") String format) {
+        Long schoolId = requireSchoolId();
+        ExportFormat fmt = ExportFormat.from(format);
+        int y = (year != null) ? year : academicTermService.getCurrentSchoolYear();
+        return download("roster_" + y, fmt, out -> exportService.writeSchoolRoster(schoolId, y, fmt, out));
+    }
+
+    // 학기 성적
+    @GetMapping("/grades")
+    public ResponseEntity<StreamingResponseBody> grades(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer semester,
+            @RequestParam(defaultValue = "csv") String format) {
+        Long schoolId = requireSchoolId();
+        ExportFormat fmt = ExportFormat.from(format);
+        int y = (year != null) ? year : academicTermService.getCurrentSchoolYear();
+        int s = (semester != null) ? semester : academicTermService.getCurrentSemester();
+        if (s < 1 || s > 2) {
+            throw new IllegalArgumentException("학기는 1 또는 2 이어야 합니다.");
+        }
+        return download("grades_" + y + "_" + s, fmt, out -> exportService.writeTermGrades(schoolId, y, s, fmt, out));
+    }
+
+    // 월별 출결 (month=2025-03)
+    @GetMapping("/attendance")
+    public ResponseEntity<StreamingResponseBody> attendance(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(defaultValue = "csv") String format) {
+        Long schoolId = requireSchoolId();
+        ExportFormat fmt = ExportFormat.from(format);
+        YearMonth m = (month != null) ? month : YearMonth.now();
+        return download("attendance_" + m, fmt, out -> exportService.writeMonthlyAttendance(schoolId, m, fmt, out));
+    }
+
+    static ResponseEntity<StreamingResponseBody> download(String baseName, ExportFormat format,
+            StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + baseName + "." + format.getExtension() + "\"")
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+                .body(body);
+    }
+
+    private Long requireSchoolId() {
+        Long schoolId = SchoolContextHolder.getSchoolId();
+        if (schoolId == null) {
+            throw new IllegalStateException("학교 컨텍스트가 없습니다.");
+        }
+        return schoolId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.schoolmate.domain.admin.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.example.schoolmate.domain.file.service.UploadMigrationService;
+import com.example.schoolmate.global.config.SchoolmateUrls;
+import com.example.schoolmate.global.util.FileManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 저장소 관리 REST API (SUPER_ADMIN 전용)
+ *
+ * - POST /api/admin/storage/derivatives/backfill : 기존 이미지의 누락된 썸네일 파생본 생성 (백그라운드)
+ * - POST /api/admin/storage/migrate?dryRun=true   : 이전 업로드 디렉터리 → 내용 주소 저장소 이관 (dry-run 은 중복 현황만 보고)
+ */
+@Slf4j
+@RestController
+@RequestMapping(SchoolmateUrls.ADMIN_STORAGE)
+@RequiredArgsConstructor
+@PreAuthorize("@grants.isSuperAdmin()")
+public class AdminStorageApiController {
+
+    private final FileManager fileManager;
+    private final UploadMigrationService uploadMigrationService;
+
+    /** 이미지 파생본 backfill 시작 (즉시 반환, 진행 결과는 서버 로그) */
+    @PostMapping("/derivatives/backfill")
+    public ResponseEntity<Map<String, Object>> backfillDerivatives() {
+        log.info("이미지 파생본 backfill 요청");
+        fileManager.backfillDerivatives();
+        return ResponseEntity.accepted().body(Map.of("message", "이미지 파생본 생성 작업을 시작했습니다."));
+    }
+
+    /** 업로드 저장소 이관 (동기 실행, 결과 보고서 반환) */
+    @PostMapping("/migrate")
+    public ResponseEntity<UploadMigrationService.MigrationReport> migrate(
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        log.info("업로드 저장소 이관 요청: dryRun={}", dryRun);
+        return ResponseEntity.ok(uploadMigrationService.migrate(dryRun));
+    }
+}
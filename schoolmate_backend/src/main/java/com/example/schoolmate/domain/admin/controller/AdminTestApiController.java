@@ -6,8 +6,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.schoolmate.domain.admin.service.LoadDataGenerator;
 import com.example.schoolmate.domain.admin.service.TestDataService;
 import com.example.schoolmate.global.config.SchoolmateUrls;
+import com.example.schoolmate.global.config.sql.SqlStatementStats;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,9 @@ import lombok.extern.slf4j.Slf4j;
  * - GET  /api/admin/test/status  : 현재 testMode 값 조회
  * - POST /api/admin/test/toggle  : testMode ON/OFF 토글
  * - POST /api/admin/test/seed    : 테스트 데이터 일괄 생성
+ * - POST /api/admin/test/seed/load : 부하 테스트용 대용량 합성 데이터 생성
+ * - GET  /api/admin/test/sql-stats : 엔드포인트별 SQL 문 수·JDBC 시간·반복 수·문 수 히스토그램
+ * - DELETE /api/admin/test/sql-stats : SQL 통계 초기화
  */
 @Slf4j
 @RestController
@@ -27,6 +32,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminTestApiController {
 
     private final TestDataService testDataService;
+    private final LoadDataGenerator loadDataGenerator;
+    private final SqlStatementStats sqlStatementStats;
 
     /** 현재 테스트 모드 상태 조회 */
     @GetMapping("/status")
@@ -49,4 +56,38 @@ public class AdminTestApiController {
         Map<String, Object> result = testDataService.seedAll();
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 부하 테스트용 대용량 합성 데이터 생성 (완료까지 대기)
+     * 기본값: 50개 학교 × 학생 1,000명 (6개 학년 × 4반 × 25명, 5년 이력) = 학생 5만 명
+     */
+    @PostMapping("/seed/load")
+    public ResponseEntity<Map<String, Object>> seedLoad(
+            @RequestParam(defaultValue = "50") int schools,
+            @RequestParam(defaultValue = "6") int grades,
+            @RequestParam(defaultValue = "4") int classesPerGrade,
+            @RequestParam(defaultValue = "25") int studentsPerClass,
+            @RequestParam(defaultValue = "5") int years,
+            @RequestParam(defaultValue = "10") int boardsPerClass,
+            @RequestParam(defaultValue = "3") int quizzesPerClass,
+            @RequestParam(defaultValue = "2") int quizAttempts,
+            @RequestParam(defaultValue = "42") long seed) {
+        log.info("대용량 테스트 데이터 생성 요청: schools={}, seed={}", schools, seed);
+        return ResponseEntity.ok(loadDataGenerator.generate(new LoadDataGenerator.Spec(
+                schools, grades, classesPerGrade, studentsPerClass, years,
+                boardsPerClass, quizzesPerClass, quizAttempts, seed)));
+    }
+
+    /** 엔드포인트별 SQL 통계 (app.sql-stats.enabled=false 이면 비어 있음) */
+    @GetMapping("/sql-stats")
+    public ResponseEntity<Map<String, SqlStatementStats.Route>> sqlStats() {
+        return ResponseEntity.ok(sqlStatementStats.snapshot());
+    }
+
+    /** SQL 통계 초기화 */
+    @DeleteMapping("/sql-stats")
+    public ResponseEntity<Void> resetSqlStats() {
+        sqlStatementStats.reset();
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,703 @@
+package com.example.schoolmate.domain.admin.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCache;
+import com.example.schoolmate.global.config.BaseInfoIdMigration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트용 대용량 합성 데이터 생성기
+ *
+ * {@link TestDataService#seedAll()} 은 발표용 학교 2곳을 엔티티 save 로 만드는 반면,
+ * 이 생성기는 수십 개 학교 · 수만 명 학생 · 수년치 이력을 수 분 안에 만들기 위해
+ * - 엔티티/영속성 컨텍스트 없이 JDBC 배치 INSERT ({@value #BATCH_SIZE}행 단위, rewriteBatchedStatements) 로 기록하고
+ * - 테이블별 ID 구간을 미리 확보해 외래키를 메모리에서 바로 연결하며 (구간 사이 gap 허용)
+ * - 학교 단위로 병렬 실행합니다 (app.load-data.parallelism).
+ *
+ * 같은 seed · 같은 파라미터면 같은 내용이 만들어집니다 (학교별 난수 생성기 분리).
+ * 다른 학교와 구분되도록 학교 코드는 {@code LOAD{seed}-{번호}}, 이메일은 {@code load{seed}_...@test.com} 입니다.
+ */
+@Slf4j
+@Service
+public class LoadDataGenerator {
+
+    /**
+     * 생성 규모
+     *
+     * 학교당 학생 수 = (grades + years - 1) × classesPerGrade × studentsPerClass
+     * (이력 기간 동안 재학한 모든 학년 집단, 졸업생 포함)
+     */
+    public record Spec(int schools, int grades, int classesPerGrade, int studentsPerClass, int years,
+            int boardsPerClass, int quizzesPerClass, int quizAttempts, long seed) {
+
+        void validate() {
+            check(schools, 1, 500, "학교 수");
+            check(grades, 1, 6, "학년 수");
+            check(classesPerGrade, 1, 30, "학년당 학급 수");
+            check(studentsPerClass, 1, 60, "학급당 학생 수");
+            check(years, 1, 10, "이력 연수");
+            check(boardsPerClass, 0, 500, "학급당 게시글 수");
+            check(quizzesPerClass, 0, 100, "학급당 퀴즈 수");
+            check(quizAttempts, 1, 10, "퀴즈 응시 횟수");
+        }
+
+        int studentsPerSchool() {
+            return (grades + years - 1) * classesPerGrade * studentsPerClass;
+        }
+
+        private static void check(int value, int min, int max, String label) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException(label + "는 " + min + "~" + max + " 사이여야 합니다.");
+            }
+        }
+    }
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_COMMENTS_PER_BOARD = 6;
+    private static final int QUESTIONS_PER_QUIZ = 5;
+    private static final int POINTS_PER_QUESTION = 20;
+    private static final String BASE_INFO_GEN = "base_info_id";
+
+    /** 미리 ID 구간을 확보할 테이블 → PK 컬럼 */
+    private static final Map<String, String> ID_TABLES = new LinkedHashMap<>();
+
+    static {
+        ID_TABLES.put("school", "id");
+        ID_TABLES.put("school_year", "id");
+        ID_TABLES.put("academic_term", "id");
+        ID_TABLES.put("subject", "id");
+        ID_TABLES.put("user_main", "uid");
+        ID_TABLES.put("role_request", "id");
+        ID_TABLES.put("classroom", "cid");
+        ID_TABLES.put("student_assignment", "id");
+        ID_TABLES.put("grades", "id");
+        ID_TABLES.put("board", "id");
+        ID_TABLES.put("board_comment", "id");
+        ID_TABLES.put("quiz", "id");
+        ID_TABLES.put("quiz_question", "id");
+        ID_TABLES.put("quiz_submission", "id");
+        ID_TABLES.put("quiz_answer", "id");
+    }
+
+    private static final String[] BOARD_TITLES = {
+            "이번 주 학급 회의 안건", "체험학습 사진 공유합니다", "독서 감상문 제출 안내", "모둠 과제 역할 나누기",
+            "교실 청소 당번표", "방과후 활동 신청", "학급 문고 추천 도서", "운동회 준비물 안내"
+    };
+    private static final String[] COMMENT_TEXTS = {
+            "확인했습니다!", "좋아요 ㅎㅎ", "저도 참여할게요", "언제까지인가요?", "감사합니다", "내일 가져올게요"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TestDataService testDataService;
+    private final BaseInfoIdMigration baseInfoIdMigration;
+    private final ClassroomRosterCache classroomRosterCache;
+    private final int parallelism;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public LoadDataGenerator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            TestDataService testDataService,
+            BaseInfoIdMigration baseInfoIdMigration,
+            ClassroomRosterCache classroomRosterCache,
+            @Value("${app.load-data.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.testDataService = testDataService;
+        this.baseInfoIdMigration = baseInfoIdMigration;
+        this.classroomRosterCache = classroomRosterCache;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    // ── Public API ────────────────────────────────────────────────────────────
+
+    /**
+     * 합성 데이터를 생성하고 테이블별 행 수를 반환합니다 (완료까지 대기).
+     */
+    public Map<String, Object> generate(Spec spec) {
+        if (!testDataService.isTestMode()) {
+            throw new IllegalStateException("테스트 모드가 비활성화 상태입니다.");
+        }
+        spec.validate();
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 대용량 데이터를 생성 중입니다.");
+        }
+        try {
+            return run(spec);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private Map<String, Object> run(Spec spec) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM school WHERE school_code LIKE ?", Integer.class, schoolCodePrefix(spec) + "%");
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("seed=" + spec.seed() + " 데이터가 이미 있습니다. 다른 seed 를 사용하세요.");
+        }
+
+        long start = System.nanoTime();
+        IdBlocks ids = new IdBlocks();
+        String passwordHash = passwordEncoder.encode("Test1234!");
+        Map<String, AtomicLong> totals = new LinkedHashMap<>();
+
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, spec.schools()), r -> {
+            Thread t = new Thread(r, "load-data-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Map<String, Long>>> futures = new ArrayList<>();
+            for (int i = 1; i <= spec.schools(); i++) {
+                int schoolNo = i;
+                futures.add(executor.submit(() -> new SchoolWriter(spec, schoolNo, ids, passwordHash).write()));
+            }
+            for (Future<Map<String, Long>> future : futures) {
+                future.get().forEach((table, rows) ->
+                        totals.computeIfAbsent(table, k -> new AtomicLong()).addAndGet(rows));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            log.error("[LoadData] 생성 실패", e.getCause());
+            throw new IllegalStateException("데이터 생성 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            // JDBC 직접 적재는 엔티티 리스너를 거치지 않으므로 명단 캐시를 통째로 비움
+            classroomRosterCache.evictAll();
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("seed", spec.seed());
+        summary.put("schools", spec.schools());
+        summary.put("studentsPerSchool", spec.studentsPerSchool());
+        summary.put("rows", totals);
+        summary.put("elapsedMs", elapsedMs);
+        log.info("[LoadData] 생성 완료: {}", summary);
+        return summary;
+    }
+
+    private static String schoolCodePrefix(Spec spec) {
+        return "LOAD" + spec.seed() + "-";
+    }
+
+    /** 3월 시작 학년도 */
+    private static int currentSchoolYear() {
+        LocalDate today = LocalDate.now();
+        return today.getMonthValue() >= 3 ? today.getYear() : today.getYear() - 1;
+    }
+
+    /**
+     * base_info 계열(학생·교사 등) ID 구간 확보.
+     * BaseInfo 의 TableGenerator(id_generator) 값을 구간 끝 뒤로 옮겨 이후 JPA 저장과 겹치지 않게 합니다.
+     * 각 노드가 메모리에 들고 있는 구간은 모두 gen_val 이하이므로, gen_val 뒤에서 시작하면 겹치지 않습니다.
+     *
+     * @return 구간의 첫 ID
+     */
+    private long reserveBaseInfoIds(int count) {
+        Long first = transactionTemplate.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                    "SELECT gen_val FROM id_generator WHERE gen_name = ? FOR UPDATE", Long.class, BASE_INFO_GEN);
+            long lastUsed = current.isEmpty() || current.get(0) == null ? 0 : current.get(0);
+            long from = Math.max(lastUsed, baseInfoIdMigration.maxInfoId()) + 1;
+            // 저장값을 "다음 값" / "마지막 값" 어느 쪽으로 해석해도 구간과 겹치지 않도록 한 칸 여유
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO id_generator (gen_name, gen_val) VALUES (?, ?)",
+                        BASE_INFO_GEN, from + count);
+            } else {
+                jdbcTemplate.update("UPDATE id_generator SET gen_val = ? WHERE gen_name = ?",
+                        from + count, BASE_INFO_GEN);
+            }
+            return from;
+        });
+        return first != null ? first : 1;
+    }
+
+    /**
+     * AUTO_INCREMENT 테이블의 ID 구간 할당기.
+     * 시작 시 테이블별 MAX(id) 를 한 번 읽고, 이후 학교 워커들이 구간을 나눠 가집니다.
+     * 명시적 ID 로 INSERT 하면 MySQL 이 AUTO_INCREMENT 를 그 뒤로 옮기므로 이후 JPA 저장과 충돌하지 않습니다.
+     * (생성 중에는 같은 테이블에 다른 쓰기가 없다는 전제 — 테스트 모드 전용)
+     */
+    private final class IdBlocks {
+
+        private final Map<String, AtomicLong> last = new LinkedHashMap<>();
+
+        IdBlocks() {
+            ID_TABLES.forEach((table, pk) -> {
+                Long max = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(" + pk + "), 0) FROM " + table, Long.class);
+                last.put(table, new AtomicLong(max != null ? max : 0));
+            });
+        }
+
+        /** @return 길이 count 구간의 첫 ID */
+        long reserve(String table, int count) {
+            return last.get(table).getAndAdd(count) + 1;
+        }
+    }
+
+    /**
+     * JDBC 배치 INSERT 버퍼 (BATCH_SIZE 행마다 전송)
+     */
+    private final class Rows {
+
+        private final String table;
+        private final String sql;
+        private final List<Object[]> buffer = new ArrayList<>(BATCH_SIZE);
+        private long written;
+
+        Rows(String table, String... columns) {
+            this.table = table;
+            this.sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        }
+
+        void add(Object... values) {
+            buffer.add(values);
+            if (buffer.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (buffer.isEmpty()) return;
+            jdbcTemplate.batchUpdate(sql, buffer);
+            written += buffer.size();
+            buffer.clear();
+        }
+    }
+
+    /**
+     * 학교 하나의 전체 데이터를 만드는 워커.
+     * 외래키 순서대로 테이블 단위로 버퍼를 비우므로, 부모 행은 항상 자식보다 먼저 커밋됩니다.
+     */
+    private final class SchoolWriter {
+
+        private final Spec spec;
+        private final int schoolNo;
+        private final IdBlocks ids;
+        private final String passwordHash;
+        private final Random rng;
+        private final LocalDateTime now = LocalDateTime.now();
+        private final int currentYear = currentSchoolYear();
+        private final Map<String, Long> counts = new LinkedHashMap<>();
+
+        private long schoolId;
+        /** 학년도 인덱스(0 = 가장 오래된 해) → school_year id */
+        private long[] schoolYearIds;
+        /** [학년도 인덱스][학기-1] → academic_term id */
+        private long[][] termIds;
+        private long[] subjectIds;
+        /** [학년-1][반-1] → 담임 교사 (매년 같은 자리) */
+        private long[][] homeroomInfoIds;
+        private long[][] homeroomUids;
+
+        SchoolWriter(Spec spec, int schoolNo, IdBlocks ids, String passwordHash) {
+            this.spec = spec;
+            this.schoolNo = schoolNo;
+            this.ids = ids;
+            this.passwordHash = passwordHash;
+            this.rng = new Random(spec.seed() * 1_000_003L + schoolNo);
+        }
+
+        Map<String, Long> write() {
+            long start = System.nanoTime();
+            writeSchool();
+            writeCalendar();
+            writeSubjects();
+            writeTeachers();
+            long[][][] classroomIds = writeClassrooms();
+            writeStudents(classroomIds);
+            log.info("[LoadData] 학교 {} 완료: {}ms", schoolNo, (System.nanoTime() - start) / 1_000_000);
+            return counts;
+        }
+
+        private void writeSchool() {
+            schoolId = ids.reserve("school", 1);
+            boolean elementary = spec.grades() > 3;
+            Rows school = new Rows("school", "id", "name", "school_code", "school_kind", "address",
+                    "create_date", "update_date");
+            school.add(schoolId, String.format("부하테스트%s학교 %03d", elementary ? "초등" : "중", schoolNo),
+                    schoolCodePrefix(spec) + schoolNo, elementary ? "초등학교" : "중학교",
+                    TestDataService.ADDRESSES[schoolNo % TestDataService.ADDRESSES.length], now, now);
+            done(school);
+        }
+
+        private void writeCalendar() {
+            int years = spec.years();
+            schoolYearIds = new long[years];
+            termIds = new long[years][2];
+            long yearId = ids.reserve("school_year", years);
+            long termId = ids.reserve("academic_term", years * 2);
+            Rows schoolYears = new Rows("school_year", "id", "school_id", "year", "status", "create_date", "update_date");
+            Rows terms = new Rows("academic_term", "id", "school_id", "school_year_id", "semester",
+                    "start_date", "end_date", "status", "create_date", "update_date");
+            LocalDate today = LocalDate.now();
+            for (int j = 0; j < years; j++) {
+                int year = yearOf(j);
+                schoolYearIds[j] = yearId++;
+                schoolYears.add(schoolYearIds[j], schoolId, year, year == currentYear ? "CURRENT" : "PAST", now, now);
+                LocalDate[][] ranges = {
+                        { LocalDate.of(year, 3, 1), LocalDate.of(year, 8, 15) },
+                        { LocalDate.of(year, 8, 16), LocalDate.of(year + 1, 2, 28) } };
+                for (int s = 0; s < 2; s++) {
+                    termIds[j][s] = termId++;
+                    boolean active = !today.isBefore(ranges[s][0]) && !today.isAfter(ranges[s][1]);
+                    terms.add(termIds[j][s], schoolId, schoolYearIds[j], s + 1, ranges[s][0], ranges[s][1],
+                            active ? "ACTIVE" : "CLOSED", now, now);
+                }
+            }
+            done(schoolYears);
+            done(terms);
+        }
+
+        private void writeSubjects() {
+            String[][] pool = spec.grades() > 3 ? TestDataService.ELEM_SUBJECTS : TestDataService.MID_SUBJECTS;
+            subjectIds = new long[pool.length];
+            long id = ids.reserve("subject", pool.length);
+            Rows subjects = new Rows("subject", "id", "school_id", "code", "name", "create_date", "update_date");
+            for (int i = 0; i < pool.length; i++) {
+                subjectIds[i] = id++;
+                subjects.add(subjectIds[i], schoolId, pool[i][0], pool[i][1], now, now);
+            }
+            done(subjects);
+        }
+
+        /** 학급 자리마다 담임 교사 1명 */
+        private void writeTeachers() {
+            int count = spec.grades() * spec.classesPerGrade();
+            homeroomInfoIds = new long[spec.grades()][spec.classesPerGrade()];
+            homeroomUids = new long[spec.grades()][spec.classesPerGrade()];
+            long uid = ids.reserve("user_main", count);
+            long infoId = reserveBaseInfoIds(count);
+            long requestId = ids.reserve("role_request", count);
+
+            Rows users = userRows();
+            Rows roles = new Rows("user_roles", "uid", "roles");
+            Rows teachers = new Rows("teacher_info", "id", "uid", "school_id", "code", "status", "is_primary",
+                    "gender", "birth_date", "phone", "department", "position", "create_date", "update_date");
+            Rows requests = roleRequestRows();
+            int n = 0;
+            for (int g = 0; g < spec.grades(); g++) {
+                for (int c = 0; c < spec.classesPerGrade(); c++, n++) {
+                    String gender = n % 2 == 0 ? "MALE" : "FEMALE";
+                    homeroomUids[g][c] = uid++;
+                    homeroomInfoIds[g][c] = infoId++;
+                    users.add(homeroomUids[g][c], "load" + spec.seed() + "_" + schoolNo + "_t" + n + "@test.com",
+                            randomName(gender), passwordHash, false, now, now);
+                    roles.add(homeroomUids[g][c], "TEACHER");
+                    teachers.add(homeroomInfoIds[g][c], homeroomUids[g][c], schoolId,
+                            "T" + LocalDate.now().getYear() + String.format("%04d", n + 1), "EMPLOYED", true, gender,
+                            LocalDate.of(1970 + rng.nextInt(30), 1 + rng.nextInt(12), 1 + rng.nextInt(28)), phone(),
+                            "교무부", "평교사", now, now);
+                    requests.add(requestId++, homeroomUids[g][c], schoolId, "TEACHER", "ACTIVE", now, now);
+                }
+            }
+            done(users);
+            done(roles);
+            done(teachers);
+            done(requests);
+            writeCodeSequence("T", count);
+        }
+
+        /** [학년도 인덱스][학년-1][반-1] → classroom id */
+        private long[][][] writeClassrooms() {
+            int perYear = spec.grades() * spec.classesPerGrade();
+            long cid = ids.reserve("classroom", spec.years() * perYear);
+            long[][][] classroomIds = new long[spec.years()][spec.grades()][spec.classesPerGrade()];
+            Rows classrooms = new Rows("classroom", "cid", "school_id", "school_year_id", "grade", "class_num",
+                    "status", "homeroom_teacher_id", "uid", "create_date", "update_date");
+            for (int j = 0; j < spec.years(); j++) {
+                boolean current = yearOf(j) == currentYear;
+                for (int g = 0; g < spec.grades(); g++) {
+                    for (int c = 0; c < spec.classesPerGrade(); c++) {
+                        classroomIds[j][g][c] = cid++;
+                        // classroom.uid 는 유일 제약 → 올해 학급에만 담임 계정 연결
+                        classrooms.add(classroomIds[j][g][c], schoolId, schoolYearIds[j], g + 1, c + 1,
+                                current ? "ACTIVE" : "FINISHED", homeroomInfoIds[g][c],
+                                current ? homeroomUids[g][c] : null, now, now);
+                    }
+                }
+            }
+            done(classrooms);
+            return classroomIds;
+        }
+
+        /**
+         * 이력 기간에 재학한 모든 입학 집단을 만들고, 학년도마다 반을 섞어 배정합니다.
+         * 이어서 배정 단위로 성적, 올해 학급 단위로 게시판·퀴즈를 만듭니다.
+         */
+        private void writeStudents(long[][][] classroomIds) {
+            int grades = spec.grades();
+            int cohortSize = spec.classesPerGrade() * spec.studentsPerClass();
+            int firstEntry = yearOf(0) - (grades - 1);
+            int cohorts = currentYear - firstEntry + 1;
+            int total = cohorts * cohortSize;
+
+            long uid = ids.reserve("user_main", total);
+            long infoId = reserveBaseInfoIds(total);
+            long requestId = ids.reserve("role_request", total);
+            long[][] studentInfoIds = new long[cohorts][cohortSize];
+            long[][] studentUids = new long[cohorts][cohortSize];
+            int[][] baseScores = new int[cohorts][cohortSize];
+
+            Rows users = userRows();
+            Rows roles = new Rows("user_roles", "uid", "roles");
+            Rows students = new Rows("student_info", "id", "uid", "school_id", "code", "status", "is_primary",
+                    "gender", "birth_date", "phone", "admission_date", "create_date", "update_date");
+            Rows requests = roleRequestRows();
+            int thisCalendarYear = LocalDate.now().getYear();
+            int codesThisYear = 0;
+            for (int k = 0; k < cohorts; k++) {
+                int entryYear = firstEntry + k;
+                boolean graduated = entryYear + grades - 1 < currentYear;
+                for (int i = 0; i < cohortSize; i++) {
+                    String gender = rng.nextBoolean() ? "MALE" : "FEMALE";
+                    studentUids[k][i] = uid++;
+                    studentInfoIds[k][i] = infoId++;
+                    baseScores[k][i] = 55 + rng.nextInt(40);
+                    users.add(studentUids[k][i],
+                            "load" + spec.seed() + "_" + schoolNo + "_s" + entryYear + "_" + i + "@test.com",
+                            randomName(gender), passwordHash, false, now, now);
+                    roles.add(studentUids[k][i], "STUDENT");
+                    students.add(studentInfoIds[k][i], studentUids[k][i], schoolId,
+                            "S" + entryYear + String.format("%04d", i + 1), graduated ? "GRADUATED" : "ENROLLED", true,
+                            gender, LocalDate.of(entryYear - 7, 1 + rng.nextInt(12), 1 + rng.nextInt(28)), phone(),
+                            LocalDate.of(entryYear, 3, 2), now, now);
+                    requests.add(requestId++, studentUids[k][i], schoolId, "STUDENT", "ACTIVE", now, now);
+                }
+                if (entryYear == thisCalendarYear) {
+                    codesThisYear = cohortSize;
+                }
+            }
+            done(users);
+            done(roles);
+            done(students);
+            done(requests);
+            if (codesThisYear > 0) {
+                writeCodeSequence("S", codesThisYear);
+            }
+
+            // 학년도별 배정 + 성적
+            int assignments = spec.years() * grades * cohortSize;
+            long assignmentId = ids.reserve("student_assignment", assignments);
+            long gradeId = ids.reserve("grades", assignments * 2 * subjectIds.length * 2);
+            Rows assignmentRows = new Rows("student_assignment", "id", "school_id", "school_year_id", "classroom_id",
+                    "student_info_id", "attendance_num", "create_date", "update_date");
+            Rows gradeRows = new Rows("grades", "id", "school_id", "student_id", "subject_id", "academic_term_id",
+                    "test_type", "score", "input_teacher_id", "create_date", "update_date");
+            // 올해 학급별 학생 (게시판·퀴즈용) — [학년-1][반-1] → 학생 인덱스(집단, 번호) 목록
+            List<List<List<int[]>>> currentRoster = new ArrayList<>();
+            for (int j = 0; j < spec.years(); j++) {
+                int year = yearOf(j);
+                boolean current = year == currentYear;
+                for (int g = 0; g < grades; g++) {
+                    int k = year - g - firstEntry;
+                    List<Integer> order = new ArrayList<>(cohortSize);
+                    for (int i = 0; i < cohortSize; i++) order.add(i);
+                    Collections.shuffle(order, rng);
+                    List<List<int[]>> classes = new ArrayList<>();
+                    for (int c = 0; c < spec.classesPerGrade(); c++) classes.add(new ArrayList<>());
+                    for (int p = 0; p < cohortSize; p++) {
+                        int i = order.get(p);
+                        int c = p % spec.classesPerGrade();
+                        int attendanceNum = p / spec.classesPerGrade() + 1;
+                        long classroomId = classroomIds[j][g][c];
+                        assignmentRows.add(assignmentId++, schoolId, schoolYearIds[j], classroomId,
+                                studentInfoIds[k][i], attendanceNum, now, now);
+                        for (int s = 0; s < 2; s++) {
+                            for (long subjectId : subjectIds) {
+                                for (String testType : new String[] { "MIDTERMTEST", "FINALTEST" }) {
+                                    double score = Math.min(100, Math.max(0, baseScores[k][i] + rng.nextGaussian() * 8));
+                                    gradeRows.add(gradeId++, schoolId, studentInfoIds[k][i], subjectId, termIds[j][s],
+                                            testType, Math.round(score * 10.0) / 10.0, homeroomInfoIds[g][c], now, now);
+                                }
+                            }
+                        }
+                        classes.get(c).add(new int[] { k, i });
+                    }
+                    if (current) currentRoster.add(classes);
+                }
+            }
+            done(assignmentRows);
+            done(gradeRows);
+
+            if (!currentRoster.isEmpty()) {
+                int j = currentYear - yearOf(0);
+                writeBoards(classroomIds[j], currentRoster, studentUids);
+                writeQuizzes(classroomIds[j], currentRoster, studentInfoIds, baseScores);
+            }
+        }
+
+        private void writeBoards(long[][] classroomIds, List<List<List<int[]>>> roster, long[][] studentUids) {
+            int boardsTotal = spec.grades() * spec.classesPerGrade() * spec.boardsPerClass();
+            if (boardsTotal == 0) return;
+            long boardId = ids.reserve("board", boardsTotal);
+            long commentId = ids.reserve("board_comment", boardsTotal * MAX_COMMENTS_PER_BOARD);
+            Rows boards = new Rows("board", "id", "school_id", "board_type", "title", "content", "writer_id",
+                    "target_classroom_id", "target_grade", "is_deleted", "is_important", "is_pinned",
+                    "requires_consent", "view_count", "create_date", "update_date");
+            Rows comments = new Rows("board_comment", "id", "board_id", "parent_id", "writer_id", "content",
+                    "is_deleted", "create_date");
+            for (int g = 0; g < spec.grades(); g++) {
+                for (int c = 0; c < spec.classesPerGrade(); c++) {
+                    List<int[]> members = roster.get(g).get(c);
+                    for (int b = 0; b < spec.boardsPerClass(); b++) {
+                        long id = boardId++;
+                        LocalDateTime written = now.minusMinutes(rng.nextInt(60 * 24 * 180));
+                        boards.add(id, schoolId, "CLASS_BOARD", BOARD_TITLES[rng.nextInt(BOARD_TITLES.length)],
+                                "부하 테스트용 게시글입니다. (" + (b + 1) + ")", homeroomUids[g][c], classroomIds[g][c],
+                                g + 1, false, false, false, false, rng.nextInt(members.size() + 1), written, written);
+                        long firstComment = 0;
+                        int commentCount = members.isEmpty() ? 0 : rng.nextInt(MAX_COMMENTS_PER_BOARD + 1);
+                        for (int m = 0; m < commentCount; m++) {
+                            int[] who = members.get(rng.nextInt(members.size()));
+                            long cmt = commentId++;
+                            // 첫 댓글 이후는 일부를 답글로
+                            Long parent = (m > 0 && rng.nextInt(3) == 0) ? firstComment : null;
+                            if (m == 0) firstComment = cmt;
+                            comments.add(cmt, id, parent, studentUids[who[0]][who[1]],
+                                    COMMENT_TEXTS[rng.nextInt(COMMENT_TEXTS.length)], false,
+                                    written.plusMinutes(10L * (m + 1)));
+                        }
+                    }
+                }
+            }
+            done(boards);
+            done(comments);
+        }
+
+        private void writeQuizzes(long[][] classroomIds, List<List<List<int[]>>> roster,
+                long[][] studentInfoIds, int[][] baseScores) {
+            int quizzesTotal = spec.grades() * spec.classesPerGrade() * spec.quizzesPerClass();
+            if (quizzesTotal == 0) return;
+            long quizId = ids.reserve("quiz", quizzesTotal);
+            long questionId = ids.reserve("quiz_question", quizzesTotal * QUESTIONS_PER_QUIZ);
+            int maxSubmissions = quizzesTotal * spec.studentsPerClass() * spec.quizAttempts();
+            long submissionId = ids.reserve("quiz_submission", maxSubmissions);
+            long answerId = ids.reserve("quiz_answer", maxSubmissions * QUESTIONS_PER_QUIZ);
+
+            Rows quizzes = new Rows("quiz", "id", "school_id", "classroom_id", "teacher_info_id", "title",
+                    "description", "week", "due_date", "status", "max_attempts", "show_answer", "is_deleted",
+                    "create_date", "update_date");
+            Rows questions = new Rows("quiz_question", "id", "quiz_id", "question_order", "question_text",
+                    "question_type", "correct_answer", "points", "create_date", "update_date");
+            Rows submissions = new Rows("quiz_submission", "id", "quiz_id", "student_info_id", "attempt_number",
+                    "score", "total_points", "submitted_at", "create_date", "update_date");
+            Rows answers = new Rows("quiz_answer", "id", "submission_id", "question_id", "answer_text",
+                    "is_correct", "earned_points");
+            int totalPoints = QUESTIONS_PER_QUIZ * POINTS_PER_QUESTION;
+            for (int g = 0; g < spec.grades(); g++) {
+                for (int c = 0; c < spec.classesPerGrade(); c++) {
+                    for (int q = 0; q < spec.quizzesPerClass(); q++) {
+                        long id = quizId++;
+                        LocalDateTime due = now.minusDays(rng.nextInt(120));
+                        quizzes.add(id, schoolId, classroomIds[g][c], homeroomInfoIds[g][c],
+                                "단원평가 " + (q + 1), "부하 테스트용 퀴즈", q % 16 + 1, due,
+                                due.isBefore(now) ? "CLOSED" : "OPEN", spec.quizAttempts(), true, false, now, now);
+                        long firstQuestion = questionId;
+                        for (int n = 0; n < QUESTIONS_PER_QUIZ; n++) {
+                            questions.add(questionId++, id, n + 1, "문제 " + (n + 1), "SHORT_ANSWER",
+                                    String.valueOf(n + 1), POINTS_PER_QUESTION, now, now);
+                        }
+                        for (int[] who : roster.get(g).get(c)) {
+                            int attempts = rng.nextInt(spec.quizAttempts() + 1); // 0 = 미응시
+                            long student = studentInfoIds[who[0]][who[1]];
+                            int ability = baseScores[who[0]][who[1]];
+                            for (int a = 1; a <= attempts; a++) {
+                                long sub = submissionId++;
+                                int score = 0;
+                                List<Object[]> answerRows = new ArrayList<>(QUESTIONS_PER_QUIZ);
+                                for (int n = 0; n < QUESTIONS_PER_QUIZ; n++) {
+                                    boolean correct = rng.nextInt(100) < ability;
+                                    int earned = correct ? POINTS_PER_QUESTION : 0;
+                                    score += earned;
+                                    answerRows.add(new Object[] { answerId++, sub, firstQuestion + n,
+                                            correct ? String.valueOf(n + 1) : "모르겠습니다", correct, earned });
+                                }
+                                LocalDateTime submitted = due.minusHours(rng.nextInt(72) + 1);
+                                submissions.add(sub, id, student, a, score, totalPoints, submitted, submitted, submitted);
+                                answerRows.forEach(answers::add);
+                            }
+                        }
+                    }
+                }
+            }
+            done(quizzes);
+            done(questions);
+            done(submissions);
+            done(answers);
+        }
+
+        /**
+         * CodeSequenceService 가 이후 같은 학교·연도에 발급할 번호가 생성한 코드와 겹치지 않도록 순번 기록
+         */
+        private void writeCodeSequence(String prefix, int issued) {
+            jdbcTemplate.update("INSERT INTO school_code_seq (school_id, role_type, year, next_seq) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE next_seq = GREATEST(next_seq, VALUES(next_seq))",
+                    schoolId, prefix, LocalDate.now().getYear(), issued + 1);
+        }
+
+        private Rows userRows() {
+            return new Rows("user_main", "uid", "email", "name", "password", "deleted", "create_date", "update_date");
+        }
+
+        private Rows roleRequestRows() {
+            return new Rows("role_request", "id", "user_uid", "school_id", "role", "status", "create_date",
+                    "update_date");
+        }
+
+        /** 버퍼를 비우고 테이블별 행 수 누적 */
+        private void done(Rows rows) {
+            rows.flush();
+            counts.merge(rows.table, rows.written, Long::sum);
+        }
+
+        private int yearOf(int index) {
+            return currentYear - (spec.years() - 1) + index;
+        }
+
+        private String randomName(String gender) {
+            String[] first = "MALE".equals(gender) ? TestDataService.MALE_NAMES : TestDataService.FEMALE_NAMES;
+            return TestDataService.LAST_NAMES[rng.nextInt(TestDataService.LAST_NAMES.length)]
+                    + first[rng.nextInt(first.length)];
+        }
+
+        private String phone() {
+            return "010-" + String.format("%04d", rng.nextInt(10000)) + "-" + String.format("%04d", rng.nextInt(10000));
+        }
+    }
+}
@@ -194,30 +194,30 @@ public class TestDataService {
         private static final long ELEM_SCHOOL_ID = 9520L; // 가거도초등학교
         private static final long MID_SCHOOL_ID = 7487L; // 가경중학교
 
-        // ── 교과목 풀 ─────────────────────────────────────────────────────────────
-        private static final String[][] ELEM_SUBJECTS = {
+        // ── 교과목 풀 (LoadDataGenerator 와 공유) ───────────────────────────────────
+        static final String[][] ELEM_SUBJECTS = {
                         { "KOR01", "국어" }, { "MATH01", "수학" }, { "SOC01", "사회" },
                         { "SCI01", "과학" }, { "ENG01", "영어" }, { "MORAL01", "도덕" },
                         { "MUS01", "음악" }, { "ART01", "미술" }, { "PE01", "체육" },
                         { "PRAC01", "실과" }
         };
-        private static final String[][] MID_SUBJECTS = {
+        static final String[][] MID_SUBJECTS = {
                         { "KOR02", "국어" }, { "MATH02", "수학" }, { "ENG02", "영어" },
                         { "SOC02", "사회" }, { "HIST02", "역사" }, { "SCI02", "과학" },
                         { "TH02", "기술가정" }, { "INFO02", "정보" }, { "MUS02", "음악" },
                         { "ART02", "미술" }, { "PE02", "체육" }, { "MORAL02", "도덕" }
         };
 
-        // ── 랜덤 데이터 풀 ────────────────────────────────────────────────────────
-        private static final String[] LAST_NAMES = {
+        // ── 랜덤 데이터 풀 (이름·주소는 LoadDataGenerator 와 공유) ──────────────────
+        static final String[] LAST_NAMES = {
                         "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
                         "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"
         };
-        private static final String[] MALE_NAMES = {
+        static final String[] MALE_NAMES = {
                         "민준", "서준", "도윤", "예준", "시우", "주원", "하준", "지호", "지후", "준서",
                         "준우", "현우", "도현", "지훈", "건우", "우진", "선우", "서진", "한결", "민재"
         };
-        private static final String[] FEMALE_NAMES = {
+        static final String[] FEMALE_NAMES = {
                         "서연", "서윤", "지우", "서현", "민서", "하은", "하윤", "윤서", "지민", "채원",
                         "수아", "아인", "예린", "다은", "예은", "지아", "소윤", "나은", "가은", "연서"
         };
@@ -230,7 +230,7 @@ public class TestDataService {
         private static final String[] JOB_TITLES = {
                         "행정실장", "주무관", "교육행정사", "전산담당", "시설담당", "급식담당"
         };
-        private static final String[] ADDRESSES = {
+        static final String[] ADDRESSES = {
                         "서울특별시 강남구 테헤란로 123", "서울특별시 서초구 반포대로 456",
                         "경기도 수원시 팔달구 효원로 789", "경기도 성남시 분당구 판교로 321",
                         "부산광역시 해운대구 해운대로 654", "대구광역시 중구 달구벌대로 987",
@@ -65,6 +65,9 @@ public class ClassPhotoService {
                 Map<String, Object> m = new HashMap<>();
                 m.put("id", p.getId());
                 m.put("imageUrl", FileManager.UploadType.ALBUM.toUrl(p.getImageFilename()));
+                // 그리드는 썸네일, 라이트박스는 중간 크기 파생본 사용 (원본은 다운로드용)
+                m.put("thumbnailUrl", FileManager.UploadType.ALBUM.toUrl(p.getImageFilename(), FileManager.ImageSize.THUMB));
+                m.put("mediumUrl", FileManager.UploadType.ALBUM.toUrl(p.getImageFilename(), FileManager.ImageSize.MEDIUM));
                 m.put("caption", p.getCaption() != null ? p.getCaption() : "");
                 return m;
             }).collect(Collectors.toList());
@@ -115,6 +118,8 @@ public class ClassPhotoService {
         return Map.of(
                 "id", saved.getId(),
                 "imageUrl", FileManager.UploadType.ALBUM.toUrl(saved.getImageFilename()),
+                "thumbnailUrl", FileManager.UploadType.ALBUM.toUrl(saved.getImageFilename(), FileManager.ImageSize.THUMB),
+                "mediumUrl", FileManager.UploadType.ALBUM.toUrl(saved.getImageFilename(), FileManager.ImageSize.MEDIUM),
                 "caption", saved.getCaption() != null ? saved.getCaption() : "",
                 "uploaderName", uploader.getName(),
                 "createDate", saved.getCreateDate() != null ? saved.getCreateDate().toString() : ""
@@ -0,0 +1,22 @@
+package com.example.schoolmate.domain.availability.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class AvailabilityDTO {
+
+    /** 예약 가능한 빈 시간 구간 [startTime, endTime) */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class FreeSlot {
+        private LocalDate date;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private long minutes;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.schoolmate.domain.availability.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 대상(자원·담임 교사)별 잠금 행
+ * - 예약 확정/해제 트랜잭션은 이 행을 SELECT ... FOR UPDATE 로 잡은 뒤 겹침을 검사 → 노드가 여러 대여도 직렬화
+ * - version 은 확정/해제마다 +1, 각 노드의 메모리 일정표가 최신인지 판단하는 기준
+ * - 갱신은 AvailabilityLockRepository 의 원자적 UPDATE / INSERT IGNORE 로만 수행
+ */
+@Entity
+@Table(name = "availability_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AvailabilityLock {
+
+    /** {종류}:{대상 id} (예: R:12, T:305) */
+    @Id
+    @Column(name = "lock_key", length = 40)
+    private String lockKey;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
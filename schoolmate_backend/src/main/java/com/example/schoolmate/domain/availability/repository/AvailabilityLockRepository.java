@@ -0,0 +1,30 @@
+package com.example.schoolmate.domain.availability.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.schoolmate.domain.availability.entity.AvailabilityLock;
+
+public interface AvailabilityLockRepository extends JpaRepository<AvailabilityLock, String> {
+
+    /** 잠금 행이 없으면 생성 (동시 생성도 행 하나로 합쳐짐) */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO availability_lock (lock_key, version) VALUES (:key, 0)", nativeQuery = true)
+    int ensure(@Param("key") String key);
+
+    /** 잠금 행을 잡고 현재 version 반환 — 트랜잭션 종료까지 같은 대상의 다른 확정/해제는 대기 */
+    @Query(value = "SELECT version FROM availability_lock WHERE lock_key = :key FOR UPDATE", nativeQuery = true)
+    long lockVersion(@Param("key") String key);
+
+    /** 잠금 없이 현재 version 조회 (빈 시간 조회용) */
+    @Query("SELECT l.version FROM AvailabilityLock l WHERE l.lockKey = :key")
+    Optional<Long> findVersion(@Param("key") String key);
+
+    @Modifying
+    @Query("UPDATE AvailabilityLock l SET l.version = l.version + 1 WHERE l.lockKey = :key")
+    int bump(@Param("key") String key);
+}
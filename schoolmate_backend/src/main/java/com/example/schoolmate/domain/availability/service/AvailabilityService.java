@@ -0,0 +1,363 @@
+package com.example.schoolmate.domain.availability.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.schoolmate.domain.availability.dto.AvailabilityDTO;
+import com.example.schoolmate.domain.availability.repository.AvailabilityLockRepository;
+import com.example.schoolmate.domain.consultation.entity.ConsultationReservation;
+import com.example.schoolmate.domain.consultation.repository.ConsultationReservationRepository;
+import com.example.schoolmate.domain.resources.constant.ReservationStatus;
+import com.example.schoolmate.domain.resources.entity.Reservation;
+import com.example.schoolmate.domain.resources.repository.ReservationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자원(시설·기자재) 예약과 상담 일정의 가용성 엔진
+ *
+ * - 대상(자원 / 담임 교사)마다 활성 구간(어제 ~ window-days 일 후)의 점유 시간을 {@link IntervalTree} 로 메모리에 보관
+ *   → 겹침 검사 O(log n), 빈 시간 조회 O(log n + k) (예약 테이블을 다시 읽지 않음)
+ * - 확정/해제는 대상별 잠금 행(availability_lock)을 FOR UPDATE 로 잡은 트랜잭션 안에서 수행 → 노드가 여러 대여도 직렬화
+ * - 잠금 행의 version 이 메모리 일정표의 version 과 다르면 (다른 노드가 바꿈) DB 에서 다시 적재
+ * - 메모리 반영은 커밋 후에만 (롤백되면 아무것도 바뀌지 않음)
+ * - 활성 구간 밖의 요청은 해당 기간만 DB 에서 조회해 판단
+ */
+@Slf4j
+@Service
+public class AvailabilityService {
+
+    /** 점유 대상 종류 */
+    public enum Kind {
+        /** 시설·기자재 (BaseResource id) */
+        RESOURCE("R"),
+        /** 담임 교사 상담 일정 (교사 User uid) */
+        TEACHER("T");
+
+        final String prefix;
+
+        Kind(String prefix) { this.prefix = prefix; }
+
+        String key(long ownerId) {
+            return prefix + ":" + ownerId;
+        }
+    }
+
+    /** 일정을 점유하는 자원 예약 상태 */
+    public static final Set<ReservationStatus> RESOURCE_BLOCKING =
+            EnumSet.of(ReservationStatus.APPROVED, ReservationStatus.IN_USE, ReservationStatus.OVERDUE);
+
+    /** 일정을 점유하는 상담 예약 상태 */
+    public static final Set<com.example.schoolmate.domain.consultation.entity.ReservationStatus> CONSULTATION_BLOCKING =
+            EnumSet.of(com.example.schoolmate.domain.consultation.entity.ReservationStatus.PENDING,
+                    com.example.schoolmate.domain.consultation.entity.ReservationStatus.CONFIRMED);
+
+    /** 빈 시간 조회 최대 일수 */
+    private static final int MAX_DAYS = 31;
+
+    private static final int MAX_TIMELINES = 2_000;
+
+    private record Slot(long id, long start, long end) {}
+
+    /**
+     * 대상 하나의 활성 구간 일정표 (인스턴스 단위로 동기화)
+     */
+    private static final class Timeline {
+        final LocalDate windowStart;
+        final long from;
+        final long to;
+        final IntervalTree tree = new IntervalTree();
+        final Map<Long, Long> startById = new HashMap<>();
+        long appliedVersion;
+
+        Timeline(LocalDate windowStart, long from, long to, long version) {
+            this.windowStart = windowStart;
+            this.from = from;
+            this.to = to;
+            this.appliedVersion = version;
+        }
+
+        boolean covers(long start, long end) {
+            return start >= from && end <= to;
+        }
+
+        boolean overlapsWindow(long start, long end) {
+            return start < to && end > from;
+        }
+
+        void put(long id, long start, long end) {
+            remove(id);
+            tree.insert(start, end, id);
+            startById.put(id, start);
+        }
+
+        void remove(long id) {
+            Long start = startById.remove(id);
+            if (start != null) tree.remove(start, id);
+        }
+    }
+
+    private final AvailabilityLockRepository lockRepository;
+    private final ReservationRepository reservationRepository;
+    private final ConsultationReservationRepository consultationRepository;
+    private final int windowDays;
+    private final Map<Kind, LocalTime[]> openingHours;
+
+    private final Map<String, Timeline> timelines = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Timeline> eldest) {
+                    return size() > MAX_TIMELINES;
+                }
+            });
+
+    public AvailabilityService(
+            AvailabilityLockRepository lockRepository,
+            ReservationRepository reservationRepository,
+            ConsultationReservationRepository consultationRepository,
+            @Value("${app.availability.window-days:90}") int windowDays,
+            @Value("${app.availability.resource.open:08:00}") String resourceOpen,
+            @Value("${app.availability.resource.close:22:00}") String resourceClose,
+            @Value("${app.availability.consultation.open:09:00}") String consultationOpen,
+            @Value("${app.availability.consultation.close:18:00}") String consultationClose) {
+        this.lockRepository = lockRepository;
+        this.reservationRepository = reservationRepository;
+        this.consultationRepository = consultationRepository;
+        this.windowDays = windowDays;
+        this.openingHours = Map.of(
+                Kind.RESOURCE, new LocalTime[] { LocalTime.parse(resourceOpen), LocalTime.parse(resourceClose) },
+                Kind.TEACHER, new LocalTime[] { LocalTime.parse(consultationOpen), LocalTime.parse(consultationClose) });
+    }
+
+    // ── 확정 / 해제 ────────────────────────────────────────────────────────
+
+    /**
+     * slotId 의 점유 시간을 [start, end) 로 확정합니다 (이미 점유 중이면 시간 변경).
+     * 같은 대상의 다른 점유와 겹치면 IllegalStateException — 호출 트랜잭션이 롤백됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Kind kind, long ownerId, long slotId, LocalDateTime start, LocalDateTime end,
+            String conflictMessage) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("예약 시작/종료 시각을 입력해주세요.");
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        String key = kind.key(ownerId);
+        long version = lock(key);
+        long s = minutes(start);
+        long e = minutes(end);
+
+        Timeline timeline = timeline(kind, ownerId, key, version, true);
+        boolean conflict;
+        if (timeline.covers(s, e)) {
+            synchronized (timeline) {
+                conflict = timeline.tree.overlaps(s, e, slotId);
+            }
+        } else {
+            conflict = load(kind, ownerId, start, end, true).stream()
+                    .anyMatch(slot -> slot.id() != slotId && slot.start() < e && slot.end() > s);
+        }
+        if (conflict) {
+            throw new IllegalStateException(conflictMessage);
+        }
+        lockRepository.bump(key);
+        afterCommit(key, version, c -> {
+            if (c.overlapsWindow(s, e)) {
+                c.put(slotId, s, e);
+            } else {
+                c.remove(slotId);
+            }
+        });
+    }
+
+    /**
+     * slotId 의 점유를 해제합니다 (취소·반려·완료 등).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Kind kind, long ownerId, long slotId) {
+        String key = kind.key(ownerId);
+        long version = lock(key);
+        lockRepository.bump(key);
+        afterCommit(key, version, c -> c.remove(slotId));
+    }
+
+    // ── 빈 시간 조회 ───────────────────────────────────────────────────────
+
+    /**
+     * date 부터 days 일 동안 운영 시간 안의 빈 구간을 반환합니다.
+     * 주말은 includeWeekends 가 true 일 때만 포함합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<AvailabilityDTO.FreeSlot> freeSlots(Kind kind, long ownerId, LocalDate date, int days,
+            int minMinutes, boolean includeWeekends) {
+        if (date == null) {
+            throw new IllegalArgumentException("조회 날짜를 입력해주세요.");
+        }
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1~" + MAX_DAYS + "일이어야 합니다.");
+        }
+        LocalTime open = openingHours.get(kind)[0];
+        LocalTime close = openingHours.get(kind)[1];
+        String key = kind.key(ownerId);
+        long version = lockRepository.findVersion(key).orElse(0L);
+        Timeline timeline = timeline(kind, ownerId, key, version, false);
+
+        List<AvailabilityDTO.FreeSlot> result = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            LocalDate day = date.plusDays(i);
+            if (!includeWeekends
+                    && (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                continue;
+            }
+            long dayStart = minutes(day.atTime(open));
+            long dayEnd = minutes(day.atTime(close));
+            List<Slot> busy = new ArrayList<>();
+            if (timeline.covers(dayStart, dayEnd)) {
+                synchronized (timeline) {
+                    timeline.tree.forEachOverlap(dayStart, dayEnd, (s, e, id) -> busy.add(new Slot(id, s, e)));
+                }
+            } else {
+                busy.addAll(load(kind, ownerId, day.atTime(open), day.atTime(close), false));
+                busy.sort((a, b) -> Long.compare(a.start(), b.start()));
+            }
+            long cursor = dayStart;
+            for (Slot slot : busy) {
+                addGap(result, cursor, Math.min(slot.start(), dayEnd), minMinutes);
+                cursor = Math.max(cursor, slot.end());
+            }
+            addGap(result, cursor, dayEnd, minMinutes);
+        }
+        return result;
+    }
+
+    // ── 내부 ──────────────────────────────────────────────────────────────
+
+    private long lock(String key) {
+        lockRepository.ensure(key);
+        return lockRepository.lockVersion(key);
+    }
+
+    /**
+     * version 기준 최신 일정표 반환 — 없거나, 날짜가 바뀌었거나, version 이 다르면 DB 에서 적재
+     */
+    private Timeline timeline(Kind kind, long ownerId, String key, long version, boolean locked) {
+        LocalDate windowStart = LocalDate.now().minusDays(1);
+        Timeline cached = timelines.get(key);
+        if (cached != null && cached.windowStart.equals(windowStart)) {
+            synchronized (cached) {
+                if (cached.appliedVersion == version) return cached;
+            }
+        }
+        LocalDateTime from = windowStart.atStartOfDay();
+        LocalDateTime to = windowStart.plusDays(windowDays + 1L).atStartOfDay();
+        Timeline loaded = new Timeline(windowStart, minutes(from), minutes(to), version);
+        for (Slot slot : load(kind, ownerId, from, to, locked)) {
+            loaded.put(slot.id(), slot.start(), slot.end());
+        }
+        // 잠금 없이 읽은 스냅샷이 이미 반영된 일정표보다 오래됐으면 이번 조회에만 사용
+        if (cached == null || !cached.windowStart.equals(windowStart) || cached.appliedVersion <= version) {
+            timelines.put(key, loaded);
+        }
+        log.debug("[Availability] 일정표 적재: {} v{} ({}건)", key, version, loaded.tree.size());
+        return loaded;
+    }
+
+    /**
+     * [from, to) 와 겹치는 점유 시간을 DB 에서 조회
+     * locked 이면 잠금 행을 잡은 뒤이므로 트랜잭션 스냅샷이 아닌 최신 커밋 기준으로 읽음
+     */
+    private List<Slot> load(Kind kind, long ownerId, LocalDateTime from, LocalDateTime to, boolean locked) {
+        List<Slot> slots = new ArrayList<>();
+        if (kind == Kind.RESOURCE) {
+            List<Reservation> reservations = locked
+                    ? reservationRepository.findOverlappingForShare(ownerId, RESOURCE_BLOCKING, from, to)
+                    : reservationRepository.findOverlapping(ownerId, RESOURCE_BLOCKING, from, to);
+            for (Reservation r : reservations) {
+                slots.add(new Slot(r.getId(), minutes(r.getStartDateTime()), minutes(r.getEndDateTime())));
+            }
+        } else {
+            LocalDate startDate = from.toLocalDate();
+            LocalDate endDate = to.minusNanos(1).toLocalDate();
+            List<ConsultationReservation> consultations = locked
+                    ? consultationRepository.findTeacherSlotsForShare(ownerId, CONSULTATION_BLOCKING, startDate, endDate)
+                    : consultationRepository.findTeacherSlots(ownerId, CONSULTATION_BLOCKING, startDate, endDate);
+            for (ConsultationReservation r : consultations) {
+                if (r.getDate() == null || r.getStartTime() == null || r.getEndTime() == null) continue;
+                long s = minutes(r.getDate().atTime(r.getStartTime()));
+                long e = minutes(r.getDate().atTime(r.getEndTime()));
+                if (e > s) slots.add(new Slot(r.getId(), s, e));
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * 커밋 후 메모리 일정표에 반영 — 일정표가 확정 직전 version 일 때만 적용, 아니면 버려서 다음 조회 때 재적재
+     */
+    private void afterCommit(String key, long version, Consumer<Timeline> change) {
+        Runnable task = () -> {
+            Timeline timeline = timelines.get(key);
+            if (timeline == null) return;
+            synchronized (timeline) {
+                if (timeline.appliedVersion == version) {
+                    change.accept(timeline);
+                    timeline.appliedVersion = version + 1;
+                    return;
+                }
+            }
+            timelines.remove(key, timeline);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private static void addGap(List<AvailabilityDTO.FreeSlot> result, long start, long end, int minMinutes) {
+        if (end - start < Math.max(minMinutes, 1)) return;
+        LocalDateTime s = toDateTime(start);
+        LocalDateTime e = toDateTime(end);
+        result.add(AvailabilityDTO.FreeSlot.builder()
+                .date(s.toLocalDate())
+                .startTime(s.toLocalTime())
+                .endTime(e.toLocalTime())
+                .minutes(end - start)
+                .build());
+    }
+
+    /** 시각 → 분 단위 정수 (시간대와 무관한 단조 증가 값) */
+    private static long minutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toDateTime(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+}
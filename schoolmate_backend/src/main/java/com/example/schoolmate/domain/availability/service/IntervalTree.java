@@ -0,0 +1,185 @@
+package com.example.schoolmate.domain.availability.service;
+
+/**
+ * 반열림 구간 [start, end) 의 interval tree (AVL + 부분트리 최대 end 보강)
+ *
+ * - (start, id) 순으로 정렬되며 같은 시각의 예약도 id 로 구분됩니다.
+ * - 삽입/삭제 O(log n), 겹침 존재 확인 O(log n), 겹치는 구간 나열 O(log n + k)
+ * - 스레드 안전하지 않음 (호출자가 동기화)
+ */
+final class IntervalTree {
+
+    /** 겹치는 구간 방문자 */
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long start, long end, long id);
+    }
+
+    private static final class Node {
+        final long start;
+        final long end;
+        final long id;
+        long maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(long start, long end, long id) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(long start, long end, long id) {
+        root = insert(root, start, end, id);
+    }
+
+    /** (start, id) 로 등록된 구간 삭제 — 없으면 무시 */
+    void remove(long start, long id) {
+        root = remove(root, start, id);
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간 중 excludeId 가 아닌 것이 있는지
+     */
+    boolean overlaps(long from, long to, long excludeId) {
+        return findOverlap(root, from, to, excludeId);
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간을 시작 시각 순으로 방문
+     */
+    void forEachOverlap(long from, long to, Visitor visitor) {
+        visit(root, from, to, visitor);
+    }
+
+    // ── 탐색 ──────────────────────────────────────────────────────────────
+
+    private static boolean findOverlap(Node node, long from, long to, long excludeId) {
+        // 부분트리의 모든 구간이 from 이전에 끝나면 가지치기
+        if (node == null || node.maxEnd <= from) return false;
+        if (findOverlap(node.left, from, to, excludeId)) return true;
+        if (node.start >= to) return false; // 오른쪽은 모두 to 이후 시작
+        if (node.end > from && node.id != excludeId) return true;
+        return findOverlap(node.right, from, to, excludeId);
+    }
+
+    private static void visit(Node node, long from, long to, Visitor visitor) {
+        if (node == null || node.maxEnd <= from) return;
+        visit(node.left, from, to, visitor);
+        if (node.start >= to) return;
+        if (node.end > from) visitor.visit(node.start, node.end, node.id);
+        visit(node.right, from, to, visitor);
+    }
+
+    // ── AVL ───────────────────────────────────────────────────────────────
+
+    private static int compare(long start, long id, Node node) {
+        int c = Long.compare(start, node.start);
+        return c != 0 ? c : Long.compare(id, node.id);
+    }
+
+    private Node insert(Node node, long start, long end, long id) {
+        if (node == null) {
+            size++;
+            return new Node(start, end, id);
+        }
+        int c = compare(start, id, node);
+        if (c < 0) {
+            node.left = insert(node.left, start, end, id);
+        } else if (c > 0) {
+            node.right = insert(node.right, start, end, id);
+        } else {
+            // 같은 키 재등록 — end 만 바뀔 수 있으므로 노드 교체
+            Node replaced = new Node(start, end, id);
+            replaced.left = node.left;
+            replaced.right = node.right;
+            return balance(replaced);
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, long start, long id) {
+        if (node == null) return null;
+        int c = compare(start, id, node);
+        if (c < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (c > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            Node successor = node.right;
+            while (successor.left != null) successor = successor.left;
+            Node replaced = new Node(successor.start, successor.end, successor.id);
+            replaced.right = removeMin(node.right);
+            replaced.left = node.left;
+            return balance(replaced);
+        }
+        return balance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) return node.right;
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long max = node.end;
+        if (node.left != null) max = Math.max(max, node.left.maxEnd);
+        if (node.right != null) max = Math.max(max, node.right.maxEnd);
+        node.maxEnd = max;
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
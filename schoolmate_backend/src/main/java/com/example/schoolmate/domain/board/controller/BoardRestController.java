@@ -1,15 +1,11 @@
 package com.example.schoolmate.domain.board.controller;
 
-import java.io.File;
-import java.net.URLConnection;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
-import org.springframework.http.MediaType;
-
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -22,16 +18,22 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.example.schoolmate.global.util.FileManager;
+import com.example.schoolmate.global.util.FileServer;
 import com.example.schoolmate.domain.board.dto.BoardDTO;
+import com.example.schoolmate.domain.conversion.dto.DocumentConversionDTO;
+import com.example.schoolmate.domain.conversion.service.DocumentConversionService;
 import com.example.schoolmate.domain.board.entity.BoardType;
 import com.example.schoolmate.domain.board.service.BoardService;
 import com.example.schoolmate.domain.user.dto.AuthUserDTO;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,20 +50,26 @@ public class BoardRestController {
 
     private final BoardService boardService;
     private final FileManager fileManager;
+    private final FileServer fileServer;
+    private final DocumentConversionService documentConversionService;
 
     // [woo] 첨부파일 서빙 — GET /api/board/file/{filename}
     // iframe/img에서 직접 접근 가능 (Vite 프록시가 /api 프리픽스를 프록시)
-    @GetMapping("/file/{filename:.+}")
-    public ResponseEntity<Resource> serveFile(@PathVariable String filename) {
-        File file = new File(System.getProperty("user.dir") + "/uploads/board/" + filename);
-        if (!file.exists()) {
-            return ResponseEntity.notFound().build();
+    @RequestMapping(value = "/file/{filename:.+}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void serveFile(@PathVariable String filename,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var stored = fileManager.locate(FileManager.UploadType.BOARD, filename, null);
+        if (stored.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
-        String contentType = URLConnection.guessContentTypeFromName(filename);
-        if (contentType == null) contentType = "application/octet-stream";
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .body(new FileSystemResource(file));
+        fileServer.serve(stored.get(), FileServer.CachePolicy.IMMUTABLE, request, response);
+    }
+
+    // 첨부 문서(HWP 등)의 PDF 변환 상태 — 변환 작업이 없으면 404
+    @GetMapping("/file/{filename:.+}/conversion")
+    public ResponseEntity<DocumentConversionDTO.Response> getConversion(@PathVariable String filename) {
+        return ResponseEntity.of(documentConversionService.findBySource(filename));
     }
 
     // ========== [woo] React 페이지용 GET API ==========
@@ -382,40 +390,17 @@ public class BoardRestController {
                 return ResponseEntity.badRequest().body("파일이 비어있습니다.");
             }
 
-            // 리눅스 배포하고 사용할 것입니다. 가정통신문 한글파일 바로 띄우려고 생성해둔것.
-            // [woo] HWP → PDF 변환 (LibreOffice 설치 필요 — Linux 배포 시 활성화)
-            // 활성화 방법: sudo apt install libreoffice 후 아래 주석 해제
-            /*
-            String originalName = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
-            if (originalName.endsWith(".hwp") || originalName.endsWith(".hwpx")) {
-                String boardDir = System.getProperty("user.dir") + "/uploads/board/";
-                String hwpPath = boardDir + filename;
-                try {
-                    ProcessBuilder pb = new ProcessBuilder(
-                        "libreoffice", "--headless", "--convert-to", "pdf",
-                        "--outdir", boardDir, hwpPath
-                    );
-                    pb.redirectErrorStream(true);
-                    Process proc = pb.start();
-                    boolean done = proc.waitFor(30, java.util.concurrent.TimeUnit.SECONDS);
-                    if (done && proc.exitValue() == 0) {
-                        String pdfFilename = filename.replaceAll("\\.(hwp|hwpx)$", ".pdf");
-                        java.io.File pdfFile = new java.io.File(boardDir + pdfFilename);
-                        if (pdfFile.exists()) {
-                            new java.io.File(hwpPath).delete();
-                            String url = "/api/board/file/" + pdfFilename;
-                            return ResponseEntity.ok(Map.of("url", url, "filename", pdfFilename));
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("[woo] HWP 변환 실패 (LibreOffice 없음 또는 오류): {}", e.getMessage());
-                }
-            }
-            */
+            // [woo] HWP/HWPX → PDF 미리보기는 백그라운드 변환 (app.conversion.converter 설정 시)
+            // 업로드는 바로 반환하고, 변환 상태는 /api/board/file/{filename}/conversion 으로 확인
+            Optional<Long> conversionJobId = documentConversionService.enqueue(filename, file.getOriginalFilename());
 
             // [woo] /api/board/file/ 경로로 반환 — iframe에서 Vite 프록시 경유 가능
             String url = "/api/board/file/" + filename;
-            return ResponseEntity.ok(Map.of("url", url, "filename", filename));
+            Map<String, Object> body = new HashMap<>();
+            body.put("url", url);
+            body.put("filename", filename);
+            conversionJobId.ifPresent(id -> body.put("conversionJobId", id));
+            return ResponseEntity.ok(body);
         } catch (Exception e) {
             log.error("파일 업로드 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().body("파일 업로드에 실패했습니다.");
@@ -1,7 +1,5 @@
 package com.example.schoolmate.domain.board.controller;
 
-import java.util.List;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,6 +8,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.schoolmate.domain.board.dto.CommentDTO;
@@ -28,11 +27,18 @@ public class CommentRestController {
 
     /**
      * 댓글 목록 조회 (replies 포함)
-     * GET /api/board/{boardId}/comments
+     * GET /api/board/{boardId}/comments                     — 전체 스레드 (배열)
+     * GET /api/board/{boardId}/comments?size=30&cursor=123  — 최상위 댓글 커서 페이지 { comments, nextCursor, hasNext }
      */
     @GetMapping
-    public ResponseEntity<List<CommentDTO.Response>> getComments(@PathVariable Long boardId) {
-        return ResponseEntity.ok(commentService.getComments(boardId));
+    public ResponseEntity<?> getComments(
+            @PathVariable Long boardId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (size == null) {
+            return ResponseEntity.ok(commentService.getComments(boardId));
+        }
+        return ResponseEntity.ok(commentService.getCommentPage(boardId, cursor, size));
     }
 
     /**
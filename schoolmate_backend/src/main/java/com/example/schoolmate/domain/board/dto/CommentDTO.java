@@ -46,17 +46,28 @@ public class CommentDTO {
         private List<Response> replies;
 
         public static Response from(Comment comment) {
+            return of(comment.getId(), comment.getBoard().getId(),
+                    comment.getParent() != null ? comment.getParent().getId() : null,
+                    comment.getWriter().getUid(), comment.getWriter().getName(), comment.getWriter().getRoles(),
+                    comment.getContent(), comment.getCreateDate(), comment.isDeleted());
+        }
+
+        /**
+         * 스레드 조회 결과(컬럼 단위)로 생성 — 엔티티를 거치지 않음
+         */
+        public static Response of(Long id, Long boardId, Long parentId, Long writerId, String writerName,
+                Set<UserRole> writerRoles, String content, LocalDateTime createDate, boolean deleted) {
             return Response.builder()
-                    .id(comment.getId())
-                    .boardId(comment.getBoard().getId())
-                    .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                    .writerId(comment.getWriter().getUid())
-                    .writerName(comment.getWriter().getName())
+                    .id(id)
+                    .boardId(boardId)
+                    .parentId(parentId)
+                    .writerId(writerId)
+                    .writerName(writerName)
                     // [soojin] 작성자 역할 우선순위 결정 (ADMIN > TEACHER > STAFF > PARENT > STUDENT)
-                    .writerRole(resolveRole(comment.getWriter().getRoles()))
-                    .content(comment.isDeleted() ? "삭제된 댓글입니다." : comment.getContent())
-                    .createDate(comment.getCreateDate())
-                    .isDeleted(comment.isDeleted())
+                    .writerRole(resolveRole(writerRoles))
+                    .content(deleted ? "삭제된 댓글입니다." : content)
+                    .createDate(createDate)
+                    .isDeleted(deleted)
                     .build();
         }
 
@@ -69,4 +80,17 @@ public class CommentDTO {
             return UserRole.STUDENT.name();
         }
     }
+
+    /**
+     * 최상위 댓글 커서 페이지 (각 댓글의 replies 포함)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class CursorPage {
+        private List<Response> comments;
+        // 다음 요청의 cursor (마지막 최상위 댓글 id), 더 없으면 null
+        private Long nextCursor;
+        private boolean hasNext;
+    }
 }
@@ -2,17 +2,36 @@ package com.example.schoolmate.domain.board.repository;
 
 import com.example.schoolmate.domain.board.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 // [soojin] 게시글 댓글 레포지토리 - 대댓글 계층 구조 지원
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // 게시글의 최상위 댓글 목록 (parent가 null인 것만)
-    List<Comment> findByBoard_IdAndParentIsNullOrderByCreateDateAsc(Long boardId);
+    // 스레드 조회 컬럼: 댓글 id, 부모 id, 작성자 uid, 작성자 이름, 작성자 역할(역할 수만큼 행 반복), 내용, 작성일, 삭제 여부
+    // 최상위 댓글 id(= 대댓글의 부모 id) 순으로 묶고, 묶음 안에서는 id 순 (대댓글 id 는 항상 부모보다 큼 → 최상위가 먼저)
+    String THREAD_SELECT = "SELECT c.id, c.parent.id, w.uid, w.name, r, c.content, c.createDate, c.isDeleted " +
+            "FROM Comment c JOIN c.writer w LEFT JOIN w.roles r " +
+            "WHERE c.board.id = :boardId ";
 
-    // 특정 댓글의 대댓글 목록
-    List<Comment> findByParent_IdOrderByCreateDateAsc(Long parentId);
+    String THREAD_ORDER = " ORDER BY coalesce(c.parent.id, c.id), c.id";
+
+    // 게시글의 전체 댓글 스레드 (작성자 포함 단일 쿼리)
+    @Query(THREAD_SELECT + THREAD_ORDER)
+    List<Object[]> findThreadRows(@Param("boardId") Long boardId);
+
+    // 커서(마지막으로 받은 최상위 댓글 id) 이후 최상위 댓글 (offset + 1)개 + 그 대댓글 (단일 쿼리)
+    // 최상위 댓글 범위의 끝은 스칼라 서브쿼리(LIMIT 1 OFFSET)로 구함 — 없으면 끝까지
+    @Query(THREAD_SELECT +
+            "AND coalesce(c.parent.id, c.id) > :cursor " +
+            "AND coalesce(c.parent.id, c.id) <= coalesce((SELECT t.id FROM Comment t " +
+            "    WHERE t.board.id = :boardId AND t.parent IS NULL AND t.id > :cursor " +
+            "    ORDER BY t.id LIMIT 1 OFFSET :offset), 9223372036854775807L)" +
+            THREAD_ORDER)
+    List<Object[]> findThreadRowsAfter(@Param("boardId") Long boardId, @Param("cursor") Long cursor,
+            @Param("offset") int offset);
 
     // 게시글 댓글 수 (삭제 여부 무관하게 카운트해서 "N개의 댓글" 표시)
     long countByBoard_IdAndIsDeletedFalse(Long boardId);
@@ -1,7 +1,12 @@
 package com.example.schoolmate.domain.board.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,21 +33,37 @@ public class CommentService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
 
+    /** 커서 페이지 최대 최상위 댓글 수 */
+    private static final int MAX_PAGE_SIZE = 100;
+
     /**
      * 댓글 목록 조회 — 최상위 댓글 + 각 댓글의 대댓글(replies) 포함
+     * 작성자까지 한 번의 쿼리로 읽어 메모리에서 트리를 조립합니다.
      */
     public List<CommentDTO.Response> getComments(Long boardId) {
-        List<Comment> topLevel = commentRepository.findByBoard_IdAndParentIsNullOrderByCreateDateAsc(boardId);
-        return topLevel.stream().map(comment -> {
-            CommentDTO.Response dto = CommentDTO.Response.from(comment);
-            List<CommentDTO.Response> replies = commentRepository
-                    .findByParent_IdOrderByCreateDateAsc(comment.getId())
-                    .stream()
-                    .map(CommentDTO.Response::from)
-                    .collect(Collectors.toList());
-            dto.setReplies(replies);
-            return dto;
-        }).collect(Collectors.toList());
+        return assemble(boardId, commentRepository.findThreadRows(boardId));
+    }
+
+    /**
+     * 댓글 커서 페이지 조회 — cursor(이전 페이지의 nextCursor) 이후 최상위 댓글 size 개 + 대댓글
+     * 한 개를 더 읽어 다음 페이지 존재 여부를 판단합니다 (단일 쿼리).
+     */
+    public CommentDTO.CursorPage getCommentPage(Long boardId, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        List<CommentDTO.Response> topLevel = assemble(boardId,
+                commentRepository.findThreadRowsAfter(boardId, cursor != null ? cursor : 0L, size));
+        boolean hasNext = topLevel.size() > size;
+        if (hasNext) {
+            topLevel = topLevel.subList(0, size);
+        }
+        Long nextCursor = hasNext ? topLevel.get(topLevel.size() - 1).getId() : null;
+        return CommentDTO.CursorPage.builder()
+                .comments(topLevel)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -110,4 +131,38 @@ public class CommentService {
 
         comment.delete();
     }
+
+    /**
+     * 스레드 조회 행 → 최상위 댓글 목록 (replies 채움)
+     * 행은 최상위 댓글 순으로 묶여 있고, 작성자 역할 수만큼 같은 댓글이 반복됩니다.
+     * 대댓글의 대댓글은 기존과 같이 표시하지 않습니다.
+     */
+    private List<CommentDTO.Response> assemble(Long boardId, List<Object[]> rows) {
+        Map<Long, Object[]> columns = new LinkedHashMap<>();
+        Map<Long, Set<UserRole>> roles = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            columns.putIfAbsent(id, row);
+            Set<UserRole> set = roles.computeIfAbsent(id, k -> EnumSet.noneOf(UserRole.class));
+            if (row[4] instanceof UserRole role) set.add(role);
+        }
+
+        List<CommentDTO.Response> topLevel = new ArrayList<>();
+        Map<Long, CommentDTO.Response> topLevelById = new LinkedHashMap<>();
+        for (Map.Entry<Long, Object[]> entry : columns.entrySet()) {
+            Object[] c = entry.getValue();
+            CommentDTO.Response dto = CommentDTO.Response.of(entry.getKey(), boardId, (Long) c[1], (Long) c[2],
+                    (String) c[3], roles.get(entry.getKey()), (String) c[5], (LocalDateTime) c[6],
+                    Boolean.TRUE.equals(c[7]));
+            if (dto.getParentId() == null) {
+                dto.setReplies(new ArrayList<>());
+                topLevel.add(dto);
+                topLevelById.put(dto.getId(), dto);
+            } else {
+                CommentDTO.Response parent = topLevelById.get(dto.getParentId());
+                if (parent != null) parent.getReplies().add(dto);
+            }
+        }
+        return topLevel;
+    }
 }
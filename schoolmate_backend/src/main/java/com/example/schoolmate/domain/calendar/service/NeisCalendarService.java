@@ -17,6 +17,8 @@ import org.springframework.web.client.RestClient;
 import com.example.schoolmate.domain.dashboard.dto.SchoolCalendarDTO;
 import com.example.schoolmate.domain.dashboard.dto.TimetableItemDTO;
 import com.example.schoolmate.domain.calendar.entity.constant.EventType;
+import com.example.schoolmate.global.config.SchoolmateUrls;
+import com.example.schoolmate.global.config.metrics.NeisMetricsInterceptor;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -25,21 +27,30 @@ import lombok.extern.log4j.Log4j2;
 @Service
 public class NeisCalendarService {
 
-    private static final String NEIS_SCHEDULE_URL = "https://open.neis.go.kr/hub/SchoolSchedule";
-    private static final String NEIS_TIMETABLE_URL = "https://open.neis.go.kr/hub/hisTimetable";
+    // neis.api.base-url 뒤에 붙는 경로
+    private static final String NEIS_SCHEDULE_URL = "/SchoolSchedule";
+    private static final String NEIS_TIMETABLE_URL = "/hisTimetable";
     // [soojin] 학교 종류별 시간표 엔드포인트 — schoolKind: "중학교" → misTimetable, "초등학교" → elsTimetable
-    private static final String NEIS_TIMETABLE_URL_MIS = "https://open.neis.go.kr/hub/misTimetable";
-    private static final String NEIS_TIMETABLE_URL_ELS = "https://open.neis.go.kr/hub/elsTimetable";
+    private static final String NEIS_TIMETABLE_URL_MIS = "/misTimetable";
+    private static final String NEIS_TIMETABLE_URL_ELS = "/elsTimetable";
     private static final DateTimeFormatter NEIS_DATE_FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final DateTimeFormatter RANGE_FMT = DateTimeFormatter.ofPattern("M/d(E)", Locale.KOREAN);
 
     @Value("${neis.api.key}")
     private String apiKey;
 
+    @Value("${neis.api.base-url:" + SchoolmateUrls.Api.NEIS_HUB + "}")
+    private String baseUrl;
+
     // [woo] NEIS API는 Accept: application/json 헤더를 허용하지 않음 → 헤더 미설정
-    private final RestClient restClient = RestClient.builder()
-            .defaultHeader("User-Agent", "Mozilla/5.0")
-            .build();
+    private final RestClient restClient;
+
+    public NeisCalendarService(NeisMetricsInterceptor neisMetrics) {
+        this.restClient = RestClient.builder()
+                .defaultHeader("User-Agent", "Mozilla/5.0")
+                .requestInterceptor(neisMetrics)
+                .build();
+    }
 
     // [woo] 학교별 학사일정 조회 — atptCode/schulCode는 호출부(CalendarRestController)가 School DB에서 조회해 전달
     public List<SchoolCalendarDTO> getMonthlyEvents(int year, int month, Integer grade, String atptCode, String schulCode) {
@@ -48,7 +59,7 @@ public class NeisCalendarService {
         LocalDate start = LocalDate.of(year, month, 1);
         LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
 
-        String url = NEIS_SCHEDULE_URL
+        String url = baseUrl + NEIS_SCHEDULE_URL
                 + "?KEY=" + apiKey
                 + "&Type=json&pIndex=1&pSize=200"
                 + "&ATPT_OFCDC_SC_CODE=" + atptCode
@@ -65,31 +76,37 @@ public class NeisCalendarService {
                     .retrieve()
                     .body(Map.class);
 
-            if (response == null) return Collections.emptyList();
-            if (response.containsKey("RESULT")) {
-                log.warn("NEIS 학사일정 결과 없음: {}", response.get("RESULT"));
-                return Collections.emptyList();
-            }
-
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> wrapper = (List<Map<String, Object>>) response.get("SchoolSchedule");
-            if (wrapper == null || wrapper.size() < 2) return Collections.emptyList();
-
-            @SuppressWarnings("unchecked")
-            List<Map<String, String>> rows = (List<Map<String, String>>) wrapper.get(1).get("row");
-            if (rows == null) return Collections.emptyList();
-
-            return rows.stream()
-                    .map(this::rowToDto)
-                    .filter(dto -> grade == null || dto.getTargetGrade() == null || dto.getTargetGrade().equals(grade))
-                    .collect(Collectors.toList());
-
+            return toEvents(response, grade);
         } catch (Exception e) {
             log.error("NEIS 학사일정 API 호출 실패: {}", e.getMessage(), e);
             return Collections.emptyList();
         }
     }
 
+    /**
+     * SchoolSchedule 응답(JSON → Map)을 일정 DTO 로 변환합니다. grade 가 있으면 해당 학년·전체 대상 일정만 남깁니다.
+     */
+    List<SchoolCalendarDTO> toEvents(Map<String, Object> response, Integer grade) {
+        if (response == null) return Collections.emptyList();
+        if (response.containsKey("RESULT")) {
+            log.warn("NEIS 학사일정 결과 없음: {}", response.get("RESULT"));
+            return Collections.emptyList();
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> wrapper = (List<Map<String, Object>>) response.get("SchoolSchedule");
+        if (wrapper == null || wrapper.size() < 2) return Collections.emptyList();
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> rows = (List<Map<String, String>>) wrapper.get(1).get("row");
+        if (rows == null) return Collections.emptyList();
+
+        return rows.stream()
+                .map(this::rowToDto)
+                .filter(dto -> grade == null || dto.getTargetGrade() == null || dto.getTargetGrade().equals(grade))
+                .collect(Collectors.toList());
+    }
+
     private SchoolCalendarDTO rowToDto(Map<String, String> row) {
         String ymd = row.get("AA_YMD");
         LocalDate date = LocalDate.parse(ymd, NEIS_DATE_FMT);
@@ -142,20 +159,20 @@ public class NeisCalendarService {
         // 한국 학기: 3~8월 = 1학기, 9~2월 = 2학기
         int sem = (now.getMonthValue() >= 3 && now.getMonthValue() <= 8) ? 1 : 2;
 
-        String baseUrl;
+        String path;
         String responseKey;
         if (schoolKind != null && schoolKind.contains("중학")) {
-            baseUrl = NEIS_TIMETABLE_URL_MIS;
+            path = NEIS_TIMETABLE_URL_MIS;
             responseKey = "misTimetable";
         } else if (schoolKind != null && schoolKind.contains("초등")) {
-            baseUrl = NEIS_TIMETABLE_URL_ELS;
+            path = NEIS_TIMETABLE_URL_ELS;
             responseKey = "elsTimetable";
         } else {
-            baseUrl = NEIS_TIMETABLE_URL;
+            path = NEIS_TIMETABLE_URL;
             responseKey = "hisTimetable";
         }
 
-        String url = baseUrl
+        String url = baseUrl + path
                 + "?KEY=" + apiKey
                 + "&Type=json&pIndex=1&pSize=20"
                 + "&ATPT_OFCDC_SC_CODE=" + atptCode
@@ -0,0 +1,280 @@
+package com.example.schoolmate.domain.classroom.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.schoolmate.domain.student.entity.constant.StudentStatus;
+import com.example.schoolmate.domain.student.repository.StudentAssignmentRepository;
+import com.example.schoolmate.global.config.metrics.CacheMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 학급 명단 캐시
+ *
+ * 과제/퀴즈 목록처럼 행마다 "학급 학생 수"를 구하던 곳에서 매번 학생-배정-학급 조인을
+ * 다시 실행하지 않도록, 학급(cid)별 명단을 불변 배열 스냅샷으로 보관합니다.
+ * 학급은 하나의 학년도에 속하므로 cid 가 곧 (학급, 학년도) 키입니다.
+ *
+ * - 스냅샷: (studentInfoId, uid, 이름, 학번, 출석번호, 학적상태) 를 번호 순으로 정렬한 배열
+ * - size / contains 는 메모리 조회 (O(1))
+ * - 배정 변경 시 evict → 트랜잭션 종료(커밋/롤백) 후 한 번 더 제거하여
+ *   커밋 전 데이터가 다른 요청에 의해 다시 적재되는 경우를 막습니다.
+ * - JPA 변경(배정·학생·사용자 이름)은 {@link ClassroomRosterCacheListener} 가 자동으로 무효화합니다.
+ * - 다른 노드의 변경이나 JPA 를 거치지 않은 변경은 TTL(app.roster-cache.ttl-seconds) 이 지나면 반영되고,
+ *   보관 학급 수는 app.roster-cache.max-entries 로 제한합니다 (넘치면 가장 오래 적재된 명단부터 제거).
+ * - 적중률: {@link CacheMetrics} (cache=classroom-roster)
+ */
+@Component
+public class ClassroomRosterCache {
+
+    private final StudentAssignmentRepository studentAssignmentRepository;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final CacheMetrics metrics;
+
+    public ClassroomRosterCache(StudentAssignmentRepository studentAssignmentRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.roster-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.roster-cache.max-entries:2000}") int maxEntries) {
+        this.studentAssignmentRepository = studentAssignmentRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.metrics = CacheMetrics.register(meterRegistry, "classroom-roster", rosters::size);
+    }
+
+    private final Map<Long, Roster> rosters = new ConcurrentHashMap<>();
+
+    /** 무효화가 일어날 때마다 증가. 적재 도중 무효화되면 결과를 캐시에 넣지 않음 */
+    private final AtomicLong generation = new AtomicLong();
+
+    // ── 조회 ──────────────────────────────────────────────────────────────
+
+    public Roster get(Long cid) {
+        Roster cached = rosters.get(cid);
+        if (cached != null) {
+            if (System.nanoTime() - cached.loadedAt < ttlNanos) {
+                metrics.hit();
+                return cached;
+            }
+            rosters.remove(cid, cached);
+        }
+        metrics.miss();
+        long gen = generation.get();
+        Roster loaded = Roster.of(cid, studentAssignmentRepository.findRosterRows(cid));
+        if (generation.get() != gen) {
+            return loaded;
+        }
+        if (rosters.size() >= maxEntries) {
+            evictOldest();
+        }
+        Roster raced = rosters.putIfAbsent(cid, loaded);
+        if (raced != null) {
+            return raced;
+        }
+        // 확인~저장 사이에 무효화가 끼어들었으면 방금 넣은 스냅샷을 되돌림
+        // (무효화는 generation 증가 → remove 순이므로 둘 중 한 쪽이 반드시 제거)
+        if (generation.get() != gen) {
+            rosters.remove(cid, loaded);
+        }
+        return loaded;
+    }
+
+    public int size(Long cid) {
+        return get(cid).size();
+    }
+
+    public boolean containsStudent(Long cid, Long studentInfoId) {
+        return get(cid).containsStudent(studentInfoId);
+    }
+
+    public boolean containsUser(Long cid, Long uid) {
+        return get(cid).containsUser(uid);
+    }
+
+    // ── 무효화 ────────────────────────────────────────────────────────────
+
+    public void evict(Long cid) {
+        if (cid == null) {
+            return;
+        }
+        evictNow(cid);
+        afterCompletion(() -> evictNow(cid));
+    }
+
+    /**
+     * 학생 이름/학적 상태/배정 변경 시: 해당 학생이 포함된 명단을 모두 제거
+     */
+    public void evictStudent(Long studentInfoId) {
+        if (studentInfoId == null) {
+            return;
+        }
+        evictStudentNow(studentInfoId);
+        afterCompletion(() -> evictStudentNow(studentInfoId));
+    }
+
+    /**
+     * 사용자 이름 변경 시: 해당 사용자가 포함된 명단을 모두 제거
+     */
+    public void evictUser(Long uid) {
+        if (uid == null) {
+            return;
+        }
+        evictUserNow(uid);
+        afterCompletion(() -> evictUserNow(uid));
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        rosters.clear();
+        afterCompletion(() -> {
+            generation.incrementAndGet();
+            rosters.clear();
+        });
+    }
+
+    private void evictNow(Long cid) {
+        generation.incrementAndGet();
+        rosters.remove(cid);
+    }
+
+    private void evictStudentNow(Long studentInfoId) {
+        generation.incrementAndGet();
+        rosters.values().removeIf(r -> r.containsStudent(studentInfoId));
+    }
+
+    private void evictUserNow(Long uid) {
+        generation.incrementAndGet();
+        rosters.values().removeIf(r -> r.containsUser(uid));
+    }
+
+    /** 상한 초과 시 가장 오래 적재된 명단 제거 (상한이 작으므로 전체 순회로 충분) */
+    private void evictOldest() {
+        rosters.values().stream()
+                .min((a, b) -> Long.compare(a.loadedAt, b.loadedAt))
+                .ifPresent(oldest -> rosters.remove(oldest.classroomId, oldest));
+    }
+
+    private static void afterCompletion(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.run();
+            }
+        });
+    }
+
+    // ── 스냅샷 ────────────────────────────────────────────────────────────
+
+    /**
+     * 학급 명단 불변 스냅샷 (출석번호 → 이름 순)
+     */
+    public static final class Roster {
+
+        private final Long classroomId;
+        private final long[] studentInfoIds;
+        private final long[] uids;
+        private final String[] names;
+        private final String[] codes;
+        private final Integer[] attendanceNums;
+        private final StudentStatus[] statuses;
+        private final Map<Long, Integer> indexByStudentInfoId;
+        private final Map<Long, Integer> indexByUid;
+        /** 적재 시각 (System.nanoTime) — TTL 판단용 */
+        private final long loadedAt;
+
+        private Roster(Long classroomId, List<Object[]> rows) {
+            int n = rows.size();
+            this.classroomId = classroomId;
+            this.loadedAt = System.nanoTime();
+            this.studentInfoIds = new long[n];
+            this.uids = new long[n];
+            this.names = new String[n];
+            this.codes = new String[n];
+            this.attendanceNums = new Integer[n];
+            this.statuses = new StudentStatus[n];
+            Map<Long, Integer> byInfo = new HashMap<>(n * 2);
+            Map<Long, Integer> byUid = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                Object[] row = rows.get(i);
+                studentInfoIds[i] = (Long) row[0];
+                uids[i] = (Long) row[1];
+                names[i] = (String) row[2];
+                codes[i] = (String) row[3];
+                attendanceNums[i] = (Integer) row[4];
+                statuses[i] = (StudentStatus) row[5];
+                byInfo.put(studentInfoIds[i], i);
+                byUid.put(uids[i], i);
+            }
+            this.indexByStudentInfoId = Collections.unmodifiableMap(byInfo);
+            this.indexByUid = Collections.unmodifiableMap(byUid);
+        }
+
+        static Roster of(Long classroomId, List<Object[]> rows) {
+            return new Roster(classroomId, rows);
+        }
+
+        public Long getClassroomId() {
+            return classroomId;
+        }
+
+        public int size() {
+            return studentInfoIds.length;
+        }
+
+        public boolean containsStudent(Long studentInfoId) {
+            return studentInfoId != null && indexByStudentInfoId.containsKey(studentInfoId);
+        }
+
+        public boolean containsUser(Long uid) {
+            return uid != null && indexByUid.containsKey(uid);
+        }
+
+        public long studentInfoId(int i) {
+            return studentInfoIds[i];
+        }
+
+        public long uid(int i) {
+            return uids[i];
+        }
+
+        public String name(int i) {
+            return names[i];
+        }
+
+        public String code(int i) {
+            return codes[i];
+        }
+
+        public Integer attendanceNum(int i) {
+            return attendanceNums[i];
+        }
+
+        public StudentStatus status(int i) {
+            return statuses[i];
+        }
+
+        /** 명단 순서 그대로의 studentInfoId 목록 */
+        public List<Long> studentInfoIds() {
+            List<Long> ids = new ArrayList<>(studentInfoIds.length);
+            for (long id : studentInfoIds) {
+                ids.add(id);
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.schoolmate.domain.classroom.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.schoolmate.domain.student.entity.StudentAssignment;
+import com.example.schoolmate.domain.student.entity.StudentInfo;
+import com.example.schoolmate.domain.user.entity.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * 학급 명단 캐시 무효화 엔티티 리스너
+ *
+ * StudentAssignment / StudentInfo / User(명단에 이름이 들어감) 가 JPA 로 저장·변경·삭제될 때마다 명단 캐시를 비웁니다.
+ * 서비스·컨트롤러마다 evict 를 호출하지 않아도 배정 추가, 번호 변경, 전출 같은
+ * 모든 변경 경로가 빠짐없이 반영됩니다. (JDBC 직접 적재는 호출 측에서 evictAll)
+ *
+ * 캐시 빈은 EntityManagerFactory 보다 늦게 만들어지므로 ObjectProvider 로 지연 조회합니다.
+ */
+@Component
+public class ClassroomRosterCacheListener {
+
+    private final ObjectProvider<ClassroomRosterCache> cacheProvider;
+
+    public ClassroomRosterCacheListener(ObjectProvider<ClassroomRosterCache> cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        ClassroomRosterCache cache = cacheProvider.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        if (entity instanceof StudentAssignment assignment) {
+            // 학급 이동 시 이전 학급 명단은 학생 기준으로 제거
+            if (assignment.getClassroom() != null) {
+                cache.evict(assignment.getClassroom().getCid());
+            }
+            if (assignment.getStudentInfo() != null) {
+                cache.evictStudent(assignment.getStudentInfo().getId());
+            }
+        } else if (entity instanceof StudentInfo info) {
+            cache.evictStudent(info.getId());
+        } else if (entity instanceof User user) {
+            cache.evictUser(user.getUid());
+        }
+    }
+}
@@ -4,7 +4,9 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,6 +27,7 @@ import com.example.schoolmate.domain.student.entity.StudentInfo;
 import com.example.schoolmate.domain.student.entity.StudentAssignment;
 import com.example.schoolmate.domain.user.entity.User;
 import com.example.schoolmate.domain.user.repository.UserRepository;
+import com.example.schoolmate.domain.user.service.UserInfoLookup;
 
 import com.example.schoolmate.domain.classroom.repository.ClassroomRepository;
 import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
@@ -60,6 +63,8 @@ public class ClassroomService {
     private final TeacherInfoRepository teacherInfoRepository;
     private final SchoolRepository schoolRepository;
     private final SchoolYearRepository schoolYearRepository;
+    private final ClassroomRosterCache classroomRosterCache;
+    private final UserInfoLookup userInfoLookup;
 
     @Transactional(readOnly = true)
     public Page<ClassDTO.DetailResponse> getClassList(ClassDTO.SearchCondition cond, Pageable pageable) {
@@ -75,25 +80,21 @@ public class ClassroomService {
         Classroom classroom = classroomRepository.findById(cid)
                 .orElseThrow(() -> new IllegalArgumentException("학급 정보를 찾을 수 없습니다."));
 
-        List<User> students = studentInfoRepository.findStudentsByAssignment(
-                classroom.getYear(), classroom.getGrade(), classroom.getClassNum());
+        // 명단은 캐시 스냅샷(번호 순)에서 바로 구성 — 학생/배정 엔티티를 다시 읽지 않음
+        ClassroomRosterCache.Roster roster = classroomRosterCache.get(cid);
 
-        ClassDTO.DetailResponse response = ClassDTO.DetailResponse.from(classroom, students.size());
+        ClassDTO.DetailResponse response = ClassDTO.DetailResponse.from(classroom, roster.size());
 
-        List<ClassDTO.StudentSummary> studentSummaries = students.stream().map(u -> {
-            StudentInfo info = u.getInfo(StudentInfo.class);
-            StudentAssignment assign = info.getAssignments().stream()
-                    .filter(a -> a.getSchoolYear() != null && a.getSchoolYear().equals(classroom.getSchoolYear()))
-                    .findFirst().orElse(null);
-
-            return new ClassDTO.StudentSummary(
-                    u.getUid(),
-                    u.getName(),
-                    info.getCode(),
-                    assign != null ? assign.getAttendanceNum() : null,
+        List<ClassDTO.StudentSummary> studentSummaries = new ArrayList<>(roster.size());
+        for (int i = 0; i < roster.size(); i++) {
+            studentSummaries.add(new ClassDTO.StudentSummary(
+                    roster.uid(i),
+                    roster.name(i),
+                    roster.code(i),
+                    roster.attendanceNum(i),
                     "-",
-                    info.getStatus().getDescription());
-        }).collect(Collectors.toList());
+                    roster.status(i) != null ? roster.status(i).getDescription() : "-"));
+        }
 
         response.setStudents(studentSummaries);
 
@@ -145,27 +146,22 @@ public class ClassroomService {
 
     @Transactional(readOnly = true)
     public List<ClassDTO.StudentSummary> getUnassignedStudents(int year, String keyword) {
-        List<User> allUsers = userRepository.findAll();
+        // 해당 학년도 배정이 없는 학생 정보만 — 배정 여부는 NOT EXISTS 로 DB 에서 판단 (학생별 배정 지연 로딩 없음)
+        Map<Long, StudentInfo> studentByUid = new LinkedHashMap<>();
+        for (StudentInfo info : studentInfoRepository.findUnassignedWithUser(year)) {
+            studentByUid.putIfAbsent(info.getUser().getUid(), info);
+        }
 
-        return allUsers.stream()
-                .filter(u -> u.getInfo(StudentInfo.class) != null)
-                .filter(u -> {
+        return studentByUid.values().stream()
+                .filter(info -> {
                     if (keyword == null || keyword.isBlank())
                         return true;
                     String k = keyword.trim();
-                    StudentInfo info = u.getInfo(StudentInfo.class);
-                    return u.getName().contains(k) || (info.getCode() != null && info.getCode().contains(k));
-                })
-                .filter(u -> {
-                    StudentInfo info = u.getInfo(StudentInfo.class);
-                    return info.getAssignments().stream()
-                            .noneMatch(a -> a.getSchoolYear() != null && a.getSchoolYear().getYear() == year);
-                })
-                .map(u -> {
-                    StudentInfo info = u.getInfo(StudentInfo.class);
-                    return new ClassDTO.StudentSummary(
-                            u.getUid(), u.getName(), info.getCode(), null, "-", info.getStatus().getDescription());
+                    return info.getUser().getName().contains(k) || (info.getCode() != null && info.getCode().contains(k));
                 })
+                .map(info -> new ClassDTO.StudentSummary(
+                        info.getUser().getUid(), info.getUser().getName(), info.getCode(), null, "-",
+                        info.getStatus().getDescription()))
                 .collect(Collectors.toList());
     }
 
@@ -306,13 +302,14 @@ public class ClassroomService {
                 .orElseThrow(() -> new IllegalArgumentException("학급 정보를 찾을 수 없습니다."));
 
         List<User> users = userRepository.findAllById(studentUids);
+        Map<Long, StudentInfo> infos = userInfoLookup.findStudents(studentUids);
 
         int maxNum = studentInfoRepository.findMaxAttendanceNum(classroom.getYear(), classroom.getGrade(),
                 classroom.getClassNum());
         int nextNum = maxNum + 1;
 
         for (User user : users) {
-            StudentInfo info = user.getInfo(StudentInfo.class);
+            StudentInfo info = infos.get(user.getUid());
 
             StudentAssignment assignment = info.getAssignments().stream()
                     .filter(a -> a.getSchoolYear() != null && a.getSchoolYear().equals(classroom.getSchoolYear()))
@@ -335,6 +332,9 @@ public class ClassroomService {
         }
 
         logChange(cid, "ASSIGN_STUDENT", users.size() + "명 학생 배정");
+        // 다른 반에서 옮겨온 학생이 있을 수 있으므로 학생 단위로도 제거
+        classroomRosterCache.evict(cid);
+        users.forEach(u -> classroomRosterCache.evictStudent(infos.get(u.getUid()).getId()));
 
         // 배정된 학생들에게 학급 배정 알림
         String className = classroom.getGrade() + "학년 " + classroom.getClassNum() + "반";
@@ -382,11 +382,12 @@ public class ClassroomService {
         User user = userRepository.findById(studentUid)
                 .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다."));
 
-        StudentInfo info = user.getInfo(StudentInfo.class);
+        StudentInfo info = userInfoLookup.find(StudentInfo.class, user.getUid());
 
         info.getAssignments().removeIf(a -> a.getClassroom().getCid().equals(classroom.getCid()));
 
         logChange(cid, "REMOVE_STUDENT", "학생 제외: " + user.getName());
+        classroomRosterCache.evict(cid);
 
         // 학생에게 학급 제외 알림
         NotificationHelper.send(user, "학급 변경 안내",
@@ -397,14 +398,14 @@ public class ClassroomService {
         Classroom classroom = classroomRepository.findById(cid)
                 .orElseThrow(() -> new IllegalArgumentException("학급 정보를 찾을 수 없습니다."));
 
-        List<User> users = userRepository.findAllById(studentUids);
+        Map<Long, StudentInfo> infos = userInfoLookup.findStudents(studentUids);
 
-        for (User user : users) {
-            StudentInfo info = user.getInfo(StudentInfo.class);
+        for (StudentInfo info : infos.values()) {
             info.getAssignments().removeIf(a -> a.getClassroom().getCid().equals(classroom.getCid()));
         }
 
-        logChange(cid, "REMOVE_STUDENT", users.size() + "명 학생 일괄 제외");
+        logChange(cid, "REMOVE_STUDENT", infos.size() + "명 학생 일괄 제외");
+        classroomRosterCache.evict(cid);
     }
 
     public void transferStudent(Long currentCid, Long targetCid, Long studentUid) {
@@ -414,7 +415,7 @@ public class ClassroomService {
         User user = userRepository.findById(studentUid)
                 .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다."));
 
-        StudentInfo info = user.getInfo(StudentInfo.class);
+        StudentInfo info = userInfoLookup.find(StudentInfo.class, user.getUid());
 
         StudentAssignment assignment = info.getAssignments().stream()
                 .filter(a -> a.getClassroom().getCid().equals(currentCid))
@@ -426,6 +427,8 @@ public class ClassroomService {
 
         assignment.setClassroom(targetClassroom);
         assignment.setAttendanceNum(nextNum);
+        classroomRosterCache.evict(currentCid);
+        classroomRosterCache.evict(targetCid);
 
         logChange(currentCid, "TRANSFER_OUT", "학생 전출: " + user.getName() + " -> " + targetClassroom.getClassName());
         logChange(targetCid, "TRANSFER_IN", "학생 전입: " + user.getName() + " (from " + currentCid + ")");
@@ -527,29 +530,6 @@ public class ClassroomService {
     }
 
     // --- Roster Export ---
-    public String generateRosterCsv(Long cid) {
-        ClassDTO.DetailResponse detail = getClassDetail(cid);
-        StringBuilder sb = new StringBuilder();
-        sb.append("번호,이름,학번,상태\n");
-
-        List<ClassDTO.StudentSummary> sortedStudents = detail.getStudents().stream()
-                .sorted((s1, s2) -> {
-                    if (s1.getAttendanceNum() != null && s2.getAttendanceNum() != null) {
-                        return s1.getAttendanceNum().compareTo(s2.getAttendanceNum());
-                    }
-                    return s1.getName().compareTo(s2.getName());
-                })
-                .toList();
-
-        for (ClassDTO.StudentSummary s : sortedStudents) {
-            sb.append(s.getAttendanceNum() != null ? s.getAttendanceNum() : "-").append(",")
-                    .append(s.getName()).append(",")
-                    .append(s.getCode()).append(",")
-                    .append(s.getStatus()).append("\n");
-        }
-        return sb.toString();
-    }
-
     public void deleteClass(Long cid) {
         Classroom classroom = classroomRepository.findById(cid)
                 .orElseThrow(() -> new IllegalArgumentException("학급 정보를 찾을 수 없습니다."));
@@ -9,6 +9,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.schoolmate.domain.availability.dto.AvailabilityDTO;
 import com.example.schoolmate.domain.user.repository.UserSocialAccountRepository;
 import com.example.schoolmate.domain.consultation.dto.ReservationDTO;
 import com.example.schoolmate.domain.consultation.service.ConsultationReservationService;
@@ -53,6 +54,18 @@ public class ConsultationReservationController {
         return ResponseEntity.ok(reservationService.getMyReservations(uid, role, studentUserUid));
     }
 
+    // 담임 교사의 상담 가능 빈 시간 (days=1 하루, days=7 한 주) - 교사: 본인, 학부모: studentUserUid 자녀의 담임
+    @GetMapping("/free-slots")
+    public ResponseEntity<List<AvailabilityDTO.FreeSlot>> getFreeSlots(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "days", defaultValue = "1") int days,
+            @RequestParam(value = "studentUserUid", required = false) Long studentUserUid,
+            Authentication auth) {
+        Long uid = getUid(auth);
+        if (uid == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(reservationService.getFreeSlots(uid, getRole(auth), studentUserUid, date, days));
+    }
+
     // 예약 생성
     @PostMapping
     public ResponseEntity<ReservationDTO.Response> create(
@@ -17,7 +17,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "consultation_reservation")
+@Table(name = "consultation_reservation",
+    indexes = @Index(name = "idx_consultation_teacher_date", columnList = "teacher_uid, date")
+)
 public class ConsultationReservation extends SchoolBaseEntity {
 
     @Id
@@ -40,6 +42,10 @@ public class ConsultationReservation extends SchoolBaseEntity {
     @JoinColumn(name = "student_info_id")
     private StudentInfo studentInfo;
 
+    // 상담 일정을 점유한 담임 교사 uid — 예약 시점의 담임으로 고정 (이후 반이 바뀌어도 같은 교사 일정에서 해제)
+    @Column(name = "teacher_uid")
+    private Long teacherUid;
+
     @Column(columnDefinition = "TEXT")
     private String content;
 
@@ -1,13 +1,18 @@
 package com.example.schoolmate.domain.consultation.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.consultation.entity.ConsultationReservation;
+import com.example.schoolmate.domain.consultation.entity.ReservationStatus;
+
+import jakarta.persistence.LockModeType;
 
 // [soojin] 상담 예약 Repository
 public interface ConsultationReservationRepository extends JpaRepository<ConsultationReservation, Long> {
@@ -57,4 +62,29 @@ public interface ConsultationReservationRepository extends JpaRepository<Consult
 
     // 전체 예약 조회 (관리자용)
     List<ConsultationReservation> findAllByOrderByDateDescStartTimeDesc();
+
+    // 점유 교사(teacherUid) 기준 — 값이 없는 이전 예약만 학생의 현재 담임으로 판단
+    String TEACHER_SLOTS_QUERY = "SELECT r FROM ConsultationReservation r " +
+           "WHERE r.status IN :statuses AND r.date BETWEEN :startDate AND :endDate " +
+           "AND (r.teacherUid = :teacherUid OR (r.teacherUid IS NULL AND EXISTS (" +
+           "SELECT 1 FROM StudentAssignment ca " +
+           "WHERE ca.studentInfo = r.studentInfo AND ca.classroom.teacher.uid = :teacherUid " +
+           "AND ca.schoolYear.status = com.example.schoolmate.domain.term.entity.SchoolYearStatus.CURRENT)))";
+
+    // 담임 교사의 상태별 상담 일정 (가용성 일정표 적재용)
+    @Query(TEACHER_SLOTS_QUERY)
+    List<ConsultationReservation> findTeacherSlots(
+            @Param("teacherUid") Long teacherUid,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // 잠금 행을 잡은 뒤 다시 읽을 때 — 트랜잭션 스냅샷이 아닌 최신 커밋 기준으로 조회
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query(TEACHER_SLOTS_QUERY)
+    List<ConsultationReservation> findTeacherSlotsForShare(
+            @Param("teacherUid") Long teacherUid,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 }
@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.schoolmate.domain.availability.dto.AvailabilityDTO;
+import com.example.schoolmate.domain.availability.service.AvailabilityService;
 import com.example.schoolmate.domain.parent.entity.FamilyRelation;
 import com.example.schoolmate.domain.student.entity.StudentInfo;
 import com.example.schoolmate.domain.student.entity.StudentAssignment;
@@ -34,9 +36,12 @@ public class ConsultationReservationService {
     private final UserRepository userRepository;
     private final FamilyRelationRepository familyRelationRepository;
     private final StudentInfoRepository studentInfoRepository;
+    private final AvailabilityService availabilityService;
 
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private static final String SLOT_CONFLICT = "해당 시간에는 담임 선생님의 다른 상담 일정이 있습니다.";
+
     // 날짜 범위로 예약 조회 (캘린더 뷰) - 교사: 담당 반만, 학부모: 자녀 반만, 관리자: 전체
     public List<ReservationDTO.Response> getByDateRange(LocalDate startDate, LocalDate endDate,
                                                         Long teacherUid, Long studentUserUid, Long parentUid) {
@@ -96,16 +101,14 @@ public class ConsultationReservationService {
 
         // 자녀 선택 (studentUserUid: 자녀의 User uid)
         if (req.getStudentUserUid() != null) {
-            List<FamilyRelation> relations = familyRelationRepository.findByParentInfo_User_Uid(uid);
-            relations.stream()
-                    .filter(r -> r.getStudentInfo().getUser() != null
-                            && r.getStudentInfo().getUser().getUid().equals(req.getStudentUserUid()))
-                    .findFirst()
-                    .ifPresent(r -> reservation.setStudentInfo(r.getStudentInfo()));
+            reservation.setStudentInfo(childOf(uid, req.getStudentUserUid()));
         }
 
         ConsultationReservation saved = reservationRepository.save(reservation);
 
+        // 담임 교사의 기존 상담(대기·확정)과 겹치면 409
+        reserveSlot(saved);
+
         // 담임 교사에게 상담 예약 알림
         if (saved.getStudentInfo() != null && saved.getStudentInfo().getCurrentAssignment() != null
                 && saved.getStudentInfo().getCurrentAssignment().getClassroom() != null) {
@@ -133,6 +136,7 @@ public class ConsultationReservationService {
         if (reservation.getStatus() != ReservationStatus.PENDING) {
             throw new RuntimeException("대기 중인 예약만 취소할 수 있습니다.");
         }
+        releaseSlot(reservation);
         reservation.setStatus(ReservationStatus.CANCELLED);
 
         // 담임 교사에게 예약 취소 알림
@@ -154,6 +158,7 @@ public class ConsultationReservationService {
         if (reservation.getStatus() != ReservationStatus.CONFIRMED) {
             throw new RuntimeException("확정된 예약만 완료 처리할 수 있습니다.");
         }
+        releaseSlot(reservation);
         reservation.setStatus(ReservationStatus.COMPLETED);
 
         // 예약자(학부모)에게 상담 완료 알림
@@ -174,6 +179,7 @@ public class ConsultationReservationService {
                 && reservation.getStatus() != ReservationStatus.CONFIRMED) {
             throw new RuntimeException("대기 중이거나 확정된 예약만 취소할 수 있습니다.");
         }
+        releaseSlot(reservation);
         reservation.setStatus(ReservationStatus.CANCELLED);
 
         // 예약자(학부모)에게 교사 취소 알림
@@ -198,6 +204,8 @@ public class ConsultationReservationService {
             if (req.getStartTime() != null) reservation.setStartTime(req.getStartTime());
             if (req.getEndTime() != null) reservation.setEndTime(req.getEndTime());
         }
+        // 일정이 바뀌었을 수 있으므로 겹침 재확인 (자기 자신은 제외)
+        reserveSlot(reservation);
         reservation.setStatus(ReservationStatus.CONFIRMED);
 
         // 예약자(학부모)에게 확정 알림
@@ -210,6 +218,24 @@ public class ConsultationReservationService {
         return toResponse(reservation);
     }
 
+    // 담임 교사의 상담 가능한 빈 시간 (교사: 본인, 학부모: 선택 자녀의 담임)
+    public List<AvailabilityDTO.FreeSlot> getFreeSlots(Long uid, String role, Long studentUserUid,
+                                                       LocalDate date, int days) {
+        Long teacherUid;
+        if ("TEACHER".equals(role)) {
+            teacherUid = uid;
+        } else {
+            // 예약 생성과 같은 기준: 요청한 학부모의 자녀일 때만 (다른 학생 담임 일정 조회 방지)
+            StudentInfo si = studentUserUid != null ? childOf(uid, studentUserUid) : null;
+            User teacher = si != null ? homeroomTeacher(si) : null;
+            if (teacher == null) {
+                throw new IllegalArgumentException("담임 교사 정보를 찾을 수 없습니다.");
+            }
+            teacherUid = teacher.getUid();
+        }
+        return availabilityService.freeSlots(AvailabilityService.Kind.TEACHER, teacherUid, date, days, 30, false);
+    }
+
     // 학부모의 자녀 목록 조회
     public List<ReservationDTO.ChildInfo> getChildren(Long uid) {
         List<FamilyRelation> relations = familyRelationRepository.findByParentInfo_User_Uid(uid);
@@ -227,6 +253,48 @@ public class ConsultationReservationService {
         }).collect(Collectors.toList());
     }
 
+    // 담임 교사 상담 일정에 점유 등록 (담임이 없으면 검사 생략)
+    private void reserveSlot(ConsultationReservation r) {
+        Long teacherUid = slotTeacherUid(r);
+        if (teacherUid == null || r.getDate() == null || r.getStartTime() == null || r.getEndTime() == null) return;
+        availabilityService.reserve(AvailabilityService.Kind.TEACHER, teacherUid, r.getId(),
+                r.getDate().atTime(r.getStartTime()), r.getDate().atTime(r.getEndTime()), SLOT_CONFLICT);
+    }
+
+    private void releaseSlot(ConsultationReservation r) {
+        Long teacherUid = slotTeacherUid(r);
+        if (teacherUid == null) return;
+        availabilityService.release(AvailabilityService.Kind.TEACHER, teacherUid, r.getId());
+    }
+
+    /**
+     * 예약이 점유한 교사 일정의 주인 — 처음 점유할 때의 담임을 예약에 기록해 두고 계속 사용
+     * (학생이 반을 옮긴 뒤에도 원래 교사 일정에서 해제). 기록이 없는 이전 예약은 현재 담임으로 채웁니다.
+     */
+    private Long slotTeacherUid(ConsultationReservation r) {
+        if (r.getTeacherUid() == null && r.getStudentInfo() != null) {
+            User teacher = homeroomTeacher(r.getStudentInfo());
+            if (teacher != null) {
+                r.setTeacherUid(teacher.getUid());
+            }
+        }
+        return r.getTeacherUid();
+    }
+
+    /** 학부모(parentUid)의 자녀 중 studentUserUid 학생; 자녀가 아니면 null */
+    private StudentInfo childOf(Long parentUid, Long studentUserUid) {
+        return familyRelationRepository.findByParentInfo_User_Uid(parentUid).stream()
+                .map(FamilyRelation::getStudentInfo)
+                .filter(si -> si.getUser() != null && si.getUser().getUid().equals(studentUserUid))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private User homeroomTeacher(StudentInfo si) {
+        StudentAssignment ca = si.getCurrentAssignment();
+        return ca != null && ca.getClassroom() != null ? ca.getClassroom().getTeacher() : null;
+    }
+
     private ReservationDTO.Response toResponse(ConsultationReservation r) {
         return toResponse(r, null, null);
     }
@@ -0,0 +1,30 @@
+package com.example.schoolmate.domain.conversion.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.schoolmate.domain.conversion.dto.DocumentConversionDTO;
+import com.example.schoolmate.domain.conversion.service.DocumentConversionService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 첨부 문서 변환 상태 조회
+ * - GET /api/board/conversions/{id}
+ *   (첨부파일 기준 조회는 GET /api/board/file/{filename}/conversion)
+ */
+@RestController
+@RequestMapping("/api/board/conversions")
+@RequiredArgsConstructor
+public class DocumentConversionController {
+
+    private final DocumentConversionService documentConversionService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<DocumentConversionDTO.Response> getStatus(@PathVariable Long id) {
+        return ResponseEntity.ok(documentConversionService.getStatus(id));
+    }
+}
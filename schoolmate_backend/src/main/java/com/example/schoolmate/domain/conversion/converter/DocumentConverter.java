@@ -0,0 +1,30 @@
+package com.example.schoolmate.domain.conversion.converter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 문서 → PDF 변환기
+ *
+ * app.conversion.converter 로 선택합니다.
+ * - disabled  : 빈 없음 — 변환 작업을 만들지 않음 (기본값)
+ * - noop      : {@link NoOpDocumentConverter} — 외부 프로그램 없이 빈 PDF 생성 (개발·테스트용)
+ * - unoserver : {@link UnoserverDocumentConverter} — 상주 LibreOffice 프로세스 풀
+ */
+public interface DocumentConverter {
+
+    /**
+     * source 를 PDF 로 변환해 target 에 씁니다.
+     * timeout 안에 끝나지 않거나 변환에 실패하면 IOException.
+     */
+    void convert(Path source, Path target, Duration timeout) throws IOException;
+
+    /**
+     * convert 한 번이 최대로 걸릴 수 있는 시간 (대기·재시작 포함).
+     * 이보다 오래 RUNNING 인 작업만 워커가 사라진 것으로 보고 되돌립니다.
+     */
+    default Duration maxDuration(Duration timeout) {
+        return timeout;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.schoolmate.domain.conversion.converter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 변환 프로그램 없이 빈 한 쪽짜리 PDF 를 만드는 변환기 (개발·테스트용)
+ * 작업 큐·재시도·상태 조회 흐름을 LibreOffice 설치 없이 확인할 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.conversion.converter", havingValue = "noop")
+public class NoOpDocumentConverter implements DocumentConverter {
+
+    private static final byte[] BLANK_PDF = blankPdf();
+
+    @Override
+    public void convert(Path source, Path target, Duration timeout) throws IOException {
+        if (!Files.isRegularFile(source)) {
+            throw new IOException("원본 파일이 없습니다: " + source.getFileName());
+        }
+        Files.write(target, BLANK_PDF);
+    }
+
+    /** A4 빈 페이지 PDF (xref 오프셋 계산 포함) */
+    private static byte[] blankPdf() {
+        String[] objects = {
+                "<< /Type /Catalog /Pages 2 0 R >>",
+                "<< /Type /Pages /Kids [3 0 R] /Count 1 >>",
+                "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 595 842] >>"
+        };
+        StringBuilder pdf = new StringBuilder("%PDF-1.4\n");
+        int[] offsets = new int[objects.length];
+        for (int i = 0; i < objects.length; i++) {
+            offsets[i] = pdf.length();
+            pdf.append(i + 1).append(" 0 obj\n").append(objects[i]).append("\nendobj\n");
+        }
+        int xref = pdf.length();
+        pdf.append("xref\n0 ").append(objects.length + 1).append("\n0000000000 65535 f \n");
+        for (int offset : offsets) {
+            pdf.append(String.format("%010d 00000 n \n", offset));
+        }
+        pdf.append("trailer\n<< /Size ").append(objects.length + 1).append(" /Root 1 0 R >>\n")
+                .append("startxref\n").append(xref).append("\n%%EOF\n");
+        return pdf.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+}
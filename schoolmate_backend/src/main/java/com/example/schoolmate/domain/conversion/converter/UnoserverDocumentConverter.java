@@ -0,0 +1,228 @@
+package com.example.schoolmate.domain.conversion.converter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상주 LibreOffice 프로세스 풀 변환기 (unoserver)
+ *
+ * 파일마다 soffice 를 새로 띄우면 기동·프로필 초기화에만 수 초가 걸리므로,
+ * 워커 수만큼 unoserver(LibreOffice 를 UNO 로 상주시키는 데몬)를 미리 띄워 두고
+ * 변환 요청은 가벼운 unoconvert 클라이언트로 보냅니다.
+ *
+ * - 인스턴스는 한 번에 한 작업만 맡음 (대기열에서 빌려 쓰고 반납)
+ * - 시간 초과·실패 시 해당 인스턴스를 강제 종료 후 재기동 (멈춘 soffice 정리)
+ * - maxTasksPerProcess 건마다 재기동하여 LibreOffice 메모리 누수 누적 방지
+ *
+ * 설치: sudo apt install libreoffice &amp;&amp; pip install unoserver
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.conversion.converter", havingValue = "unoserver")
+public class UnoserverDocumentConverter implements DocumentConverter {
+
+    private static final String HOST = "127.0.0.1";
+
+    private final String serverCommand;
+    private final String clientCommand;
+    private final int basePort;
+    private final int instances;
+    private final int maxTasksPerProcess;
+    private final Duration startupTimeout;
+
+    private final List<Instance> all = new ArrayList<>();
+    private final BlockingQueue<Instance> idle;
+
+    public UnoserverDocumentConverter(
+            @Value("${app.conversion.unoserver.server-command:unoserver}") String serverCommand,
+            @Value("${app.conversion.unoserver.client-command:unoconvert}") String clientCommand,
+            @Value("${app.conversion.unoserver.base-port:2003}") int basePort,
+            @Value("${app.conversion.workers:2}") int instances,
+            @Value("${app.conversion.unoserver.max-tasks-per-process:200}") int maxTasksPerProcess,
+            @Value("${app.conversion.unoserver.startup-timeout-seconds:60}") int startupTimeoutSeconds) {
+        this.serverCommand = serverCommand;
+        this.clientCommand = clientCommand;
+        this.basePort = basePort;
+        this.instances = instances;
+        this.maxTasksPerProcess = maxTasksPerProcess;
+        this.startupTimeout = Duration.ofSeconds(startupTimeoutSeconds);
+        this.idle = new ArrayBlockingQueue<>(instances);
+    }
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < instances; i++) {
+            // 인스턴스마다 (unoserver 포트, UNO 포트) 한 쌍
+            Instance instance = new Instance(basePort + i * 2, basePort + i * 2 + 1);
+            all.add(instance);
+            try {
+                instance.start();
+            } catch (IOException e) {
+                // 기동 실패해도 풀에는 넣어 둠 — 첫 변환 시 재기동 시도
+                log.warn("[Unoserver] 인스턴스 기동 실패 (port={}): {}", instance.port, e.getMessage());
+            }
+            idle.add(instance);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        all.forEach(Instance::kill);
+    }
+
+    @Override
+    public void convert(Path source, Path target, Duration timeout) throws IOException {
+        Instance instance;
+        try {
+            instance = idle.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("변환 대기 중 중단되었습니다.");
+        }
+        if (instance == null) {
+            throw new IOException("사용 가능한 변환 프로세스가 없습니다.");
+        }
+        boolean healthy = false;
+        try {
+            if (!instance.isAlive()) {
+                instance.restart();
+            }
+            instance.convert(source, target, timeout, clientCommand);
+            healthy = true;
+        } finally {
+            if (!healthy || ++instance.tasks >= maxTasksPerProcess) {
+                instance.restartQuietly();
+            }
+            idle.add(instance);
+        }
+    }
+
+    /** 빈 프로세스 대기(timeout) + 죽은 프로세스 재시작 + 변환(timeout) + 실패 후 재시작 */
+    @Override
+    public Duration maxDuration(Duration timeout) {
+        return timeout.multipliedBy(2).plus(startupTimeout.multipliedBy(2));
+    }
+
+    /**
+     * unoserver 프로세스 하나
+     */
+    private final class Instance {
+
+        private final int port;
+        private final int unoPort;
+        private Process process;
+        private int tasks;
+
+        private Instance(int port, int unoPort) {
+            this.port = port;
+            this.unoPort = unoPort;
+        }
+
+        boolean isAlive() {
+            return process != null && process.isAlive();
+        }
+
+        void start() throws IOException {
+            process = new ProcessBuilder(serverCommand,
+                    "--interface", HOST, "--port", String.valueOf(port), "--uno-port", String.valueOf(unoPort))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            tasks = 0;
+            awaitListening();
+            log.info("[Unoserver] 인스턴스 기동: port={}, pid={}", port, process.pid());
+        }
+
+        void restart() throws IOException {
+            kill();
+            start();
+        }
+
+        void restartQuietly() {
+            try {
+                restart();
+            } catch (IOException e) {
+                log.warn("[Unoserver] 인스턴스 재기동 실패 (port={}): {}", port, e.getMessage());
+            }
+        }
+
+        /** soffice 자식 프로세스까지 강제 종료 */
+        void kill() {
+            if (process == null) return;
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+            try {
+                process.waitFor(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            process = null;
+        }
+
+        void convert(Path source, Path target, Duration timeout, String client) throws IOException {
+            Process proc = new ProcessBuilder(client,
+                    "--host", HOST, "--port", String.valueOf(port),
+                    "--convert-to", "pdf", source.toString(), target.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                if (!proc.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    proc.destroyForcibly();
+                    throw new IOException("변환 시간 초과 (" + timeout.toSeconds() + "초)");
+                }
+            } catch (InterruptedException e) {
+                proc.destroyForcibly();
+                Thread.currentThread().interrupt();
+                throw new IOException("변환 중 중단되었습니다.");
+            }
+            if (proc.exitValue() != 0 || !Files.isRegularFile(target) || Files.size(target) == 0) {
+                throw new IOException("변환 실패 (exit=" + proc.exitValue() + ")");
+            }
+        }
+
+        /** unoserver 가 포트를 열 때까지 대기 */
+        private void awaitListening() throws IOException {
+            long deadline = System.nanoTime() + startupTimeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IOException("unoserver 가 종료되었습니다 (exit=" + process.exitValue() + ")");
+                }
+                try (Socket socket = new Socket()) {
+                    socket.connect(new InetSocketAddress(HOST, port), 500);
+                    return;
+                } catch (IOException e) {
+                    sleep(500);
+                }
+            }
+            kill();
+            throw new IOException("unoserver 기동 시간 초과");
+        }
+
+        private void sleep(long millis) throws IOException {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("unoserver 기동 대기 중 중단되었습니다.");
+            }
+        }
+    }
+}
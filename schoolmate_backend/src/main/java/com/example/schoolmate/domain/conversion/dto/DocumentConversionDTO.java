@@ -0,0 +1,37 @@
+package com.example.schoolmate.domain.conversion.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.schoolmate.domain.conversion.entity.DocumentConversionJob;
+import com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+public class DocumentConversionDTO {
+
+    @Getter
+    @Builder
+    public static class Response {
+        private Long id;
+        private ConversionStatus status;
+        private int attempts;
+        private String originalName;
+        /** 변환 완료 시 PDF 미리보기 URL */
+        private String pdfUrl;
+        private String error;
+        private LocalDateTime updatedAt;
+
+        public static Response from(DocumentConversionJob job) {
+            return Response.builder()
+                    .id(job.getId())
+                    .status(job.getStatus())
+                    .attempts(job.getAttempts())
+                    .originalName(job.getOriginalName())
+                    .pdfUrl(job.getTargetKey() != null ? "/api/board/file/" + job.getTargetKey() : null)
+                    .error(job.getStatus() == ConversionStatus.FAILED ? job.getLastError() : null)
+                    .updatedAt(job.getUpdateDate())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.schoolmate.domain.conversion.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus;
+import com.example.schoolmate.global.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 첨부 문서(HWP/HWPX) → PDF 변환 작업
+ *
+ * - 원본은 내용 주소 키로 식별하므로 같은 파일을 여러 번 올려도 작업은 하나 (source_key UNIQUE)
+ * - 상태 전이는 DocumentConversionJobRepository 의 조건부 UPDATE 로만 수행 (워커 간 중복 실행 방지)
+ */
+@Entity
+@Table(name = "document_conversion_job",
+        indexes = @Index(name = "idx_conversion_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DocumentConversionJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 원본 저장소 키 */
+    @Column(name = "source_key", length = 80, nullable = false, unique = true)
+    private String sourceKey;
+
+    /** 업로드 당시 원본 파일명 (로그·표시용) */
+    @Column(name = "original_name")
+    private String originalName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ConversionStatus status;
+
+    /** 시도 횟수 (실행 시작 시 +1) */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 변환 결과 PDF 저장소 키 */
+    @Column(name = "target_key", length = 80)
+    private String targetKey;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public DocumentConversionJob(String sourceKey, String originalName) {
+        this.sourceKey = sourceKey;
+        this.originalName = originalName;
+        this.status = ConversionStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.schoolmate.domain.conversion.entity.constant;
+
+/**
+ * 문서 변환 작업 상태
+ */
+public enum ConversionStatus {
+    /** 대기 (재시도 대기 포함 — nextAttemptAt 이후 실행) */
+    PENDING,
+    /** 워커가 변환 중 */
+    RUNNING,
+    /** 변환 완료 — targetKey 에 PDF 저장소 키 */
+    DONE,
+    /** 재시도 횟수 소진 */
+    FAILED
+}
@@ -0,0 +1,128 @@
+package com.example.schoolmate.domain.conversion.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.schoolmate.domain.conversion.entity.DocumentConversionJob;
+
+public interface DocumentConversionJobRepository extends JpaRepository<DocumentConversionJob, Long> {
+
+    Optional<DocumentConversionJob> findBySourceKey(String sourceKey);
+
+    /** 실행 가능한 대기 작업 id (오래된 순) */
+    @Query("""
+            SELECT j.id FROM DocumentConversionJob j
+            WHERE j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.PENDING
+              AND j.nextAttemptAt <= :now
+            ORDER BY j.id
+            """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * PENDING → RUNNING 선점. 1 이면 이 워커가 실행권을 얻음.
+     * startedAt 이 실행권 표식 — markDone/markRetry/markFailed 는 자신이 선점한 startedAt 일 때만 반영
+     * (멈춘 작업으로 되돌려져 다른 워커가 다시 선점했으면 늦게 끝난 쪽의 결과는 버려짐)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE DocumentConversionJob j
+            SET j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.RUNNING,
+                j.attempts = j.attempts + 1, j.startedAt = :now, j.updateDate = :now
+            WHERE j.id = :id
+              AND j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.PENDING
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE DocumentConversionJob j
+            SET j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.DONE,
+                j.targetKey = :targetKey, j.lastError = NULL, j.completedAt = :now, j.updateDate = :now
+            WHERE j.id = :id
+              AND j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.RUNNING
+              AND j.startedAt = :startedAt
+            """)
+    int markDone(@Param("id") Long id, @Param("targetKey") String targetKey,
+            @Param("startedAt") LocalDateTime startedAt, @Param("now") LocalDateTime now);
+
+    /** 실패 기록 후 nextAttemptAt 이후 재시도 (재시도 소진 시에는 markFailed) */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE DocumentConversionJob j
+            SET j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.PENDING,
+                j.lastError = :error, j.nextAttemptAt = :nextAttemptAt, j.updateDate = :now
+            WHERE j.id = :id
+              AND j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.RUNNING
+              AND j.startedAt = :startedAt
+            """)
+    int markRetry(@Param("id") Long id, @Param("error") String error, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("startedAt") LocalDateTime startedAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE DocumentConversionJob j
+            SET j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.FAILED,
+                j.lastError = :error, j.completedAt = :now, j.updateDate = :now
+            WHERE j.id = :id
+              AND j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.RUNNING
+              AND j.startedAt = :startedAt
+            """)
+    int markFailed(@Param("id") Long id, @Param("error") String error,
+            @Param("startedAt") LocalDateTime startedAt, @Param("now") LocalDateTime now);
+
+    /** 같은 원본을 다시 올렸을 때 실패한 작업을 처음부터 재시도 */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE DocumentConversionJob j
+            SET j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.PENDING,
+                j.attempts = 0, j.nextAttemptAt = :now, j.updateDate = :now
+            WHERE j.id = :id
+              AND j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.FAILED
+            """)
+    int reset(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** 서버 중단 등으로 RUNNING 에 멈춘 작업을 대기 상태로 되돌림 */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE DocumentConversionJob j
+            SET j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.PENDING,
+                j.nextAttemptAt = :now, j.updateDate = :now
+            WHERE j.status = com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.RUNNING
+              AND j.startedAt < :staleBefore
+            """)
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    /** 원본 파일이 저장소에서 사라진 작업 (실행 중 제외) */
+    @Query("""
+            SELECT j FROM DocumentConversionJob j
+            WHERE j.status <> com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.RUNNING
+              AND NOT EXISTS (SELECT 1 FROM StoredObject o WHERE o.objectKey = j.sourceKey)
+            ORDER BY j.id
+            """)
+    List<DocumentConversionJob> findOrphans(Pageable pageable);
+
+    /** 원본이 여전히 없을 때만 삭제. 1 이면 결과 PDF 참조를 이 호출자가 해제 */
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM DocumentConversionJob j
+            WHERE j.id = :id
+              AND j.status <> com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus.RUNNING
+              AND NOT EXISTS (SELECT 1 FROM StoredObject o WHERE o.objectKey = j.sourceKey)
+            """)
+    int deleteOrphan(@Param("id") Long id);
+}
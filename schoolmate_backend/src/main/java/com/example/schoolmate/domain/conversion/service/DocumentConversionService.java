@@ -0,0 +1,288 @@
+package com.example.schoolmate.domain.conversion.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.schoolmate.domain.conversion.converter.DocumentConverter;
+import com.example.schoolmate.domain.conversion.dto.DocumentConversionDTO;
+import com.example.schoolmate.domain.conversion.entity.DocumentConversionJob;
+import com.example.schoolmate.domain.conversion.entity.constant.ConversionStatus;
+import com.example.schoolmate.domain.conversion.repository.DocumentConversionJobRepository;
+import com.example.schoolmate.domain.file.service.ContentStore;
+import com.example.schoolmate.domain.file.storage.StorageKeys;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 첨부 문서(HWP/HWPX) → PDF 백그라운드 변환
+ *
+ * - 업로드 요청은 작업 행만 만들고 바로 반환, 변환은 크기가 고정된 워커 풀에서 수행
+ * - 작업은 DB 에 남으므로 서버가 재시작돼도 이어서 처리 (RUNNING 에 멈춘 작업은 주기적으로 되돌림)
+ * - 작업마다 시간 제한, 실패 시 지수 백오프로 재시도 후 FAILED
+ * - 결과 PDF 는 내용 주소 저장소에 저장되고 작업 행이 참조 하나를 가짐
+ * - 원본이 저장소에서 삭제되면 작업 행을 지우고 결과 PDF 참조도 해제 (매일 정리)
+ */
+@Slf4j
+@Service
+public class DocumentConversionService {
+
+    /** 변환 대상 확장자 */
+    private static final List<String> CONVERTIBLE = List.of(".hwp", ".hwpx");
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final int CLAIM_BATCH = 10;
+    private static final int PURGE_BATCH = 100;
+    private static final int ERROR_MAX_LENGTH = 500;
+    private static final Duration STALE_GRACE = Duration.ofMinutes(1);
+
+    private final DocumentConversionJobRepository jobRepository;
+    private final ContentStore contentStore;
+    @Nullable
+    private final DocumentConverter converter;
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+
+    public DocumentConversionService(
+            DocumentConversionJobRepository jobRepository,
+            ContentStore contentStore,
+            ObjectProvider<DocumentConverter> converter,
+            @Value("${app.conversion.workers:2}") int workers,
+            @Value("${app.conversion.timeout-seconds:60}") int timeoutSeconds,
+            @Value("${app.conversion.max-attempts:3}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.contentStore = contentStore;
+        this.converter = converter.getIfAvailable();
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.maxAttempts = maxAttempts;
+        this.staleAfter = this.converter != null
+                ? this.converter.maxDuration(this.timeout).plus(STALE_GRACE) : Duration.ZERO;
+        AtomicInteger seq = new AtomicInteger();
+        // 워커마다 대기 작업을 DB 에서 직접 가져가므로 실행 대기열은 워커 수만큼이면 충분
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers),
+                r -> {
+                    Thread t = new Thread(r, "doc-convert-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ── Public API ────────────────────────────────────────────────────────────
+
+    public boolean isEnabled() {
+        return converter != null;
+    }
+
+    /** 변환 대상 파일인지 (원본 파일명 확장자 기준) */
+    public boolean supports(@Nullable String originalFilename) {
+        return CONVERTIBLE.contains(StorageKeys.extensionOf(originalFilename));
+    }
+
+    /**
+     * 변환 작업 등록 (이미 같은 원본의 작업이 있으면 그 작업 반환, 실패했던 작업은 다시 대기열로)
+     *
+     * @return 작업 id; 변환기가 꺼져 있거나 대상이 아니면 empty
+     */
+    public Optional<Long> enqueue(String sourceKey, @Nullable String originalFilename) {
+        if (!isEnabled() || !supports(originalFilename) || !StorageKeys.isContentKey(sourceKey)) {
+            return Optional.empty();
+        }
+        DocumentConversionJob job = jobRepository.findBySourceKey(sourceKey).orElse(null);
+        if (job == null) {
+            try {
+                job = jobRepository.save(new DocumentConversionJob(sourceKey, originalFilename));
+            } catch (DataIntegrityViolationException e) {
+                // 같은 원본 동시 업로드 — 먼저 만든 작업 사용
+                job = jobRepository.findBySourceKey(sourceKey).orElseThrow(() -> e);
+            }
+        } else if (job.getStatus() == ConversionStatus.FAILED) {
+            jobRepository.reset(job.getId(), LocalDateTime.now());
+        }
+        afterCommit(this::wakeUp);
+        return Optional.of(job.getId());
+    }
+
+    public DocumentConversionDTO.Response getStatus(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(DocumentConversionDTO.Response::from)
+                .orElseThrow(() -> new IllegalArgumentException("변환 작업을 찾을 수 없습니다."));
+    }
+
+    public Optional<DocumentConversionDTO.Response> findBySource(String sourceKey) {
+        return jobRepository.findBySourceKey(sourceKey).map(DocumentConversionDTO.Response::from);
+    }
+
+    /**
+     * 주기 점검: 멈춘 작업 복구 + 밀린 작업 처리
+     */
+    @Scheduled(fixedDelayString = "${app.conversion.poll-interval-ms:10000}")
+    public void poll() {
+        if (!isEnabled()) return;
+        LocalDateTime now = LocalDateTime.now();
+        // 변환 한 번의 최대 소요(대기·재시작 포함) + 여유가 지나도 RUNNING 이면 워커가 사라진 것으로 판단
+        int requeued = jobRepository.requeueStale(now.minus(staleAfter), now);
+        if (requeued > 0) {
+            log.warn("[DocConvert] 멈춘 작업 {}건을 대기열로 되돌림", requeued);
+        }
+        wakeUp();
+    }
+
+    /**
+     * 원본 참조가 모두 해제된 작업 정리 (매일 04:20)
+     * 작업 행을 지우고 그 행이 가진 결과 PDF 참조를 반납합니다.
+     */
+    @Scheduled(cron = "0 20 4 * * *")
+    public void purgeOrphans() {
+        int purged = 0;
+        List<DocumentConversionJob> orphans;
+        while (!(orphans = jobRepository.findOrphans(PageRequest.of(0, PURGE_BATCH))).isEmpty()) {
+            int deleted = 0;
+            for (DocumentConversionJob job : orphans) {
+                // 그 사이 같은 원본이 다시 올라왔으면 삭제되지 않음 → 작업 유지
+                if (jobRepository.deleteOrphan(job.getId()) == 0) continue;
+                deleted++;
+                if (job.getTargetKey() != null) {
+                    contentStore.release(job.getTargetKey());
+                }
+            }
+            purged += deleted;
+            if (deleted == 0) break;
+        }
+        if (purged > 0) {
+            log.info("[DocConvert] 원본이 삭제된 작업 {}건 정리", purged);
+        }
+    }
+
+    // ── Worker ────────────────────────────────────────────────────────────────
+
+    /** 유휴 워커가 있으면 대기 작업 처리를 시작 (가득 차 있으면 무시 — 다음 poll 에서 처리) */
+    private void wakeUp() {
+        executor.execute(this::drain);
+    }
+
+    /** 선점 가능한 작업이 없을 때까지 하나씩 처리 */
+    private void drain() {
+        Long jobId;
+        while ((jobId = claimNext()) != null) {
+            process(jobId);
+        }
+    }
+
+    @Nullable
+    private Long claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : jobRepository.findDueIds(now, PageRequest.of(0, CLAIM_BATCH))) {
+            if (jobRepository.claim(id, now) == 1) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private void process(Long jobId) {
+        DocumentConversionJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) return;
+        if (job.getAttempts() > maxAttempts) {
+            jobRepository.markFailed(jobId, "재시도 횟수 초과", job.getStartedAt(), LocalDateTime.now());
+            return;
+        }
+
+        long start = System.nanoTime();
+        Path source = null;
+        Path target = null;
+        try {
+            String ext = StorageKeys.extensionOf(job.getSourceKey());
+            source = contentStore.copyToTempFile(job.getSourceKey(), ext.isEmpty() ? ".hwp" : ext);
+            target = contentStore.createTempFile();
+            converter.convert(source, target, timeout);
+            String pdfKey = contentStore.store(target, ".pdf");
+            if (jobRepository.markDone(jobId, pdfKey, job.getStartedAt(), LocalDateTime.now()) == 0) {
+                // 실행권을 잃음 (멈춘 작업으로 되돌려져 다시 선점됨) — 이 결과는 버리고 참조 반납
+                contentStore.release(pdfKey);
+                log.warn("[DocConvert] 실행권을 잃은 작업의 결과 폐기: job={}", jobId);
+                return;
+            }
+            // 이전 결과를 가리키고 있었다면 그 참조를 반납 (같은 내용이면 유지)
+            if (job.getTargetKey() != null && !job.getTargetKey().equals(pdfKey)) {
+                contentStore.release(job.getTargetKey());
+            }
+            log.info("[DocConvert] 완료: job={}, {} → {} ({}ms)", jobId, job.getOriginalName(), pdfKey,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            fail(job, e);
+        } finally {
+            deleteQuietly(source);
+            deleteQuietly(target);
+        }
+    }
+
+    private void fail(DocumentConversionJob job, Exception e) {
+        String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        LocalDateTime now = LocalDateTime.now();
+        if (job.getAttempts() >= maxAttempts) {
+            jobRepository.markFailed(job.getId(), error, job.getStartedAt(), now);
+            log.warn("[DocConvert] 실패(재시도 소진): job={}, {} - {}", job.getId(), job.getOriginalName(), error);
+            return;
+        }
+        // 30초, 60초, 120초 ...
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(job.getAttempts() - 1, 10));
+        jobRepository.markRetry(job.getId(), error, now.plus(backoff), job.getStartedAt(), now);
+        log.warn("[DocConvert] 실패, {}초 후 재시도: job={}, 시도 {}/{} - {}",
+                backoff.toSeconds(), job.getId(), job.getAttempts(), maxAttempts, error);
+    }
+
+    private static String truncate(String message) {
+        return message.length() > ERROR_MAX_LENGTH ? message.substring(0, ERROR_MAX_LENGTH) : message;
+    }
+
+    private static void deleteQuietly(@Nullable Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 — 무시
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -20,6 +20,7 @@ import com.example.schoolmate.domain.board.service.BoardService;
 import com.example.schoolmate.domain.term.service.AcademicTermService;
 import com.example.schoolmate.domain.teacher.service.TeacherService;
 import com.example.schoolmate.domain.user.dto.AuthUserDTO;
+import com.example.schoolmate.domain.user.service.UserInfoLookup;
 import com.example.schoolmate.domain.user.dto.ChildDTO;
 import com.example.schoolmate.domain.teacher.dto.ClassStudentDTO;
 
@@ -48,6 +49,7 @@ public class DashboardApiController {
     private final StudentInfoRepository studentInfoRepository;
     private final AcademicTermService academicTermService;
     private final StudentAssignmentRepository studentAssignmentRepository;
+    private final UserInfoLookup userInfoLookup;
 
     @GetMapping("/student")
     ResponseEntity<?> studentDashboard(Authentication authentication) {
@@ -62,14 +64,14 @@ public class DashboardApiController {
                 StudentInfo info = (infoId != null)
                         ? studentInfoRepository.findById(infoId)
                                 .filter(s -> s.getUser().getUid().equals(uid))
-                                .orElseGet(() -> user.getPrimaryInfo(StudentInfo.class))
-                        : user.getPrimaryInfo(StudentInfo.class);
+                                .orElseGet(() -> userInfoLookup.findPrimary(StudentInfo.class, uid))
+                        : userInfoLookup.findPrimary(StudentInfo.class, uid);
                 if (info != null) {
                     data.put("student", StudentResponseDTO.from(info));
                 }
                 profileRepository.findByUser(user).ifPresent(p -> {
                     if (p.getUuid() != null) {
-                        data.put("profileImageUrl", FileManager.UploadType.PROFILE.toUrl(p.getUuid()));
+                        data.put("profileImageUrl", FileManager.UploadType.PROFILE.toUrl(p.getUuid(), FileManager.ImageSize.THUMB));
                     }
                 });
             }
@@ -134,7 +136,7 @@ public class DashboardApiController {
         User parentUser = userRepository.findById(uid).orElse(null);
         if (parentUser != null) {
             // 학부모 프로필 정보
-            ParentInfo parentInfo = parentUser.getInfo(ParentInfo.class);
+            ParentInfo parentInfo = userInfoLookup.find(ParentInfo.class, uid);
             Map<String, Object> profile = new HashMap<>();
             // name: User.name 우선, 없으면 ParentInfo.parentName
             String name = parentUser.getName();
@@ -149,7 +151,7 @@ public class DashboardApiController {
             // [soojin] 학부모 본인 프로필 사진 URL 포함
             profileRepository.findByUser(parentUser).ifPresent(p -> {
                 if (p.getUuid() != null) {
-                    profile.put("profileImageUrl", FileManager.UploadType.PROFILE.toUrl(p.getUuid()));
+                    profile.put("profileImageUrl", FileManager.UploadType.PROFILE.toUrl(p.getUuid(), FileManager.ImageSize.THUMB));
                 }
             });
             data.put("parentProfile", profile);
@@ -198,7 +200,7 @@ public class DashboardApiController {
         String imageUrl = null;
         Profile profile = profileRepository.findByUser(user).orElse(null);
         if (profile != null && profile.getUuid() != null) {
-            imageUrl = FileManager.UploadType.PROFILE.toUrl(profile.getUuid());
+            imageUrl = FileManager.UploadType.PROFILE.toUrl(profile.getUuid(), FileManager.ImageSize.THUMB);
         }
         StudentAssignment assignment = info.getCurrentAssignment();
 
@@ -16,7 +16,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.schoolmate.domain.dormitory.dto.DormitoryAssignDTO;
+import com.example.schoolmate.domain.dormitory.dto.DormitoryBulkAssignDTO;
 import com.example.schoolmate.domain.dormitory.dto.DormitoryDTO;
+import com.example.schoolmate.domain.dormitory.service.DormitoryBulkAssignService;
 import com.example.schoolmate.domain.dormitory.service.DormitoryService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +30,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 public class DormitoryController {
 
     private final DormitoryService dormitoryService;
+    private final DormitoryBulkAssignService dormitoryBulkAssignService;
 
     /**
      * 기숙사 초기 데이터 생성
@@ -95,6 +98,18 @@ public class DormitoryController {
         return ResponseEntity.ok(dormitoryService.assignDormitory(assignDTO));
     }
 
+    /**
+     * 학기 초 일괄 배정 (dryRun=true 이면 저장 없이 미리보기)
+     * POST /api/dormitories/assign/bulk
+     * body: { applicants: [{ studentId, preferredRoomType, preferredBuilding, roommateIds }], buildings, dryRun }
+     */
+    @PreAuthorize("@grants.canManageDormitory()")
+    @PostMapping("/assign/bulk")
+    public ResponseEntity<DormitoryBulkAssignDTO.Result> bulkAssign(
+            @RequestBody DormitoryBulkAssignDTO.Request request) {
+        return ResponseEntity.ok(dormitoryBulkAssignService.bulkAssign(request));
+    }
+
     /**
      * 학생의 기숙사 배정 정보 조회
      * GET /api/dormitories/students/{studentInfoId}
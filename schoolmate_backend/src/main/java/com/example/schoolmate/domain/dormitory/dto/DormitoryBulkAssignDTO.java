@@ -0,0 +1,81 @@
+package com.example.schoolmate.domain.dormitory.dto;
+
+import java.util.List;
+
+import com.example.schoolmate.domain.user.entity.constant.RoomType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기숙사 일괄 배정 요청/응답 DTO
+ */
+public class DormitoryBulkAssignDTO {
+
+    /**
+     * 일괄 배정 요청
+     * - dryRun=true 이면 배치 결과만 계산해 반환하고 DB 에는 저장하지 않음
+     * - buildings 가 비어 있으면 학교의 모든 건물 빈 침대를 대상으로 함
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private List<Applicant> applicants;
+        private List<String> buildings;
+        private boolean dryRun;
+    }
+
+    /**
+     * 지원자 (학년·성별은 서버에서 조회)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Applicant {
+        private Long studentId;
+        private RoomType preferredRoomType;
+        private String preferredBuilding;
+        private List<Long> roommateIds;
+    }
+
+    @Getter
+    @Builder
+    public static class Result {
+        private boolean dryRun;
+        private Long academicTermId;
+        private int requested;
+        private int placed;
+        private long cost;
+        private long elapsedMs;
+        private List<Placement> placements;
+        private List<Unplaced> unplaced;
+    }
+
+    @Getter
+    @Builder
+    public static class Placement {
+        private Long studentId;
+        private String studentName;
+        private Integer grade;
+        private Long dormitoryId;
+        private String building;
+        private Integer floor;
+        private String roomNumber;
+        private String bedNumber;
+        private RoomType roomType;
+        private String fullAddress;
+    }
+
+    @Getter
+    @Builder
+    public static class Unplaced {
+        private Long studentId;
+        private String studentName;
+        private String reason;
+    }
+}
@@ -39,6 +39,17 @@ public interface DormitoryAssignmentRepository extends JpaRepository<DormitoryAs
            "WHERE d.school.id = :schoolId AND t.status = 'ACTIVE'")
     List<DormitoryAssignment> findAllActiveBySchoolId(@Param("schoolId") Long schoolId);
 
+    // 일괄 배정용 현재(ACTIVE) 학기 입실자 프로필 — [건물, 층, 호실, studentInfoId, 성별, 현재 학년]
+    @Query("SELECT d.building, d.floor, d.roomNumber, si.id, si.gender, " +
+           "(SELECT MAX(c.grade) FROM StudentAssignment sa JOIN sa.classroom c JOIN sa.schoolYear sy " +
+           " WHERE sa.studentInfo = si AND sy.status = 'CURRENT') " +
+           "FROM DormitoryAssignment da " +
+           "JOIN da.dormitory d " +
+           "JOIN da.studentInfo si " +
+           "JOIN da.academicTerm t " +
+           "WHERE d.school.id = :schoolId AND t.status = 'ACTIVE'")
+    List<Object[]> findActiveOccupantProfiles(@Param("schoolId") Long schoolId);
+
     // 특정 학생의 배정 삭제
     void deleteByStudentInfoIdAndAcademicTermId(Long studentInfoId, Long academicTermId);
 }
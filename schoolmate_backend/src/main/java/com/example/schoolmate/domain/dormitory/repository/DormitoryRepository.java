@@ -22,6 +22,9 @@ public interface DormitoryRepository extends JpaRepository<Dormitory, Long> {
             @Param("roomNumber") String roomNumber,
             @Param("bedNumber") String bedNumber);
 
+    // 건물 존재 여부 (schoolId 필터)
+    boolean existsBySchool_IdAndBuilding(Long schoolId, String building);
+
     // 특정 건물의 모든 방 조회 (schoolId 필터)
     List<Dormitory> findBySchool_IdAndBuildingOrderByFloorDescRoomNumberAscBedNumberAsc(Long schoolId, String building);
 
@@ -0,0 +1,349 @@
+package com.example.schoolmate.domain.dormitory.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import com.example.schoolmate.domain.user.entity.constant.Gender;
+import com.example.schoolmate.domain.user.entity.constant.RoomType;
+
+/**
+ * 기숙사 일괄 배정 제약 솔버 (DB 접근 없음, 순수 인메모리 계산)
+ *
+ * <p>빈 침대 목록과 지원자 목록을 받아 한 번에 전체 배치를 계산합니다.</p>
+ *
+ * <ul>
+ *   <li>하드 제약: 침대당 1명, 한 호실은 한 성별만 (기존 입실자 포함)</li>
+ *   <li>소프트 제약(비용): 희망 방 타입 불일치, 희망 건물 불일치, 호실 내 학년 혼합,
+ *       희망 룸메이트와 같은 방이면 비용 감소</li>
+ * </ul>
+ *
+ * <p>1단계 그리디 — 룸메이트 희망으로 묶인 그룹을 먼저, 나머지는 성별·학년 순으로 정렬해
+ * 각 학생을 비용 증가가 가장 작은 호실에 배치합니다.<br>
+ * 2단계 지역 탐색 — 같은 성별 학생 간 교환(swap)과 빈 자리로의 이동(move)을 무작위로 시도해
+ * 총 비용이 줄어드는 경우만 채택합니다. 시드 고정으로 같은 입력이면 같은 결과를 냅니다.</p>
+ *
+ * <p>호실당 인원이 최대 4명이므로 비용 변화는 관련된 두 호실만 다시 계산하면 되어,
+ * 1,000명 규모에서도 수십 ms 안에 끝납니다.</p>
+ */
+public class DormitoryAssignmentSolver {
+
+    static final int W_ROOM_TYPE = 100;
+    static final int W_BUILDING = 30;
+    static final int W_GRADE_MIX = 20;
+    static final int W_ROOMMATE = 40;
+
+    private final int maxIterations;
+    private final long timeBudgetNanos;
+    private final long seed;
+
+    public DormitoryAssignmentSolver(int maxIterations, long timeBudgetMillis, long seed) {
+        this.maxIterations = maxIterations;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.seed = seed;
+    }
+
+    // ── 입력 / 출력 모델 ───────────────────────────────────────────────────────
+
+    /**
+     * 지원자
+     *
+     * @param grade             현재 학년 (모르면 0)
+     * @param preferredRoomType 희망 방 타입 (null = 상관없음)
+     * @param preferredBuilding 희망 건물 (null = 상관없음)
+     * @param roommateIds       희망 룸메이트 studentInfoId 목록
+     */
+    public record Applicant(Long studentId, Gender gender, int grade, RoomType preferredRoomType,
+            String preferredBuilding, List<Long> roommateIds) {}
+
+    /** 빈 침대 */
+    public record Bed(Long dormitoryId, String building, int floor, String roomNumber, String bedNumber,
+            RoomType roomType) {
+
+        String roomKey() {
+            return building + "|" + floor + "|" + roomNumber;
+        }
+    }
+
+    /** 이미 입실한 학생 (호실 성별·학년 판단용) */
+    public record Occupant(String building, int floor, String roomNumber, Gender gender, int grade) {
+
+        String roomKey() {
+            return building + "|" + floor + "|" + roomNumber;
+        }
+    }
+
+    /**
+     * 계산 결과
+     *
+     * @param placements studentId → 배정 침대 (입력 지원자 순서 유지)
+     * @param unplaced   배치하지 못한 studentId
+     */
+    public record Solution(Map<Long, Bed> placements, List<Long> unplaced, long cost, int iterations) {}
+
+    // ── 내부 상태 ──────────────────────────────────────────────────────────────
+
+    private static final class Room {
+        final String building;
+        final RoomType roomType;
+        final List<Bed> freeBeds = new ArrayList<>();
+        final Gender fixedGender;          // 기존 입실자 성별 (없으면 null)
+        final int[] existingGrades;
+        final List<Integer> members = new ArrayList<>(4);
+
+        Room(String building, RoomType roomType, Gender fixedGender, int[] existingGrades) {
+            this.building = building;
+            this.roomType = roomType;
+            this.fixedGender = fixedGender;
+            this.existingGrades = existingGrades;
+        }
+
+        int remaining() {
+            return freeBeds.size() - members.size();
+        }
+    }
+
+    private Applicant[] applicants;
+    private Set<Long>[] roommateSets;
+    private List<Room> rooms;
+    private int[] roomOf;   // 지원자 index → 호실 index (-1 = 미배치)
+
+    // ── 풀이 ───────────────────────────────────────────────────────────────────
+
+    public Solution solve(List<Applicant> applicantList, List<Bed> freeBeds, List<Occupant> occupants) {
+        init(applicantList, freeBeds, occupants);
+
+        greedy();
+        // 시간 예산은 지역 탐색 단계에만 적용 (그리디 결과만으로도 완전한 배치)
+        int iterations = localSearch(System.nanoTime() + timeBudgetNanos);
+
+        // 호실 내 멤버 → 침대 번호 순으로 매핑
+        Map<Long, Bed> placements = new LinkedHashMap<>();
+        for (Room room : rooms) {
+            for (int i = 0; i < room.members.size(); i++) {
+                placements.put(applicants[room.members.get(i)].studentId(), room.freeBeds.get(i));
+            }
+        }
+        Map<Long, Bed> ordered = new LinkedHashMap<>();
+        List<Long> unplaced = new ArrayList<>();
+        for (Applicant a : applicants) {
+            Bed bed = placements.get(a.studentId());
+            if (bed != null) ordered.put(a.studentId(), bed);
+            else unplaced.add(a.studentId());
+        }
+        return new Solution(ordered, unplaced, totalCost(), iterations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void init(List<Applicant> applicantList, List<Bed> freeBeds, List<Occupant> occupants) {
+        applicants = applicantList.toArray(new Applicant[0]);
+        roomOf = new int[applicants.length];
+        Arrays.fill(roomOf, -1);
+
+        roommateSets = new Set[applicants.length];
+        for (int i = 0; i < applicants.length; i++) {
+            List<Long> ids = applicants[i].roommateIds();
+            roommateSets[i] = (ids == null || ids.isEmpty()) ? Set.of() : new HashSet<>(ids);
+        }
+
+        Map<String, List<Occupant>> occupantsByRoom = new HashMap<>();
+        for (Occupant o : occupants) {
+            occupantsByRoom.computeIfAbsent(o.roomKey(), k -> new ArrayList<>()).add(o);
+        }
+
+        Map<String, Room> byKey = new LinkedHashMap<>();
+        for (Bed bed : freeBeds) {
+            Room room = byKey.get(bed.roomKey());
+            if (room == null) {
+                List<Occupant> existing = occupantsByRoom.getOrDefault(bed.roomKey(), List.of());
+                Gender fixed = existing.isEmpty() ? null : existing.get(0).gender();
+                int[] grades = existing.stream().mapToInt(Occupant::grade).toArray();
+                room = new Room(bed.building(), bed.roomType(), fixed, grades);
+                byKey.put(bed.roomKey(), room);
+            }
+            room.freeBeds.add(bed);
+        }
+        rooms = new ArrayList<>(byKey.values());
+    }
+
+    /** 룸메이트 그룹 → 성별·학년 순으로 정렬한 뒤 비용 증가가 가장 작은 호실에 하나씩 배치 */
+    private void greedy() {
+        int[] group = roommateGroups();
+        Map<Integer, Integer> groupSize = new HashMap<>();
+        for (int g : group) groupSize.merge(g, 1, Integer::sum);
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < applicants.length; i++) order.add(i);
+        order.sort(Comparator
+                .comparing((Integer i) -> -groupSize.get(group[i]))
+                // 그룹 멤버끼리 연속 배치, 단독 지원자는 그룹 번호 무시
+                .thenComparing(i -> groupSize.get(group[i]) > 1 ? group[i] : -1)
+                .thenComparing(i -> applicants[i].gender() == null ? "" : applicants[i].gender().name())
+                .thenComparingInt(i -> applicants[i].grade())
+                .thenComparing(i -> applicants[i].preferredRoomType() == null
+                        ? "" : applicants[i].preferredRoomType().name()));
+
+        long[] costs = new long[rooms.size()];
+        for (int r = 0; r < rooms.size(); r++) costs[r] = roomCost(rooms.get(r));
+
+        for (int i : order) {
+            int best = -1;
+            long bestDelta = Long.MAX_VALUE;
+            for (int r = 0; r < rooms.size(); r++) {
+                Room room = rooms.get(r);
+                if (room.remaining() <= 0 || !genderFits(room, i)) continue;
+                long before = costs[r];
+                room.members.add(i);
+                long delta = roomCost(room) - before;
+                room.members.remove(room.members.size() - 1);
+                // 같은 비용이면 이미 사람이 있는 방을 우선 (방을 채워 나가도록)
+                if (delta < bestDelta || (delta == bestDelta && best >= 0
+                        && room.members.size() > rooms.get(best).members.size())) {
+                    bestDelta = delta;
+                    best = r;
+                }
+            }
+            if (best >= 0) {
+                rooms.get(best).members.add(i);
+                roomOf[i] = best;
+                costs[best] = roomCost(rooms.get(best));
+            }
+        }
+    }
+
+    /** 교환/이동 지역 탐색 — 총 비용이 줄어드는 변경만 채택 */
+    private int localSearch(long deadline) {
+        List<Integer> placed = new ArrayList<>();
+        for (int i = 0; i < applicants.length; i++) if (roomOf[i] >= 0) placed.add(i);
+        if (placed.isEmpty()) return 0;
+
+        Random random = new Random(seed);
+        int iteration = 0;
+        for (; iteration < maxIterations; iteration++) {
+            if ((iteration & 255) == 0 && System.nanoTime() > deadline) break;
+
+            int a = placed.get(random.nextInt(placed.size()));
+            if (random.nextBoolean()) {
+                int b = placed.get(random.nextInt(placed.size()));
+                if (roomOf[a] != roomOf[b] && Objects.equals(applicants[a].gender(), applicants[b].gender())) {
+                    trySwap(a, b);
+                }
+            } else {
+                int target = random.nextInt(rooms.size());
+                if (target != roomOf[a]) tryMove(a, target);
+            }
+        }
+        return iteration;
+    }
+
+    private void trySwap(int a, int b) {
+        Room ra = rooms.get(roomOf[a]);
+        Room rb = rooms.get(roomOf[b]);
+        long before = roomCost(ra) + roomCost(rb);
+        replace(ra, a, b);
+        replace(rb, b, a);
+        long after = roomCost(ra) + roomCost(rb);
+        if (after < before) {
+            int tmp = roomOf[a];
+            roomOf[a] = roomOf[b];
+            roomOf[b] = tmp;
+        } else {
+            replace(ra, b, a);
+            replace(rb, a, b);
+        }
+    }
+
+    private void tryMove(int a, int target) {
+        Room from = rooms.get(roomOf[a]);
+        Room to = rooms.get(target);
+        if (to.remaining() <= 0 || !genderFits(to, a)) return;
+        long before = roomCost(from) + roomCost(to);
+        from.members.remove(Integer.valueOf(a));
+        to.members.add(a);
+        long after = roomCost(from) + roomCost(to);
+        if (after < before) {
+            roomOf[a] = target;
+        } else {
+            to.members.remove(to.members.size() - 1);
+            from.members.add(a);
+        }
+    }
+
+    private static void replace(Room room, int from, int to) {
+        room.members.set(room.members.indexOf(from), to);
+    }
+
+    // ── 제약 / 비용 ────────────────────────────────────────────────────────────
+
+    /** 지원자 i 가 호실에 들어갈 수 있는 성별인지 */
+    private boolean genderFits(Room room, int i) {
+        Gender gender = applicants[i].gender();
+        if (room.fixedGender != null) return room.fixedGender == gender;
+        for (int m : room.members) {
+            if (applicants[m].gender() != gender) return false;
+        }
+        return true;
+    }
+
+    private long roomCost(Room room) {
+        long cost = 0;
+        int gradeMask = 0;
+        for (int g : room.existingGrades) gradeMask |= 1 << Math.min(g, 30);
+        for (int m : room.members) {
+            Applicant a = applicants[m];
+            if (a.preferredRoomType() != null && a.preferredRoomType() != room.roomType) cost += W_ROOM_TYPE;
+            if (a.preferredBuilding() != null && !a.preferredBuilding().equals(room.building)) cost += W_BUILDING;
+            gradeMask |= 1 << Math.min(a.grade(), 30);
+            if (!roommateSets[m].isEmpty()) {
+                for (int other : room.members) {
+                    if (other != m && roommateSets[m].contains(applicants[other].studentId())) cost -= W_ROOMMATE;
+                }
+            }
+        }
+        int grades = Integer.bitCount(gradeMask);
+        if (grades > 1) cost += (long) W_GRADE_MIX * (grades - 1);
+        return cost;
+    }
+
+    private long totalCost() {
+        long total = 0;
+        for (Room room : rooms) total += roomCost(room);
+        return total;
+    }
+
+    /** 룸메이트 희망(같은 성별끼리)을 간선으로 하는 연결 요소 번호 */
+    private int[] roommateGroups() {
+        int[] parent = new int[applicants.length];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < applicants.length; i++) indexById.put(applicants[i].studentId(), i);
+
+        for (int i = 0; i < applicants.length; i++) {
+            for (Long mateId : roommateSets[i]) {
+                Integer j = indexById.get(mateId);
+                if (j != null && applicants[i].gender() == applicants[j].gender()) {
+                    parent[find(parent, i)] = find(parent, j);
+                }
+            }
+        }
+        int[] group = new int[applicants.length];
+        for (int i = 0; i < group.length; i++) group[i] = find(parent, i);
+        return group;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
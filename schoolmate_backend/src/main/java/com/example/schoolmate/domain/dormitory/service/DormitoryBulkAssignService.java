@@ -0,0 +1,193 @@
+package com.example.schoolmate.domain.dormitory.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.schoolmate.domain.dormitory.dto.DormitoryBulkAssignDTO;
+import com.example.schoolmate.domain.dormitory.entity.Dormitory;
+import com.example.schoolmate.domain.dormitory.repository.DormitoryAssignmentRepository;
+import com.example.schoolmate.domain.dormitory.repository.DormitoryRepository;
+import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
+import com.example.schoolmate.domain.term.entity.AcademicTerm;
+import com.example.schoolmate.domain.term.entity.AcademicTermStatus;
+import com.example.schoolmate.domain.term.repository.AcademicTermRepository;
+import com.example.schoolmate.domain.user.entity.constant.Gender;
+import com.example.schoolmate.global.config.school.SchoolContextHolder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 기숙사 일괄 배정 서비스 (학기 초 대량 배정)
+ *
+ * 학생 한 명씩 배정할 때마다 여러 쿼리가 발생하던 방식 대신,
+ * 1) 지원자 프로필 / 현재 입실자 / 빈 침대를 각각 쿼리 한 번으로 읽고
+ * 2) {@link DormitoryAssignmentSolver}로 전체 배치를 메모리에서 계산한 뒤
+ * 3) DormitoryAssignment 를 JDBC 배치 INSERT 로 한 번에 저장합니다.
+ *
+ * dryRun 요청은 2단계까지만 수행하여 미리보기 결과를 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Log4j2
+public class DormitoryBulkAssignService {
+
+    private static final int MAX_ITERATIONS = 100_000;
+    private static final long TIME_BUDGET_MS = 150;
+    private static final long SEED = 42L;
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ASSIGNMENT_SQL =
+            "INSERT INTO dormitory_assignment (school_id, student_info_id, academic_term_id, dormitory_id, create_date, update_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final DormitoryRepository dormitoryRepository;
+    private final DormitoryAssignmentRepository dormitoryAssignmentRepository;
+    private final StudentInfoRepository studentInfoRepository;
+    private final AcademicTermRepository academicTermRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일괄 배정 (dryRun 이면 저장하지 않고 결과만 반환)
+     */
+    @Transactional
+    public DormitoryBulkAssignDTO.Result bulkAssign(DormitoryBulkAssignDTO.Request request) {
+        long start = System.nanoTime();
+        Long schoolId = SchoolContextHolder.getSchoolId();
+        if (schoolId == null) {
+            throw new IllegalStateException("학교 컨텍스트가 없습니다.");
+        }
+        if (request.getApplicants() == null || request.getApplicants().isEmpty()) {
+            throw new IllegalArgumentException("배정할 학생이 없습니다.");
+        }
+        AcademicTerm activeTerm = academicTermRepository.findBySchoolIdAndStatus(schoolId, AcademicTermStatus.ACTIVE)
+                .orElseThrow(() -> new IllegalStateException("현재 활성 학기가 설정되어 있지 않습니다."));
+
+        // 중복 지원 제거 (마지막 요청 기준)
+        Map<Long, DormitoryBulkAssignDTO.Applicant> requested = new LinkedHashMap<>();
+        for (DormitoryBulkAssignDTO.Applicant applicant : request.getApplicants()) {
+            if (applicant.getStudentId() != null) requested.put(applicant.getStudentId(), applicant);
+        }
+
+        // 1. 지원자 프로필 (이름·성별·학년) — 쿼리 1회
+        Map<Long, Object[]> profiles = new HashMap<>();
+        for (Object[] row : studentInfoRepository.findDormitoryApplicantProfiles(requested.keySet(), schoolId)) {
+            profiles.put((Long) row[0], row);
+        }
+
+        // 2. 현재 학기 입실자 — 쿼리 1회
+        List<DormitoryAssignmentSolver.Occupant> occupants = new ArrayList<>();
+        Set<Long> alreadyAssigned = new HashSet<>();
+        for (Object[] row : dormitoryAssignmentRepository.findActiveOccupantProfiles(schoolId)) {
+            occupants.add(new DormitoryAssignmentSolver.Occupant(
+                    (String) row[0], (Integer) row[1], (String) row[2], (Gender) row[4], gradeOf(row[5])));
+            alreadyAssigned.add((Long) row[3]);
+        }
+
+        // 3. 빈 침대 — 쿼리 1회
+        Set<String> buildingFilter = request.getBuildings() == null || request.getBuildings().isEmpty()
+                ? null : new HashSet<>(request.getBuildings());
+        List<DormitoryAssignmentSolver.Bed> freeBeds = new ArrayList<>();
+        for (Dormitory d : dormitoryRepository.findEmptyBeds(schoolId)) {
+            if (buildingFilter != null && !buildingFilter.contains(d.getBuilding())) continue;
+            freeBeds.add(new DormitoryAssignmentSolver.Bed(d.getId(), d.getBuilding(), d.getFloor(),
+                    d.getRoomNumber(), d.getBedNumber(), d.getRoomType()));
+        }
+
+        // 솔버 입력 구성 (배정 불가 학생은 사유와 함께 제외)
+        List<DormitoryBulkAssignDTO.Unplaced> unplaced = new ArrayList<>();
+        List<DormitoryAssignmentSolver.Applicant> applicants = new ArrayList<>();
+        for (DormitoryBulkAssignDTO.Applicant applicant : requested.values()) {
+            Long studentId = applicant.getStudentId();
+            Object[] profile = profiles.get(studentId);
+            if (profile == null) {
+                unplaced.add(unplaced(studentId, null, "이 학교의 학생이 아닙니다."));
+            } else if (alreadyAssigned.contains(studentId)) {
+                unplaced.add(unplaced(studentId, (String) profile[1], "이미 현재 학기에 배정되어 있습니다."));
+            } else {
+                applicants.add(new DormitoryAssignmentSolver.Applicant(studentId, (Gender) profile[2],
+                        gradeOf(profile[3]), applicant.getPreferredRoomType(), applicant.getPreferredBuilding(),
+                        applicant.getRoommateIds()));
+            }
+        }
+
+        DormitoryAssignmentSolver.Solution solution = new DormitoryAssignmentSolver(MAX_ITERATIONS, TIME_BUDGET_MS, SEED)
+                .solve(applicants, freeBeds, occupants);
+
+        for (Long studentId : solution.unplaced()) {
+            unplaced.add(unplaced(studentId, (String) profiles.get(studentId)[1], "조건에 맞는 빈 침대가 없습니다."));
+        }
+
+        List<DormitoryBulkAssignDTO.Placement> placements = new ArrayList<>(solution.placements().size());
+        solution.placements().forEach((studentId, bed) -> {
+            Object[] profile = profiles.get(studentId);
+            placements.add(DormitoryBulkAssignDTO.Placement.builder()
+                    .studentId(studentId)
+                    .studentName((String) profile[1])
+                    .grade(profile[3] != null ? gradeOf(profile[3]) : null)
+                    .dormitoryId(bed.dormitoryId())
+                    .building(bed.building())
+                    .floor(bed.floor())
+                    .roomNumber(bed.roomNumber())
+                    .bedNumber(bed.bedNumber())
+                    .roomType(bed.roomType())
+                    .fullAddress(String.format("%s %d층 %s호 %s번 침대",
+                            bed.building(), bed.floor(), bed.roomNumber(), bed.bedNumber()))
+                    .build());
+        });
+
+        if (!request.isDryRun() && !placements.isEmpty()) {
+            insertAssignments(schoolId, activeTerm.getId(), solution.placements());
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("기숙사 일괄 배정{}: schoolId={}, 요청 {}명, 배정 {}명, 미배정 {}명, cost={}, 탐색 {}회, {}ms",
+                request.isDryRun() ? "(미리보기)" : "", schoolId, requested.size(), placements.size(),
+                unplaced.size(), solution.cost(), solution.iterations(), elapsedMs);
+
+        return DormitoryBulkAssignDTO.Result.builder()
+                .dryRun(request.isDryRun())
+                .academicTermId(activeTerm.getId())
+                .requested(requested.size())
+                .placed(placements.size())
+                .cost(solution.cost())
+                .elapsedMs(elapsedMs)
+                .placements(placements)
+                .unplaced(unplaced)
+                .build();
+    }
+
+    private void insertAssignments(Long schoolId, Long termId, Map<Long, DormitoryAssignmentSolver.Bed> placements) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(placements.size());
+        placements.forEach((studentId, bed) ->
+                rows.add(new Object[] { schoolId, studentId, termId, bed.dormitoryId(), now, now }));
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private static int gradeOf(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    private static DormitoryBulkAssignDTO.Unplaced unplaced(Long studentId, String name, String reason) {
+        return DormitoryBulkAssignDTO.Unplaced.builder()
+                .studentId(studentId)
+                .studentName(name)
+                .reason(reason)
+                .build();
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.schoolmate.domain.dormitory.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.schoolmate.domain.user.entity.constant.RoomType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 기숙사 건물 구조(층·호실·침대) 일괄 생성/변경 엔진
+ *
+ * 기존 방식은 침대 엔티티를 층/호실/침대 중첩 루프로 만들어 saveAll 했기 때문에
+ * IDENTITY 키 특성상 침대 1개당 INSERT 1회, 삭제도 침대·배정 1건당 DELETE 1회가 발생했습니다.
+ * (600침대 건물 재구성 시 한 트랜잭션에서 수천 개의 SQL)
+ *
+ * 이 엔진은
+ * 1) 현재 구조와 배정 여부를 그룹 쿼리 한 번으로 읽어 삭제 대상의 배정 여부를 먼저 검증하고
+ * 2) 목표 구조와의 차이(diff)만 계산한 뒤
+ * 3) JDBC 배치 INSERT 와 집합 단위 DELETE (WHERE building = ? AND floor > ? 등)로 반영합니다.
+ *
+ * JPA 트랜잭션에 참여하는 JdbcTemplate 을 사용하므로 호출 측 @Transactional 범위 안에서 원자적으로 처리되며,
+ * 반영 후에는 영속성 컨텍스트를 비워 이후 JPA 조회가 변경 내용을 보도록 합니다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class DormitoryLayoutEngine {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_BED_SQL =
+            "INSERT INTO dormitories (school_id, building, floor, room_number, bed_number, room_type, create_date, update_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** 침대 수 → 방 타입 (기존 서비스 규칙과 동일) */
+    public static RoomType roomTypeOf(int bedsPerRoom) {
+        return bedsPerRoom == 1 ? RoomType.SINGLE
+                : bedsPerRoom <= 2 ? RoomType.DOUBLE : RoomType.QUADRUPLE;
+    }
+
+    /** 호실 번호 규칙: {층}{2자리 순번} (예: 3층 5번째 방 → 305) */
+    public static String roomNumberOf(int floor, int index) {
+        return String.format("%d%02d", floor, index);
+    }
+
+    // ── 건물 생성 ──────────────────────────────────────────────────────────────
+
+    /**
+     * 신규 건물의 모든 침대를 배치 INSERT 합니다.
+     *
+     * @param roomsPerFloor 층별 호실 수 (index 0 = 1층)
+     * @return 생성된 침대 수
+     */
+    public int createBuilding(Long schoolId, String building, List<Integer> roomsPerFloor, int bedsPerRoom) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int floor = 1; floor <= roomsPerFloor.size(); floor++) {
+            appendRooms(rows, schoolId, building, floor, 1, roomsPerFloor.get(floor - 1), bedsPerRoom);
+        }
+        insertBeds(rows);
+        return rows.size();
+    }
+
+    // ── 건물 재구성 ────────────────────────────────────────────────────────────
+
+    /**
+     * 현재 구조를 목표 구조로 재구성합니다.
+     * - 목표 층 수를 초과하는 층은 한 번의 DELETE 로 제거
+     * - 층별로 줄어드는 호실은 호실 목록 IN 조건으로 제거, 늘어나는 호실은 배치 INSERT
+     * - 삭제 대상 중 배정 이력이 있는 침대가 있으면 아무것도 변경하지 않고 예외
+     *
+     * @param roomsPerFloor 층별 목표 호실 수 (index 0 = 1층)
+     */
+    public LayoutDiff restructure(Long schoolId, String building, List<Integer> roomsPerFloor, int bedsPerRoom) {
+        Map<Integer, List<RoomState>> current = loadLayout(schoolId, building);
+        LayoutDiff diff = LayoutDiff.compute(current, roomsPerFloor);
+
+        // 1. 삭제 대상 배정 여부 선검증 (그룹 쿼리 결과만으로 판단)
+        for (Map.Entry<Integer, List<RoomState>> entry : current.entrySet()) {
+            int floor = entry.getKey();
+            if (floor > diff.targetFloors()) {
+                if (entry.getValue().stream().anyMatch(RoomState::occupied)) {
+                    throw new IllegalStateException(floor + "층에 배정된 학생이 있어 삭제할 수 없습니다.");
+                }
+            }
+        }
+        diff.removedRooms().forEach((floor, rooms) -> {
+            for (RoomState room : current.get(floor)) {
+                if (rooms.contains(room.roomNumber()) && room.occupied()) {
+                    throw new IllegalStateException(floor + "층 " + room.roomNumber() + "호에 배정된 학생이 있어 삭제할 수 없습니다.");
+                }
+            }
+        });
+
+        // 2. 집합 단위 삭제
+        flushPersistenceContext();
+        if (diff.targetFloors() < diff.currentMaxFloor()) {
+            jdbcTemplate.update("DELETE FROM dormitories WHERE school_id = ? AND building = ? AND floor > ?",
+                    schoolId, building, diff.targetFloors());
+        }
+        diff.removedRooms().forEach((floor, rooms) -> namedParameterJdbcTemplate.update(
+                "DELETE FROM dormitories WHERE school_id = :schoolId AND building = :building "
+                + "AND floor = :floor AND room_number IN (:rooms)",
+                new MapSqlParameterSource()
+                        .addValue("schoolId", schoolId)
+                        .addValue("building", building)
+                        .addValue("floor", floor)
+                        .addValue("rooms", rooms)));
+
+        // 3. 추가 호실 배치 INSERT
+        List<Object[]> rows = new ArrayList<>();
+        diff.addedRooms().forEach((floor, range) ->
+                appendRooms(rows, schoolId, building, floor, range[0], range[1], bedsPerRoom));
+        insertBeds(rows);
+
+        clearPersistenceContext();
+        log.debug("기숙사 구조 diff 반영: schoolId={}, {} — 삭제 층>{} , 삭제 호실 {}, 추가 침대 {}",
+                schoolId, building, diff.targetFloors(), diff.removedRooms(), rows.size());
+        return diff;
+    }
+
+    // ── 호실 침대 수 조정 ──────────────────────────────────────────────────────
+
+    /**
+     * 특정 호실의 침대 수를 조정합니다.
+     * 침대 번호 정렬 기준으로 앞에서부터 bedsPerRoom 개를 유지하고, 나머지를 한 번에 삭제합니다.
+     *
+     * @return 변경 여부 (이미 목표 침대 수이면 false)
+     */
+    public boolean resizeRoom(Long schoolId, String building, int floor, String roomNumber, int bedsPerRoom) {
+        // 침대 번호 + 배정 이력 수를 한 번에 조회
+        List<Object[]> beds = jdbcTemplate.query(
+                "SELECT d.bed_number, COUNT(da.id) FROM dormitories d "
+                + "LEFT JOIN dormitory_assignment da ON da.dormitory_id = d.id "
+                + "WHERE d.school_id = ? AND d.building = ? AND d.floor = ? AND d.room_number = ? "
+                + "GROUP BY d.bed_number ORDER BY d.bed_number",
+                (rs, i) -> new Object[] { rs.getString(1), rs.getLong(2) },
+                schoolId, building, floor, roomNumber);
+        if (beds.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "존재하지 않는 호실입니다: " + building + " " + floor + "층 " + roomNumber + "호");
+        }
+
+        int currentCount = beds.size();
+        if (bedsPerRoom == currentCount) return false;
+
+        flushPersistenceContext();
+        if (bedsPerRoom > currentCount) {
+            List<Object[]> rows = new ArrayList<>();
+            RoomType roomType = roomTypeOf(bedsPerRoom);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int b = currentCount + 1; b <= bedsPerRoom; b++) {
+                rows.add(new Object[] { schoolId, building, floor, roomNumber, String.valueOf(b), roomType.name(), now, now });
+            }
+            insertBeds(rows);
+        } else {
+            List<Object[]> toRemove = beds.subList(bedsPerRoom, currentCount);
+            if (toRemove.stream().anyMatch(row -> (Long) row[1] > 0)) {
+                throw new IllegalStateException("삭제하려는 침대에 배정된 학생이 있습니다. 먼저 배정을 해제하세요.");
+            }
+            List<String> bedNumbers = toRemove.stream().map(row -> (String) row[0]).toList();
+            namedParameterJdbcTemplate.update(
+                    "DELETE FROM dormitories WHERE school_id = :schoolId AND building = :building "
+                    + "AND floor = :floor AND room_number = :roomNumber AND bed_number IN (:beds)",
+                    new MapSqlParameterSource()
+                            .addValue("schoolId", schoolId)
+                            .addValue("building", building)
+                            .addValue("floor", floor)
+                            .addValue("roomNumber", roomNumber)
+                            .addValue("beds", bedNumbers));
+        }
+        clearPersistenceContext();
+        return true;
+    }
+
+    // ── 건물 삭제 ──────────────────────────────────────────────────────────────
+
+    /**
+     * 건물의 모든 배정 이력과 침대를 두 개의 DELETE 문으로 삭제합니다.
+     *
+     * @return 삭제된 침대 수 (0 이면 존재하지 않는 건물)
+     */
+    public int deleteBuilding(Long schoolId, String building) {
+        flushPersistenceContext();
+        int assignments = jdbcTemplate.update(
+                "DELETE FROM dormitory_assignment WHERE dormitory_id IN "
+                + "(SELECT d.id FROM dormitories d WHERE d.school_id = ? AND d.building = ?)",
+                schoolId, building);
+        int beds = jdbcTemplate.update("DELETE FROM dormitories WHERE school_id = ? AND building = ?",
+                schoolId, building);
+        clearPersistenceContext();
+        log.debug("기숙사 건물 삭제: schoolId={}, {} — 침대 {}개, 배정 이력 {}건", schoolId, building, beds, assignments);
+        return beds;
+    }
+
+    // ── 내부 ───────────────────────────────────────────────────────────────────
+
+    /**
+     * 건물의 현재 구조(층 → 호실 목록)와 호실별 배정 이력 수를 그룹 쿼리 한 번으로 조회합니다.
+     * 호실 목록은 호실 번호 오름차순입니다.
+     */
+    Map<Integer, List<RoomState>> loadLayout(Long schoolId, String building) {
+        Map<Integer, List<RoomState>> layout = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT d.floor, d.room_number, COUNT(DISTINCT d.id), COUNT(da.id) FROM dormitories d "
+                + "LEFT JOIN dormitory_assignment da ON da.dormitory_id = d.id "
+                + "WHERE d.school_id = ? AND d.building = ? "
+                + "GROUP BY d.floor, d.room_number ORDER BY d.floor, d.room_number",
+                rs -> {
+                    layout.computeIfAbsent(rs.getInt(1), k -> new ArrayList<>())
+                            .add(new RoomState(rs.getString(2), rs.getInt(3), rs.getLong(4) > 0));
+                },
+                schoolId, building);
+        return layout;
+    }
+
+    private void appendRooms(List<Object[]> rows, Long schoolId, String building, int floor,
+            int fromIndex, int toIndex, int bedsPerRoom) {
+        String roomType = roomTypeOf(bedsPerRoom).name();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int r = fromIndex; r <= toIndex; r++) {
+            String roomNumber = roomNumberOf(floor, r);
+            for (int b = 1; b <= bedsPerRoom; b++) {
+                rows.add(new Object[] { schoolId, building, floor, roomNumber, String.valueOf(b), roomType, now, now });
+            }
+        }
+    }
+
+    private void insertBeds(List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_BED_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    // JDBC 반영 전: 대기 중인 JPA 변경(예: 건물명 변경)을 먼저 DB 에 반영
+    private void flushPersistenceContext() {
+        entityManager.flush();
+    }
+
+    // JDBC 반영 후: 삭제/추가된 침대가 1차 캐시에 남아 있지 않도록 초기화
+    private void clearPersistenceContext() {
+        entityManager.clear();
+    }
+
+    // ── 구조 모델 ──────────────────────────────────────────────────────────────
+
+    /** 호실 단위 현재 상태 */
+    record RoomState(String roomNumber, int beds, boolean occupied) {}
+
+    /**
+     * 현재 구조와 목표 구조의 차이
+     *
+     * @param currentMaxFloor 현재 최고 층
+     * @param targetFloors    목표 층 수 (이보다 높은 층은 삭제)
+     * @param removedRooms    유지되는 층에서 삭제할 호실 번호 (층 → 호실 목록)
+     * @param addedRooms      추가할 호실 순번 범위 (층 → [시작 순번, 끝 순번])
+     */
+    public record LayoutDiff(int currentMaxFloor, int targetFloors,
+            Map<Integer, List<String>> removedRooms, Map<Integer, int[]> addedRooms) {
+
+        static LayoutDiff compute(Map<Integer, List<RoomState>> current, List<Integer> roomsPerFloor) {
+            int currentMaxFloor = current.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+            int targetFloors = roomsPerFloor.size();
+            Map<Integer, List<String>> removed = new TreeMap<>();
+            Map<Integer, int[]> added = new TreeMap<>();
+
+            for (int floor = 1; floor <= targetFloors; floor++) {
+                int targetRooms = roomsPerFloor.get(floor - 1);
+                List<RoomState> rooms = current.getOrDefault(floor, Collections.emptyList());
+                int currentRooms = rooms.size();
+                if (targetRooms > currentRooms) {
+                    added.put(floor, new int[] { currentRooms + 1, targetRooms });
+                } else if (targetRooms < currentRooms) {
+                    // 정렬된 호실 목록의 뒤쪽부터 제거 (기존 규칙과 동일)
+                    removed.put(floor, rooms.subList(targetRooms, currentRooms).stream()
+                            .map(RoomState::roomNumber).toList());
+                }
+            }
+            return new LayoutDiff(currentMaxFloor, targetFloors, removed, added);
+        }
+    }
+}
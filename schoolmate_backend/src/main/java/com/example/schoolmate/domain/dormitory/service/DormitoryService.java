@@ -39,6 +39,7 @@ public class DormitoryService {
     private final StudentInfoRepository studentInfoRepository;
     private final SchoolRepository schoolRepository;
     private final AcademicTermRepository academicTermRepository;
+    private final DormitoryLayoutEngine dormitoryLayoutEngine;
 
     // ── 내부 헬퍼 ──────────────────────────────────────────────────────────────
 
@@ -59,6 +60,10 @@ public class DormitoryService {
         return schoolId;
     }
 
+    private boolean buildingExists(Long schoolId, String building) {
+        return dormitoryRepository.existsBySchool_IdAndBuilding(schoolId, building);
+    }
+
     private Dormitory createDormitoryBed(School school, String building, int floor,
             String roomNumber, String bedNumber, RoomType roomType) {
         return Dormitory.builder()
@@ -137,27 +142,13 @@ public class DormitoryService {
             throw new IllegalArgumentException("층 수와 층별 호실 수 리스트의 크기가 일치하지 않습니다.");
         }
 
-        if (dormitoryRepository.findBuildingSummaries(schoolId).stream()
-                .anyMatch(row -> buildingName.equals(row[0]))) {
+        if (buildingExists(schoolId, buildingName)) {
             throw new IllegalArgumentException("이미 존재하는 건물명입니다: " + buildingName);
         }
 
-        RoomType roomType = bedsPerRoom == 1 ? RoomType.SINGLE
-                : bedsPerRoom <= 2 ? RoomType.DOUBLE : RoomType.QUADRUPLE;
-        List<Dormitory> beds = new ArrayList<>();
-
-        for (int floor = 1; floor <= floors; floor++) {
-            int rooms = roomsPerFloor.get(floor - 1);
-            for (int r = 1; r <= rooms; r++) {
-                String roomNumber = String.format("%d%02d", floor, r);
-                for (int b = 1; b <= bedsPerRoom; b++) {
-                    beds.add(createDormitoryBed(school, buildingName, floor, roomNumber, String.valueOf(b), roomType));
-                }
-            }
-        }
-
-        dormitoryRepository.saveAll(beds);
-        log.info("건물 추가 완료: schoolId={}, {} ({}층, 층별 호실 수: {}, 침대 {}개)", schoolId, buildingName, floors, roomsPerFloor, beds.size());
+        // 침대 행을 JDBC 배치 INSERT 로 일괄 생성
+        int bedCount = dormitoryLayoutEngine.createBuilding(schoolId, buildingName, roomsPerFloor, bedsPerRoom);
+        log.info("건물 추가 완료: schoolId={}, {} ({}층, 층별 호실 수: {}, 침대 {}개)", schoolId, buildingName, floors, roomsPerFloor, bedCount);
     }
 
     /**
@@ -174,14 +165,12 @@ public class DormitoryService {
             throw new IllegalArgumentException("층 수와 층별 호실 수 리스트의 크기가 일치하지 않습니다.");
         }
 
-        List<Dormitory> allBeds = dormitoryRepository.findByBuildingWithStudents(schoolId, buildingName);
-        if (allBeds.isEmpty()) {
+        if (!buildingExists(schoolId, buildingName)) {
             throw new IllegalArgumentException("존재하지 않는 건물입니다: " + buildingName);
         }
 
         if (!buildingName.equals(newBuildingName)) {
-            boolean nameExists = dormitoryRepository.findBuildingSummaries(schoolId).stream()
-                    .anyMatch(row -> newBuildingName.equals(row[0]));
+            boolean nameExists = buildingExists(schoolId, newBuildingName);
             if (nameExists) {
                 throw new IllegalArgumentException("이미 존재하는 건물명입니다: " + newBuildingName);
             }
@@ -189,50 +178,8 @@ public class DormitoryService {
             buildingName = newBuildingName;
         }
 
-        RoomType roomType = bedsPerRoom == 1 ? RoomType.SINGLE
-                : bedsPerRoom <= 2 ? RoomType.DOUBLE : RoomType.QUADRUPLE;
-
-        int currentMaxFloor = allBeds.stream().mapToInt(Dormitory::getFloor).max().orElse(0);
-
-        // 초과 층 제거
-        for (int floor = floors + 1; floor <= currentMaxFloor; floor++) {
-            List<Dormitory> floorBeds = dormitoryRepository
-                    .findBySchool_IdAndBuildingAndFloorOrderByRoomNumberAscBedNumberAsc(schoolId, buildingName, floor);
-            if (floorBeds.stream().anyMatch(d -> !d.isEmpty())) {
-                throw new IllegalStateException(floor + "층에 배정된 학생이 있어 삭제할 수 없습니다.");
-            }
-            dormitoryRepository.deleteAll(floorBeds);
-        }
-
-        for (int floor = 1; floor <= floors; floor++) {
-            int targetRooms = roomsPerFloor.get(floor - 1);
-            List<Dormitory> floorBeds = dormitoryRepository
-                    .findBySchool_IdAndBuildingAndFloorOrderByRoomNumberAscBedNumberAsc(schoolId, buildingName, floor);
-            List<String> currentRoomNums = floorBeds.stream()
-                    .map(Dormitory::getRoomNumber).distinct().sorted().collect(Collectors.toList());
-            int currentRooms = currentRoomNums.size();
-
-            if (targetRooms > currentRooms) {
-                List<Dormitory> newBeds = new ArrayList<>();
-                for (int r = currentRooms + 1; r <= targetRooms; r++) {
-                    String roomNumber = String.format("%d%02d", floor, r);
-                    for (int b = 1; b <= bedsPerRoom; b++) {
-                        newBeds.add(createDormitoryBed(school, buildingName, floor, roomNumber, String.valueOf(b), roomType));
-                    }
-                }
-                dormitoryRepository.saveAll(newBeds);
-            } else if (targetRooms < currentRooms) {
-                for (int r = currentRooms - 1; r >= targetRooms; r--) {
-                    String roomNumber = currentRoomNums.get(r);
-                    List<Dormitory> roomBeds = floorBeds.stream()
-                            .filter(d -> d.getRoomNumber().equals(roomNumber)).collect(Collectors.toList());
-                    if (roomBeds.stream().anyMatch(d -> !d.isEmpty())) {
-                        throw new IllegalStateException(floor + "층 " + roomNumber + "호에 배정된 학생이 있어 삭제할 수 없습니다.");
-                    }
-                    dormitoryRepository.deleteAll(roomBeds);
-                }
-            }
-        }
+        // 현재 구조와의 차이만 집합 단위 DELETE / 배치 INSERT 로 반영 (배정된 침대 삭제 시 예외)
+        dormitoryLayoutEngine.restructure(schoolId, buildingName, roomsPerFloor, bedsPerRoom);
         log.info("건물 수정 완료: schoolId={}, {} → {} ({}층, 층별 호실 수: {})", schoolId, buildingName, newBuildingName, floors, roomsPerFloor);
     }
 
@@ -242,12 +189,10 @@ public class DormitoryService {
     @Transactional
     public void deleteBuilding(String buildingName) {
         Long schoolId = getRequiredSchoolId();
-        List<Dormitory> beds = dormitoryRepository.findByBuildingWithStudents(schoolId, buildingName);
-        if (beds.isEmpty()) {
+        if (!buildingExists(schoolId, buildingName)) {
             throw new IllegalArgumentException("존재하지 않는 건물입니다: " + buildingName);
         }
-        beds.forEach(d -> d.getDormitoryAssignments().forEach(da -> dormitoryAssignmentRepository.delete(da)));
-        dormitoryRepository.deleteAll(beds);
+        dormitoryLayoutEngine.deleteBuilding(schoolId, buildingName);
         log.info("건물 삭제 완료: schoolId={}, {}", schoolId, buildingName);
     }
 
@@ -257,33 +202,8 @@ public class DormitoryService {
     @Transactional
     public void updateRoomBeds(String buildingName, int floor, String roomNumber, int bedsPerRoom) {
         Long schoolId = getRequiredSchoolId();
-        List<Dormitory> currentBeds = dormitoryRepository.findByRoom(schoolId, buildingName, floor, roomNumber);
-        if (currentBeds.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "존재하지 않는 호실입니다: " + buildingName + " " + floor + "층 " + roomNumber + "호");
-        }
-        int currentCount = currentBeds.size();
-        if (bedsPerRoom == currentCount)
+        if (!dormitoryLayoutEngine.resizeRoom(schoolId, buildingName, floor, roomNumber, bedsPerRoom))
             return;
-
-        RoomType roomType = bedsPerRoom == 1 ? RoomType.SINGLE
-                : bedsPerRoom <= 2 ? RoomType.DOUBLE : RoomType.QUADRUPLE;
-
-        if (bedsPerRoom > currentCount) {
-            School school = schoolRepository.findById(schoolId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 학교입니다: " + schoolId));
-            List<Dormitory> newBeds = new ArrayList<>();
-            for (int b = currentCount + 1; b <= bedsPerRoom; b++) {
-                newBeds.add(createDormitoryBed(school, buildingName, floor, roomNumber, String.valueOf(b), roomType));
-            }
-            dormitoryRepository.saveAll(newBeds);
-        } else {
-            List<Dormitory> toRemove = currentBeds.subList(bedsPerRoom, currentCount);
-            if (toRemove.stream().anyMatch(d -> !d.isEmpty())) {
-                throw new IllegalStateException("삭제하려는 침대에 배정된 학생이 있습니다. 먼저 배정을 해제하세요.");
-            }
-            dormitoryRepository.deleteAll(toRemove);
-        }
         log.info("호실 침대 수 수정 완료: schoolId={}, {} {}층 {}호 → {}개", schoolId, buildingName, floor, roomNumber, bedsPerRoom);
     }
 
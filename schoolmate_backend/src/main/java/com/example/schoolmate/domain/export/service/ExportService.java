@@ -0,0 +1,210 @@
+package com.example.schoolmate.domain.export.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.stereotype.Service;
+
+import com.example.schoolmate.domain.attendance.entity.constant.AttendanceStatus;
+import com.example.schoolmate.domain.classroom.repository.ClassroomRepository;
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCache;
+import com.example.schoolmate.domain.export.writer.ExportFormat;
+import com.example.schoolmate.domain.export.writer.TabularWriter;
+import com.example.schoolmate.domain.term.repository.SchoolYearRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 학교 단위 데이터 내보내기 (명단 / 학기 성적 / 월별 출결)
+ *
+ * - 영속성 컨텍스트를 쓰지 않는 StatelessSession + forward-only 커서로 한 행씩 읽어
+ *   바로 {@link TabularWriter} 로 흘려보냅니다. 학교 규모와 무관하게 메모리가 일정합니다.
+ * - MySQL Connector/J 는 fetchSize=Integer.MIN_VALUE 일 때만 결과를 행 단위로 스트리밍합니다.
+ * - StreamingResponseBody 스레드에서 실행되므로 SchoolContextHolder 대신 schoolId 를 인자로 받습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ExportService {
+
+    /** MySQL 드라이버 행 단위 스트리밍 신호값 */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String SCHOOL_ROSTER_HQL = """
+            SELECT c.grade, c.classNum, sa.attendanceNum, u.name, si.code, si.gender, si.status, si.phone
+            FROM StudentAssignment sa
+            JOIN sa.studentInfo si JOIN si.user u JOIN sa.classroom c JOIN sa.schoolYear sy
+            WHERE si.school.id = :schoolId AND sy.year = :year
+            ORDER BY c.grade, c.classNum, sa.attendanceNum, u.name
+            """;
+
+    private static final String TERM_GRADES_HQL = """
+            SELECT c.grade, c.classNum, sa.attendanceNum, u.name, si.code, sub.name, g.testType, g.score
+            FROM Grade g
+            JOIN g.student si JOIN si.user u JOIN g.subject sub JOIN g.academicTerm t JOIN t.schoolYear sy
+            LEFT JOIN si.assignments sa ON sa.schoolYear.id = sy.id
+            LEFT JOIN sa.classroom c
+            WHERE g.school.id = :schoolId AND sy.year = :year AND t.semester = :semester
+            ORDER BY c.grade, c.classNum, sa.attendanceNum, si.id, sub.name, g.testType
+            """;
+
+    private static final String MONTHLY_ATTENDANCE_HQL = """
+            SELECT a.attendanceDate, c.grade, c.classNum, sa.attendanceNum, u.name, si.code,
+                   a.status, a.checkInTime, a.reason
+            FROM StudentAttendance a
+            JOIN a.studentInfo si JOIN si.user u
+            LEFT JOIN si.assignments sa ON sa.schoolYear.id = :schoolYearId
+            LEFT JOIN sa.classroom c
+            WHERE a.school.id = :schoolId AND a.attendanceDate BETWEEN :from AND :to
+            ORDER BY a.attendanceDate, c.grade, c.classNum, sa.attendanceNum
+            """;
+
+    private static final Map<AttendanceStatus, String> ATTENDANCE_LABELS = Map.of(
+            AttendanceStatus.PRESENT, "출석",
+            AttendanceStatus.ABSENT, "결석",
+            AttendanceStatus.LATE, "지각",
+            AttendanceStatus.EARLY_LEAVE, "조퇴",
+            AttendanceStatus.SICK, "병결",
+            AttendanceStatus.LEAVE, "휴가");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SchoolYearRepository schoolYearRepository;
+    private final ClassroomRosterCache classroomRosterCache;
+    private final ClassroomRepository classroomRepository;
+
+    // ── 학교 단위 ──────────────────────────────────────────────────────────
+
+    /**
+     * 학년도 전체 학생 명단
+     */
+    public void writeSchoolRoster(Long schoolId, int year, ExportFormat format, OutputStream out) throws IOException {
+        try (TabularWriter writer = format.open(out, year + "학년도 명단")) {
+            writer.header("학년", "반", "번호", "이름", "학번", "성별", "학적상태", "연락처");
+            stream("명단", SCHOOL_ROSTER_HQL, Map.of("schoolId", schoolId, "year", year), writer);
+        }
+    }
+
+    /**
+     * 학기 성적 (학생 × 과목 × 시험 종류)
+     */
+    public void writeTermGrades(Long schoolId, int year, int semester, ExportFormat format, OutputStream out)
+            throws IOException {
+        if (semester < 1 || semester > 2) {
+            throw new IllegalArgumentException("학기는 1 또는 2 이어야 합니다.");
+        }
+        try (TabularWriter writer = format.open(out, year + "-" + semester + " 성적")) {
+            writer.header("학년", "반", "번호", "이름", "학번", "과목", "시험", "점수");
+            stream("성적", TERM_GRADES_HQL, Map.of("schoolId", schoolId, "year", year, "semester", semester), writer);
+        }
+    }
+
+    /**
+     * 월별 출결 (일자별 기록)
+     * 학년도는 3월 시작 기준으로 계산 (1~2월은 전년도 학년도)
+     */
+    public void writeMonthlyAttendance(Long schoolId, YearMonth month, ExportFormat format, OutputStream out)
+            throws IOException {
+        int schoolYear = month.getMonthValue() >= 3 ? month.getYear() : month.getYear() - 1;
+        Long schoolYearId = schoolYearRepository.findBySchoolIdAndYear(schoolId, schoolYear)
+                .map(sy -> sy.getId())
+                .orElse(-1L);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+
+        try (TabularWriter writer = format.open(out, month + " 출결")) {
+            writer.header("일자", "학년", "반", "번호", "이름", "학번", "출결", "등교시각", "사유");
+            stream("출결", MONTHLY_ATTENDANCE_HQL,
+                    Map.of("schoolId", schoolId, "schoolYearId", schoolYearId, "from", from, "to", to),
+                    new AttendanceRows(writer));
+        }
+    }
+
+    // ── 학급 단위 ──────────────────────────────────────────────────────────
+
+    /**
+     * 학급 존재 확인 (응답 스트리밍 시작 전, 요청 스레드에서 호출)
+     */
+    public void requireClassroom(Long cid) {
+        if (!classroomRepository.existsById(cid)) {
+            throw new IllegalArgumentException("학급 정보를 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 학급 명단 (명단 캐시 스냅샷에서 바로 작성)
+     */
+    public void writeClassRoster(Long cid, ExportFormat format, OutputStream out) throws IOException {
+        ClassroomRosterCache.Roster roster = classroomRosterCache.get(cid);
+        try (TabularWriter writer = format.open(out, "학급 명단")) {
+            writer.header("번호", "이름", "학번", "상태");
+            for (int i = 0; i < roster.size(); i++) {
+                writer.row(roster.attendanceNum(i), roster.name(i), roster.code(i), roster.status(i));
+            }
+        }
+    }
+
+    // ── 내부 ──────────────────────────────────────────────────────────────
+
+    /**
+     * StatelessSession 커서로 조회 결과를 한 행씩 writer 에 전달
+     */
+    private void stream(String label, String hql, Map<String, Object> params, TabularWriter writer)
+            throws IOException {
+        long start = System.nanoTime();
+        long rows = 0;
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            SelectionQuery<Object[]> query = session.createSelectionQuery(hql, Object[].class)
+                    .setFetchSize(STREAMING_FETCH_SIZE)
+                    .setReadOnly(true);
+            params.forEach(query::setParameter);
+            try (ScrollableResults<Object[]> cursor = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (cursor.next()) {
+                    writer.row(cursor.get());
+                    rows++;
+                }
+            }
+        }
+        log.info("데이터 내보내기({}): {}행, {}ms", label, rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 출결 상태를 한글 표기로 바꿔 전달
+     */
+    private static final class AttendanceRows implements TabularWriter {
+
+        private final TabularWriter delegate;
+
+        private AttendanceRows(TabularWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void header(String... columns) throws IOException {
+            delegate.header(columns);
+        }
+
+        @Override
+        public void row(Object... values) throws IOException {
+            if (values[6] instanceof AttendanceStatus status) {
+                values[6] = ATTENDANCE_LABELS.getOrDefault(status, status.name());
+            }
+            delegate.row(values);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.schoolmate.domain.export.writer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+import com.opencsv.CSVWriter;
+import com.opencsv.ICSVWriter;
+
+/**
+ * CSV 스트리밍 작성기 (UTF-8 BOM 포함 — 엑셀에서 한글이 깨지지 않도록)
+ *
+ * CSVWriter.writeNext 는 쓰기 오류를 삼키고 내부에 보관하므로, 행마다 확인해 IOException 으로 다시 던집니다
+ * (클라이언트가 다운로드를 끊으면 조회 커서를 계속 돌리지 않고 중단).
+ */
+public class CsvTabularWriter implements TabularWriter {
+
+    private final BufferedWriter writer;
+    private final ICSVWriter csv;
+    private String[] buffer = new String[0];
+
+    public CsvTabularWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        this.writer.write('\uFEFF');
+        this.csv = new CSVWriter(writer, ICSVWriter.DEFAULT_SEPARATOR, ICSVWriter.DEFAULT_QUOTE_CHARACTER,
+                ICSVWriter.DEFAULT_ESCAPE_CHARACTER, "\n");
+    }
+
+    @Override
+    public void header(String... columns) throws IOException {
+        csv.writeNext(columns, false);
+        throwIfFailed();
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        if (buffer.length != values.length) {
+            buffer = new String[values.length];
+        }
+        for (int i = 0; i < values.length; i++) {
+            buffer[i] = ExportValues.text(values[i]);
+        }
+        csv.writeNext(buffer, false);
+        throwIfFailed();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // CSVWriter.close() 는 하위 스트림까지 닫으므로 flush 만 수행
+        csv.flush();
+        writer.flush();
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    /** 버퍼가 넘쳐 하위 스트림에 쓰다 실패했으면 그 예외를 던짐 (flush 없이 보관된 오류만 확인) */
+    private void throwIfFailed() throws IOException {
+        IOException error = csv.getException();
+        if (error != null) {
+            throw error;
+        }
+    }
+}
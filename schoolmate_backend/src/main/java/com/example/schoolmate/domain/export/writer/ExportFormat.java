@@ -0,0 +1,35 @@
+package com.example.schoolmate.domain.export.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 파일 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("csv", "text/csv; charset=UTF-8"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String extension;
+    private final String contentType;
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + value);
+        }
+    }
+
+    public TabularWriter open(OutputStream out, String sheetName) throws IOException {
+        return this == XLSX ? new XlsxTabularWriter(out, sheetName) : new CsvTabularWriter(out);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.schoolmate.domain.export.writer;
+
+import java.lang.reflect.Method;
+
+/**
+ * 셀 값 → 문자열 변환 (getDescription() 이 있는 enum 은 한글 설명 사용)
+ */
+final class ExportValues {
+
+    /** enum 타입별 getDescription 메서드 (없으면 null) — 셀마다 리플렉션 조회하지 않도록 캐시 */
+    private static final ClassValue<Method> DESCRIPTION = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getDescription");
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
+    private ExportValues() {
+    }
+
+    static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Enum<?> e) {
+            Method description = DESCRIPTION.get(e.getDeclaringClass());
+            if (description != null) {
+                try {
+                    Object text = description.invoke(e);
+                    if (text != null) {
+                        return text.toString();
+                    }
+                } catch (ReflectiveOperationException ignored) {
+                    // 설명 조회 실패 시 이름 그대로
+                }
+            }
+            return e.name();
+        }
+        return value.toString();
+    }
+}
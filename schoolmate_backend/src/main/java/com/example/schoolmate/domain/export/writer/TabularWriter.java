@@ -0,0 +1,18 @@
+package com.example.schoolmate.domain.export.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 행 단위 스트리밍 표 작성기
+ *
+ * 행을 받는 즉시 출력 스트림으로 내보내며 전체 파일을 메모리에 만들지 않습니다.
+ * close() 는 형식의 마무리(XLSX 종료 태그 등)만 기록하고 하위 스트림은 닫지 않습니다.
+ */
+public interface TabularWriter extends Closeable {
+
+    void header(String... columns) throws IOException;
+
+    /** 값은 String / Number / Enum / 날짜 등, null 은 빈 칸 */
+    void row(Object... values) throws IOException;
+}
@@ -0,0 +1,64 @@
+package com.example.schoolmate.domain.file.controller;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import com.example.schoolmate.global.util.FileManager;
+import com.example.schoolmate.global.util.FileManager.ImageSize;
+import com.example.schoolmate.global.util.FileManager.StoredFile;
+import com.example.schoolmate.global.util.FileManager.UploadType;
+import com.example.schoolmate.global.util.FileServer;
+import com.example.schoolmate.global.util.FileServer.CachePolicy;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 파일 서빙 — GET/HEAD /upload/{type}/{filename}, /upload/{type}/w{폭}/{filename}
+ *
+ * - 업로드 파일명은 내용 주소(또는 이관 전 UUID) 기반이라 재사용되지 않으므로 1년 immutable 캐시로 응답
+ * - 파생본이 아직 없으면 원본으로 응답하되, 이후 파생본으로 바뀌어야 하므로 no-cache
+ * - /uploads/** 는 이전 경로 호환용
+ */
+@Controller
+@RequiredArgsConstructor
+public class UploadFileController {
+
+    private final FileManager fileManager;
+    private final FileServer fileServer;
+
+    @RequestMapping(value = { "/upload/{dir}/{filename:.+}", "/uploads/{dir}/{filename:.+}" },
+            method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void serve(@PathVariable String dir, @PathVariable String filename,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(UploadType.fromDir(dir), filename, null, request, response);
+    }
+
+    @RequestMapping(value = { "/upload/{dir}/{size}/{filename:.+}", "/uploads/{dir}/{size}/{filename:.+}" },
+            method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void serveDerivative(@PathVariable String dir, @PathVariable String size, @PathVariable String filename,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<ImageSize> imageSize = ImageSize.fromDir(size);
+        if (imageSize.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        serve(UploadType.fromDir(dir).filter(UploadType::isImage), filename, imageSize.get(), request, response);
+    }
+
+    private void serve(Optional<UploadType> type, String filename, ImageSize size,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<StoredFile> stored = type.flatMap(t -> fileManager.locate(t, filename, size));
+        if (stored.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        fileServer.serve(stored.get(), CachePolicy.IMMUTABLE, request, response);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.schoolmate.domain.file.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 주소 저장소 객체의 참조 수
+ * - 같은 내용을 여러 번 업로드해도 실제 파일은 하나, ref_count 만 증가
+ * - ref_count 가 0 이 되는 순간 행과 실제 파일을 함께 삭제
+ * - 갱신은 StoredObjectRepository 의 원자적 UPDATE / UPSERT 로만 수행
+ */
+@Entity
+@Table(name = "stored_object")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredObject {
+
+    /** sha256 hex + 확장자 */
+    @Id
+    @Column(name = "object_key", length = 80)
+    private String objectKey;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
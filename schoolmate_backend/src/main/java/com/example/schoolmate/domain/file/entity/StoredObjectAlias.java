@@ -0,0 +1,35 @@
+package com.example.schoolmate.domain.file.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이관 전 파일명 → 내용 주소 키
+ *
+ * DB 곳곳(과제 첨부, 게시글 본문 URL 등)에 남아 있는 {type}/{YYYYMMDD_UUID} 파일명을
+ * 그대로 두고 서빙·삭제 시 이 표로 키를 찾습니다. 별칭 하나가 참조 하나입니다.
+ */
+@Entity
+@Table(name = "stored_object_alias")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredObjectAlias {
+
+    /** {type.dir}/{이전 파일명} */
+    @Id
+    @Column(name = "legacy_path", length = 255)
+    private String legacyPath;
+
+    @Column(name = "object_key", length = 80, nullable = false)
+    private String objectKey;
+
+    public StoredObjectAlias(String legacyPath, String objectKey) {
+        this.legacyPath = legacyPath;
+        this.objectKey = objectKey;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.schoolmate.domain.file.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.schoolmate.domain.file.entity.StoredObjectAlias;
+
+public interface StoredObjectAliasRepository extends JpaRepository<StoredObjectAlias, String> {
+}
@@ -0,0 +1,48 @@
+package com.example.schoolmate.domain.file.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.schoolmate.domain.file.entity.StoredObject;
+
+import jakarta.persistence.LockModeType;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, String> {
+
+    /** 참조 +1 (없으면 ref_count=1 로 생성) — 동시 업로드에도 행 하나로 합쳐짐 */
+    @Modifying
+    @Query(value = """
+            INSERT INTO stored_object (object_key, size_bytes, ref_count, created_at)
+            VALUES (:key, :size, 1, NOW())
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+            """, nativeQuery = true)
+    int acquire(@Param("key") String key, @Param("size") long size);
+
+    @Modifying
+    @Query("UPDATE StoredObject o SET o.refCount = o.refCount - 1 WHERE o.objectKey = :key AND o.refCount > 0")
+    int decrement(@Param("key") String key);
+
+    /**
+     * 행 잠금 조회 (SELECT ... FOR UPDATE) — 잠근 동안 다른 노드의 acquire(UPSERT) 는 대기하므로
+     * 참조 수 재확인과 실제 파일 삭제를 원자적으로 묶을 수 있음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM StoredObject o WHERE o.objectKey = :key")
+    Optional<StoredObject> findForUpdate(@Param("key") String key);
+
+    /** 참조가 남지 않은 행 삭제 — 1 이면 실제 파일을 지워도 됨 */
+    @Modifying
+    @Query("DELETE FROM StoredObject o WHERE o.objectKey = :key AND o.refCount <= 0")
+    int deleteIfUnreferenced(@Param("key") String key);
+
+    /** 키 순서 페이지 조회 (파생본 backfill 용) */
+    @Query("SELECT o.objectKey FROM StoredObject o WHERE o.objectKey > :after ORDER BY o.objectKey")
+    List<String> findKeysAfter(@Param("after") String after, Pageable pageable);
+}
@@ -0,0 +1,334 @@
+package com.example.schoolmate.domain.file.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.example.schoolmate.domain.file.repository.StoredObjectRepository;
+import com.example.schoolmate.domain.file.storage.BlobStore;
+import com.example.schoolmate.domain.file.storage.StorageKeys;
+import com.example.schoolmate.global.util.FileManager.ImageSize;
+import com.example.schoolmate.global.util.FileManager.StoredFile;
+import com.example.schoolmate.global.util.ImageDerivativeService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 주소(SHA-256) 업로드 저장소
+ *
+ * - 업로드 스트림을 임시 파일에 쓰면서 해시를 함께 계산 (한 번 읽기)
+ * - 키 = sha256 + 확장자. 이미 있는 내용이면 임시 파일을 버리고 참조 수만 +1 (중복 제거)
+ * - 삭제는 참조 수 -1, 0 이 되면 실제 파일(과 파생본) 삭제
+ * - 같은 키의 쓰기/삭제는 키 단위 락으로 직렬화하고, 실제 파일 삭제는 stored_object 행 잠금(FOR UPDATE) 안에서
+ *   참조 수를 다시 확인한 뒤 수행하여 여러 노드·공유 버킷에서도 "참조 +1 직후 파일 삭제" 경합을 막음.
+ *   키 단위 락 안에서 DB·파일 I/O 를 하므로 synchronized 대신 ReentrantLock
+ *   — 가상 스레드 모드에서 대기 중 캐리어 스레드를 붙잡지 않도록 (JDK 21~23 pinning)
+ *
+ * 업무 트랜잭션 안에서 호출되면:
+ * - 업로드 후 롤백 → 참조 -1 (고아 파일 방지)
+ * - 삭제는 커밋 이후에 수행 (롤백되면 파일 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentStore {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int KEY_PAGE_SIZE = 500;
+    private static final Duration PRESIGNED_TTL = Duration.ofMinutes(10);
+
+    private final BlobStore blobStore;
+    private final StoredObjectRefService storedObjectRefService;
+    private final StoredObjectRepository storedObjectRepository;
+    private final ImageDerivativeService imageDerivativeService;
+
+    private final ReentrantLock[] locks = newLocks();
+
+    // ── 저장 ──────────────────────────────────────────────────────────────
+
+    /**
+     * 업로드 파일 저장
+     *
+     * @return 내용 주소 키 (DB 에 파일명으로 보관)
+     */
+    public String store(MultipartFile file) throws IOException {
+        Path tmp = blobStore.createTempFile();
+        try {
+            long size;
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                    OutputStream out = Files.newOutputStream(tmp)) {
+                size = in.transferTo(out);
+            }
+            String key = StorageKeys.contentKey(hex(digest), StorageKeys.extensionOf(file.getOriginalFilename()));
+            commit(key, size, tmp);
+            releaseOnRollback(key);
+            return key;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 서버에서 만든 파일(변환 결과 등) 저장. file 은 {@link BlobStore#createTempFile()} 로 만든 것이어야 하며
+     * 저장 후 남지 않습니다.
+     *
+     * @return 내용 주소 키
+     */
+    public String store(Path file, String extension) throws IOException {
+        try {
+            String key = StorageKeys.contentKey(hex(digestOf(file)), extension);
+            commit(key, Files.size(file), file);
+            return key;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 이관: 기존 파일을 복사해 저장하고 이전 파일명 별칭을 등록합니다. (원본 파일은 호출자가 삭제)
+     */
+    public String importLegacy(Path legacyFile, String legacyPath) throws IOException {
+        Path tmp = blobStore.createTempFile();
+        try {
+            long size;
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(legacyFile), digest);
+                    OutputStream out = Files.newOutputStream(tmp)) {
+                size = in.transferTo(out);
+            }
+            String key = StorageKeys.contentKey(hex(digest),
+                    StorageKeys.extensionOf(legacyFile.getFileName().toString()));
+            ReentrantLock lock = lockOf(key);
+            lock.lock();
+            try {
+                storedObjectRefService.acquireAlias(legacyPath, key, size);
+                putIfAbsent(key, tmp);
+            } finally {
+                lock.unlock();
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** 파일 내용의 키 계산 (이관 dry-run 용, 저장하지 않음) */
+    public String keyOf(Path file) throws IOException {
+        return StorageKeys.contentKey(hex(digestOf(file)), StorageKeys.extensionOf(file.getFileName().toString()));
+    }
+
+    public boolean contains(String key) {
+        return blobStore.contains(key);
+    }
+
+    /**
+     * 저장된 내용을 로컬 임시 파일로 꺼냅니다 (외부 프로그램 입력용). 호출자가 삭제해야 합니다.
+     */
+    public Path copyToTempFile(String key, String suffix) throws IOException {
+        Path tmp = Files.createTempFile("content-", suffix);
+        try (InputStream in = blobStore.open(key)) {
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        return tmp;
+    }
+
+    /** 저장용 임시 파일 (store(Path, String) 에 넘길 파일) */
+    public Path createTempFile() throws IOException {
+        return blobStore.createTempFile();
+    }
+
+    // ── 삭제 ──────────────────────────────────────────────────────────────
+
+    public void release(String key) {
+        afterCommit(() -> releaseNow(key));
+    }
+
+    /** 이전 파일명 별칭 제거 + 참조 -1 */
+    public void releaseAlias(String legacyPath) {
+        afterCommit(() -> storedObjectRefService.removeAlias(legacyPath).ifPresent(this::releaseNow));
+    }
+
+    // ── 조회 ──────────────────────────────────────────────────────────────
+
+    public Optional<String> aliasOf(String legacyPath) {
+        return storedObjectRefService.aliasOf(legacyPath);
+    }
+
+    /**
+     * 서빙할 파일 위치. size 가 있으면 파생본, 아직 없으면 원본(fallback=true)
+     */
+    public Optional<StoredFile> locate(String key, @Nullable ImageSize size) {
+        if (size != null) {
+            String derivative = StorageKeys.derivativeKey(key, size);
+            if (blobStore.contains(derivative)) {
+                return Optional.of(toStoredFile(derivative, false));
+            }
+        }
+        if (!blobStore.contains(key)) {
+            return Optional.empty();
+        }
+        return Optional.of(toStoredFile(key, size != null));
+    }
+
+    /** 저장된 전체 키 (키 순서, 페이지 단위 지연 조회) */
+    public Iterable<String> keys() {
+        return () -> new Iterator<>() {
+            private List<String> page = Collections.emptyList();
+            private int index;
+            private String last = "";
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) return true;
+                if (exhausted) return false;
+                page = storedObjectRepository.findKeysAfter(last, PageRequest.of(0, KEY_PAGE_SIZE));
+                index = 0;
+                exhausted = page.size() < KEY_PAGE_SIZE;
+                return !page.isEmpty();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                last = page.get(index++);
+                return last;
+            }
+        };
+    }
+
+    // ── 내부 ──────────────────────────────────────────────────────────────
+
+    private void commit(String key, long size, Path tmp) throws IOException {
+        ReentrantLock lock = lockOf(key);
+        lock.lock();
+        try {
+            storedObjectRefService.acquire(key, size);
+            try {
+                putIfAbsent(key, tmp);
+            } catch (IOException | RuntimeException e) {
+                storedObjectRefService.release(key);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putIfAbsent(String key, Path tmp) throws IOException {
+        if (blobStore.contains(key)) {
+            log.debug("[ContentStore] 중복 내용 — 기존 객체 재사용: {}", key);
+        } else {
+            blobStore.put(key, tmp);
+        }
+    }
+
+    private void releaseNow(String key) {
+        ReentrantLock lock = lockOf(key);
+        lock.lock();
+        try {
+            // 파일 삭제는 stored_object 행 잠금 안에서 (다른 노드의 동시 acquire 와 직렬화)
+            storedObjectRefService.release(key, () -> {
+                try {
+                    blobStore.delete(key);
+                    imageDerivativeService.delete(key);
+                    log.debug("[ContentStore] 삭제: {}", key);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("[ContentStore] 파일 삭제 실패: {} - {}", key, e.getMessage());
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private StoredFile toStoredFile(String key, boolean fallback) {
+        Path local = blobStore.localPath(key);
+        URI remote = local == null ? blobStore.presignedUrl(key, PRESIGNED_TTL) : null;
+        return new StoredFile(local, remote, fallback);
+    }
+
+    private void releaseOnRollback(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    releaseNow(key);
+                }
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private ReentrantLock lockOf(String key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static ReentrantLock[] newLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static MessageDigest digestOf(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
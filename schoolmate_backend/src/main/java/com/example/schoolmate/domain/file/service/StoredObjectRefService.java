@@ -0,0 +1,89 @@
+package com.example.schoolmate.domain.file.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.schoolmate.domain.file.entity.StoredObject;
+import com.example.schoolmate.domain.file.entity.StoredObjectAlias;
+import com.example.schoolmate.domain.file.repository.StoredObjectAliasRepository;
+import com.example.schoolmate.domain.file.repository.StoredObjectRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장소 참조 수 갱신
+ *
+ * 실제 파일 쓰기/삭제와 짝을 이루므로 호출한 업무 트랜잭션과 분리(REQUIRES_NEW)하여 즉시 커밋합니다.
+ * 업무 트랜잭션의 커밋/롤백에 맞춘 보정은 ContentStore 가 트랜잭션 동기화로 처리합니다.
+ *
+ * 참조 수가 0 이 되어 실제 파일을 지울 때는 stored_object 행을 잠근 채(FOR UPDATE) 파일을 먼저 지우고 행을 삭제합니다.
+ * 다른 노드의 acquire 는 그동안 대기했다가 새 행을 만들고 파일을 다시 올리므로,
+ * "삭제 직전에 다른 노드가 참조를 얻고 이미 있는 파일이라 업로드를 건너뜀" 경합으로 파일이 사라지지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StoredObjectRefService {
+
+    private final StoredObjectRepository storedObjectRepository;
+    private final StoredObjectAliasRepository storedObjectAliasRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void acquire(String key, long size) {
+        storedObjectRepository.acquire(key, size);
+    }
+
+    /**
+     * 참조 -1 (실제 파일은 건드리지 않음 — 저장 실패 보정용)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String key) {
+        storedObjectRepository.decrement(key);
+        storedObjectRepository.deleteIfUnreferenced(key);
+    }
+
+    /**
+     * 참조 -1, 더 이상 참조가 없으면 행 잠금을 쥔 채 purge(실제 파일 삭제) 후 행 삭제
+     *
+     * @return purge 를 실행했으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String key, Runnable purge) {
+        storedObjectRepository.decrement(key);
+        StoredObject object = storedObjectRepository.findForUpdate(key).orElse(null);
+        if (object == null || object.getRefCount() > 0) {
+            return false;
+        }
+        purge.run();
+        storedObjectRepository.delete(object);
+        return true;
+    }
+
+    /**
+     * 이관: 이전 파일명 별칭 등록 + 참조 +1 (한 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void acquireAlias(String legacyPath, String key, long size) {
+        storedObjectRepository.acquire(key, size);
+        storedObjectAliasRepository.save(new StoredObjectAlias(legacyPath, key));
+    }
+
+    /**
+     * 별칭 제거 (참조 -1 은 호출자가 release 로 처리)
+     *
+     * @return 별칭이 가리키던 키
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<String> removeAlias(String legacyPath) {
+        Optional<StoredObjectAlias> alias = storedObjectAliasRepository.findById(legacyPath);
+        alias.ifPresent(storedObjectAliasRepository::delete);
+        return alias.map(StoredObjectAlias::getObjectKey);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> aliasOf(String legacyPath) {
+        return storedObjectAliasRepository.findById(legacyPath).map(StoredObjectAlias::getObjectKey);
+    }
+}
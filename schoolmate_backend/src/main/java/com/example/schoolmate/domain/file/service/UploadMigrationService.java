@@ -0,0 +1,119 @@
+package com.example.schoolmate.domain.file.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import com.example.schoolmate.global.util.FileManager;
+import com.example.schoolmate.global.util.FileManager.UploadType;
+import com.example.schoolmate.global.util.ImageDerivativeService;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이전 업로드 디렉터리({user.dir}/uploads/{type.dir}/) → 내용 주소 저장소 이관
+ *
+ * 파일마다: 저장소로 복사(키 계산) → 별칭 + 참조 등록 → 이전 파일과 이전 파생본 삭제.
+ * DB 에 남아 있는 이전 파일명은 그대로 두고 별칭으로 찾으므로 다른 테이블은 수정하지 않습니다.
+ * 중간에 멈춰도 다시 실행하면 이어서 처리됩니다 (이미 별칭이 있는 파일은 삭제만 수행).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadMigrationService {
+
+    private final FileManager fileManager;
+    private final ContentStore contentStore;
+    private final ImageDerivativeService imageDerivativeService;
+
+    @Getter
+    @Builder
+    public static class MigrationReport {
+        private final boolean dryRun;
+        private final int files;
+        private final long bytes;
+        /** 이미 저장소에 있거나 이번 이관에서 앞서 나온 내용과 같은 파일 수 */
+        private final int duplicates;
+        private final long duplicateBytes;
+        private final int failed;
+    }
+
+    /**
+     * @param dryRun true 면 해시만 계산해 중복 현황을 보고하고 아무것도 옮기지 않음
+     */
+    public MigrationReport migrate(boolean dryRun) {
+        long start = System.nanoTime();
+        Set<String> seen = new HashSet<>();
+        int files = 0;
+        int duplicates = 0;
+        int failed = 0;
+        long bytes = 0;
+        long duplicateBytes = 0;
+
+        for (UploadType type : UploadType.values()) {
+            for (Path file : listLegacyFiles(fileManager.directory(type))) {
+                String name = file.getFileName().toString();
+                String legacyPath = FileManager.legacyPath(type, name);
+                try {
+                    long size = Files.size(file);
+                    if (!dryRun && contentStore.aliasOf(legacyPath).isPresent()) {
+                        // 이전 실행에서 등록까지 끝난 파일
+                        removeLegacy(type, file);
+                        continue;
+                    }
+                    String key = dryRun ? contentStore.keyOf(file) : contentStore.importLegacy(file, legacyPath);
+                    files++;
+                    bytes += size;
+                    // dry-run 은 저장소 기존 객체도 중복으로 집계, 실제 이관은 이번 실행 내 중복만 집계
+                    if (!seen.add(key) || (dryRun && contentStore.contains(key))) {
+                        duplicates++;
+                        duplicateBytes += size;
+                    }
+                    if (!dryRun) {
+                        removeLegacy(type, file);
+                        if (type.isImage()) {
+                            imageDerivativeService.submit(key);
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    failed++;
+                    log.warn("[UploadMigration] 실패: {} - {}", legacyPath, e.getMessage());
+                }
+            }
+        }
+
+        MigrationReport report = MigrationReport.builder()
+                .dryRun(dryRun).files(files).bytes(bytes)
+                .duplicates(duplicates).duplicateBytes(duplicateBytes).failed(failed)
+                .build();
+        log.info("[UploadMigration] {} 완료: 파일 {}개({}바이트), 중복 {}개({}바이트), 실패 {}개, {}ms",
+                dryRun ? "dry-run" : "이관", files, bytes, duplicates, duplicateBytes, failed,
+                (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    private void removeLegacy(UploadType type, Path file) throws IOException {
+        Files.deleteIfExists(file);
+        fileManager.deleteLegacyDerivatives(type, file.getFileName().toString());
+    }
+
+    /** 타입 디렉터리 바로 아래의 파일만 (파생본 하위 디렉터리 제외) */
+    private static List<Path> listLegacyFiles(Path dir) {
+        if (!Files.isDirectory(dir)) return List.of();
+        try (Stream<Path> entries = Files.list(dir)) {
+            return entries.filter(Files::isRegularFile).sorted().toList();
+        } catch (IOException e) {
+            log.warn("[UploadMigration] 디렉터리 읽기 실패: {} - {}", dir, e.getMessage());
+            return List.of();
+        }
+    }
+}
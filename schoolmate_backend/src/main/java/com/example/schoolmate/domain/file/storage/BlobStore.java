@@ -0,0 +1,49 @@
+package com.example.schoolmate.domain.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 업로드 파일 실제 저장소 (키 → 바이트)
+ *
+ * 키 형식은 {@link StorageKeys} 참고. 구현체는 app.storage.type 으로 선택합니다.
+ * - local : {@link LocalBlobStore} (기본값, 디스크 2단 샤딩 디렉터리)
+ * - s3    : {@link S3BlobStore} (S3 호환 — AWS S3, MinIO 등)
+ */
+public interface BlobStore {
+
+    /**
+     * 업로드 내용을 임시로 기록할 파일을 만듭니다.
+     * 로컬 저장소는 저장 디렉터리와 같은 파일시스템에 만들어 {@link #put} 이 원자적 이동이 되도록 합니다.
+     */
+    Path createTempFile() throws IOException;
+
+    boolean contains(String key);
+
+    /**
+     * source 파일을 key 로 저장합니다. source 는 이동(또는 업로드 후 삭제)되어 호출 후 남지 않습니다.
+     * 같은 키가 이미 있으면 덮어씁니다 (내용 주소 키이므로 내용이 같음).
+     */
+    void put(String key, Path source) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 로컬 디스크 경로 (zero-copy 서빙용). 원격 저장소는 null.
+     */
+    @Nullable
+    Path localPath(String key);
+
+    /**
+     * 일정 시간 유효한 직접 다운로드 URL. 로컬 저장소는 null.
+     */
+    @Nullable
+    URI presignedUrl(String key, Duration ttl);
+}
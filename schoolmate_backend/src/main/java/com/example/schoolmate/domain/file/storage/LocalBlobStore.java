@@ -0,0 +1,78 @@
+package com.example.schoolmate.domain.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크 저장소 — {user.dir}/uploads/objects/{샤드}/{키}
+ *
+ * 임시 파일을 같은 루트 아래(.tmp)에 만들기 때문에 put 은 rename 한 번(원자적 이동)입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+    private final Path tmpDir;
+
+    public LocalBlobStore(@Value("${app.storage.local.root:}") String root) {
+        this.root = (root == null || root.isBlank()
+                ? Paths.get(System.getProperty("user.dir"), "uploads", "objects")
+                : Paths.get(root)).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve(".tmp");
+    }
+
+    @Override
+    public Path createTempFile() throws IOException {
+        Files.createDirectories(tmpDir);
+        return Files.createTempFile(tmpDir, "upload-", ".part");
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Path localPath(String key) {
+        return resolve(key);
+    }
+
+    @Override
+    @Nullable
+    public URI presignedUrl(String key, Duration ttl) {
+        return null;
+    }
+
+    private Path resolve(String key) {
+        return root.resolve(StorageKeys.shardedPath(key));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.schoolmate.domain.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 호환 저장소 (AWS S3 / MinIO)
+ *
+ * 로컬 개발 시 MinIO 예시:
+ * <pre>
+ * docker run -p 9000:9000 -e MINIO_ROOT_USER=minio -e MINIO_ROOT_PASSWORD=minio123 minio/minio server /data
+ * app.storage.type=s3
+ * app.storage.s3.endpoint=http://localhost:9000
+ * app.storage.s3.bucket=schoolmate-uploads
+ * app.storage.s3.access-key=minio
+ * app.storage.s3.secret-key=minio123
+ * </pre>
+ *
+ * 객체 키는 로컬과 같은 샤딩 경로를 사용하므로 디스크 → 버킷 복사만으로 옮길 수 있습니다.
+ * 서빙은 presigned URL 리다이렉트로 처리하여 애플리케이션 서버를 거치지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client client;
+    private final S3Presigner presigner;
+    private final String bucket;
+
+    public S3BlobStore(
+            @Value("${app.storage.s3.endpoint:}") String endpoint,
+            @Value("${app.storage.s3.region:ap-northeast-2}") String region,
+            @Value("${app.storage.s3.bucket}") String bucket,
+            @Value("${app.storage.s3.access-key}") String accessKey,
+            @Value("${app.storage.s3.secret-key}") String secretKey) {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(accessKey, secretKey));
+        // MinIO 는 가상 호스트 방식 버킷 주소를 쓰지 않으므로 path-style 사용
+        S3Configuration s3Config = S3Configuration.builder()
+                .pathStyleAccessEnabled(!endpoint.isBlank())
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Config);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Config);
+        if (!endpoint.isBlank()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+        this.client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        this.bucket = bucket;
+        log.info("[S3BlobStore] bucket={}, endpoint={}", bucket, endpoint.isBlank() ? "AWS" : endpoint);
+    }
+
+    @PreDestroy
+    void close() {
+        presigner.close();
+        client.close();
+    }
+
+    @Override
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile("upload-", ".part");
+    }
+
+    @Override
+    public boolean contains(String key) {
+        try {
+            client.headObject(b -> b.bucket(bucket).key(objectKey(key)));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return false;
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        try {
+            client.putObject(b -> b.bucket(bucket).key(objectKey(key)), RequestBody.fromFile(source));
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return client.getObject(GetObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+    }
+
+    @Override
+    public void delete(String key) {
+        client.deleteObject(b -> b.bucket(bucket).key(objectKey(key)));
+    }
+
+    @Override
+    @Nullable
+    public Path localPath(String key) {
+        return null;
+    }
+
+    @Override
+    public URI presignedUrl(String key, Duration ttl) {
+        try {
+            return presigner.presignGetObject(b -> b
+                    .signatureDuration(ttl)
+                    .getObjectRequest(r -> r.bucket(bucket).key(objectKey(key))))
+                    .url().toURI();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String objectKey(String key) {
+        return StorageKeys.shardedPath(key);
+    }
+}
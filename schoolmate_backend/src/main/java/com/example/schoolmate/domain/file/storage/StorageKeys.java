@@ -0,0 +1,59 @@
+package com.example.schoolmate.domain.file.storage;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.Nullable;
+
+import com.example.schoolmate.global.util.FileManager.ImageSize;
+
+/**
+ * 저장소 키 규칙
+ *
+ * - 원본    : {sha256 hex}{.확장자}          예) 3f2a…9c.pdf
+ * - 파생본  : w{폭}/{원본 키}               예) w320/3f2a…9c.jpg
+ * - 물리 경로는 해시 앞 4자리로 2단 샤딩    예) 3f/2a/3f2a…9c.pdf, w320/3f/2a/3f2a…9c.jpg
+ *   (디렉터리당 항목 수가 256 × 256 으로 분산)
+ */
+public final class StorageKeys {
+
+    private static final Pattern CONTENT_KEY = Pattern.compile("^[0-9a-f]{64}(\\.[a-z0-9]{1,10})?$");
+    private static final Pattern EXTENSION = Pattern.compile("^\\.[a-z0-9]{1,10}$");
+
+    private StorageKeys() {}
+
+    /** 업로드 파일명이 내용 주소 키인지 (이관 전 YYYYMMDD_UUID 파일명과 구분) */
+    public static boolean isContentKey(@Nullable String filename) {
+        return filename != null && CONTENT_KEY.matcher(filename).matches();
+    }
+
+    /** 원본 파일명에서 키에 붙일 확장자 (소문자, 허용되지 않는 형식이면 빈 문자열) */
+    public static String extensionOf(@Nullable String originalFilename) {
+        if (originalFilename == null) return "";
+        int dot = originalFilename.lastIndexOf('.');
+        if (dot < 0) return "";
+        String ext = originalFilename.substring(dot).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(ext).matches() ? ext : "";
+    }
+
+    public static String contentKey(String sha256Hex, String extension) {
+        return sha256Hex + extension;
+    }
+
+    public static String derivativeKey(String key, ImageSize size) {
+        return size.dir() + "/" + key;
+    }
+
+    /**
+     * 키 → 샤딩된 상대 경로. 허용되지 않는 키는 IllegalArgumentException.
+     */
+    public static String shardedPath(String key) {
+        int slash = key.lastIndexOf('/');
+        String prefix = slash < 0 ? "" : key.substring(0, slash + 1);
+        String name = key.substring(slash + 1);
+        if (!isContentKey(name) || (!prefix.isEmpty() && !prefix.matches("^w\\d+/$"))) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + key);
+        }
+        return prefix + name.substring(0, 2) + "/" + name.substring(2, 4) + "/" + name;
+    }
+}
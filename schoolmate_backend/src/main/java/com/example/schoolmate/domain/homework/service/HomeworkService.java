@@ -17,6 +17,7 @@ import com.example.schoolmate.domain.teacher.entity.TeacherInfo;
 import com.example.schoolmate.domain.user.entity.constant.UserRole;
 import com.example.schoolmate.domain.term.entity.CourseSection;
 import com.example.schoolmate.domain.parent.repository.FamilyRelationRepository;
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCache;
 import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
 import com.example.schoolmate.domain.teacher.repository.TeacherInfoRepository;
 import com.example.schoolmate.domain.term.repository.CourseSectionRepository;
@@ -50,6 +51,7 @@ public class HomeworkService {
     private final CourseSectionRepository courseSectionRepository;
     private final TeacherInfoRepository teacherInfoRepository;
     private final StudentInfoRepository studentInfoRepository;
+    private final ClassroomRosterCache classroomRosterCache;
     private final FamilyRelationRepository familyRelationRepository;
     private final FileManager fileManager;
 
@@ -82,7 +84,7 @@ public class HomeworkService {
                 .build();
 
         Homework saved = homeworkRepository.save(homework);
-        int totalStudents = studentInfoRepository.findByClassroomCid(courseSection.getClassroom().getCid()).size();
+        int totalStudents = classroomRosterCache.size(courseSection.getClassroom().getCid());
 
         log.info("[woo] 과제 출제: {} - {} (분반: {}, 교사: {})",
                 saved.getId(), saved.getTitle(),
@@ -126,7 +128,7 @@ public class HomeworkService {
 
         return homeworkRepository.findByTeacherInfoId(teacher.getId(), pageable)
                 .map(hw -> {
-                    int total = studentInfoRepository.findByClassroomCid(hw.getCourseSection().getClassroom().getCid()).size();
+                    int total = classroomRosterCache.size(hw.getCourseSection().getClassroom().getCid());
                     return HomeworkDTO.ListResponse.fromEntity(hw, total);
                 });
     }
@@ -143,7 +145,7 @@ public class HomeworkService {
         }
 
         Long classroomId = student.getCurrentAssignment().getClassroom().getCid();
-        int total = studentInfoRepository.findByClassroomCid(classroomId).size();
+        int total = classroomRosterCache.size(classroomId);
 
         return homeworkRepository.findByClassroomId(classroomId, pageable)
                 .map(hw -> {
@@ -179,7 +181,7 @@ public class HomeworkService {
         }
 
         Long classroomId = child.getCurrentAssignment().getClassroom().getCid();
-        int total = studentInfoRepository.findByClassroomCid(classroomId).size();
+        int total = classroomRosterCache.size(classroomId);
         List<Homework> homeworks = homeworkRepository.findAllByClassroomId(classroomId);
 
         return homeworks.stream().map(hw -> {
@@ -254,7 +256,7 @@ public class HomeworkService {
             homework.setAttachmentOriginalName(file.getOriginalFilename());
         }
 
-        int total = studentInfoRepository.findByClassroomCid(homework.getCourseSection().getClassroom().getCid()).size();
+        int total = classroomRosterCache.size(homework.getCourseSection().getClassroom().getCid());
         log.info("[woo] 과제 수정: {} by {}", homeworkId, userDTO.getName());
         return HomeworkDTO.DetailResponse.fromEntity(homework, total);
     }
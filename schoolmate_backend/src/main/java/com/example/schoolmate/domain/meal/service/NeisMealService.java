@@ -19,6 +19,7 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.schoolmate.global.config.SchoolmateUrls;
+import com.example.schoolmate.global.config.metrics.NeisMetricsInterceptor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -37,14 +38,18 @@ public class NeisMealService {
     @Value("${neis.api.key}")
     private String neisApiKey;
 
+    @Value("${neis.api.base-url:" + SchoolmateUrls.Api.NEIS_HUB + "}")
+    private String neisBaseUrl;
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public NeisMealService() {
+    public NeisMealService(NeisMetricsInterceptor neisMetrics) {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(5_000);
         factory.setReadTimeout(10_000);
         this.restTemplate = new RestTemplate(factory);
+        this.restTemplate.getInterceptors().add(neisMetrics);
     }
 
     // [soojin] DDISH_NM에서 알레르기 번호를 추출하는 패턴 (예: "1.5.9." → [1, 5, 9])
@@ -60,7 +65,7 @@ public class NeisMealService {
     public Map<String, Object> fetchTodayMeal(String officeCode, String schoolCode) {
         String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE); // YYYYMMDD
 
-        URI uri = UriComponentsBuilder.fromUriString(SchoolmateUrls.Api.NEIS_MEAL_INFO)
+        URI uri = UriComponentsBuilder.fromUriString(neisBaseUrl + SchoolmateUrls.Api.NEIS_MEAL_INFO)
                 .queryParam("KEY", neisApiKey)
                 .queryParam("Type", "json")
                 .queryParam("pSize", 10)
@@ -81,7 +86,7 @@ public class NeisMealService {
 
     // ── 내부 파싱 ──────────────────────────────────────────────────────────────
 
-    private Map<String, Object> parseMealResponse(String body) throws Exception {
+    Map<String, Object> parseMealResponse(String body) throws Exception {
         JsonNode root = objectMapper.readTree(body);
         JsonNode dietInfo = root.get("mealServiceDietInfo");
         if (dietInfo == null || !dietInfo.isArray()) return null;
@@ -12,6 +12,8 @@ import com.example.schoolmate.domain.notification.entity.PushSubscription;
 import com.example.schoolmate.domain.user.entity.User;
 import com.example.schoolmate.domain.notification.repository.PushSubscriptionRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,7 @@ import nl.martijndwars.webpush.PushService;
 public class PushNotificationService {
 
     private final PushSubscriptionRepository pushSubscriptionRepository;
+    private final MeterRegistry meterRegistry;
 
     @Value("${vapid.public-key:}")
     private String vapidPublicKey;
@@ -66,7 +69,10 @@ public class PushNotificationService {
         }
     }
 
+    /** 전송 결과는 push.send 지표(outcome: sent / expired / failed / error)로 기록 */
     private void sendToSubscription(PushSubscription sub, String payload) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             Notification notification = new Notification(
                     sub.getEndpoint(),
@@ -79,13 +85,22 @@ public class PushNotificationService {
 
             // 410 Gone / 404 Not Found → 만료된 구독, DB에서 삭제
             if (statusCode == 410 || statusCode == 404) {
+                outcome = "expired";
                 log.info("[Push] 만료된 구독 삭제: endpoint={}", sub.getEndpoint());
                 pushSubscriptionRepository.delete(sub);
             } else if (statusCode != 201) {
+                outcome = "failed";
                 log.warn("[Push] 전송 실패 (status={}): endpoint={}", statusCode, sub.getEndpoint());
+            } else {
+                outcome = "sent";
             }
         } catch (Exception e) {
             log.error("[Push] 전송 중 예외 발생: {}", e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("push.send")
+                    .description("웹 푸시 전송 지연")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
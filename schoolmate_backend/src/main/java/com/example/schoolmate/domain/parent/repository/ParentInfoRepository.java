@@ -1,8 +1,13 @@
 package com.example.schoolmate.domain.parent.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.example.schoolmate.domain.parent.entity.ParentInfo;
 
 public interface ParentInfoRepository extends JpaRepository<ParentInfo, Long>, ParentInfoRepositoryCustom {
     boolean existsByCode(String code);
+
+    // User ID로 학부모 정보 조회 (parent_info 단일 테이블)
+    List<ParentInfo> findAllByUserUid(Long uid);
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.example.schoolmate.domain.user.dto.AuthUserDTO;
 import com.example.schoolmate.domain.quiz.dto.QuizDTO;
 import com.example.schoolmate.domain.quiz.entity.Quiz;
 import com.example.schoolmate.domain.quiz.service.QuizService;
+import com.example.schoolmate.global.config.ratelimit.RateLimit;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -122,6 +123,7 @@ public class QuizRestController {
     // ========== [woo] 퀴즈 제출 (학생) ==========
 
     @PostMapping("/{id}/submit")
+    @RateLimit(name = "quiz-submit", key = "#uid", limit = 10, windowSeconds = 60)
     public ResponseEntity<?> submitQuiz(
             @PathVariable Long id,
             @RequestBody @Valid QuizDTO.SubmitRequest request,
@@ -17,6 +17,7 @@ import com.example.schoolmate.domain.student.entity.StudentInfo;
 import com.example.schoolmate.domain.teacher.entity.TeacherInfo;
 import com.example.schoolmate.domain.user.entity.constant.UserRole;
 import com.example.schoolmate.domain.parent.repository.FamilyRelationRepository;
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCache;
 import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
 import com.example.schoolmate.domain.teacher.repository.TeacherInfoRepository;
 import com.example.schoolmate.domain.term.entity.CourseSection;
@@ -49,6 +50,7 @@ public class QuizService {
     private final CourseSectionRepository courseSectionRepository;
     private final TeacherInfoRepository teacherInfoRepository;
     private final StudentInfoRepository studentInfoRepository;
+    private final ClassroomRosterCache classroomRosterCache;
     private final FamilyRelationRepository familyRelationRepository;
 
     // ========== [woo] 퀴즈 출제 ==========
@@ -131,7 +133,7 @@ public class QuizService {
                     QuizDTO.ListResponse response = QuizDTO.ListResponse.fromEntity(quiz);
                     // [soojin] 수정하는 이유: 교사용 카드 목록에서 응시 통계 표시를 위해 계산값 주입
                     int submissionCount = submissionRepository.countDistinctStudentByQuizId(quiz.getId());
-                    int totalStudentCount = (int) studentInfoRepository.countByClassroomCid(quiz.getClassroom().getCid());
+                    int totalStudentCount = classroomRosterCache.size(quiz.getClassroom().getCid());
                     double averageScore = submissionRepository.findAverageScorePercentByQuizId(quiz.getId()).orElse(0.0);
 
                     response.setSubmissionCount(submissionCount);
@@ -273,10 +275,6 @@ public class QuizService {
             throw new IllegalArgumentException("최대 응시 횟수(" + quiz.getMaxAttempts() + "회)를 초과했습니다.");
         }
 
-        // [woo] 문제를 ID로 매핑
-        Map<Long, QuizQuestion> questionMap = quiz.getQuestions().stream()
-                .collect(Collectors.toMap(QuizQuestion::getId, Function.identity()));
-
         QuizSubmission submission = QuizSubmission.builder()
                 .quiz(quiz)
                 .student(student)
@@ -286,10 +284,29 @@ public class QuizService {
                 .totalPoints(quiz.getTotalPoints())
                 .build();
 
+        int totalScore = grade(quiz, submission, request.getAnswers());
+        submission.setScore(totalScore);
+        QuizSubmission saved = submissionRepository.save(submission);
+
+        log.info("[woo] 퀴즈 제출: 퀴즈={}, 학생={}, 점수={}/{}",
+                quizId, student.getUser().getName(), totalScore, quiz.getTotalPoints());
+
+        return QuizDTO.SubmissionResponse.fromEntity(saved, quiz.isShowAnswer());
+    }
+
+    /**
+     * 답안을 채점해 submission 에 QuizAnswer 로 추가하고 총점을 반환합니다 (DB 접근 없음).
+     * 퀴즈에 없는 문제 ID 는 무시합니다.
+     */
+    static int grade(Quiz quiz, QuizSubmission submission, List<QuizDTO.AnswerRequest> answers) {
+        // [woo] 문제를 ID로 매핑
+        Map<Long, QuizQuestion> questionMap = quiz.getQuestions().stream()
+                .collect(Collectors.toMap(QuizQuestion::getId, Function.identity()));
+
         int totalScore = 0;
 
         // [woo] 각 답안 채점
-        for (QuizDTO.AnswerRequest aReq : request.getAnswers()) {
+        for (QuizDTO.AnswerRequest aReq : answers) {
             QuizQuestion question = questionMap.get(aReq.getQuestionId());
             if (question == null) continue;
 
@@ -331,13 +348,7 @@ public class QuizService {
             submission.getAnswers().add(answer);
         }
 
-        submission.setScore(totalScore);
-        QuizSubmission saved = submissionRepository.save(submission);
-
-        log.info("[woo] 퀴즈 제출: 퀴즈={}, 학생={}, 점수={}/{}",
-                quizId, student.getUser().getName(), totalScore, quiz.getTotalPoints());
-
-        return QuizDTO.SubmissionResponse.fromEntity(saved, quiz.isShowAnswer());
+        return totalScore;
     }
 
     // ========== [woo] 퀴즈 수정 (트랜잭션 1: 문제/선택지 업데이트) ==========
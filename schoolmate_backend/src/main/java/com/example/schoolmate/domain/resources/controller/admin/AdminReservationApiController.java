@@ -1,11 +1,13 @@
 package com.example.schoolmate.domain.resources.controller.admin;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -53,4 +55,16 @@ public class AdminReservationApiController {
         reservationService.rejectReservation(id, rejectReason);
         return ResponseEntity.ok("예약이 반려되었습니다.");
     }
+
+    /**
+     * 자원의 빈 시간 조회 (days=1 하루, days=7 한 주)
+     */
+    @GetMapping("/free-slots")
+    public ResponseEntity<?> freeSlots(@RequestParam("resourceId") Long resourceId,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "days", defaultValue = "1") int days,
+            @RequestParam(value = "minMinutes", defaultValue = "30") int minMinutes,
+            @RequestParam(value = "includeWeekends", defaultValue = "false") boolean includeWeekends) {
+        return ResponseEntity.ok(reservationService.getFreeSlots(resourceId, date, days, minMinutes, includeWeekends));
+    }
 }
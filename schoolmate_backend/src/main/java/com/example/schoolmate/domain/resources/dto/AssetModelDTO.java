@@ -31,6 +31,7 @@ public class AssetModelDTO {
         private String category;
         private String description;
         private String imageUrl;
+        private String thumbnailUrl;
 
         public static Response from(AssetModel entity) {
             return Response.builder()
@@ -40,6 +41,9 @@ public class AssetModelDTO {
                     .category(entity.getCategory())
                     .description(entity.getDescription())
                     .imageUrl(entity.getImageFilename() != null ? FileManager.UploadType.ASSET.toUrl(entity.getImageFilename()) : null)
+                    .thumbnailUrl(entity.getImageFilename() != null
+                            ? FileManager.UploadType.ASSET.toUrl(entity.getImageFilename(), FileManager.ImageSize.THUMB)
+                            : null)
                     .build();
         }
     }
@@ -47,6 +47,7 @@ public class FacilityDTO {
         private String description;
         private boolean available;
         private String imageUrl;
+        private String thumbnailUrl;
 
         public static Response from(SchoolFacility entity) {
             String fullUrl = entity.getImageFilename() != null
@@ -68,6 +69,9 @@ public class FacilityDTO {
                     .description(entity.getDescription()) // BaseResource.description 사용
                     .available(status == FacilityStatus.AVAILABLE) // 상태를 기반으로 예약 가능 여부 판단
                     .imageUrl(fullUrl)
+                    .thumbnailUrl(entity.getImageFilename() != null
+                            ? FileManager.UploadType.FACILITY.toUrl(entity.getImageFilename(), FileManager.ImageSize.THUMB)
+                            : null)
                     .build();
         }
     }
@@ -1,10 +1,19 @@
 package com.example.schoolmate.domain.resources.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import com.example.schoolmate.domain.resources.constant.ReservationStatus;
 import com.example.schoolmate.domain.resources.entity.Reservation;
 
@@ -13,4 +22,21 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     // 상태별 예약 조회 (학교 스코프)
     Page<Reservation> findByStatusAndSchool_Id(ReservationStatus status, Long schoolId, Pageable pageable);
     Page<Reservation> findBySchool_Id(Long schoolId, Pageable pageable);
+
+    String OVERLAPPING_QUERY = "SELECT r FROM Reservation r " +
+            "WHERE r.resource.id = :resourceId AND r.status IN :statuses " +
+            "AND r.startDateTime < :to AND r.endDateTime > :from";
+
+    // 자원의 [from, to) 와 겹치는 예약 (가용성 일정표 적재용)
+    @Query(OVERLAPPING_QUERY)
+    List<Reservation> findOverlapping(@Param("resourceId") Long resourceId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 잠금 행을 잡은 뒤 다시 읽을 때 — 트랜잭션 스냅샷이 아닌 최신 커밋 기준으로 조회
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query(OVERLAPPING_QUERY)
+    List<Reservation> findOverlappingForShare(@Param("resourceId") Long resourceId,
+            @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
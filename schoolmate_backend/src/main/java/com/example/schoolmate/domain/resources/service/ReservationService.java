@@ -1,10 +1,15 @@
 package com.example.schoolmate.domain.resources.service;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.schoolmate.domain.availability.dto.AvailabilityDTO;
+import com.example.schoolmate.domain.availability.service.AvailabilityService;
 import com.example.schoolmate.domain.resources.constant.ReservationStatus;
 import com.example.schoolmate.domain.resources.dto.ReservationDTO;
 import com.example.schoolmate.domain.resources.entity.Reservation;
@@ -19,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class ReservationService {
     private final ReservationRepository reservationRepository;
+    private final AvailabilityService availabilityService;
 
     /**
      * 예약 목록 조회 (상태 필터링 가능)
@@ -39,7 +45,12 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다."));
 
-        // 이미 처리된 예약인지 확인 로직 등을 추가할 수 있음
+        // 같은 자원의 승인된 예약과 시간이 겹치면 409 (자원 잠금 행으로 노드 간 동시 승인도 직렬화)
+        if (reservation.getResource() != null) {
+            availabilityService.reserve(AvailabilityService.Kind.RESOURCE, reservation.getResource().getId(),
+                    reservation.getId(), reservation.getStartDateTime(), reservation.getEndDateTime(),
+                    "이미 승인된 예약과 시간이 겹칩니다.");
+        }
         reservation.setStatus(ReservationStatus.APPROVED);
 
         // 신청자에게 승인 알림
@@ -57,6 +68,11 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다."));
 
+        if (reservation.getResource() != null
+                && AvailabilityService.RESOURCE_BLOCKING.contains(reservation.getStatus())) {
+            availabilityService.release(AvailabilityService.Kind.RESOURCE, reservation.getResource().getId(),
+                    reservation.getId());
+        }
         reservation.setStatus(ReservationStatus.REJECTED);
         reservation.setRejectReason(rejectReason);
 
@@ -68,4 +84,14 @@ public class ReservationService {
                     "'" + resourceName + "' 예약��� 반려되었습니다." + reason, "/resources/reservations");
         }
     }
+
+    /**
+     * 자원의 예약 가능한 빈 시간 (운영 시간 기준, 하루~한 주 단위 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<AvailabilityDTO.FreeSlot> getFreeSlots(Long resourceId, LocalDate date, int days, int minMinutes,
+            boolean includeWeekends) {
+        return availabilityService.freeSlots(AvailabilityService.Kind.RESOURCE, resourceId, date, days,
+                minMinutes, includeWeekends);
+    }
 }
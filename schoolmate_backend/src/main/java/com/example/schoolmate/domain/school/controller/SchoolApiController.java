@@ -3,6 +3,8 @@ package com.example.schoolmate.domain.school.controller;
 import com.example.schoolmate.global.config.SchoolmateUrls;
 import com.example.schoolmate.domain.school.dto.SchoolDTO;
 import com.example.schoolmate.domain.school.service.SchoolService;
+import java.util.List;
+
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,4 +29,15 @@ public class SchoolApiController {
             @PageableDefault(size = 10, sort = "name") Pageable pageable) {
         return ResponseEntity.ok(schoolService.searchSchools(name, schoolKind, null, pageable));
     }
+
+    // 학교 선택 타입어헤드 — 키 입력마다 호출되므로 count 없이 상위 N건만 반환
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<SchoolDTO.Summary>> typeahead(
+            @RequestParam String q,
+            @RequestParam(required = false) String schoolKind,
+            @RequestParam(required = false) String office,
+            @RequestParam(defaultValue = "10") int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, 50));
+        return ResponseEntity.ok(schoolService.typeahead(q, schoolKind, office, safeLimit));
+    }
 }
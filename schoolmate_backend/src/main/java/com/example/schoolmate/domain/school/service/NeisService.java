@@ -17,32 +17,43 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.schoolmate.global.config.SchoolmateUrls;
+import com.example.schoolmate.global.config.metrics.NeisMetricsInterceptor;
 import com.example.schoolmate.domain.school.entity.School;
 import com.example.schoolmate.domain.school.repository.SchoolRepository;
 import com.example.schoolmate.global.util.LogHelper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NeisService {
 
     private final SchoolRepository schoolRepository;
+    private final SchoolSearchIndex schoolSearchIndex;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // 연결 5초 / 읽기 30초 타임아웃
-    private final RestTemplate restTemplate = createRestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${neis.api.key}")
     private String neisApiKey;
 
+    @Value("${neis.api.base-url:" + SchoolmateUrls.Api.NEIS_HUB + "}")
+    private String neisBaseUrl;
+
     // 동기화 작업 실행 상태 플래그 (Thread-safe)
     private final AtomicBoolean isSyncing = new AtomicBoolean(false);
 
+    public NeisService(SchoolRepository schoolRepository,
+                       SchoolSearchIndex schoolSearchIndex,
+                       NeisMetricsInterceptor neisMetrics) {
+        this.schoolRepository = schoolRepository;
+        this.schoolSearchIndex = schoolSearchIndex;
+        this.restTemplate = createRestTemplate(neisMetrics);
+    }
+
     public boolean isSyncRunning() {
         return isSyncing.get();
     }
@@ -67,7 +78,7 @@ public class NeisService {
         try {
             while (true) {
                 // 1. API 호출 URL 생성
-                URI uri = UriComponentsBuilder.fromUriString(SchoolmateUrls.Api.NEIS_SCHOOL_INFO)
+                URI uri = UriComponentsBuilder.fromUriString(neisBaseUrl + SchoolmateUrls.Api.NEIS_SCHOOL_INFO)
                         .queryParam("KEY", neisApiKey)
                         .queryParam("Type", "json")
                         .queryParam("pIndex", pIndex)
@@ -185,15 +196,25 @@ public class NeisService {
             log.error("학교 데이터 동기화 중 오류 발생", e);
             LogHelper.action(requesterName, "SYNC_FAIL", "School", "동기화 실패: " + e.getMessage());
         } finally {
+            // 중간 실패여도 이미 저장된 페이지는 검색에 반영
+            if (savedCount > 0) {
+                try {
+                    schoolSearchIndex.rebuild();
+                } catch (Exception e) {
+                    log.warn("학교 검색 인덱스 재빌드 실패: {}", e.getMessage());
+                }
+            }
             isSyncing.set(false);
         }
     }
 
-    private static RestTemplate createRestTemplate() {
+    private static RestTemplate createRestTemplate(NeisMetricsInterceptor neisMetrics) {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(5_000);  // 연결 타임아웃 5초
         factory.setReadTimeout(30_000);    // 읽기 타임아웃 30초
-        return new RestTemplate(factory);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(neisMetrics);
+        return restTemplate;
     }
 
     private String getText(JsonNode node, String fieldName) {
@@ -0,0 +1,375 @@
+package com.example.schoolmate.domain.school.service;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.schoolmate.domain.school.dto.SchoolDTO;
+import com.example.schoolmate.domain.school.entity.School;
+import com.example.schoolmate.domain.school.repository.SchoolRepository;
+import com.example.schoolmate.global.config.metrics.CacheMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전국 학교 검색용 인메모리 인덱스.
+ *
+ * <p>학교 선택 화면은 키 입력마다 검색을 호출하므로, 매번 {@code LIKE '%name%'} 전체 스캔과
+ * count 쿼리를 DB에 보내는 대신 시작 시점(및 NEIS 동기화 직후)에 만든 불변 스냅샷에서 응답합니다.</p>
+ *
+ * <ul>
+ *   <li>학교명(공백 제거·소문자)의 음절 1-gram / 2-gram 역색인</li>
+ *   <li>초성 문자열(예: 서울고등학교 → ㅅㅇㄱㄷㅎㄱ)의 2-gram 역색인 — "ㅅㅇㄱ" 같은 초성 검색 지원</li>
+ *   <li>학교 종류(schoolKind) 일치 / 교육청명 부분일치 필터</li>
+ * </ul>
+ *
+ * <p>스냅샷은 {@link AtomicReference}로 통째로 교체되므로 재빌드 중에도 검색은 이전 스냅샷으로
+ * 잠금 없이 처리됩니다. 엔트리는 학교명 가나다순으로 정렬되어 있어 posting 교집합 결과가
+ * 그대로 이름순 목록이 됩니다.</p>
+ *
+ * <p>인덱스로 응답한 검색은 적중, DB 검색으로 폴백한 검색은 미스로 {@link CacheMetrics} (cache=school-search) 에
+ * 기록합니다.</p>
+ */
+@Slf4j
+@Component
+public class SchoolSearchIndex {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = 0xAC00;
+    private static final char HANGUL_END = 0xD7A3;
+    // 중성(21) × 종성(28)
+    private static final int SYLLABLES_PER_CHOSEONG = 588;
+
+    private final SchoolRepository schoolRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final CacheMetrics metrics;
+
+    public SchoolSearchIndex(SchoolRepository schoolRepository, MeterRegistry meterRegistry) {
+        this.schoolRepository = schoolRepository;
+        this.metrics = CacheMetrics.register(meterRegistry, "school-search", () -> snapshot.get().size());
+    }
+
+    /**
+     * 서버 기동 완료 후 최초 인덱스 빌드.
+     * DataInitializer의 NEIS 동기화가 먼저 끝났다면 그 결과까지 포함됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 인덱스가 없으면 SchoolService가 DB 검색으로 폴백하므로 기동은 계속 진행
+            log.warn("학교 검색 인덱스 초기 빌드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB의 전체 학교 목록으로 새 스냅샷을 만들어 교체합니다.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        Snapshot next = Snapshot.build(schoolRepository.findAll());
+        snapshot.set(next);
+        log.info("학교 검색 인덱스 빌드 완료: {}건 ({}ms)",
+                next.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** 인덱스가 한 번이라도 빌드되었는지 (비어 있으면 DB 검색으로 폴백) */
+    public boolean isReady() {
+        return snapshot.get().size() > 0;
+    }
+
+    /** 인덱스를 쓰지 못하고 DB 로 검색한 경우 (인덱스 미준비, 이름순이 아닌 정렬) */
+    public void recordFallback() {
+        metrics.miss();
+    }
+
+    /**
+     * 타입어헤드 검색 — 관련도 순 상위 limit 건.
+     * 정확히 일치 → 접두 일치 → 앞쪽에서 일치 → 짧은 이름 순으로 정렬합니다.
+     */
+    public List<SchoolDTO.Summary> typeahead(String query, String schoolKind, String officeOfEducation, int limit) {
+        metrics.hit();
+        Snapshot current = snapshot.get();
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) return List.of();
+
+        int[] matches = current.match(normalized, schoolKind, officeOfEducation);
+        if (matches.length == 0) return List.of();
+
+        boolean choseongQuery = isChoseongQuery(normalized);
+        String key = choseongQuery ? toChoseong(normalized) : normalized;
+
+        // 점수 계산 후 상위 limit건만 선택 (후보 수가 많아도 정렬은 후보 수 × log 수준)
+        Integer[] order = new Integer[matches.length];
+        long[] scores = new long[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            order[i] = i;
+            String target = choseongQuery ? current.choseongNames[matches[i]] : current.names[matches[i]];
+            scores[i] = score(target, key);
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> scores[i]).thenComparingInt(i -> matches[i]));
+
+        int size = Math.min(limit, order.length);
+        List<SchoolDTO.Summary> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(current.summaries[matches[order[i]]]);
+        }
+        return result;
+    }
+
+    /**
+     * 기존 학교 목록 API용 이름순 페이지 검색.
+     *
+     * @return 해당 페이지 항목과 전체 건수
+     */
+    public PageResult search(String query, String schoolKind, String officeOfEducation, int offset, int pageSize) {
+        metrics.hit();
+        Snapshot current = snapshot.get();
+        String normalized = normalize(query);
+        int[] matches = normalized.isEmpty()
+                ? current.filterAll(schoolKind, officeOfEducation)
+                : current.match(normalized, schoolKind, officeOfEducation);
+
+        int from = Math.min(offset, matches.length);
+        int to = Math.min(from + pageSize, matches.length);
+        List<SchoolDTO.Summary> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(current.summaries[matches[i]]);
+        }
+        return new PageResult(content, matches.length);
+    }
+
+    public record PageResult(List<SchoolDTO.Summary> content, long total) {}
+
+    // ── 정규화 / 초성 ──────────────────────────────────────────────────────────
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /** 한글 음절은 초성으로, 그 외 문자는 그대로 변환 */
+    static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSEONG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 호환 자모 자음(ㄱ~ㅎ)이 하나라도 있으면 초성 검색으로 취급 */
+    static boolean isChoseongQuery(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') return true;
+        }
+        return false;
+    }
+
+    private static long score(String target, String key) {
+        int pos = target.indexOf(key);
+        int rank;
+        if (target.equals(key)) rank = 0;
+        else if (pos == 0) rank = 1;
+        else rank = 2;
+        // rank → 일치 위치 → 이름 길이 순으로 비교되도록 비트 결합
+        return ((long) rank << 40) | ((long) Math.max(pos, 0) << 20) | target.length();
+    }
+
+    // ── 불변 스냅샷 ────────────────────────────────────────────────────────────
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(
+                new String[0], new String[0], new String[0], new String[0],
+                new SchoolDTO.Summary[0], Map.of(), Map.of());
+
+        // 엔트리 순서 = 학교명 가나다순 (posting 목록도 이 순서의 오름차순 int 배열)
+        final String[] names;          // 정규화된 학교명
+        final String[] choseongNames;  // 정규화된 학교명의 초성 문자열
+        final String[] kinds;
+        final String[] offices;        // 정규화된 교육청명
+        final SchoolDTO.Summary[] summaries;
+        final Map<String, int[]> nameGrams;
+        final Map<String, int[]> choseongGrams;
+
+        private Snapshot(String[] names, String[] choseongNames, String[] kinds, String[] offices,
+                SchoolDTO.Summary[] summaries, Map<String, int[]> nameGrams, Map<String, int[]> choseongGrams) {
+            this.names = names;
+            this.choseongNames = choseongNames;
+            this.kinds = kinds;
+            this.offices = offices;
+            this.summaries = summaries;
+            this.nameGrams = nameGrams;
+            this.choseongGrams = choseongGrams;
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        static Snapshot build(List<School> schools) {
+            Collator collator = Collator.getInstance(Locale.KOREAN);
+            List<School> sorted = new ArrayList<>(schools);
+            sorted.removeIf(s -> s.getName() == null);
+            sorted.sort(Comparator.comparing(School::getName, collator).thenComparing(School::getId));
+
+            int n = sorted.size();
+            String[] names = new String[n];
+            String[] choseongNames = new String[n];
+            String[] kinds = new String[n];
+            String[] offices = new String[n];
+            SchoolDTO.Summary[] summaries = new SchoolDTO.Summary[n];
+            Map<String, IntList> nameGrams = new HashMap<>();
+            Map<String, IntList> choseongGrams = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                School school = sorted.get(i);
+                names[i] = normalize(school.getName());
+                choseongNames[i] = toChoseong(names[i]);
+                kinds[i] = school.getSchoolKind();
+                offices[i] = normalize(school.getOfficeOfEducation());
+                summaries[i] = SchoolDTO.Summary.from(school);
+                addGrams(nameGrams, names[i], i);
+                addGrams(choseongGrams, choseongNames[i], i);
+            }
+            return new Snapshot(names, choseongNames, kinds, offices, summaries,
+                    freeze(nameGrams), freeze(choseongGrams));
+        }
+
+        /** 1-gram 과 2-gram 을 모두 색인 (한 글자 검색어 지원) */
+        private static void addGrams(Map<String, IntList> grams, String text, int id) {
+            for (int i = 0; i < text.length(); i++) {
+                grams.computeIfAbsent(text.substring(i, i + 1), k -> new IntList()).addUnique(id);
+                if (i + 1 < text.length()) {
+                    grams.computeIfAbsent(text.substring(i, i + 2), k -> new IntList()).addUnique(id);
+                }
+            }
+        }
+
+        private static Map<String, int[]> freeze(Map<String, IntList> grams) {
+            Map<String, int[]> frozen = new HashMap<>(grams.size() * 2);
+            grams.forEach((gram, list) -> frozen.put(gram, list.toArray()));
+            return Collections.unmodifiableMap(frozen);
+        }
+
+        /**
+         * 검색어의 2-gram posting 교집합으로 후보를 좁힌 뒤 실제 부분일치와 필터를 검증합니다.
+         * 결과는 이름순 엔트리 번호 배열입니다.
+         */
+        int[] match(String normalized, String schoolKind, String officeOfEducation) {
+            boolean choseongQuery = isChoseongQuery(normalized);
+            String key = choseongQuery ? toChoseong(normalized) : normalized;
+            Map<String, int[]> grams = choseongQuery ? choseongGrams : nameGrams;
+            String[] targets = choseongQuery ? choseongNames : names;
+
+            int[] candidates = candidates(grams, key);
+            if (candidates == null) return new int[0];
+
+            String office = normalize(officeOfEducation);
+            int[] out = new int[candidates.length];
+            int count = 0;
+            for (int id : candidates) {
+                if (key.length() > 2 && !targets[id].contains(key)) continue;
+                if (!accept(id, schoolKind, office)) continue;
+                out[count++] = id;
+            }
+            return Arrays.copyOf(out, count);
+        }
+
+        int[] filterAll(String schoolKind, String officeOfEducation) {
+            String office = normalize(officeOfEducation);
+            int[] out = new int[names.length];
+            int count = 0;
+            for (int id = 0; id < names.length; id++) {
+                if (accept(id, schoolKind, office)) out[count++] = id;
+            }
+            return Arrays.copyOf(out, count);
+        }
+
+        private boolean accept(int id, String schoolKind, String normalizedOffice) {
+            if (schoolKind != null && !schoolKind.isBlank() && !schoolKind.equals(kinds[id])) return false;
+            return normalizedOffice.isEmpty() || offices[id].contains(normalizedOffice);
+        }
+
+        /** posting 이 짧은 gram 부터 교집합 — 하나라도 없는 gram 이면 null */
+        private static int[] candidates(Map<String, int[]> grams, String key) {
+            if (key.length() == 1) return grams.get(key);
+
+            List<int[]> postings = new ArrayList<>(key.length() - 1);
+            for (int i = 0; i + 1 < key.length(); i++) {
+                int[] posting = grams.get(key.substring(i, i + 2));
+                if (posting == null) return null;
+                postings.add(posting);
+            }
+            postings.sort(Comparator.comparingInt(p -> p.length));
+
+            int[] result = postings.get(0);
+            for (int i = 1; i < postings.size() && result.length > 0; i++) {
+                result = intersect(result, postings.get(i));
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, k = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    out[k++] = a[i];
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, k);
+        }
+    }
+
+    /** 박싱 없는 오름차순 int posting 빌더 */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void addUnique(int value) {
+            // 엔트리 번호가 오름차순으로 들어오므로 마지막 값만 비교하면 중복 제거 가능
+            if (size > 0 && values[size - 1] == value) return;
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.schoolmate.domain.school.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,18 +23,47 @@ import lombok.RequiredArgsConstructor;
 public class SchoolService {
 
     private final SchoolRepository schoolRepository;
+    private final SchoolSearchIndex schoolSearchIndex;
 
     /**
      * 학교 목록 검색 (이름/종류/교육청 기준, 빈 값은 조건 제외)
+     * 검색 인덱스가 준비되어 있고 이름순 정렬이면 인메모리 인덱스로 응답하고, 그 외에는 DB 검색으로 처리합니다.
      */
     public Page<SchoolDTO.Summary> searchSchools(String name, String schoolKind, String officeOfEducation, Pageable pageable) {
         String nameParam = (name != null && !name.isBlank()) ? name : null;
         String kindParam = (schoolKind != null && !schoolKind.isBlank()) ? schoolKind : null;
         String officeParam = (officeOfEducation != null && !officeOfEducation.isBlank()) ? officeOfEducation : null;
+
+        if (schoolSearchIndex.isReady() && isNameOrdered(pageable.getSort())) {
+            SchoolSearchIndex.PageResult result = schoolSearchIndex.search(
+                    nameParam, kindParam, officeParam, (int) pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(result.content(), pageable, result.total());
+        }
+        schoolSearchIndex.recordFallback();
         return schoolRepository.searchSchools(nameParam, kindParam, officeParam, pageable)
                 .map(SchoolDTO.Summary::from);
     }
 
+    /**
+     * 학교 타입어헤드 검색 (관련도 순 상위 limit건, 초성 검색 지원)
+     */
+    public List<SchoolDTO.Summary> typeahead(String query, String schoolKind, String officeOfEducation, int limit) {
+        if (!schoolSearchIndex.isReady()) {
+            return searchSchools(query, schoolKind, officeOfEducation,
+                    PageRequest.of(0, limit, Sort.by("name"))).getContent();
+        }
+        return schoolSearchIndex.typeahead(query, schoolKind, officeOfEducation, limit);
+    }
+
+    // 인덱스 엔트리는 이름 오름차순으로 정렬되어 있으므로 정렬 조건이 없거나 name ASC 일 때만 사용
+    private boolean isNameOrdered(Sort sort) {
+        if (sort.isUnsorted()) return true;
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1
+                && "name".equals(orders.get(0).getProperty())
+                && orders.get(0).isAscending();
+    }
+
     /**
      * 학교 상세 조회
      */
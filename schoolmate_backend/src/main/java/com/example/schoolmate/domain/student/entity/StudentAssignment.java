@@ -1,9 +1,11 @@
 package com.example.schoolmate.domain.student.entity;
 
 import com.example.schoolmate.domain.classroom.entity.Classroom;
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCacheListener;
 import com.example.schoolmate.domain.student.entity.StudentInfo;
 import com.example.schoolmate.domain.term.entity.SchoolYear;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -18,6 +20,7 @@ import lombok.Setter;
 import com.example.schoolmate.domain.school.entity.SchoolBaseEntity;
 
 @Entity
+@EntityListeners(ClassroomRosterCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
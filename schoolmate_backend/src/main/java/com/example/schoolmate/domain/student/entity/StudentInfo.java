@@ -1,5 +1,6 @@
 package com.example.schoolmate.domain.student.entity;
 
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCacheListener;
 import com.example.schoolmate.domain.parent.entity.FamilyRelation;
 import com.example.schoolmate.global.entity.SchoolMemberInfo;
 
@@ -25,6 +26,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -50,6 +52,7 @@ import lombok.ToString;
         @UniqueConstraint(name = "uk_student_code_school", columnNames = { "code", "school_id" })
 })
 @DiscriminatorValue("STUDENT")
+@EntityListeners(ClassroomRosterCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -3,6 +3,8 @@ package com.example.schoolmate.domain.student.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.classroom.entity.Classroom;
 import com.example.schoolmate.domain.student.entity.StudentAssignment;
@@ -11,4 +13,37 @@ import com.example.schoolmate.domain.term.entity.SchoolYear;
 public interface StudentAssignmentRepository extends JpaRepository<StudentAssignment, Long> {
     // [woo] 같은 학급+학년도의 모든 학생 배정 조회 (번호 계산용)
     List<StudentAssignment> findByClassroomAndSchoolYear(Classroom classroom, SchoolYear schoolYear);
+
+    /**
+     * 학급 명단 스냅샷용 프로젝션 (ClassroomRosterCache 로더)
+     * 학급의 학년도와 같은 배정 이력만 대상으로 하며, 번호 → 이름 순으로 정렬합니다.
+     * [studentInfoId, uid, name, code, attendanceNum, status]
+     */
+    @Query("SELECT si.id, u.uid, u.name, si.code, sa.attendanceNum, si.status "
+            + "FROM StudentAssignment sa JOIN sa.studentInfo si JOIN si.user u JOIN sa.classroom c "
+            + "WHERE c.cid = :cid AND sa.schoolYear = c.schoolYear "
+            + "ORDER BY sa.attendanceNum ASC, u.name ASC")
+    List<Object[]> findRosterRows(@Param("cid") Long cid);
+
+    String RECORD_TARGET_SELECT = "SELECT si.id, u.name, si.code, c.grade, c.classNum, sa.attendanceNum "
+            + "FROM StudentAssignment sa JOIN sa.studentInfo si JOIN si.user u JOIN sa.classroom c ";
+
+    /**
+     * 생활기록부 일괄 내보내기 대상 (학급)
+     * [studentInfoId, name, code, grade, classNum, attendanceNum]
+     */
+    @Query(RECORD_TARGET_SELECT
+            + "WHERE c.cid = :cid AND sa.schoolYear = c.schoolYear "
+            + "ORDER BY sa.attendanceNum ASC, u.name ASC")
+    List<Object[]> findRecordTargetsByClassroom(@Param("cid") Long cid);
+
+    /**
+     * 생활기록부 일괄 내보내기 대상 (학년도의 한 학년 전체, 반 → 번호 순)
+     * [studentInfoId, name, code, grade, classNum, attendanceNum]
+     */
+    @Query(RECORD_TARGET_SELECT
+            + "WHERE si.school.id = :schoolId AND sa.schoolYear.year = :year AND c.grade = :grade "
+            + "ORDER BY c.classNum ASC, sa.attendanceNum ASC, u.name ASC")
+    List<Object[]> findRecordTargetsByGrade(@Param("schoolId") Long schoolId, @Param("year") int year,
+            @Param("grade") int grade);
 }
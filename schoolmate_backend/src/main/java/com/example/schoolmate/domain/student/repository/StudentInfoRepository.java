@@ -1,9 +1,12 @@
 package com.example.schoolmate.domain.student.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.student.entity.StudentInfo;
 import com.example.schoolmate.domain.user.entity.User;
@@ -19,30 +22,51 @@ public interface StudentInfoRepository extends JpaRepository<StudentInfo, Long>,
         // 다중 역할 인스턴스 지원 — 한 유저가 여러 학교에 학생으로 소속될 수 있음
         List<StudentInfo> findAllByUserUid(Long uid);
 
+        // 여러 유저의 학생 정보 일괄 조회 (UserInfoLookup 다건 조회용)
+        List<StudentInfo> findAllByUserUidIn(Collection<Long> uids);
+
         // primary 인스턴스 조회 (로그인·토큰 발급 기본값)
         Optional<StudentInfo> findByUserUidAndPrimaryTrue(Long uid);
 
 
+        // 해당 학년도 배정이 없는 학생 정보 + 유저 (생성 순) — 미배정 학생 목록용
+        @Query("SELECT s FROM StudentInfo s JOIN FETCH s.user " +
+            "WHERE NOT EXISTS (SELECT 1 FROM StudentAssignment sa " +
+            "WHERE sa.studentInfo = s AND sa.schoolYear.year = :year) " +
+            "ORDER BY s.id")
+        List<StudentInfo> findUnassignedWithUser(@Param("year") int year);
+
         // 학교 범위 내 학번 중복 체크
         boolean existsByCodeAndSchoolId(String code, Long schoolId);
 
         // [joon] @Query가 필요한 메서드는 모두 StudentInfoRepositoryCustom(QueryDSL)으로 이동됨
 
         // [woo] 학급에 속한 학생 목록 (학년도 필터)
-        @org.springframework.data.jpa.repository.Query(
+        @Query(
             "SELECT DISTINCT s FROM StudentInfo s JOIN FETCH s.user " +
             "JOIN s.assignments sa " +
             "WHERE sa.classroom.cid = :classroomId " +
             "AND sa.schoolYear.year = :schoolYear")
         List<StudentInfo> findByClassroomIdAndSchoolYear(
-            @org.springframework.data.repository.query.Param("classroomId") Long classroomId,
-            @org.springframework.data.repository.query.Param("schoolYear") int schoolYear);
+            @Param("classroomId") Long classroomId,
+            @Param("schoolYear") int schoolYear);
 
         // [woo] 학급에 속한 학생 목록 (학년도 무관 — 폴백용)
-        @org.springframework.data.jpa.repository.Query(
+        @Query(
             "SELECT DISTINCT s FROM StudentInfo s JOIN FETCH s.user " +
             "JOIN s.assignments sa " +
             "WHERE sa.classroom.cid = :classroomId")
         List<StudentInfo> findByClassroomId(
-            @org.springframework.data.repository.query.Param("classroomId") Long classroomId);
+            @Param("classroomId") Long classroomId);
+
+        // 기숙사 일괄 배정용 지원자 프로필 — [studentInfoId, 이름, 성별, 현재 학년]
+        @Query(
+            "SELECT s.id, u.name, s.gender, " +
+            "(SELECT MAX(c.grade) FROM StudentAssignment sa JOIN sa.classroom c JOIN sa.schoolYear sy " +
+            " WHERE sa.studentInfo = s AND sy.status = 'CURRENT') " +
+            "FROM StudentInfo s JOIN s.user u " +
+            "WHERE s.id IN :ids AND s.school.id = :schoolId")
+        List<Object[]> findDormitoryApplicantProfiles(
+            @Param("ids") Collection<Long> ids,
+            @Param("schoolId") Long schoolId);
 }
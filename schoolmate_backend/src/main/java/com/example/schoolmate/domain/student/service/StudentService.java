@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -37,7 +38,9 @@ import com.example.schoolmate.domain.user.entity.constant.RoleRequestStatus;
 import com.example.schoolmate.domain.user.entity.RoleRequest;
 import com.example.schoolmate.domain.user.repository.RoleRequestRepository;
 import com.example.schoolmate.domain.user.repository.UserRepository;
+import com.example.schoolmate.domain.user.service.UserInfoLookup;
 import com.example.schoolmate.domain.classroom.repository.ClassroomRepository;
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCache;
 import com.example.schoolmate.domain.parent.repository.FamilyRelationRepository;
 import com.example.schoolmate.domain.parent.repository.ParentInfoRepository;
 import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
@@ -74,6 +77,8 @@ public class StudentService {
     private final RoleRequestRepository roleRequestRepository;
     private final CodeSequenceService codeSequenceService;
     private final SchoolYearRepository schoolYearRepository;
+    private final ClassroomRosterCache classroomRosterCache;
+    private final UserInfoLookup userInfoLookup;
 
     /**
      * 1. 학생 목록 조회 (마스터 목록)
@@ -180,6 +185,7 @@ public class StudentService {
                         assignment.setAttendanceNum(nextNum);
 
                         info.getAssignments().add(assignment);
+                        classroomRosterCache.evict(classroom.getCid());
                     });
         } else if (request.getYear() != null && request.getGrade() != null && request.getClassNum() != null) {
             // [woo 03/25] 학교별 학급 조회 (다중학교 대응)
@@ -192,6 +198,7 @@ public class StudentService {
                         assignment.setAttendanceNum(request.getAttendanceNum());
                         assignment.setStudentInfo(info);
                         info.getAssignments().add(assignment);
+                        classroomRosterCache.evict(classroom.getCid());
                     });
         }
 
@@ -248,6 +255,8 @@ public class StudentService {
             if (request.getStatusName() != null) {
                 info.setStatus(StudentStatus.valueOf(request.getStatusName()));
             }
+            // 이름/학번/상태는 명단 스냅샷에 포함되므로 캐시 무효화
+            classroomRosterCache.evictStudent(info.getId());
         }
     }
 
@@ -281,6 +290,8 @@ public class StudentService {
                 // 2. 학급 및 번호 변경
                 assignment.setClassroom(classroom);
                 assignment.setAttendanceNum(nextNum);
+                classroomRosterCache.evictStudent(info.getId());
+                classroomRosterCache.evict(classroom.getCid());
             }
         }
 
@@ -337,6 +348,7 @@ public class StudentService {
 
         // 해당 학년도의 이력만 제거
         info.getAssignments().removeIf(a -> a.getSchoolYear() != null && a.getSchoolYear().getYear() == schoolYear);
+        classroomRosterCache.evictStudent(info.getId());
 
         return user.getUid();
     }
@@ -347,10 +359,12 @@ public class StudentService {
     public void bulkUpdateStudentStatus(List<Long> uids, String statusName) {
         StudentStatus status = StudentStatus.valueOf(statusName);
         List<User> users = userRepository.findAllById(uids);
+        Map<Long, StudentInfo> infos = userInfoLookup.findStudentsForSchool(uids, SchoolContextHolder.getSchoolId());
         for (User user : users) {
-            StudentInfo info = user.getInfoForSchool(StudentInfo.class, SchoolContextHolder.getSchoolId());
+            StudentInfo info = infos.get(user.getUid());
             if (info != null) {
                 info.setStatus(status);
+                classroomRosterCache.evictStudent(info.getId());
 
                 // 학생에게 상태 변경 알림
                 NotificationHelper.send(user, "학적 상태 변경",
@@ -485,6 +499,7 @@ public class StudentService {
         student.getAssignments().add(assignment);
 
         userRepository.save(user);
+        classroomRosterCache.evict(classroom.getCid());
         return convertToResponseDTO(student);
     }
 
@@ -558,6 +573,8 @@ public class StudentService {
                             () -> new IllegalArgumentException("학급을 찾을 수 없습니다. ID: " + updateDTO.getClassroomId()));
             if (student.getCurrentAssignment() != null) {
                 student.getCurrentAssignment().setClassroom(classroom);
+                classroomRosterCache.evictStudent(student.getId());
+                classroomRosterCache.evict(classroom.getCid());
             }
         }
         if (updateDTO.getBirthDate() != null) {
@@ -599,6 +616,7 @@ public class StudentService {
 
         // 소프트 삭제 - Dirty Checking 활용
         student.setStatus(StudentStatus.DROPOUT);
+        classroomRosterCache.evictStudent(id);
     }
 
     // 승철님 작업물
@@ -607,6 +625,7 @@ public class StudentService {
         if (!studentInfoRepository.existsById(id)) {
             throw new IllegalArgumentException("학생을 찾을 수 없습니다. ID: " + id);
         }
+        classroomRosterCache.evictStudent(id);
         studentInfoRepository.deleteById(id);
     }
 
@@ -1,12 +1,19 @@
 package com.example.schoolmate.domain.studentrecord.awards.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.studentrecord.awards.entity.AwardsAndHonors;
 
 public interface AwardsAndHonorsRepository extends JpaRepository<AwardsAndHonors, Long> {
 
     List<AwardsAndHonors> findByStudentInfoId(Long studentInfoId);
+
+    // 여러 학생의 수상 경력 일괄 조회 (생활기록부 일괄 내보내기)
+    @Query("SELECT a FROM AwardsAndHonors a WHERE a.studentInfo.id IN :studentInfoIds ORDER BY a.day, a.id")
+    List<AwardsAndHonors> findByStudentInfoIdIn(@Param("studentInfoIds") Collection<Long> studentInfoIds);
 }
@@ -1,5 +1,7 @@
 package com.example.schoolmate.domain.studentrecord.behavior.dto;
 
+import com.example.schoolmate.domain.studentrecord.behavior.entity.BehaviorRecord;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,4 +18,14 @@ public class BehaviorRecordDTO {
     private int schoolYear;
     private int semester;
     private String specialNotes;
+
+    public static BehaviorRecordDTO from(BehaviorRecord b) {
+        return BehaviorRecordDTO.builder()
+                .id(b.getId())
+                .studentId(b.getStudent() != null ? b.getStudent().getId() : null)
+                .schoolYear(b.getSchoolYearInt())
+                .semester(b.getSemester())
+                .specialNotes(b.getSpecialNotes())
+                .build();
+    }
 }
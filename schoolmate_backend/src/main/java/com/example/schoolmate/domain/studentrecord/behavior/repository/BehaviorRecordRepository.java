@@ -1,5 +1,6 @@
 package com.example.schoolmate.domain.studentrecord.behavior.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,9 @@ public interface BehaviorRecordRepository extends JpaRepository<BehaviorRecord,
             @Param("studentId") Long studentId,
             @Param("year") int year,
             @Param("semester") int semester);
+
+    // 여러 학생 일괄 조회 (생활기록부 일괄 내보내기) - 학기·학년도 함께 로딩
+    @Query("SELECT b FROM BehaviorRecord b LEFT JOIN FETCH b.academicTerm t LEFT JOIN FETCH t.schoolYear sy " +
+           "WHERE b.student.id IN :studentIds ORDER BY sy.year, t.semester")
+    List<BehaviorRecord> findByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
 }
@@ -39,7 +39,7 @@ public class BehaviorRecordService {
 
         return behaviorRecordRepository.findByStudentId(studentId)
                 .stream()
-                .map(this::toDto)
+                .map(BehaviorRecordDTO::from)
                 .collect(Collectors.toList());
     }
 
@@ -69,16 +69,6 @@ public class BehaviorRecordService {
                         .specialNotes(request.getSpecialNotes())
                         .build());
 
-        return toDto(behaviorRecordRepository.save(record));
-    }
-
-    private BehaviorRecordDTO toDto(BehaviorRecord b) {
-        return BehaviorRecordDTO.builder()
-                .id(b.getId())
-                .studentId(b.getStudent() != null ? b.getStudent().getId() : null)
-                .schoolYear(b.getSchoolYearInt())
-                .semester(b.getSemester())
-                .specialNotes(b.getSpecialNotes())
-                .build();
+        return BehaviorRecordDTO.from(behaviorRecordRepository.save(record));
     }
 }
@@ -1,8 +1,11 @@
 package com.example.schoolmate.domain.studentrecord.bookreport.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.studentrecord.bookreport.entity.BookReport;
 
@@ -13,4 +16,9 @@ public interface BookReportRepository extends JpaRepository<BookReport, Long> {
 
     // 학생 + 학기별 독서록 조회
     List<BookReport> findByStudentInfoIdAndAcademicTermId(Long studentInfoId, Long academicTermId);
+
+    // 여러 학생 독서록 일괄 조회 (생활기록부 일괄 내보내기) - 학기·학년도 함께 로딩
+    @Query("SELECT b FROM BookReport b LEFT JOIN FETCH b.academicTerm t LEFT JOIN FETCH t.schoolYear " +
+           "WHERE b.studentInfo.id IN :studentInfoIds ORDER BY b.createDate DESC")
+    List<BookReport> findByStudentInfoIdIn(@Param("studentInfoIds") Collection<Long> studentInfoIds);
 }
@@ -0,0 +1,99 @@
+package com.example.schoolmate.domain.studentrecord.bundle.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.schoolmate.domain.studentrecord.bundle.dto.StudentRecordExportDTO;
+import com.example.schoolmate.domain.studentrecord.bundle.service.StudentRecordExportService;
+import com.example.schoolmate.domain.term.service.AcademicTermService;
+import com.example.schoolmate.domain.user.dto.AuthUserDTO;
+import com.example.schoolmate.global.config.school.SchoolContextHolder;
+import com.example.schoolmate.global.util.FileServer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// /api/student-records/exports - 생활기록부 일괄 내보내기 (학급 / 학년 ZIP, 백그라운드 작업)
+@RestController
+@RequestMapping("/api/student-records/exports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+public class StudentRecordExportController {
+
+    private final StudentRecordExportService exportService;
+    private final AcademicTermService academicTermService;
+    private final FileServer fileServer;
+
+    // 작업 등록 → 202 (classroomId 또는 grade[+year] 중 하나, format=json|html)
+    // POST /api/student-records/exports?classroomId=12&format=html
+    // POST /api/student-records/exports?grade=2&year=2025
+    @PostMapping
+    public ResponseEntity<StudentRecordExportDTO.JobResponse> start(
+            @AuthenticationPrincipal AuthUserDTO authUserDTO,
+            @RequestParam(required = false) Long classroomId,
+            @RequestParam(required = false) Integer grade,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "json") String format) {
+        Long uid = authUserDTO.getCustomUserDTO().getUid();
+        Long schoolId = requireSchoolId();
+        StudentRecordExportService.Format fmt = StudentRecordExportService.Format.from(format);
+        StudentRecordExportDTO.JobResponse job;
+        if (classroomId != null) {
+            job = exportService.startClassroom(uid, schoolId, classroomId, fmt);
+        } else if (grade != null) {
+            int y = (year != null) ? year : academicTermService.getCurrentSchoolYear();
+            job = exportService.startGrade(uid, schoolId, y, grade, fmt);
+        } else {
+            throw new IllegalArgumentException("classroomId 또는 grade 가 필요합니다.");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    // 진행 상황
+    // GET /api/student-records/exports/{jobId}
+    @GetMapping("/{jobId}")
+    public ResponseEntity<StudentRecordExportDTO.JobResponse> status(
+            @AuthenticationPrincipal AuthUserDTO authUserDTO,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(exportService.getJob(authUserDTO.getCustomUserDTO().getUid(), jobId));
+    }
+
+    // 완료된 ZIP 다운로드 (Range 이어받기 지원)
+    // GET /api/student-records/exports/{jobId}/download
+    @GetMapping("/{jobId}/download")
+    public void download(
+            @AuthenticationPrincipal AuthUserDTO authUserDTO,
+            @PathVariable String jobId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Long uid = authUserDTO.getCustomUserDTO().getUid();
+        Path file = exportService.getResult(uid, jobId);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(exportService.getFilename(uid, jobId), StandardCharsets.UTF_8)
+                .build().toString());
+        fileServer.serve(file, FileServer.CachePolicy.REVALIDATE, request, response);
+    }
+
+    private static Long requireSchoolId() {
+        Long schoolId = SchoolContextHolder.getSchoolId();
+        if (schoolId == null) {
+            throw new IllegalStateException("학교 컨텍스트가 없습니다.");
+        }
+        return schoolId;
+    }
+}
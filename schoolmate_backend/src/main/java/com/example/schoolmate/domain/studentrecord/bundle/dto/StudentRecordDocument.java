@@ -0,0 +1,54 @@
+package com.example.schoolmate.domain.studentrecord.bundle.dto;
+
+import java.util.List;
+
+import com.example.schoolmate.domain.studentrecord.awards.dto.AwardsAndHonorsResponseDTO;
+import com.example.schoolmate.domain.studentrecord.behavior.dto.BehaviorRecordDTO;
+import com.example.schoolmate.domain.studentrecord.bookreport.dto.BookReportResponseDTO;
+import com.example.schoolmate.domain.studentrecord.career.dto.CareerAspirationDTO;
+import com.example.schoolmate.domain.studentrecord.cocurricular.dto.CocurricularActivitiesDTO;
+import com.example.schoolmate.domain.studentrecord.medical.dto.MedicalDetailsResponseDTO;
+import com.example.schoolmate.domain.studentrecord.volunteer.dto.VolunteerActivityResponseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 학생 한 명의 생활기록부 (7개 영역 통합)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StudentRecordDocument {
+
+    private Student student;
+    private List<AwardsAndHonorsResponseDTO> awards;
+    private List<BehaviorRecordDTO> behaviorRecords;
+    private List<BookReportResponseDTO> bookReports;
+    private List<CareerAspirationDTO> careerAspirations;
+    private List<CocurricularActivitiesDTO> cocurricularActivities;
+    private List<MedicalDetailsResponseDTO> medicalDetails;
+    private List<VolunteerActivityResponseDTO> volunteerActivities;
+
+    /** 내보내기 대상 학생 (학년도 배정 기준) */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Student {
+        private Long studentInfoId;
+        private String name;
+        private String code;
+        private Integer grade;
+        private Integer classNum;
+        private Integer attendanceNum;
+
+        /** 예: "1-3-05" */
+        public String getStudentNumber() {
+            return String.format("%d-%d-%02d",
+                    grade != null ? grade : 0,
+                    classNum != null ? classNum : 0,
+                    attendanceNum != null ? attendanceNum : 0);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.schoolmate.domain.studentrecord.bundle.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class StudentRecordExportDTO {
+
+    /** 내보내기 작업 상태 (폴링용) */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class JobResponse {
+        private String jobId;
+        private String label;
+        private String format;
+        /** QUEUED / LOADING / WRITING / DONE / FAILED */
+        private String status;
+        private int total;
+        private int completed;
+        private int percent;
+        private String error;
+        /** DONE 일 때만 */
+        private String downloadUrl;
+        private LocalDateTime createdAt;
+        private LocalDateTime finishedAt;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.schoolmate.domain.studentrecord.bundle.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.schoolmate.domain.classroom.entity.Classroom;
+import com.example.schoolmate.domain.classroom.repository.ClassroomRepository;
+import com.example.schoolmate.domain.student.repository.StudentAssignmentRepository;
+import com.example.schoolmate.domain.studentrecord.awards.dto.AwardsAndHonorsResponseDTO;
+import com.example.schoolmate.domain.studentrecord.awards.repository.AwardsAndHonorsRepository;
+import com.example.schoolmate.domain.studentrecord.behavior.dto.BehaviorRecordDTO;
+import com.example.schoolmate.domain.studentrecord.behavior.repository.BehaviorRecordRepository;
+import com.example.schoolmate.domain.studentrecord.bookreport.dto.BookReportResponseDTO;
+import com.example.schoolmate.domain.studentrecord.bookreport.repository.BookReportRepository;
+import com.example.schoolmate.domain.studentrecord.bundle.dto.StudentRecordDocument;
+import com.example.schoolmate.domain.studentrecord.career.dto.CareerAspirationDTO;
+import com.example.schoolmate.domain.studentrecord.career.entity.CareerAspiration;
+import com.example.schoolmate.domain.studentrecord.career.repository.CareerAspirationRepository;
+import com.example.schoolmate.domain.studentrecord.cocurricular.dto.CocurricularActivitiesDTO;
+import com.example.schoolmate.domain.studentrecord.cocurricular.repository.CocurricularActivitiesRepository;
+import com.example.schoolmate.domain.studentrecord.medical.dto.MedicalDetailsResponseDTO;
+import com.example.schoolmate.domain.studentrecord.medical.repository.MedicalDetailsRepository;
+import com.example.schoolmate.domain.studentrecord.volunteer.dto.VolunteerActivityResponseDTO;
+import com.example.schoolmate.domain.studentrecord.volunteer.repository.VolunteerActivityRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 학생의 생활기록부를 한 번에 조립합니다.
+ *
+ * - 학생마다 영역별로 조회하면 (학생 수 × 7) 쿼리가 되므로,
+ *   영역마다 학생 ID 묶음으로 IN 조회 한 번씩(최대 {@value #CHUNK_SIZE}명 단위) 수행한 뒤 학생별로 나눕니다.
+ * - 엔티티 → DTO 변환은 트랜잭션 안(호출 스레드)에서 끝내고, 이후 작업은 DTO 만 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudentRecordAssembler {
+
+    /** IN 절 하나에 넣을 최대 ID 수 */
+    private static final int CHUNK_SIZE = 1000;
+
+    private final StudentAssignmentRepository studentAssignmentRepository;
+    private final ClassroomRepository classroomRepository;
+    private final AwardsAndHonorsRepository awardsAndHonorsRepository;
+    private final BehaviorRecordRepository behaviorRecordRepository;
+    private final BookReportRepository bookReportRepository;
+    private final CareerAspirationRepository careerAspirationRepository;
+    private final CocurricularActivitiesRepository cocurricularActivitiesRepository;
+    private final MedicalDetailsRepository medicalDetailsRepository;
+    private final VolunteerActivityRepository volunteerActivityRepository;
+
+    // ── 대상 학생 ──────────────────────────────────────────────────────────
+
+    /**
+     * 학급 학생 (번호 순). 다른 학교 학급이면 예외
+     */
+    public List<StudentRecordDocument.Student> classroomTargets(Long schoolId, Long cid) {
+        Classroom classroom = classroomRepository.findById(cid)
+                .orElseThrow(() -> new IllegalArgumentException("학급 정보를 찾을 수 없습니다."));
+        if (classroom.getSchool() == null || !schoolId.equals(classroom.getSchool().getId())) {
+            throw new IllegalArgumentException("학급 정보를 찾을 수 없습니다.");
+        }
+        return toTargets(studentAssignmentRepository.findRecordTargetsByClassroom(cid));
+    }
+
+    /**
+     * 학년도의 한 학년 전체 학생 (반 → 번호 순)
+     */
+    public List<StudentRecordDocument.Student> gradeTargets(Long schoolId, int year, int grade) {
+        if (grade < 1 || grade > 6) {
+            throw new IllegalArgumentException("학년은 1~6 사이여야 합니다.");
+        }
+        return toTargets(studentAssignmentRepository.findRecordTargetsByGrade(schoolId, year, grade));
+    }
+
+    // ── 조립 ───────────────────────────────────────────────────────────────
+
+    /**
+     * 대상 학생들의 7개 영역을 영역별 IN 조회로 읽어 학생별 문서로 조립합니다.
+     * 반환 순서는 targets 순서와 같습니다.
+     */
+    public List<StudentRecordDocument> assemble(List<StudentRecordDocument.Student> targets) {
+        Map<Long, String> names = new HashMap<>();
+        targets.forEach(t -> names.put(t.getStudentInfoId(), t.getName()));
+        List<Long> ids = new ArrayList<>(names.keySet());
+
+        Map<Long, List<AwardsAndHonorsResponseDTO>> awards = group(ids,
+                awardsAndHonorsRepository::findByStudentInfoIdIn,
+                a -> a.getStudentInfo().getId(), AwardsAndHonorsResponseDTO::from);
+        Map<Long, List<BehaviorRecordDTO>> behaviors = group(ids,
+                behaviorRecordRepository::findByStudentIdIn,
+                b -> b.getStudent().getId(), BehaviorRecordDTO::from);
+        Map<Long, List<BookReportResponseDTO>> bookReports = group(ids,
+                bookReportRepository::findByStudentInfoIdIn,
+                b -> b.getStudentInfo().getId(), BookReportResponseDTO::from);
+        // CareerAspirationDTO.from 은 학생 이름을 위해 student.user 를 읽으므로 대상 명단의 이름을 사용
+        Map<Long, List<CareerAspirationDTO>> careers = group(ids,
+                careerAspirationRepository::findByStudentIdIn,
+                c -> c.getStudent().getId(), c -> toCareerDto(c, names.get(c.getStudent().getId())));
+        Map<Long, List<CocurricularActivitiesDTO>> cocurriculars = group(ids,
+                cocurricularActivitiesRepository::findByStudentIdIn,
+                c -> c.getStudent().getId(), CocurricularActivitiesDTO::from);
+        Map<Long, List<MedicalDetailsResponseDTO>> medicals = group(ids,
+                medicalDetailsRepository::findByStudentInfoIdIn,
+                m -> m.getStudentInfo().getId(), MedicalDetailsResponseDTO::from);
+        Map<Long, List<VolunteerActivityResponseDTO>> volunteers = group(ids,
+                volunteerActivityRepository::findByStudentInfoIdIn,
+                v -> v.getStudentInfo().getId(), VolunteerActivityResponseDTO::from);
+
+        List<StudentRecordDocument> documents = new ArrayList<>(targets.size());
+        for (StudentRecordDocument.Student target : targets) {
+            Long id = target.getStudentInfoId();
+            documents.add(StudentRecordDocument.builder()
+                    .student(target)
+                    .awards(awards.getOrDefault(id, List.of()))
+                    .behaviorRecords(behaviors.getOrDefault(id, List.of()))
+                    .bookReports(bookReports.getOrDefault(id, List.of()))
+                    .careerAspirations(careers.getOrDefault(id, List.of()))
+                    .cocurricularActivities(cocurriculars.getOrDefault(id, List.of()))
+                    .medicalDetails(medicals.getOrDefault(id, List.of()))
+                    .volunteerActivities(volunteers.getOrDefault(id, List.of()))
+                    .build());
+        }
+        return documents;
+    }
+
+    // ── 내부 ──────────────────────────────────────────────────────────────
+
+    private static List<StudentRecordDocument.Student> toTargets(List<Object[]> rows) {
+        List<StudentRecordDocument.Student> targets = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            targets.add(StudentRecordDocument.Student.builder()
+                    .studentInfoId((Long) row[0])
+                    .name((String) row[1])
+                    .code((String) row[2])
+                    .grade((Integer) row[3])
+                    .classNum((Integer) row[4])
+                    .attendanceNum((Integer) row[5])
+                    .build());
+        }
+        return targets;
+    }
+
+    /**
+     * ID 를 CHUNK_SIZE 단위로 나눠 조회하고, 학생 ID 별로 DTO 목록을 묶습니다 (조회 순서 유지).
+     * 연관 학생은 프록시의 ID 만 읽으므로 추가 조회가 발생하지 않습니다.
+     */
+    private static <E, D> Map<Long, List<D>> group(List<Long> ids,
+            Function<Collection<Long>, List<E>> finder,
+            Function<E, Long> studentIdOf,
+            Function<E, D> mapper) {
+        Map<Long, List<D>> grouped = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            for (E entity : finder.apply(chunk)) {
+                grouped.computeIfAbsent(studentIdOf.apply(entity), k -> new ArrayList<>()).add(mapper.apply(entity));
+            }
+        }
+        return grouped;
+    }
+
+    private static CareerAspirationDTO toCareerDto(CareerAspiration c, String studentName) {
+        return CareerAspirationDTO.builder()
+                .id(c.getId())
+                .studentId(c.getStudent().getId())
+                .studentName(studentName)
+                .schoolYear(c.getSchoolYearInt())
+                .semester(c.getSemester())
+                .specialtyOrInterest(c.getSpecialtyOrInterest())
+                .studentDesiredJob(c.getStudentDesiredJob())
+                .parentDesiredJob(c.getParentDesiredJob())
+                .preparationPlan(c.getPreparationPlan())
+                .notes(c.getNotes())
+                .build();
+    }
+}
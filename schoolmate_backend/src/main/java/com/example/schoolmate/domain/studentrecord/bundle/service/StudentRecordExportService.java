@@ -0,0 +1,368 @@
+package com.example.schoolmate.domain.studentrecord.bundle.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import com.example.schoolmate.domain.studentrecord.awards.dto.AwardsAndHonorsResponseDTO;
+import com.example.schoolmate.domain.studentrecord.behavior.dto.BehaviorRecordDTO;
+import com.example.schoolmate.domain.studentrecord.bookreport.dto.BookReportResponseDTO;
+import com.example.schoolmate.domain.studentrecord.bundle.dto.StudentRecordDocument;
+import com.example.schoolmate.domain.studentrecord.bundle.dto.StudentRecordExportDTO;
+import com.example.schoolmate.domain.studentrecord.career.dto.CareerAspirationDTO;
+import com.example.schoolmate.domain.studentrecord.cocurricular.dto.CocurricularActivitiesDTO;
+import com.example.schoolmate.domain.studentrecord.medical.dto.MedicalDetailsResponseDTO;
+import com.example.schoolmate.domain.studentrecord.volunteer.dto.VolunteerActivityResponseDTO;
+import com.example.schoolmate.global.config.school.SchoolContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 생활기록부 일괄 내보내기 (학급 / 학년 단위 ZIP)
+ *
+ * <ol>
+ *   <li>요청 스레드: 대상 학생 확인 후 작업 등록 → 202 응답 (작업 ID)</li>
+ *   <li>워커: {@link StudentRecordAssembler} 로 영역별 IN 조회 7번에 전체 조립 (LOADING)</li>
+ *   <li>워커: 학생별 문서를 {@value #RENDER_BATCH}명 단위로 병렬 렌더링한 뒤 ZIP 에 순서대로 기록 (WRITING)</li>
+ *   <li>완료 파일은 {@code GET /{jobId}/download} 로 받고, {@value #RETENTION_MINUTES}분 뒤 삭제됩니다.</li>
+ * </ol>
+ *
+ * 작업 상태는 이 서버 메모리에만 있으므로 다중 서버 구성에서는 같은 서버로 폴링해야 합니다.
+ */
+@Slf4j
+@Service
+public class StudentRecordExportService {
+
+    /** 출력 형식 */
+    public enum Format {
+        JSON("json"),
+        /** 인쇄용 HTML (브라우저 "PDF 로 저장" 가능) */
+        HTML("html");
+
+        final String extension;
+
+        Format(String extension) { this.extension = extension; }
+
+        public static Format from(String value) {
+            for (Format f : values()) {
+                if (f.extension.equalsIgnoreCase(value)) return f;
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+        }
+    }
+
+    public enum Status { QUEUED, LOADING, WRITING, DONE, FAILED }
+
+    /** 병렬 렌더링 묶음 크기 — 렌더링 결과를 모두 메모리에 두지 않기 위함 */
+    private static final int RENDER_BATCH = 64;
+    private static final long RETENTION_MINUTES = 60;
+
+    private final StudentRecordAssembler assembler;
+    private final ObjectWriter jsonWriter;
+    private final ThreadPoolExecutor executor;
+    private final Path workDir = Paths.get(System.getProperty("java.io.tmpdir"), "schoolmate-record-exports");
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public StudentRecordExportService(
+            StudentRecordAssembler assembler,
+            ObjectMapper objectMapper,
+            @Value("${app.record-export.workers:1}") int workers,
+            @Value("${app.record-export.queue:10}") int queueCapacity) {
+        this.assembler = assembler;
+        this.jsonWriter = objectMapper.writerWithDefaultPrettyPrinter();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "record-export-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ── Public API ────────────────────────────────────────────────────────────
+
+    /**
+     * 학급 생활기록부 내보내기 작업 등록
+     */
+    public StudentRecordExportDTO.JobResponse startClassroom(Long uid, Long schoolId, Long cid, Format format) {
+        List<StudentRecordDocument.Student> targets = assembler.classroomTargets(schoolId, cid);
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("학급에 배정된 학생이 없습니다.");
+        }
+        StudentRecordDocument.Student first = targets.get(0);
+        return submit(uid, first.getGrade() + "학년 " + first.getClassNum() + "반", format, targets);
+    }
+
+    /**
+     * 학년 전체 생활기록부 내보내기 작업 등록
+     */
+    public StudentRecordExportDTO.JobResponse startGrade(Long uid, Long schoolId, int year, int grade, Format format) {
+        List<StudentRecordDocument.Student> targets = assembler.gradeTargets(schoolId, year, grade);
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("해당 학년에 배정된 학생이 없습니다.");
+        }
+        return submit(uid, year + "학년도 " + grade + "학년", format, targets);
+    }
+
+    /**
+     * 작업 상태 (등록한 사용자만)
+     */
+    public StudentRecordExportDTO.JobResponse getJob(Long uid, String jobId) {
+        return toResponse(requireJob(uid, jobId));
+    }
+
+    /**
+     * 완료된 ZIP 파일 경로
+     */
+    public Path getResult(Long uid, String jobId) {
+        Job job = requireJob(uid, jobId);
+        if (job.status != Status.DONE) {
+            throw new IllegalStateException("내보내기가 아직 완료되지 않았습니다.");
+        }
+        return job.file;
+    }
+
+    /** 다운로드 파일명 (예: 2025학년도 2학년_생활기록부.zip) */
+    public String getFilename(Long uid, String jobId) {
+        return requireJob(uid, jobId).label + "_생활기록부.zip";
+    }
+
+    /**
+     * 보관 기간이 지난 작업과 파일 정리
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(RETENTION_MINUTES);
+        jobs.values().removeIf(job -> {
+            if (job.finishedAt == null || job.finishedAt.isAfter(cutoff)) return false;
+            deleteQuietly(job.file);
+            return true;
+        });
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private StudentRecordExportDTO.JobResponse submit(Long uid, String label, Format format,
+            List<StudentRecordDocument.Student> targets) {
+        Job job = new Job(UUID.randomUUID().toString(), uid, label, format);
+        job.total = targets.size();
+        jobs.put(job.id, job);
+        try {
+            // 요청의 학교 컨텍스트를 작업 스레드로 전파 (풀 스레드에는 이전 작업의 컨텍스트가 남지 않음)
+            executor.execute(SchoolContext.current().wrap(() -> run(job, targets)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new IllegalStateException("진행 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도하세요.");
+        }
+        return toResponse(job);
+    }
+
+    private void run(Job job, List<StudentRecordDocument.Student> targets) {
+        long start = System.nanoTime();
+        try {
+            job.status = Status.LOADING;
+            List<StudentRecordDocument> documents = assembler.assemble(targets);
+
+            job.status = Status.WRITING;
+            Files.createDirectories(workDir);
+            Path file = workDir.resolve(job.id + ".zip");
+            job.file = file;
+            try (OutputStream out = Files.newOutputStream(file);
+                    ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+                for (int from = 0; from < documents.size(); from += RENDER_BATCH) {
+                    List<StudentRecordDocument> batch = documents.subList(from, Math.min(from + RENDER_BATCH, documents.size()));
+                    List<byte[]> rendered = batch.parallelStream().map(doc -> render(doc, job.format)).toList();
+                    for (int i = 0; i < batch.size(); i++) {
+                        zip.putNextEntry(new ZipEntry(entryName(batch.get(i).getStudent(), job.format)));
+                        zip.write(rendered.get(i));
+                        zip.closeEntry();
+                        job.completed.incrementAndGet();
+                    }
+                }
+            }
+            job.status = Status.DONE;
+            log.info("[RecordExport] {} {}명 완료: {}ms", job.label, job.total, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("[RecordExport] {} 실패", job.label, e);
+            job.error = "내보내기 중 오류가 발생했습니다.";
+            job.status = Status.FAILED;
+            deleteQuietly(job.file);
+            job.file = null;
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private byte[] render(StudentRecordDocument doc, Format format) {
+        if (format == Format.JSON) {
+            try {
+                return jsonWriter.writeValueAsBytes(doc);
+            } catch (IOException e) {
+                throw new IllegalStateException("JSON 변환 실패: " + doc.getStudent().getStudentInfoId(), e);
+            }
+        }
+        return StudentRecordHtml.render(doc).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** 예: "1-3-05 홍길동.json" (같은 번호·이름 중복 방지를 위해 학생 ID 보조) */
+    private static String entryName(StudentRecordDocument.Student s, Format format) {
+        String name = s.getName() != null ? s.getName().replaceAll("[\\\\/:*?\"<>|]", "_") : "";
+        return s.getStudentNumber() + " " + name + "_" + s.getStudentInfoId() + "." + format.extension;
+    }
+
+    private Job requireJob(Long uid, String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.ownerUid.equals(uid)) {
+            throw new IllegalArgumentException("내보내기 작업을 찾을 수 없습니다.");
+        }
+        return job;
+    }
+
+    private static StudentRecordExportDTO.JobResponse toResponse(Job job) {
+        int completed = job.completed.get();
+        return StudentRecordExportDTO.JobResponse.builder()
+                .jobId(job.id)
+                .label(job.label)
+                .format(job.format.extension)
+                .status(job.status.name())
+                .total(job.total)
+                .completed(completed)
+                .percent(job.total > 0 ? completed * 100 / job.total : (job.status == Status.DONE ? 100 : 0))
+                .error(job.error)
+                .downloadUrl(job.status == Status.DONE ? "/api/student-records/exports/" + job.id + "/download" : null)
+                .createdAt(job.createdAt)
+                .finishedAt(job.finishedAt)
+                .build();
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[RecordExport] 파일 삭제 실패: {} - {}", file, e.getMessage());
+        }
+    }
+
+    /** 작업 상태 (워커가 갱신, 요청 스레드가 조회) */
+    private static final class Job {
+        final String id;
+        final Long ownerUid;
+        final String label;
+        final Format format;
+        final LocalDateTime createdAt = LocalDateTime.now();
+        final AtomicInteger completed = new AtomicInteger();
+        volatile Status status = Status.QUEUED;
+        volatile int total;
+        volatile String error;
+        volatile Path file;
+        volatile LocalDateTime finishedAt;
+
+        Job(String id, Long ownerUid, String label, Format format) {
+            this.id = id;
+            this.ownerUid = ownerUid;
+            this.label = label;
+            this.format = format;
+        }
+    }
+
+    /**
+     * 인쇄용 HTML 생활기록부 (A4, 외부 리소스 없음)
+     */
+    static final class StudentRecordHtml {
+
+        private StudentRecordHtml() {}
+
+        static String render(StudentRecordDocument doc) {
+            StudentRecordDocument.Student s = doc.getStudent();
+            StringBuilder html = new StringBuilder(4096);
+            html.append("<!DOCTYPE html><html lang=\"ko\"><head><meta charset=\"UTF-8\"><title>")
+                    .append(esc(s.getName())).append(" 생활기록부</title><style>")
+                    .append("@page{size:A4;margin:15mm}body{font-family:sans-serif;font-size:10pt}")
+                    .append("table{width:100%;border-collapse:collapse;margin-bottom:12px}")
+                    .append("th,td{border:1px solid #555;padding:4px;text-align:left;vertical-align:top}")
+                    .append("th{background:#eee}h2{font-size:11pt;margin:14px 0 4px}")
+                    .append("</style></head><body>");
+            html.append("<h1>학교생활기록부</h1><table><tr><th>학년-반-번호</th><td>").append(esc(s.getStudentNumber()))
+                    .append("</td><th>성명</th><td>").append(esc(s.getName()))
+                    .append("</td><th>학번</th><td>").append(esc(s.getCode())).append("</td></tr></table>");
+
+            section(html, "수상 경력", doc.getAwards(), new String[] { "수상일", "수상명", "등급", "수여기관" },
+                    (AwardsAndHonorsResponseDTO a) -> new Object[] { a.getDay(), a.getName(),
+                            a.getAchievementsGradeLabel(), a.getOrganization() });
+            section(html, "진로 희망", doc.getCareerAspirations(),
+                    new String[] { "학년도", "학기", "특기·흥미", "학생 희망", "학부모 희망", "준비 계획" },
+                    (CareerAspirationDTO c) -> new Object[] { c.getSchoolYear(), c.getSemester(),
+                            c.getSpecialtyOrInterest(), c.getStudentDesiredJob(), c.getParentDesiredJob(),
+                            c.getPreparationPlan() });
+            section(html, "창의적 체험활동", doc.getCocurricularActivities(), new String[] { "학기", "영역", "특기사항" },
+                    (CocurricularActivitiesDTO c) -> new Object[] { c.getTermDisplayName(), c.getCategory(),
+                            c.getSpecifics() });
+            section(html, "봉사활동", doc.getVolunteerActivities(),
+                    new String[] { "기간", "주관", "활동 내용", "시간", "누계" },
+                    (VolunteerActivityResponseDTO v) -> new Object[] { v.getStartDate() + " ~ " + v.getEndDate(),
+                            v.getOrganizer(), v.getActivityContent(), v.getHours(), v.getCumulativeHours() });
+            section(html, "독서 활동", doc.getBookReports(), new String[] { "학년도", "학기", "내용" },
+                    (BookReportResponseDTO b) -> new Object[] { b.getSchoolYear(), b.getSemester(), b.getContent() });
+            section(html, "건강 기록", doc.getMedicalDetails(), new String[] { "측정일", "혈액형", "키", "몸무게" },
+                    (MedicalDetailsResponseDTO m) -> new Object[] { m.getCreateDate(), m.getBloodGroup(),
+                            m.getHeight(), m.getWeight() });
+            section(html, "행동특성 및 종합의견", doc.getBehaviorRecords(), new String[] { "학년도", "학기", "종합의견" },
+                    (BehaviorRecordDTO b) -> new Object[] { b.getSchoolYear(), b.getSemester(), b.getSpecialNotes() });
+            return html.append("</body></html>").toString();
+        }
+
+        private static <T> void section(StringBuilder html, String title, List<T> rows, String[] headers,
+                Function<T, Object[]> columns) {
+            html.append("<h2>").append(esc(title)).append("</h2><table><tr>");
+            for (String h : headers) html.append("<th>").append(esc(h)).append("</th>");
+            html.append("</tr>");
+            if (rows.isEmpty()) {
+                html.append("<tr><td colspan=\"").append(headers.length).append("\">해당 사항 없음</td></tr>");
+            }
+            for (T row : rows) {
+                html.append("<tr>");
+                for (Object value : columns.apply(row)) html.append("<td>").append(esc(value)).append("</td>");
+                html.append("</tr>");
+            }
+            html.append("</table>");
+        }
+
+        private static String esc(Object value) {
+            if (value == null) return "";
+            return HtmlUtils.htmlEscape(String.valueOf(value), "UTF-8").replace("\n", "<br>");
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.schoolmate.domain.studentrecord.career.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.studentrecord.career.entity.CareerAspiration;
 
@@ -15,4 +18,9 @@ public interface CareerAspirationRepository extends JpaRepository<CareerAspirati
 
     // 학생별 전체 진로희망 조회
     List<CareerAspiration> findByStudentIdOrderByAcademicTerm_SchoolYear_YearAscAcademicTerm_SemesterAsc(Long studentId);
-}
\ No newline at end of file
+
+    // 여러 학생 진로희망 일괄 조회 (생활기록부 일괄 내보내기) - 학기·학년도 함께 로딩
+    @Query("SELECT c FROM CareerAspiration c JOIN FETCH c.academicTerm t LEFT JOIN FETCH t.schoolYear sy " +
+           "WHERE c.student.id IN :studentIds ORDER BY sy.year, t.semester")
+    List<CareerAspiration> findByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+}
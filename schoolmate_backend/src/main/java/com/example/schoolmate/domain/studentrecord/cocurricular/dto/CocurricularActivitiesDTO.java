@@ -1,5 +1,6 @@
 package com.example.schoolmate.domain.studentrecord.cocurricular.dto;
 
+import com.example.schoolmate.domain.studentrecord.cocurricular.entity.CocurricularActivities;
 import com.example.schoolmate.domain.user.entity.constant.ActivityCategory;
 
 import lombok.AllArgsConstructor;
@@ -20,4 +21,16 @@ public class CocurricularActivitiesDTO {
     private String termDisplayName;
     private ActivityCategory category;
     private String specifics;
+
+    public static CocurricularActivitiesDTO from(CocurricularActivities c) {
+        return CocurricularActivitiesDTO.builder()
+                .id(c.getId())
+                .studentId(c.getStudent() != null ? c.getStudent().getId() : null)
+                .academicTermId(c.getAcademicTerm() != null ? c.getAcademicTerm().getId() : null)
+                .schoolYear(c.getSchoolYearInt())
+                .termDisplayName(c.getAcademicTerm() != null ? c.getAcademicTerm().getDisplayName() : null)
+                .category(c.getCategory())
+                .specifics(c.getSpecifics())
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.schoolmate.domain.studentrecord.cocurricular.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +24,9 @@ public interface CocurricularActivitiesRepository extends JpaRepository<Cocurric
             @Param("studentId") Long studentId,
             @Param("academicTermId") Long academicTermId,
             @Param("category") ActivityCategory category);
+
+    // 여러 학생 일괄 조회 (생활기록부 일괄 내보내기) - 학기·학년도 함께 로딩
+    @Query("SELECT c FROM CocurricularActivities c JOIN FETCH c.academicTerm t LEFT JOIN FETCH t.schoolYear sy " +
+           "WHERE c.student.id IN :studentIds ORDER BY sy.year, t.semester, c.category")
+    List<CocurricularActivities> findByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
 }
@@ -39,7 +39,7 @@ public class CocurricularActivitiesService {
 
         return cocurricularActivitiesRepository.findByStudentId(studentId)
                 .stream()
-                .map(this::toDto)
+                .map(CocurricularActivitiesDTO::from)
                 .collect(Collectors.toList());
     }
 
@@ -67,18 +67,6 @@ public class CocurricularActivitiesService {
                         .specifics(request.getSpecifics())
                         .build());
 
-        return toDto(cocurricularActivitiesRepository.save(record));
-    }
-
-    private CocurricularActivitiesDTO toDto(CocurricularActivities c) {
-        return CocurricularActivitiesDTO.builder()
-                .id(c.getId())
-                .studentId(c.getStudent() != null ? c.getStudent().getId() : null)
-                .academicTermId(c.getAcademicTerm() != null ? c.getAcademicTerm().getId() : null)
-                .schoolYear(c.getSchoolYearInt())
-                .termDisplayName(c.getAcademicTerm() != null ? c.getAcademicTerm().getDisplayName() : null)
-                .category(c.getCategory())
-                .specifics(c.getSpecifics())
-                .build();
+        return CocurricularActivitiesDTO.from(cocurricularActivitiesRepository.save(record));
     }
 }
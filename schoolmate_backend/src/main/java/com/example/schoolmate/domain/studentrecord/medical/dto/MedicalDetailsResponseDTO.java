@@ -0,0 +1,37 @@
+package com.example.schoolmate.domain.studentrecord.medical.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.schoolmate.domain.studentrecord.medical.entity.MedicalDetails;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MedicalDetailsResponseDTO {
+
+    private Long id;
+
+    private String bloodGroup;
+
+    private Double height;
+
+    private Double weight;
+
+    private LocalDateTime createDate;
+
+    public static MedicalDetailsResponseDTO from(MedicalDetails m) {
+        return MedicalDetailsResponseDTO.builder()
+                .id(m.getId())
+                .bloodGroup(m.getBloodGroup())
+                .height(m.getHeight())
+                .weight(m.getWeight())
+                .createDate(m.getCreateDate())
+                .build();
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.schoolmate.domain.studentrecord.medical.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.studentrecord.medical.entity.MedicalDetails;
 import com.example.schoolmate.domain.student.entity.StudentInfo;
@@ -10,4 +13,8 @@ import com.example.schoolmate.domain.student.entity.StudentInfo;
 public interface MedicalDetailsRepository extends JpaRepository<MedicalDetails, Long> {
     List<MedicalDetails> findByStudentInfo(StudentInfo studentInfo);
     List<MedicalDetails> findByStudentInfoId(Long studentInfoId);
+
+    // 여러 학생 건강 기록 일괄 조회 (생활기록부 일괄 내보내기) - 오래된 기록부터
+    @Query("SELECT m FROM MedicalDetails m WHERE m.studentInfo.id IN :studentInfoIds ORDER BY m.id")
+    List<MedicalDetails> findByStudentInfoIdIn(@Param("studentInfoIds") Collection<Long> studentInfoIds);
 }
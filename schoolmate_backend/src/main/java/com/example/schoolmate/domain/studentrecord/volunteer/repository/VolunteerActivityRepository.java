@@ -1,8 +1,11 @@
 package com.example.schoolmate.domain.studentrecord.volunteer.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.schoolmate.domain.studentrecord.volunteer.entity.VolunteerActivity;
 
@@ -13,4 +16,9 @@ public interface VolunteerActivityRepository extends JpaRepository<VolunteerActi
 
     // 학생 + 학기별 봉사활동 조회
     List<VolunteerActivity> findByStudentInfoIdAndAcademicTermId(Long studentInfoId, Long academicTermId);
+
+    // 여러 학생 봉사활동 일괄 조회 (생활기록부 일괄 내보내기) - 학기·학년도 함께 로딩
+    @Query("SELECT v FROM VolunteerActivity v JOIN FETCH v.academicTerm t LEFT JOIN FETCH t.schoolYear " +
+           "WHERE v.studentInfo.id IN :studentInfoIds ORDER BY v.startDate, v.id")
+    List<VolunteerActivity> findByStudentInfoIdIn(@Param("studentInfoIds") Collection<Long> studentInfoIds);
 }
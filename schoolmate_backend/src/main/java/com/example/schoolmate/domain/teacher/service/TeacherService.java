@@ -7,6 +7,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -45,6 +47,7 @@ import com.example.schoolmate.domain.user.repository.RoleRequestRepository;
 import com.example.schoolmate.domain.user.repository.SchoolAdminGrantRepository;
 import com.example.schoolmate.domain.user.repository.UserRepository;
 import com.example.schoolmate.domain.classroom.repository.ClassroomRepository;
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCache;
 import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
 import com.example.schoolmate.domain.teacher.repository.TeacherInfoRepository;
 import com.example.schoolmate.domain.notification.repository.NotificationRepository;
@@ -85,6 +88,7 @@ public class TeacherService {
     private final CodeSequenceService codeSequenceService;
     private final AcademicTermRepository academicTermRepository;
     private final GradeRepository gradeRepository;
+    private final ClassroomRosterCache classroomRosterCache;
 
     // ==================================================================================
     // ========== [관리자] 교사 관리 ==========
@@ -394,6 +398,7 @@ public class TeacherService {
         student.setGender(createDTO.getGender());
 
         StudentInfo savedStudent = studentInfoRepository.save(student);
+        classroomRosterCache.evict(classroom.getCid());
         return StudentResponseDTO.from(savedStudent);
     }
 
@@ -429,6 +434,8 @@ public class TeacherService {
                             () -> new IllegalArgumentException("학급을 찾을 수 없습니다. ID: " + updateDTO.getClassroomId()));
             if (student.getCurrentAssignment() != null) {
                 student.getCurrentAssignment().setClassroom(classroom);
+                classroomRosterCache.evictStudent(student.getId());
+                classroomRosterCache.evict(classroom.getCid());
             }
         }
         if (updateDTO.getBirthDate() != null) {
@@ -456,6 +463,7 @@ public class TeacherService {
                 .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다. ID: " + studentId));
 
         student.setStatus(StudentStatus.DROPOUT);
+        classroomRosterCache.evictStudent(studentId);
         log.info("학생 삭제(자퇴) 처리: {}", studentId);
     }
 
@@ -540,6 +548,7 @@ public class TeacherService {
         student.setGender(createDTO.getGender());
 
         StudentInfo savedStudent = studentInfoRepository.save(student);
+        classroomRosterCache.evict(myClassroom.getCid());
         log.info("담당 학급에 학생 등록 완료 - 학생 ID: {}, 학급: {}",
                 savedStudent.getId(), myClassroom.getClassName());
 
@@ -604,6 +613,7 @@ public class TeacherService {
         }
 
         student.setStatus(StudentStatus.DROPOUT);
+        classroomRosterCache.evict(myClassroom.getCid());
         log.info("담당 학급 학생 삭제(자퇴) 완료 - 학생: {}", studentId);
     }
 
@@ -683,7 +693,11 @@ public class TeacherService {
     // ==================================================================================
 
     private ClassStudentDTO buildClassStudentDTO(Classroom classroom) {
-        List<StudentInfo> students = studentInfoRepository.findByClassroomCid(classroom.getCid());
+        // 명단 순서(번호 순)는 캐시 스냅샷 기준, 연락처 등 상세 필드만 PK 로 조회
+        List<Long> rosterIds = classroomRosterCache.get(classroom.getCid()).studentInfoIds();
+        Map<Long, StudentInfo> byId = studentInfoRepository.findAllById(rosterIds).stream()
+                .collect(Collectors.toMap(StudentInfo::getId, s -> s));
+        List<StudentInfo> students = rosterIds.stream().map(byId::get).filter(Objects::nonNull).toList();
 
         List<ClassStudentDTO.StudentSimpleDTO> studentDTOs = students.stream()
                 .map(s -> {
@@ -22,8 +22,11 @@ import com.example.schoolmate.domain.staff.repository.StaffInfoRepository;
 import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
 import com.example.schoolmate.domain.teacher.repository.TeacherInfoRepository;
 import com.example.schoolmate.global.util.FileManager;
+import com.example.schoolmate.domain.user.service.LoginRateLimitService;
 import com.example.schoolmate.domain.user.service.UserService;
 import com.example.schoolmate.global.config.jwt.AuthService;
+import com.example.schoolmate.global.config.password.PasswordHashingBusyException;
+import com.example.schoolmate.global.config.ratelimit.RateLimit;
 import com.example.schoolmate.global.util.LogHelper;
 import com.example.schoolmate.domain.school.dto.SchoolDTO;
 import com.example.schoolmate.domain.school.repository.SchoolRepository;
@@ -79,6 +82,7 @@ public class AuthApiController {
     private final StaffInfoRepository staffInfoRepository;
     private final SystemSettingsRepository systemSettingsRepository;
     private final RegistrationVerificationService registrationVerificationService;
+    private final LoginRateLimitService loginRateLimitService;
 
     /**
      * 이메일 회원가입 → 가입 완료 즉시 JWT 발급 (React 프론트엔드용)
@@ -126,6 +130,8 @@ public class AuthApiController {
             log.info("회원가입 및 JWT 발급 완료 - email: {}, role: {}", email, role);
             return ResponseEntity.ok(result);
 
+        } catch (PasswordHashingBusyException e) {
+            throw e; // 503 + Retry-After (GlobalExceptionHandler)
         } catch (IllegalStateException e) {
             // [woo] 이메일 중복 - @Transactional 제거 후 IllegalStateException 정상 전파되도록 수정
             return ResponseEntity.status(409).body(Map.of("message", "중복된 이메일입니다. 다른 이메일을 입력해주세요."));
@@ -152,14 +158,15 @@ public class AuthApiController {
      * 회원가입 이메일 인증 코드 발송 (미인증 접근)
      */
     @PostMapping("/register/email/send-code")
+    @RateLimit(name = "email-code-ip", limit = 30, windowSeconds = 600)
     public ResponseEntity<?> sendRegistrationEmailCode(@RequestBody Map<String, String> body) {
         String email = body.get("email");
         if (email == null || email.isBlank()) {
             return ResponseEntity.badRequest().body(Map.of("message", "이메일을 입력해주세요."));
         }
         try {
-            registrationVerificationService.sendCode(email);
-            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다."));
+            String emailHandle = registrationVerificationService.sendCode(email);
+            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다.", "emailHandle", emailHandle));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
         } catch (IllegalStateException e) {
@@ -174,6 +181,7 @@ public class AuthApiController {
      * 회원가입 이메일 인증 코드 확인 (미인증 접근)
      */
     @PostMapping("/register/email/verify")
+    @RateLimit(name = "email-verify", key = "#body['email']", limit = 10, windowSeconds = 300)
     public ResponseEntity<?> verifyRegistrationEmailCode(@RequestBody Map<String, String> body) {
         String email = body.get("email");
         String code = body.get("code");
@@ -189,6 +197,7 @@ public class AuthApiController {
     }
 
     @PostMapping("/login")
+    @RateLimit(name = "login-ip", limit = 600, windowSeconds = 60) // 학교 NAT 뒤 동시 로그인을 고려해 넉넉히
     public ResponseEntity<?> login(@RequestBody Map<String, String> body, HttpServletRequest request) {
         String email = body.get("email");
         String password = body.get("password");
@@ -196,12 +205,17 @@ public class AuthApiController {
         if (email == null || password == null) {
             return ResponseEntity.badRequest().body(Map.of("message", "이메일과 비밀번호를 입력해주세요."));
         }
+        // 계정별 제한은 실패한 로그인만 셈 (성공 반복으로 계정 주인을 막지 못하도록)
+        loginRateLimitService.check(email);
 
         try {
             Map<String, Object> result = authService.login(email, password);
             LogHelper.access(email, getClientIp(request), request.getHeader("User-Agent"), "LOGIN");
             return ResponseEntity.ok(result);
+        } catch (PasswordHashingBusyException e) {
+            throw e; // 비밀번호 확인 전에 거절됨 → 로그인 실패가 아닌 503 + Retry-After (GlobalExceptionHandler)
         } catch (Exception e) {
+            loginRateLimitService.recordFailure(email);
             LogHelper.access(email, getClientIp(request), request.getHeader("User-Agent"), "LOGIN_FAIL");
             return ResponseEntity.status(401).body(Map.of("message", "이메일 또는 비밀번호가 올바르지 않습니다."));
         }
@@ -344,7 +358,7 @@ public class AuthApiController {
         if (dbUser != null) {
             profileImageUrl = profileRepository.findByUser(dbUser)
                     .filter(p -> p.getUuid() != null)
-                    .map(p -> FileManager.UploadType.PROFILE.toUrl(p.getUuid()))
+                    .map(p -> FileManager.UploadType.PROFILE.toUrl(p.getUuid(), FileManager.ImageSize.THUMB))
                     .orElse(null);
         }
 
@@ -426,6 +440,7 @@ public class AuthApiController {
      * 이메일로 사용자를 조회하여 코드 발송. 소셜 계정은 거부.
      */
     @PostMapping("/password/send-code")
+    @RateLimit(name = "email-code-ip", limit = 30, windowSeconds = 600)
     public ResponseEntity<?> sendPasswordResetCode(@RequestBody Map<String, String> body) {
         String email = body.get("email");
         if (email == null || email.isBlank()) {
@@ -444,8 +459,8 @@ public class AuthApiController {
         }
 
         try {
-            passwordVerificationService.sendCode(user);
-            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다."));
+            String emailHandle = passwordVerificationService.sendCode(user);
+            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다.", "emailHandle", emailHandle));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(429).body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
@@ -458,6 +473,7 @@ public class AuthApiController {
      * 비밀번호 찾기 — 코드 검증 후 비밀번호 재설정 (비인증 접근)
      */
     @PostMapping("/password/reset")
+    @RateLimit(name = "password-reset", key = "#body['email']", limit = 10, windowSeconds = 300)
     public ResponseEntity<?> resetPassword(@RequestBody Map<String, String> body) {
         String email = body.get("email");
         String code = body.get("verificationCode");
@@ -80,7 +80,7 @@ public class UserProfileController {
         profileRepository.save(profile);
 
         Map<String, Object> result = new LinkedHashMap<>();
-        result.put("profileImageUrl", FileManager.UploadType.PROFILE.toUrl(savedFilename));
+        result.put("profileImageUrl", FileManager.UploadType.PROFILE.toUrl(savedFilename, FileManager.ImageSize.THUMB));
         return ResponseEntity.ok(result);
     }
 
@@ -104,8 +104,8 @@ public class UserProfileController {
         }
 
         try {
-            passwordVerificationService.sendCode(user);
-            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다."));
+            String emailHandle = passwordVerificationService.sendCode(user);
+            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다.", "emailHandle", emailHandle));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(429).body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
@@ -156,8 +156,8 @@ public class UserProfileController {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         try {
-            passwordVerificationService.sendWithdrawalCode(user);
-            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다."));
+            String emailHandle = passwordVerificationService.sendWithdrawalCode(user);
+            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다.", "emailHandle", emailHandle));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(429).body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
@@ -218,8 +218,8 @@ public class UserProfileController {
         }
 
         try {
-            passwordVerificationService.sendLinkEmailCode(user);
-            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다."));
+            String emailHandle = passwordVerificationService.sendLinkEmailCode(user);
+            return ResponseEntity.ok(Map.of("message", "인증 코드가 발송되었습니다.", "emailHandle", emailHandle));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(429).body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
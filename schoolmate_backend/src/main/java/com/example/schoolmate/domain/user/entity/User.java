@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.example.schoolmate.domain.classroom.service.ClassroomRosterCacheListener;
 import com.example.schoolmate.global.entity.BaseEntity;
 import com.example.schoolmate.global.entity.BaseInfo;
 import com.example.schoolmate.global.entity.SchoolMemberInfo;
@@ -20,6 +21,7 @@ import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -34,6 +36,7 @@ import lombok.ToString;
 
 @Entity
 @Table(name = "user_main")
+@EntityListeners(ClassroomRosterCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -91,6 +94,8 @@ public class User extends BaseEntity {
     }
 
     // --- Info 관련 편의 메서드 ---
+    // infos 를 초기화하면 네 Info 테이블 UNION 조회가 발생하므로,
+    // 역할이 정해진 조회는 UserInfoLookup(해당 역할 테이블 단건 조회)을 사용합니다.
 
     /**
      * 상세 정보(Info)를 추가하며 연관 관계를 설정합니다.
@@ -14,6 +14,10 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
     @EntityGraph(attributePaths = { "infos", "roles" })
     Optional<User> findByEmail(String email);
 
+    // 로그인용 — infos(TABLE_PER_CLASS UNION) 없이 roles 만 로딩, 역할 정보는 UserInfoLookup 으로 조회
+    @EntityGraph(attributePaths = { "roles" })
+    Optional<User> findWithRolesByEmail(String email);
+
     boolean existsByEmail(String email);
 
     // findAllByRole → UserRepositoryCustom(QueryDSL)으로 이동됨
@@ -26,13 +26,14 @@ import lombok.extern.log4j.Log4j2;
 public class CustomUserDetailsService implements UserDetailsService {
 
         private final UserRepository userRepository;
+        private final UserInfoLookup userInfoLookup;
 
         @Override
         public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
                 log.info("로그인 시도: {}", email);
 
                 // 1. DB에서 이메일로 유저 찾기
-                User user = userRepository.findByEmail(email)
+                User user = userRepository.findWithRolesByEmail(email)
                                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
                 if (user.isDeleted()) {
@@ -66,8 +67,10 @@ public class CustomUserDetailsService implements UserDetailsService {
                         dto.setRole(getPrimaryRole(user));
                 }
 
+                // 역할이 있는 Info 만 조회 (역할 없는 Info 테이블까지 매번 조회하지 않음)
                 // StudentInfo가 있으면 학생 정보 추가
-                StudentInfo studentInfo = user.getInfo(StudentInfo.class);
+                StudentInfo studentInfo = user.hasRole(UserRole.STUDENT)
+                                ? userInfoLookup.find(StudentInfo.class, user.getUid()) : null;
                 if (studentInfo != null) {
                         dto.setStudentInfoId(studentInfo.getId()); // StudentInfo의 PK
                         dto.setStudentIdentityNum(studentInfo.getCode());
@@ -87,7 +90,8 @@ public class CustomUserDetailsService implements UserDetailsService {
                 }
 
                 // TeacherInfo가 있으면 교사 정보 추가
-                TeacherInfo teacherInfo = user.getInfo(TeacherInfo.class);
+                TeacherInfo teacherInfo = user.hasRole(UserRole.TEACHER)
+                                ? userInfoLookup.find(TeacherInfo.class, user.getUid()) : null;
                 if (teacherInfo != null) {
                         dto.setSubject(teacherInfo.getSubject());
                         dto.setDepartment(teacherInfo.getDepartment());
@@ -104,7 +108,8 @@ public class CustomUserDetailsService implements UserDetailsService {
                 }
 
                 // ParentInfo가 있으면 학부모 정보 추가
-                ParentInfo parentInfo = user.getInfo(ParentInfo.class);
+                ParentInfo parentInfo = user.hasRole(UserRole.PARENT)
+                                ? userInfoLookup.find(ParentInfo.class, user.getUid()) : null;
                 if (parentInfo != null) {
                         dto.setPhoneNumber(parentInfo.getPhone());
                 }
@@ -0,0 +1,44 @@
+package com.example.schoolmate.domain.user.service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+
+import com.example.schoolmate.global.config.ratelimit.RateLimiter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계정(이메일)별 로그인 실패 제한 (슬라이딩 윈도우)
+ *
+ * - 최근 WINDOW 동안 비밀번호가 틀린 로그인만 MAX_FAILURES 회까지 셈 — 성공한 로그인은 세지 않으므로
+ *   남의 이메일로 정상 로그인을 반복해 계정 주인을 막을 수 없음
+ * - 한도에 도달하면 비밀번호 확인 전에 거절 (RateLimitExceededException → 429)
+ * - IP 단위 전체 로그인 제한은 컨트롤러의 {@code @RateLimit(name = "login-ip")} 가 담당
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginRateLimitService {
+
+    private static final String NAME = "login-failure";
+    private static final int MAX_FAILURES = 10;
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+    private static final String MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final RateLimiter rateLimiter;
+
+    /** 최근 실패가 한도에 도달했으면 거절 */
+    public void check(String email) {
+        rateLimiter.check(NAME, normalize(email), MAX_FAILURES, WINDOW, MESSAGE);
+    }
+
+    /** 비밀번호가 틀린 로그인 1회 기록 */
+    public void recordFailure(String email) {
+        rateLimiter.record(NAME, normalize(email), WINDOW);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -32,41 +32,46 @@ public class PasswordVerificationService {
     /**
      * 인증 코드 생성 후 DB 저장(upsert) + 이메일 발송
      * userId가 PK이므로 재발송 시 자동으로 이전 코드를 덮어씀
+     *
+     * @return 발송 상태 조회용 handle
      */
     @Transactional
-    public void sendCode(User user) {
+    public String sendCode(User user) {
         emailRateLimitService.checkAndRecord(user.getEmail());
         String code = String.format("%06d", RANDOM.nextInt(1_000_000));
         EmailVerificationCode verification = EmailVerificationCode.issue(user.getUid(), code, expiryMinutes);
         codeRepository.save(verification);
-        emailService.sendPasswordVerificationCode(user.getEmail(), code);
+        String emailHandle = emailService.sendPasswordVerificationCode(user.getEmail(), code);
         log.info("비밀번호 변경 인증 코드 저장 완료: userId={}", user.getUid());
+        return emailHandle;
     }
 
     /**
      * 회원 탈퇴용 인증 코드 생성 후 DB 저장(upsert) + 이메일 발송
      */
     @Transactional
-    public void sendWithdrawalCode(User user) {
+    public String sendWithdrawalCode(User user) {
         emailRateLimitService.checkAndRecord(user.getEmail());
         String code = String.format("%06d", RANDOM.nextInt(1_000_000));
         EmailVerificationCode verification = EmailVerificationCode.issue(user.getUid(), code, expiryMinutes);
         codeRepository.save(verification);
-        emailService.sendWithdrawalVerificationCode(user.getEmail(), code);
+        String emailHandle = emailService.sendWithdrawalVerificationCode(user.getEmail(), code);
         log.info("회원 탈퇴 인증 코드 저장 완료: userId={}", user.getUid());
+        return emailHandle;
     }
 
     /**
      * 이메일 로그인 연동용 인증 코드 생성 후 DB 저장(upsert) + 이메일 발송
      */
     @Transactional
-    public void sendLinkEmailCode(User user) {
+    public String sendLinkEmailCode(User user) {
         emailRateLimitService.checkAndRecord(user.getEmail());
         String code = String.format("%06d", RANDOM.nextInt(1_000_000));
         EmailVerificationCode verification = EmailVerificationCode.issue(user.getUid(), code, expiryMinutes);
         codeRepository.save(verification);
-        emailService.sendLinkEmailVerificationCode(user.getEmail(), code);
+        String emailHandle = emailService.sendLinkEmailVerificationCode(user.getEmail(), code);
         log.info("이메일 로그인 연동 인증 코드 저장 완료: userId={}", user.getUid());
+        return emailHandle;
     }
 
     /**
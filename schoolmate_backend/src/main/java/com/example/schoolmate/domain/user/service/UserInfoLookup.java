@@ -0,0 +1,138 @@
+package com.example.schoolmate.domain.user.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.schoolmate.domain.parent.entity.ParentInfo;
+import com.example.schoolmate.domain.parent.repository.ParentInfoRepository;
+import com.example.schoolmate.domain.staff.entity.StaffInfo;
+import com.example.schoolmate.domain.staff.repository.StaffInfoRepository;
+import com.example.schoolmate.domain.student.entity.StudentInfo;
+import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
+import com.example.schoolmate.domain.teacher.entity.TeacherInfo;
+import com.example.schoolmate.domain.teacher.repository.TeacherInfoRepository;
+import com.example.schoolmate.global.entity.BaseInfo;
+import com.example.schoolmate.global.entity.SchoolMemberInfo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 역할별 상세 정보(Info) 조회기.
+ *
+ * <p>{@code User.infos} 는 TABLE_PER_CLASS 다형 컬렉션이라 초기화할 때마다 학생·교사·교직원·학부모
+ * 네 테이블을 UNION ALL 로 읽습니다. 찾는 역할이 정해진 경우에는 이 클래스로 해당 타입의 테이블 하나만
+ * uid 인덱스(FK)로 조회합니다.</p>
+ *
+ * <p>인스턴스 선택 규칙은 User 의 편의 메서드와 같습니다
+ * ({@code getInfo} = 가장 먼저 생성된 것, {@code getPrimaryInfo} = primary → 첫 번째,
+ * {@code getInfoForSchool} = 해당 학교 → primary).</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserInfoLookup {
+
+    private static final Comparator<BaseInfo> BY_ID = Comparator.comparing(BaseInfo::getId);
+
+    private final StudentInfoRepository studentInfoRepository;
+    private final TeacherInfoRepository teacherInfoRepository;
+    private final StaffInfoRepository staffInfoRepository;
+    private final ParentInfoRepository parentInfoRepository;
+
+    // ── 단건 조회 ─────────────────────────────────────────────────────────────
+
+    /**
+     * {@code User.getInfo(type)} 대체 — 해당 타입 중 가장 먼저 생성된 인스턴스 (없으면 null)
+     */
+    public <T extends BaseInfo> T find(Class<T> type, Long uid) {
+        return first(infosOf(type, uid));
+    }
+
+    /**
+     * {@code User.getPrimaryInfo(type)} 대체 — primary 인스턴스, 없으면 첫 번째 (없으면 null)
+     */
+    public <T extends SchoolMemberInfo> T findPrimary(Class<T> type, Long uid) {
+        return primary(infosOf(type, uid));
+    }
+
+    /**
+     * {@code User.getInfoForSchool(type, schoolId)} 대체 — 해당 학교 인스턴스, 없으면 primary.
+     * schoolId 가 null 이면 primary 를 반환합니다.
+     */
+    public <T extends SchoolMemberInfo> T findForSchool(Class<T> type, Long uid, Long schoolId) {
+        return forSchool(infosOf(type, uid), schoolId);
+    }
+
+    // ── 다건 조회 (학생) ──────────────────────────────────────────────────────
+
+    /**
+     * 여러 학생의 학생 정보를 한 번에 조회합니다 (uid → {@link #find} 와 같은 인스턴스).
+     * 학생 정보가 없는 uid 는 결과에 포함되지 않습니다.
+     */
+    public Map<Long, StudentInfo> findStudents(Collection<Long> uids) {
+        Map<Long, StudentInfo> result = new HashMap<>();
+        studentsByUid(uids).forEach((uid, infos) -> result.put(uid, first(infos)));
+        return result;
+    }
+
+    /**
+     * 여러 학생의 학교별 학생 정보를 한 번에 조회합니다 (uid → {@link #findForSchool} 와 같은 인스턴스).
+     */
+    public Map<Long, StudentInfo> findStudentsForSchool(Collection<Long> uids, Long schoolId) {
+        Map<Long, StudentInfo> result = new HashMap<>();
+        studentsByUid(uids).forEach((uid, infos) -> result.put(uid, forSchool(infos, schoolId)));
+        return result;
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private <T extends BaseInfo> List<T> infosOf(Class<T> type, Long uid) {
+        if (uid == null) return List.of();
+        List<? extends BaseInfo> infos;
+        if (type == StudentInfo.class) {
+            infos = studentInfoRepository.findAllByUserUid(uid);
+        } else if (type == TeacherInfo.class) {
+            infos = teacherInfoRepository.findAllByUserUid(uid);
+        } else if (type == StaffInfo.class) {
+            infos = staffInfoRepository.findAllByUserUid(uid);
+        } else if (type == ParentInfo.class) {
+            infos = parentInfoRepository.findAllByUserUid(uid);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 정보 타입입니다: " + type.getSimpleName());
+        }
+        return (List<T>) infos;
+    }
+
+    private Map<Long, List<StudentInfo>> studentsByUid(Collection<Long> uids) {
+        if (uids == null || uids.isEmpty()) return Map.of();
+        return studentInfoRepository.findAllByUserUidIn(uids).stream()
+                .collect(Collectors.groupingBy(info -> info.getUser().getUid()));
+    }
+
+    private static <T extends BaseInfo> T first(List<T> infos) {
+        return infos.stream().min(BY_ID).orElse(null);
+    }
+
+    private static <T extends SchoolMemberInfo> T primary(List<T> infos) {
+        return infos.stream()
+                .filter(SchoolMemberInfo::isPrimary)
+                .min(BY_ID)
+                .orElseGet(() -> first(infos));
+    }
+
+    private static <T extends SchoolMemberInfo> T forSchool(List<T> infos, Long schoolId) {
+        if (schoolId == null) return primary(infos);
+        return infos.stream()
+                .filter(info -> info.getSchool() != null && schoolId.equals(info.getSchool().getId()))
+                .min(BY_ID)
+                .orElseGet(() -> primary(infos));
+    }
+}
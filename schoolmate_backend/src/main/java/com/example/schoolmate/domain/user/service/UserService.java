@@ -61,6 +61,7 @@ public class UserService {
     private final SchoolRepository schoolRepository;
     private final CodeSequenceService codeSequenceService;
     private final SchoolYearRepository schoolYearRepository;
+    private final UserInfoLookup userInfoLookup;
 
     /**
      * 이메일 회원가입
@@ -403,7 +404,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public CustomUserDTO getUserDTOByEmail(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findWithRolesByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
         return entityToDTO(user);
     }
@@ -419,8 +420,9 @@ public class UserService {
                 .name(user.getName())
                 .roles(user.getRoles());
 
-        // 역할별 Info 정보 추가
-        StudentInfo studentInfo = user.getInfo(StudentInfo.class);
+        // 역할별 Info 정보 추가 (보유한 역할의 Info 만 조회)
+        StudentInfo studentInfo = user.hasRole(UserRole.STUDENT)
+                        ? userInfoLookup.find(StudentInfo.class, user.getUid()) : null;
         if (studentInfo != null) {
             builder.role(UserRole.STUDENT)
                     .studentIdentityNum(studentInfo.getCode());
@@ -434,7 +436,8 @@ public class UserService {
             }
         }
 
-        TeacherInfo teacherInfo = user.getInfo(TeacherInfo.class);
+        TeacherInfo teacherInfo = user.hasRole(UserRole.TEACHER)
+                        ? userInfoLookup.find(TeacherInfo.class, user.getUid()) : null;
         if (teacherInfo != null) {
             builder.role(UserRole.TEACHER)
                     .employeeNumber(teacherInfo.getCode())
@@ -443,7 +446,8 @@ public class UserService {
                     .position(teacherInfo.getPosition());
         }
 
-        ParentInfo parentInfo = user.getInfo(ParentInfo.class);
+        ParentInfo parentInfo = user.hasRole(UserRole.PARENT)
+                        ? userInfoLookup.find(ParentInfo.class, user.getUid()) : null;
         if (parentInfo != null) {
             builder.role(UserRole.PARENT)
                     .phoneNumber(parentInfo.getPhone());
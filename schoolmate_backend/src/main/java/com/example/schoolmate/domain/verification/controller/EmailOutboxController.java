@@ -0,0 +1,30 @@
+package com.example.schoolmate.domain.verification.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.schoolmate.domain.verification.dto.EmailOutboxDTO;
+import com.example.schoolmate.domain.verification.service.EmailService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증 메일 발송 상태 조회 (미인증 접근 — 회원가입·비밀번호 찾기 화면에서 사용)
+ * - GET /api/auth/emails/{handle}
+ *   handle 은 인증 코드 발송 API 응답의 emailHandle (순번 id 는 노출하지 않음). PENDING/SENDING → SENT 가 되면 "발송됨" 표시
+ */
+@RestController
+@RequestMapping("/api/auth/emails")
+@RequiredArgsConstructor
+public class EmailOutboxController {
+
+    private final EmailService emailService;
+
+    @GetMapping("/{handle}")
+    public ResponseEntity<EmailOutboxDTO.Response> getStatus(@PathVariable String handle) {
+        return ResponseEntity.ok(emailService.getStatus(handle));
+    }
+}
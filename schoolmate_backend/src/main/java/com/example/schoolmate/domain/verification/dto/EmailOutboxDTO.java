@@ -0,0 +1,33 @@
+package com.example.schoolmate.domain.verification.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.schoolmate.domain.verification.entity.EmailOutbox;
+import com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+public class EmailOutboxDTO {
+
+    /** 발송 상태 — 수신자·본문은 내려주지 않음 */
+    @Getter
+    @Builder
+    public static class Response {
+        private String handle;
+        private EmailOutboxStatus status;
+        private int attempts;
+        private LocalDateTime sentAt;
+        private LocalDateTime updatedAt;
+
+        public static Response from(EmailOutbox message) {
+            return Response.builder()
+                    .handle(message.getHandle())
+                    .status(message.getStatus())
+                    .attempts(message.getAttempts())
+                    .sentAt(message.getSentAt())
+                    .updatedAt(message.getUpdateDate())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.schoolmate.domain.verification.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus;
+import com.example.schoolmate.global.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발송 대기 메일 (outbox)
+ *
+ * - 호출한 쪽 트랜잭션 안에서 저장되므로 업무 데이터(인증 코드 등)와 함께 커밋·롤백됨
+ * - 상태 전이는 EmailOutboxRepository 의 조건부 UPDATE 로만 수행 (워커 간 중복 발송 방지)
+ * - 본문에 인증 코드가 있으므로 발송이 끝나면 body 를 비움
+ * - 외부(미인증 상태 조회)에는 순번 id 대신 추측할 수 없는 handle(UUID) 만 내보냄
+ */
+@Entity
+@Table(name = "email_outbox",
+        indexes = @Index(name = "idx_email_outbox_status_next", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 발송 상태 조회용 공개 식별자 */
+    @Column(length = 36, unique = true)
+    private String handle;
+
+    /** 메일 종류 (password / withdrawal / registration / link) — 지표·로그용 */
+    @Column(nullable = false, length = 20)
+    private String type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    /** 시도 횟수 (발송 시작 시 +1) */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public EmailOutbox(String type, String recipient, String subject, String body) {
+        this.handle = UUID.randomUUID().toString();
+        this.type = type;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.schoolmate.domain.verification.entity.constant;
+
+/**
+ * 메일 발송 대기열(outbox) 상태
+ */
+public enum EmailOutboxStatus {
+    /** 대기 (재시도 대기 포함 — nextAttemptAt 이후 발송) */
+    PENDING,
+    /** 디스패처가 SMTP 로 보내는 중 */
+    SENDING,
+    /** SMTP 서버가 수신함 */
+    SENT,
+    /** 재시도 횟수 소진 또는 수신자 주소 거부 */
+    FAILED
+}
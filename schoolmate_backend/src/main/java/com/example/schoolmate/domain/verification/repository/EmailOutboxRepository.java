@@ -0,0 +1,96 @@
+package com.example.schoolmate.domain.verification.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.schoolmate.domain.verification.entity.EmailOutbox;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    Optional<EmailOutbox> findByHandle(String handle);
+
+    /** 발송 가능한 대기 메일 id (오래된 순) */
+    @Query("""
+            SELECT m.id FROM EmailOutbox m
+            WHERE m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.PENDING
+              AND m.nextAttemptAt <= :now
+            ORDER BY m.id
+            """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** PENDING → SENDING 선점. 1 이면 이 워커가 발송권을 얻음 */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE EmailOutbox m
+            SET m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.SENDING,
+                m.attempts = m.attempts + 1, m.startedAt = :now, m.updateDate = :now
+            WHERE m.id = :id
+              AND m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.PENDING
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** 발송 완료 — 인증 코드가 든 본문은 지움 */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE EmailOutbox m
+            SET m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.SENT,
+                m.body = NULL, m.lastError = NULL, m.sentAt = :now, m.updateDate = :now
+            WHERE m.id = :id
+            """)
+    int markSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** 실패 기록 후 nextAttemptAt 이후 재시도 (재시도 소진 시에는 markFailed) */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE EmailOutbox m
+            SET m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.PENDING,
+                m.lastError = :error, m.nextAttemptAt = :nextAttemptAt, m.updateDate = :now
+            WHERE m.id = :id
+            """)
+    int markRetry(@Param("id") Long id, @Param("error") String error,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE EmailOutbox m
+            SET m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.FAILED,
+                m.body = NULL, m.lastError = :error, m.updateDate = :now
+            WHERE m.id = :id
+            """)
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /** 서버 중단 등으로 SENDING 에 멈춘 메일을 대기 상태로 되돌림 */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE EmailOutbox m
+            SET m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.PENDING,
+                m.nextAttemptAt = :now, m.updateDate = :now
+            WHERE m.status = com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.SENDING
+              AND m.startedAt < :staleBefore
+            """)
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    /** 보관 기간이 지난 완료·실패 메일 삭제 */
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM EmailOutbox m
+            WHERE m.status IN (com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.SENT,
+                               com.example.schoolmate.domain.verification.entity.constant.EmailOutboxStatus.FAILED)
+              AND m.updateDate < :before
+            """)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,243 @@
+package com.example.schoolmate.domain.verification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.schoolmate.domain.verification.entity.EmailOutbox;
+import com.example.schoolmate.domain.verification.repository.EmailOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 대기열(email_outbox) 백그라운드 발송
+ *
+ * - 요청 스레드는 행만 저장하고 반환, 커밋 직후 워커를 깨워 바로 발송 (놓친 것은 poll 이 처리)
+ * - 워커 수만큼 병렬 발송, SMTP 연결은 {@link SmtpTransportPool} 에서 재사용
+ * - 전체 발송 속도는 app.email-outbox.max-per-second 로 제한 (Gmail 발송 한도 보호)
+ * - 실패 시 지수 백오프로 재시도 후 FAILED, 수신자 주소 거부는 바로 FAILED
+ * - 발송 중 서버가 죽으면 SENDING 행을 되돌려 다시 보내므로 드물게 같은 메일이 두 번 갈 수 있음
+ */
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    /** 이 시간이 지나도 SENDING 이면 워커가 사라진 것으로 판단 */
+    private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+    private static final int CLAIM_BATCH = 20;
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final SmtpTransportPool transportPool;
+    private final MeterRegistry meterRegistry;
+    private final String from;
+    private final int workers;
+    private final int maxAttempts;
+    private final int retentionDays;
+    /** 메일 사이 최소 간격 (0 이면 제한 없음) */
+    private final long sendIntervalNanos;
+    /** 다음 메일을 보낼 수 있는 시각 (System.nanoTime 기준) */
+    private final AtomicLong nextSendAt = new AtomicLong(System.nanoTime());
+    private final ThreadPoolExecutor executor;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository outboxRepository,
+            SmtpTransportPool transportPool,
+            MeterRegistry meterRegistry,
+            @Value("${spring.mail.username}") String from,
+            @Value("${app.email-outbox.workers:2}") int workers,
+            @Value("${app.email-outbox.max-attempts:5}") int maxAttempts,
+            @Value("${app.email-outbox.max-per-second:5}") double maxPerSecond,
+            @Value("${app.email-outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.transportPool = transportPool;
+        this.meterRegistry = meterRegistry;
+        this.from = from;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+        this.sendIntervalNanos = maxPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / maxPerSecond) : 0;
+        AtomicInteger seq = new AtomicInteger();
+        // 워커마다 대기 메일을 DB 에서 직접 가져가므로 실행 대기열은 워커 수만큼이면 충분
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers),
+                r -> {
+                    Thread t = new Thread(r, "email-outbox-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /** 진행 중인 발송은 잠시 기다리고, 못 끝낸 메일은 다음 기동 때 stale 복구로 다시 보냄 */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // ── Public API ────────────────────────────────────────────────────────────
+
+    /** 유휴 워커가 있으면 대기 메일 발송을 시작 (가득 차 있으면 무시 — 다음 poll 에서 처리) */
+    public void wakeUp() {
+        executor.execute(this::drain);
+    }
+
+    /**
+     * 주기 점검: 멈춘 메일 복구 + 밀린 메일을 워커 전원이 나눠 발송
+     */
+    @Scheduled(fixedDelayString = "${app.email-outbox.poll-interval-ms:5000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = outboxRepository.requeueStale(now.minus(STALE_AFTER), now);
+        if (requeued > 0) {
+            log.warn("[EmailOutbox] 멈춘 메일 {}건을 대기열로 되돌림", requeued);
+        }
+        for (int i = 0; i < workers; i++) {
+            wakeUp();
+        }
+    }
+
+    /** 보관 기간이 지난 완료·실패 행 삭제 (매일 04:40) */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purge() {
+        int deleted = outboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("[EmailOutbox] 보관 기간 지난 메일 {}건 삭제", deleted);
+        }
+    }
+
+    // ── Worker ────────────────────────────────────────────────────────────────
+
+    /** 선점 가능한 메일이 없을 때까지 하나씩 발송 */
+    private void drain() {
+        Long id;
+        while (!Thread.currentThread().isInterrupted() && (id = claimNext()) != null) {
+            process(id);
+        }
+    }
+
+    @Nullable
+    private Long claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : outboxRepository.findDueIds(now, PageRequest.of(0, CLAIM_BATCH))) {
+            if (outboxRepository.claim(id, now) == 1) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private void process(Long id) {
+        EmailOutbox message = outboxRepository.findById(id).orElse(null);
+        if (message == null) return;
+        if (message.getAttempts() > maxAttempts) {
+            outboxRepository.markFailed(id, "재시도 횟수 초과", LocalDateTime.now());
+            return;
+        }
+
+        pace();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        Transport transport = null;
+        boolean reusable = false;
+        try {
+            transport = transportPool.borrow();
+            MimeMessage mime = toMimeMessage(message);
+            transport.sendMessage(mime, mime.getAllRecipients());
+            reusable = true;
+            outboxRepository.markSent(id, LocalDateTime.now());
+            outcome = "success";
+            log.info("[EmailOutbox] 발송 완료: id={}, type={}, to={}", id, message.getType(), message.getRecipient());
+        } catch (MessagingException | RuntimeException e) {
+            outcome = fail(message, e);
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport, reusable);
+            }
+            sample.stop(Timer.builder("email.send")
+                    .description("메일 발송 지연")
+                    .tag("type", message.getType())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /** @return 지표 outcome (retry / failed) */
+    private String fail(EmailOutbox message, Exception e) {
+        String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        LocalDateTime now = LocalDateTime.now();
+        if (isRejectedAddress(e) || message.getAttempts() >= maxAttempts) {
+            outboxRepository.markFailed(message.getId(), error, now);
+            log.warn("[EmailOutbox] 발송 실패: id={}, to={}, 시도 {}회 - {}",
+                    message.getId(), message.getRecipient(), message.getAttempts(), error);
+            return "failed";
+        }
+        // 10초, 20초, 40초 ...
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(message.getAttempts() - 1, 10));
+        outboxRepository.markRetry(message.getId(), error, now.plus(backoff), now);
+        log.warn("[EmailOutbox] 발송 실패, {}초 후 재시도: id={}, 시도 {}/{} - {}",
+                backoff.toSeconds(), message.getId(), message.getAttempts(), maxAttempts, error);
+        return "retry";
+    }
+
+    /** 메일 사이 간격을 지켜 전체 발송 속도를 제한 (워커 간 공유) */
+    private void pace() {
+        if (sendIntervalNanos == 0) return;
+        long now = System.nanoTime();
+        long slot = nextSendAt.getAndAccumulate(now, (prev, n) -> Math.max(prev, n) + sendIntervalNanos);
+        long wait = slot - now;
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox message) throws MessagingException {
+        MimeMessage mime = new MimeMessage(transportPool.session());
+        MimeMessageHelper helper = new MimeMessageHelper(mime, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBody());
+        helper.setSentDate(new Date());
+        mime.saveChanges();
+        return mime;
+    }
+
+    /** 주소 형식 오류·수신자 거부(5xx)는 다시 보내도 같으므로 재시도하지 않음 */
+    private static boolean isRejectedAddress(Exception e) {
+        if (e instanceof AddressException) return true;
+        return e instanceof SendFailedException sfe
+                && sfe.getInvalidAddresses() != null && sfe.getInvalidAddresses().length > 0;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > ERROR_MAX_LENGTH ? message.substring(0, ERROR_MAX_LENGTH) : message;
+    }
+}
@@ -1,80 +1,103 @@
 package com.example.schoolmate.domain.verification.service;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.schoolmate.domain.verification.dto.EmailOutboxDTO;
+import com.example.schoolmate.domain.verification.entity.EmailOutbox;
+import com.example.schoolmate.domain.verification.repository.EmailOutboxRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 인증 메일 작성 + 발송 대기열(email_outbox) 등록
+ *
+ * - send* 는 SMTP 를 기다리지 않고 호출한 쪽 트랜잭션 안에서 행만 저장 (롤백되면 메일도 나가지 않음)
+ * - 실제 발송은 커밋 후 {@link EmailOutboxDispatcher} 가 수행
+ * - 반환값은 발송 상태 조회(GET /api/auth/emails/{handle})용 handle
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-
-    @Value("${spring.mail.username}")
-    private String from;
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxDispatcher dispatcher;
 
-    public void sendPasswordVerificationCode(String to, String code) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(from);
-        message.setTo(to);
-        message.setSubject("[Schoolmate] 비밀번호 변경 인증 코드");
-        message.setText(
+    public String sendPasswordVerificationCode(String to, String code) {
+        EmailOutbox message = enqueue("password", to, "[Schoolmate] 비밀번호 변경 인증 코드",
                 "비밀번호 변경을 위한 인증 코드입니다.\n\n" +
                 "인증 코드: " + code + "\n\n" +
                 "5분 이내에 입력해주세요.\n" +
                 "본인이 요청하지 않은 경우 이 메일을 무시하세요."
         );
-        mailSender.send(message);
-        log.info("비밀번호 변경 인증 코드 발송 완료: {}", to);
+        log.info("비밀번호 변경 인증 코드 발송 등록: id={}, {}", message.getId(), to);
+        return message.getHandle();
     }
 
-    public void sendWithdrawalVerificationCode(String to, String code) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(from);
-        message.setTo(to);
-        message.setSubject("[Schoolmate] 회원 탈퇴 인증 코드");
-        message.setText(
+    public String sendWithdrawalVerificationCode(String to, String code) {
+        EmailOutbox message = enqueue("withdrawal", to, "[Schoolmate] 회원 탈퇴 인증 코드",
                 "회원 탈퇴를 위한 인증 코드입니다.\n\n" +
                 "인증 코드: " + code + "\n\n" +
                 "5분 이내에 입력해주세요.\n" +
                 "본인이 요청하지 않은 경우 이 메일을 무시하세요."
         );
-        mailSender.send(message);
-        log.info("회원 탈퇴 인증 코드 발송 완료: {}", to);
+        log.info("회원 탈퇴 인증 코드 발송 등록: id={}, {}", message.getId(), to);
+        return message.getHandle();
     }
 
-    public void sendRegistrationVerificationCode(String to, String code) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(from);
-        message.setTo(to);
-        message.setSubject("[Schoolmate] 회원가입 이메일 인증 코드");
-        message.setText(
+    public String sendRegistrationVerificationCode(String to, String code) {
+        EmailOutbox message = enqueue("registration", to, "[Schoolmate] 회원가입 이메일 인증 코드",
                 "회원가입을 위한 이메일 인증 코드입니다.\n\n" +
                 "인증 코드: " + code + "\n\n" +
                 "5분 이내에 입력해주세요.\n" +
                 "본인이 요청하지 않은 경우 이 메일을 무시하세요."
         );
-        mailSender.send(message);
-        log.info("회원가입 인증 코드 발송 완료: {}", to);
+        log.info("회원가입 인증 코드 발송 등록: id={}, {}", message.getId(), to);
+        return message.getHandle();
     }
 
-    public void sendLinkEmailVerificationCode(String to, String code) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(from);
-        message.setTo(to);
-        message.setSubject("[Schoolmate] 이메일 로그인 연동 인증 코드");
-        message.setText(
+    public String sendLinkEmailVerificationCode(String to, String code) {
+        EmailOutbox message = enqueue("link", to, "[Schoolmate] 이메일 로그인 연동 인증 코드",
                 "이메일 로그인 연동을 위한 인증 코드입니다.\n\n" +
                 "인증 코드: " + code + "\n\n" +
                 "5분 이내에 입력해주세요.\n" +
                 "본인이 요청하지 않은 경우 이 메일을 무시하세요."
         );
-        mailSender.send(message);
-        log.info("이메일 로그인 연동 인증 코드 발송 완료: {}", to);
+        log.info("이메일 로그인 연동 인증 코드 발송 등록: id={}, {}", message.getId(), to);
+        return message.getHandle();
+    }
+
+    /** 발송 상태 조회 */
+    @Transactional(readOnly = true)
+    public EmailOutboxDTO.Response getStatus(String handle) {
+        return outboxRepository.findByHandle(handle)
+                .map(EmailOutboxDTO.Response::from)
+                .orElseThrow(() -> new IllegalArgumentException("메일 발송 내역을 찾을 수 없습니다."));
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    /** 대기열 등록 — 호출한 쪽 트랜잭션에 참여하고, 커밋되면 디스패처를 깨움 */
+    private EmailOutbox enqueue(String type, String to, String subject, String body) {
+        EmailOutbox message = outboxRepository.save(new EmailOutbox(type, to, subject, body));
+        afterCommit(dispatcher::wakeUp);
+        return message;
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 }
@@ -30,9 +30,11 @@ public class RegistrationVerificationService {
 
     /**
      * 인증 코드 발송 — 이미 가입된 이메일이면 거부
+     *
+     * @return 발송 상태 조회용 handle
      */
     @Transactional
-    public void sendCode(String email) {
+    public String sendCode(String email) {
         if (userRepository.findByEmail(email).isPresent()) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
@@ -40,8 +42,9 @@ public class RegistrationVerificationService {
         String code = String.format("%06d", RANDOM.nextInt(1_000_000));
         RegistrationEmailCode rec = RegistrationEmailCode.issue(email, code, expiryMinutes);
         codeRepository.save(rec); // 재발송 시 upsert로 코드 교체
-        emailService.sendRegistrationVerificationCode(email, code);
+        String emailHandle = emailService.sendRegistrationVerificationCode(email, code);
         log.info("회원가입 이메일 인증 코드 발송: {}", email);
+        return emailHandle;
     }
 
     /**
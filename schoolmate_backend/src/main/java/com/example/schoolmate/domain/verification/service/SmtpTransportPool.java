@@ -0,0 +1,106 @@
+package com.example.schoolmate.domain.verification.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 발송 워커가 재사용하는 SMTP 연결 풀
+ *
+ * - JavaMailSender.send 는 메일마다 연결·STARTTLS·AUTH 를 새로 하므로 (Gmail 기준 1~3초)
+ *   한 번 맺은 연결을 워커 수만큼 보관해 다음 메일에 그대로 사용
+ * - 잠시(NOOP_AFTER) 쉬었던 연결은 NOOP 으로 살아 있는지 확인, keep-alive-seconds 넘게 쉰 연결은 닫음
+ * - 발송에 실패한 연결은 상태를 알 수 없으므로 돌려받지 않고 닫음
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+
+    /** 이 시간 넘게 쉬었던 연결은 꺼낼 때 NOOP 으로 확인 */
+    private static final long NOOP_AFTER_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private record Pooled(Transport transport, long lastUsedNanos) {}
+
+    private final JavaMailSenderImpl mailSender;
+    private final long keepAliveNanos;
+    private final BlockingQueue<Pooled> idle;
+
+    public SmtpTransportPool(
+            JavaMailSenderImpl mailSender,
+            @Value("${app.email-outbox.workers:2}") int size,
+            @Value("${app.email-outbox.keep-alive-seconds:60}") int keepAliveSeconds) {
+        this.mailSender = mailSender;
+        this.keepAliveNanos = TimeUnit.SECONDS.toNanos(keepAliveSeconds);
+        this.idle = new ArrayBlockingQueue<>(size);
+    }
+
+    Session session() {
+        return mailSender.getSession();
+    }
+
+    /** 유휴 연결을 꺼내거나 새로 연결합니다. 꺼낸 쪽이 반드시 {@link #release} 해야 합니다. */
+    Transport borrow() throws MessagingException {
+        Pooled pooled;
+        while ((pooled = idle.poll()) != null) {
+            long idleNanos = System.nanoTime() - pooled.lastUsedNanos();
+            if (idleNanos < keepAliveNanos && (idleNanos < NOOP_AFTER_NANOS || pooled.transport().isConnected())) {
+                return pooled.transport();
+            }
+            closeQuietly(pooled.transport());
+        }
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        log.debug("[SMTP] 새 연결: {}:{}", mailSender.getHost(), mailSender.getPort());
+        return transport;
+    }
+
+    /**
+     * @param reusable 발송에 성공한 연결이면 true — 풀에 보관 (풀이 가득 차면 닫음)
+     */
+    void release(Transport transport, boolean reusable) {
+        if (!reusable || !idle.offer(new Pooled(transport, System.nanoTime()))) {
+            closeQuietly(transport);
+        }
+    }
+
+    /** keep-alive 시간 넘게 쉰 연결 정리 (서버가 먼저 끊기 전에 QUIT) */
+    @Scheduled(fixedDelay = 30_000)
+    public void closeIdle() {
+        long now = System.nanoTime();
+        for (Pooled pooled : idle) {
+            if (now - pooled.lastUsedNanos() >= keepAliveNanos && idle.remove(pooled)) {
+                closeQuietly(pooled.transport());
+            }
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        Pooled pooled;
+        while ((pooled = idle.poll()) != null) {
+            closeQuietly(pooled.transport());
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("[SMTP] 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.schoolmate.global.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.schoolmate.global.entity.BaseInfo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * BaseInfo ID 발급기(id_generator.base_info_id) 정합 마이그레이션.
+ *
+ * <p>{@link BaseInfo} 는 ID 를 {@value BaseInfo#ID_BLOCK_SIZE}개 구간 단위로 확보하며,
+ * gen_val 은 "확보된 마지막 ID" 의미를 그대로 유지하므로 기존 ID 를 다시 매길 필요는 없습니다.
+ * 다만 발급기를 거치지 않고 들어간 행(수동 입력·덤프 복원 등)이 gen_val 보다 큰 ID 를 갖고 있으면
+ * 새 구간과 겹칠 수 있으므로, 기동 시 gen_val 을 하위 테이블 전체의 최대 ID 이상으로 올립니다.</p>
+ *
+ * <p>스키마 갱신(ddl-auto) 이후, 웹 서버가 요청을 받기 전에 실행됩니다.
+ * GREATEST 로만 올리므로 여러 인스턴스가 동시에 기동해도 안전하고, 여러 번 실행해도 결과가 같습니다.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BaseInfoIdMigration implements SmartInitializingSingleton {
+
+    private static final String GENERATOR = "base_info_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long maxId = maxInfoId();
+        jdbcTemplate.update("INSERT INTO id_generator (gen_name, gen_val) VALUES (?, ?) "
+                + "ON DUPLICATE KEY UPDATE gen_val = GREATEST(COALESCE(gen_val, 0), VALUES(gen_val))",
+                GENERATOR, maxId);
+        log.info("[BaseInfoIdMigration] base_info_id 발급기 확인 완료 (기존 최대 ID: {})", maxId);
+    }
+
+    /**
+     * BaseInfo 하위 테이블 전체의 최대 ID (데이터가 없으면 0)
+     */
+    public long maxInfoId() {
+        Long max = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM student_info), 0), "
+                        + "COALESCE((SELECT MAX(id) FROM teacher_info), 0), "
+                        + "COALESCE((SELECT MAX(id) FROM staff_info), 0), "
+                        + "COALESCE((SELECT MAX(id) FROM parent_info), 0))", Long.class);
+        return max != null ? max : 0L;
+    }
+}
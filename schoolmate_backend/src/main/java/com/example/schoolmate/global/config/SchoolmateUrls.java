@@ -42,13 +42,17 @@ public class SchoolmateUrls {
     public static final String ADMIN_GRANTS = API_ADMIN + "/grants";
     public static final String ADMIN_TRANSFER = API_ADMIN + "/transfer";
     public static final String ADMIN_TEST = API_ADMIN + "/test";
+    public static final String ADMIN_EXPORTS = API_ADMIN + "/exports";
+    public static final String ADMIN_STORAGE = API_ADMIN + "/storage";
 
     // 외부 API 주소
     public static class Api {
+        // 나이스 Open API 기본 주소 (neis.api.base-url 미설정 시 기본값) — 실제 호출은 설정값 뒤에 아래 경로를 붙임 (부하 테스트 스텁 등)
+        public static final String NEIS_HUB = "https://open.neis.go.kr/hub";
         // 나이스 학교 기본 정보 API
-        public static final String NEIS_SCHOOL_INFO = "https://open.neis.go.kr/hub/schoolInfo";
+        public static final String NEIS_SCHOOL_INFO = "/schoolInfo";
         // 나이스 급식 식단 정보 API
-        public static final String NEIS_MEAL_INFO = "https://open.neis.go.kr/hub/mealServiceDietInfo";
+        public static final String NEIS_MEAL_INFO = "/mealServiceDietInfo";
     }
 
     // 이미지 업로드 경로 (Web Access URL)
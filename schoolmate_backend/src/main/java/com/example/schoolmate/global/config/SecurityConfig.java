@@ -2,6 +2,9 @@ package com.example.schoolmate.global.config;
 
 import com.example.schoolmate.domain.user.service.CustomOAuth2UserService;
 import com.example.schoolmate.global.config.jwt.JwtAuthFilter;
+import com.example.schoolmate.global.config.password.AdmissionControlledPasswordEncoder;
+import com.example.schoolmate.global.config.password.PasswordHashingExecutor;
+import com.example.schoolmate.global.config.password.RecentPasswordVerificationCache;
 import com.example.schoolmate.global.util.LogHelper;
 import com.example.schoolmate.global.handler.CustomAccessDeniedHandler;
 import com.example.schoolmate.global.handler.OAuth2LoginSuccessHandler;
@@ -70,6 +73,7 @@ public class SecurityConfig {
                                                                 "/api/auth/settings",
                                                                 "/api/auth/register/email/send-code",
                                                                 "/api/auth/register/email/verify",
+                                                                "/api/auth/emails/*",
                                                                 "/api/schools",
                                                                 "/api/schools/**",
                                                                 "/api/service-notices",
@@ -95,6 +99,9 @@ public class SecurityConfig {
                                                                 "/js/**", "/css/**",
                                                                 "/upload/**", "/uploads/**", "/error/**")
                                                 .permitAll()
+                                                // 운영 지표 — 내부 주소에 묶인 관리 포트(management.server.*)에서만 열림
+                                                .requestMatchers("/actuator/health", "/actuator/prometheus")
+                                                .permitAll()
                                                 // [woo] NEIS 공개 API - 인증 불필요
                                                 .requestMatchers("/api/calendar/**", "/api/meals/**",
                                                                 "/api/board/file/**").permitAll()
@@ -218,9 +225,12 @@ public class SecurityConfig {
                 return new CustomAccessDeniedHandler();
         }
 
+        // BCrypt 는 코어 수 크기의 전용 풀에서 실행 (로그인 폭주 시 요청 스레드·CPU 보호, 대기열 초과 시 503)
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+        public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                        RecentPasswordVerificationCache recentPasswordVerificationCache) {
+                return new AdmissionControlledPasswordEncoder(new BCryptPasswordEncoder(),
+                                passwordHashingExecutor, recentPasswordVerificationCache);
         }
 
         // [woo] 클라이언트 IP 추출 헬퍼 메서드 (backup 코드 복구)
@@ -1,31 +1,35 @@
 package com.example.schoolmate.global.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.example.schoolmate.global.config.school.SchoolInterceptor;
 
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+        private final EntityManagerFactory entityManagerFactory;
+
         @Override
         public void addInterceptors(InterceptorRegistry registry) {
+                // Open-EntityManager-in-View (spring.jpa.open-in-view=false 로 기본 등록은 끄고 직접 등록)
+                // - 로그인·가입은 BCrypt 해싱(전용 풀 대기 포함) 동안 DB 커넥션을 붙잡지 않도록 제외
+                //   → 사용자 조회·토큰 저장은 각자의 짧은 트랜잭션에서만 커넥션 사용
+                OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+                openInView.setEntityManagerFactory(entityManagerFactory);
+                registry.addWebRequestInterceptor(openInView)
+                                .excludePathPatterns("/api/auth/login", "/api/auth/register");
+
                 // X-School-Id 헤더를 읽어 SchoolContextHolder에 저장
                 // - 어드민 API: adminApi.ts 인터셉터가 헤더 자동 첨부
                 // - 기숙사 등 학교 스코프가 필요한 일반 API도 포함
                 registry.addInterceptor(new SchoolInterceptor())
                                 .addPathPatterns("/api/admin/**", "/api/dormitories/**");
         }
-
-        @Override
-        public void addResourceHandlers(ResourceHandlerRegistry registry) {
-                // FileManager가 저장하는 절대 경로({user.dir}/uploads/)와 동일하게 매핑
-                String uploadsAbsPath = "file:///" + System.getProperty("user.dir") + "/uploads/";
-                registry.addResourceHandler("/upload/**")
-                                .addResourceLocations(uploadsAbsPath);
-                registry.addResourceHandler("/uploads/**")
-                                .addResourceLocations(uploadsAbsPath);
-        }
 }
@@ -11,15 +11,19 @@ import com.example.schoolmate.domain.staff.repository.StaffInfoRepository;
 import com.example.schoolmate.domain.student.repository.StudentInfoRepository;
 import com.example.schoolmate.domain.teacher.repository.TeacherInfoRepository;
 import com.example.schoolmate.domain.user.dto.AuthUserDTO;
+import com.example.schoolmate.domain.user.service.UserInfoLookup;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,51 +33,61 @@ import java.util.stream.Collectors;
 public class AuthService {
 
     private final JwtUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final StudentInfoRepository studentInfoRepository;
     private final TeacherInfoRepository teacherInfoRepository;
     private final StaffInfoRepository staffInfoRepository;
+    private final UserInfoLookup userInfoLookup;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(JwtUtil jwtUtil,
-                       RefreshTokenRepository refreshTokenRepository,
+                       RefreshTokenService refreshTokenService,
                        @Lazy AuthenticationManager authenticationManager,
                        UserRepository userRepository,
                        StudentInfoRepository studentInfoRepository,
                        TeacherInfoRepository teacherInfoRepository,
-                       StaffInfoRepository staffInfoRepository) {
+                       StaffInfoRepository staffInfoRepository,
+                       UserInfoLookup userInfoLookup,
+                       PlatformTransactionManager transactionManager) {
         this.jwtUtil = jwtUtil;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenService = refreshTokenService;
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.studentInfoRepository = studentInfoRepository;
         this.teacherInfoRepository = teacherInfoRepository;
         this.staffInfoRepository = staffInfoRepository;
+        this.userInfoLookup = userInfoLookup;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * 이메일/비밀번호로 로그인 → AccessToken + RefreshToken 발급
+     *
+     * <p>비밀번호 검증(BCrypt, 해싱 풀 대기 포함)은 트랜잭션 밖에서 수행해 그동안 DB 커넥션을 잡지 않고,
+     * 토큰 발급·저장만 트랜잭션으로 묶습니다. (로그인·가입 경로는 Open-EntityManager-in-View 에서도
+     * 제외되어 있어야 함 — WebMvcConfig)</p>
      */
-    @Transactional
     public Map<String, Object> login(String email, String password) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email, password)
         );
-
         AuthUserDTO userDTO = (AuthUserDTO) authentication.getPrincipal();
+        return transactionTemplate.execute(status -> issueLoginTokens(email, userDTO));
+    }
+
+    private Map<String, Object> issueLoginTokens(String email, AuthUserDTO userDTO) {
         UserRole primaryRole = userDTO.getPrimaryRole();
         String role = primaryRole != null ? primaryRole.name() : "GUEST";
         Long uid = userDTO.getCustomUserDTO().getUid();
 
-        User user = userRepository.findById(uid).orElse(null);
-        Long schoolId = extractSchoolId(user, primaryRole);
-        Long infoId   = extractInfoId(user, primaryRole);
+        SchoolMemberInfo primaryInfo = primaryInfo(uid, primaryRole);
+        Long schoolId = schoolIdOf(primaryInfo);
+        Long infoId   = primaryInfo != null ? primaryInfo.getId() : null;
 
         String accessToken  = jwtUtil.generateAccessToken(uid, email, role, schoolId, infoId);
-        String refreshToken = jwtUtil.generateRefreshToken(email, uid, role, infoId);
-
-        saveRefreshToken(email, refreshToken);
+        String refreshToken = refreshTokenService.issue(email, uid, role, infoId, schoolId);
 
         List<String> roles = userDTO.getCustomUserDTO().getRoles().stream()
                 .map(UserRole::name)
@@ -94,50 +108,39 @@ public class AuthService {
 
     /**
      * RefreshToken으로 새 AccessToken 발급
+     *
+     * <p>토큰 상태와 컨텍스트(role·uid·infoId·schoolId)는 RefreshTokenService 의 메모리 저장소에서 읽으므로
+     * 트랜잭션을 열지 않습니다. DB 는 저장소에 상태가 없을 때만 조회합니다.</p>
      */
-    @Transactional
     public Map<String, String> refresh(String refreshToken) {
-        if (!jwtUtil.isValid(refreshToken)) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parseToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
         }
 
-        String email = jwtUtil.getEmail(refreshToken);
-
-        RefreshToken saved = refreshTokenRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("저장된 Refresh Token이 없습니다."));
-
-        if (!saved.getToken().equals(refreshToken) || saved.isExpired()) {
-            throw new IllegalArgumentException("만료되었거나 일치하지 않는 Refresh Token입니다.");
-        }
-
-        // Refresh Token에서 컨텍스트 복원 (role·uid·infoId 포함)
-        String role   = jwtUtil.getRole(refreshToken);
-        Long uid      = jwtUtil.getUid(refreshToken);
-        Long infoId   = jwtUtil.getInfoId(refreshToken);
-
-        User user = userRepository.findByEmail(email).orElse(null);
-        UserRole userRole = role != null ? UserRole.valueOf(role) : null;
-        Long schoolId = (infoId != null)
-                ? extractSchoolIdByInfoId(user, userRole, infoId)
-                : extractSchoolId(user, userRole);
+        String email  = claims.getSubject();
+        String role   = claims.get("role", String.class);
+        Long infoId   = claims.get("infoId", Long.class);
 
         // 새 AccessToken + RefreshToken 재발급 (Rotation)
-        String newAccessToken  = jwtUtil.generateAccessToken(uid, email, role, schoolId, infoId);
-        String newRefreshToken = jwtUtil.generateRefreshToken(email, uid, role, infoId);
-        saveRefreshToken(email, newRefreshToken);
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken, claims,
+                () -> loadSchoolId(email, role, infoId));
+        String newAccessToken = jwtUtil.generateAccessToken(
+                rotation.uid(), email, rotation.role(), rotation.schoolId(), rotation.infoId());
 
         return Map.of(
                 "accessToken", newAccessToken,
-                "refreshToken", newRefreshToken
+                "refreshToken", rotation.refreshToken()
         );
     }
 
     /**
-     * 로그아웃 - DB에서 RefreshToken 삭제
+     * 로그아웃 - RefreshToken 세션 폐기 (DB 삭제는 비동기 반영)
      */
-    @Transactional
     public void logout(String email) {
-        refreshTokenRepository.deleteByEmail(email);
+        refreshTokenService.revoke(email);
         log.info("로그아웃 완료: {}", email);
     }
 
@@ -146,13 +149,12 @@ public class AuthService {
      */
     @Transactional
     public Map<String, String> issueTokensForOAuth2(Long uid, String email, String role) {
-        User user = userRepository.findById(uid).orElse(null);
         UserRole userRole = role != null && !role.equals("GUEST") ? UserRole.valueOf(role) : null;
-        Long schoolId = extractSchoolId(user, userRole);
-        Long infoId   = extractInfoId(user, userRole);
+        SchoolMemberInfo primaryInfo = primaryInfo(uid, userRole);
+        Long schoolId = schoolIdOf(primaryInfo);
+        Long infoId   = primaryInfo != null ? primaryInfo.getId() : null;
         String accessToken  = jwtUtil.generateAccessToken(uid, email, role, schoolId, infoId);
-        String refreshToken = jwtUtil.generateRefreshToken(email, uid, role, infoId);
-        saveRefreshToken(email, refreshToken);
+        String refreshToken = refreshTokenService.issue(email, uid, role, infoId, schoolId);
         return Map.of("accessToken", accessToken, "refreshToken", refreshToken);
     }
 
@@ -177,8 +179,7 @@ public class AuthService {
 
         Long schoolId = info.getSchool() != null ? info.getSchool().getId() : null;
         String accessToken  = jwtUtil.generateAccessToken(uid, email, role, schoolId, infoId);
-        String refreshToken = jwtUtil.generateRefreshToken(email, uid, role, infoId);
-        saveRefreshToken(email, refreshToken);
+        String refreshToken = refreshTokenService.issue(email, uid, role, infoId, schoolId);
         return Map.of("accessToken", accessToken, "refreshToken", refreshToken);
     }
 
@@ -214,26 +215,34 @@ public class AuthService {
 
     /** primary info 의 학교 ID */
     private Long extractSchoolId(User user, UserRole role) {
-        if (user == null || role == null) return null;
-        SchoolMemberInfo info = switch (role) {
-            case TEACHER -> user.getPrimaryInfo(TeacherInfo.class);
-            case STUDENT -> user.getPrimaryInfo(StudentInfo.class);
-            case STAFF   -> user.getPrimaryInfo(StaffInfo.class);
+        if (user == null) return null;
+        return schoolIdOf(primaryInfo(user.getUid(), role));
+    }
+
+    /** 역할의 primary info — 해당 역할 테이블 하나만 조회 */
+    private SchoolMemberInfo primaryInfo(Long uid, UserRole role) {
+        if (uid == null || role == null) return null;
+        return switch (role) {
+            case TEACHER -> userInfoLookup.findPrimary(TeacherInfo.class, uid);
+            case STUDENT -> userInfoLookup.findPrimary(StudentInfo.class, uid);
+            case STAFF   -> userInfoLookup.findPrimary(StaffInfo.class, uid);
             default      -> null;
         };
+    }
+
+    private static Long schoolIdOf(SchoolMemberInfo info) {
         return (info != null && info.getSchool() != null) ? info.getSchool().getId() : null;
     }
 
-    /** primary info 의 ID */
-    private Long extractInfoId(User user, UserRole role) {
-        if (user == null || role == null) return null;
-        SchoolMemberInfo info = switch (role) {
-            case TEACHER -> user.getPrimaryInfo(TeacherInfo.class);
-            case STUDENT -> user.getPrimaryInfo(StudentInfo.class);
-            case STAFF   -> user.getPrimaryInfo(StaffInfo.class);
-            default      -> null;
-        };
-        return info != null ? info.getId() : null;
+    /** Refresh 컨텍스트의 schoolId 를 DB 에서 확인 — 메모리 저장소에 없거나 오래됐을 때만 호출 */
+    private Long loadSchoolId(String email, String role, Long infoId) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findWithRolesByEmail(email).orElse(null);
+            UserRole userRole = role != null ? UserRole.valueOf(role) : null;
+            return (infoId != null)
+                    ? extractSchoolIdByInfoId(user, userRole, infoId)
+                    : extractSchoolId(user, userRole);
+        });
     }
 
     /** Refresh 시 infoId 로 schoolId 재조회 (컨텍스트 유지) */
@@ -259,18 +268,4 @@ public class AuthService {
             default -> null;
         };
     }
-
-    private void saveRefreshToken(String email, String refreshToken) {
-        LocalDateTime expiresAt = LocalDateTime.now()
-                .plusSeconds(jwtUtil.getRefreshTokenExpiry() / 1000);
-
-        refreshTokenRepository.findByEmail(email).ifPresentOrElse(
-                existing -> existing.updateToken(refreshToken, expiresAt),
-                () -> refreshTokenRepository.save(RefreshToken.builder()
-                        .email(email)
-                        .token(refreshToken)
-                        .expiresAt(expiresAt)
-                        .build())
-        );
-    }
 }
@@ -1,6 +1,8 @@
 package com.example.schoolmate.global.config.jwt;
 
+import com.example.schoolmate.domain.user.dto.AuthUserDTO;
 import com.example.schoolmate.domain.user.service.CustomUserDetailsService;
+import com.example.schoolmate.global.config.metrics.MetricsConfig;
 import com.example.schoolmate.global.config.school.SchoolContextHolder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -81,6 +83,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(auth);
+                // 요청 지표(http.server.requests)의 role 태그 — 지표는 보안 컨텍스트 정리 후 기록되므로 요청 속성으로 전달
+                if (userDetails instanceof AuthUserDTO authUser && authUser.getPrimaryRole() != null) {
+                    request.setAttribute(MetricsConfig.ROLE_ATTRIBUTE, authUser.getPrimaryRole().name());
+                }
             } catch (UsernameNotFoundException e) {
                 // JWT에 명시된 사용자가 DB에 없을 때 (예: ddl-auto=create로 DB 초기화 후)
                 // 예외를 전파하지 않고 인증 없이 계속 진행 → permitAll 엔드포인트 접근 가능
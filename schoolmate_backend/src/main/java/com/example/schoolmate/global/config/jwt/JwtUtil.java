@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
@@ -42,9 +43,11 @@ public class JwtUtil {
 
     /**
      * Refresh Token에도 uid·role·infoId를 포함해 컨텍스트를 유지합니다.
+     * 같은 초에 회전해도 토큰이 달라지도록 jti 를 붙입니다 (재사용 감지).
      */
     public String generateRefreshToken(String email, Long uid, String role, Long infoId) {
         JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .claim("uid",  uid)
                 .claim("role", role)
@@ -0,0 +1,78 @@
+package com.example.schoolmate.global.config.jwt;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 메모리 {@link RefreshTokenStore}.
+ *
+ * <p>최대 개수(app.refresh-token.max-entries)에 도달하면 만료된 항목을 먼저 비우고, 그래도 가득 차면
+ * 임의의 항목 일부를 내보냅니다. 내보낸 사용자는 다음 갱신 때 DB(또는 아직 반영 전인 write-behind 대기분)에서
+ * 다시 읽으므로 로그인이 풀리지는 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class LocalRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, RefreshSession> sessions = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public LocalRefreshTokenStore(@Value("${app.refresh-token.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public RefreshSession get(String email) {
+        return sessions.get(email);
+    }
+
+    @Override
+    public void put(String email, RefreshSession session) {
+        if (sessions.size() >= maxEntries && !sessions.containsKey(email)) {
+            makeRoom();
+        }
+        sessions.put(email, session);
+    }
+
+    @Override
+    public boolean replace(String email, RefreshSession expected, RefreshSession updated) {
+        return sessions.replace(email, expected, updated);
+    }
+
+    @Override
+    public void remove(String email) {
+        sessions.remove(email);
+    }
+
+    /**
+     * 만료된 상태 정리
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        sessions.values().removeIf(s -> s.isExpired(now));
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    /** 만료 항목 정리 후에도 가득 차 있으면 1% 를 내보냄 */
+    private void makeRoom() {
+        purgeExpired();
+        int excess = sessions.size() - maxEntries + Math.max(1, maxEntries / 100);
+        if (excess <= 0) return;
+        Iterator<String> it = sessions.keySet().iterator();
+        for (int i = 0; i < excess && it.hasNext(); i++) {
+            it.next();
+            it.remove();
+        }
+        log.warn("[RefreshToken] 메모리 저장소가 가득 차 {}건을 내보냄 (max-entries={})", excess, maxEntries);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.schoolmate.global.config.jwt;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자(이메일)별 현재 Refresh Token 상태. 토큰 원문 대신 SHA-256 해시를 보관합니다.
+ *
+ * @param tokenHash       현재 유효한 토큰의 해시
+ * @param previousHash    직전 회전에서 폐기된 토큰의 해시 (재사용 감지용, 로그인 직후에는 null)
+ * @param rotatedAt       직전 회전 시각
+ * @param graceToken      회전 직후 유예 시간 동안 같은 이전 토큰으로 들어온 동시 갱신 요청에 돌려줄 현재 토큰 (메모리에만 유지)
+ * @param schoolId        토큰 컨텍스트의 학교 ID — 갱신 시 DB 재조회를 생략하기 위해 보관
+ * @param contextLoadedAt schoolId 를 DB 에서 확인한 시각
+ */
+public record RefreshSession(String tokenHash, String previousHash, LocalDateTime rotatedAt, String graceToken,
+        Long uid, String role, Long infoId, Long schoolId, LocalDateTime contextLoadedAt,
+        LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(expiresAt);
+    }
+}
@@ -3,6 +3,8 @@ package com.example.schoolmate.global.config.jwt;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
@@ -11,6 +13,8 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
 
     Optional<RefreshToken> findByToken(String token);
 
+    List<RefreshToken> findAllByEmailIn(Collection<String> emails);
+
     @Transactional
     void deleteByEmail(String email);
 }
@@ -0,0 +1,184 @@
+package com.example.schoolmate.global.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh Token 발급·회전·폐기.
+ *
+ * <ul>
+ *   <li>상태는 {@link RefreshTokenStore} (기본: 메모리)에 해시로 보관하고 DB 에는 {@link RefreshTokenWriteBehind} 로
+ *       비동기 반영합니다. 저장소에 상태가 있는 일반적인 갱신은 동기 DB 조회·쓰기가 없습니다.</li>
+ *   <li>갱신할 때마다 새 토큰으로 회전하며, 폐기된 직전 토큰이 다시 쓰이면 탈취로 보고 세션을 폐기합니다.
+ *       단, 회전 직후 유예 시간(app.refresh-token.reuse-grace-seconds) 안의 동시 갱신(여러 탭)에는
+ *       방금 발급한 토큰을 그대로 돌려줍니다.</li>
+ *   <li>저장소에 없으면(재시작·내보냄) 반영 대기분 또는 DB 를 한 번 읽어 복원합니다.</li>
+ *   <li>토큰 컨텍스트의 schoolId 는 app.refresh-token.context-ttl-seconds 마다 DB 에서 다시 확인합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    /** 동시 회전 경합 시 재시도 횟수 */
+    private static final int MAX_ATTEMPTS = 5;
+
+    /**
+     * 회전 결과 — 새 Access Token 발급에 필요한 컨텍스트 포함
+     */
+    public record Rotation(String refreshToken, Long uid, String role, Long infoId, Long schoolId) {
+    }
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore store;
+    private final RefreshTokenWriteBehind writeBehind;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long reuseGraceSeconds;
+    private final long contextTtlSeconds;
+
+    public RefreshTokenService(JwtUtil jwtUtil,
+                               RefreshTokenStore store,
+                               RefreshTokenWriteBehind writeBehind,
+                               RefreshTokenRepository refreshTokenRepository,
+                               @Value("${app.refresh-token.reuse-grace-seconds:10}") long reuseGraceSeconds,
+                               @Value("${app.refresh-token.context-ttl-seconds:3600}") long contextTtlSeconds) {
+        this.jwtUtil = jwtUtil;
+        this.store = store;
+        this.writeBehind = writeBehind;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+        this.contextTtlSeconds = contextTtlSeconds;
+    }
+
+    /**
+     * 새 Refresh Token 을 발급하고 사용자의 기존 세션을 대체합니다 (로그인·컨텍스트 전환).
+     */
+    public String issue(String email, Long uid, String role, Long infoId, Long schoolId) {
+        String token = jwtUtil.generateRefreshToken(email, uid, role, infoId);
+        LocalDateTime now = LocalDateTime.now();
+        RefreshSession session = new RefreshSession(hash(token), null, null, null,
+                uid, role, infoId, schoolId, now, expiresAt(now));
+        store.put(email, session);
+        writeBehind.save(email, session.tokenHash(), session.expiresAt());
+        return token;
+    }
+
+    /**
+     * 제출된 Refresh Token 을 검증하고 새 토큰으로 회전합니다.
+     *
+     * @param claims         서명·만료 검증을 마친 토큰 클레임
+     * @param schoolIdLoader 저장소에 컨텍스트가 없거나 오래됐을 때 DB 에서 schoolId 를 확인하는 함수
+     * @throws IllegalArgumentException 저장된 토큰과 다르거나 만료·재사용된 경우
+     */
+    public Rotation rotate(String refreshToken, Claims claims, Supplier<Long> schoolIdLoader) {
+        String email = claims.getSubject();
+        String presentedHash = hash(refreshToken);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            RefreshSession session = store.get(email);
+            if (session == null) {
+                session = load(email, refreshToken, presentedHash, claims, schoolIdLoader, now);
+                store.put(email, session);
+            }
+            if (session.isExpired(now)) {
+                throw mismatch();
+            }
+
+            if (presentedHash.equals(session.tokenHash())) {
+                boolean contextFresh = session.contextLoadedAt().plusSeconds(contextTtlSeconds).isAfter(now);
+                Long schoolId = contextFresh ? session.schoolId() : schoolIdLoader.get();
+                String next = jwtUtil.generateRefreshToken(email, session.uid(), session.role(), session.infoId());
+                RefreshSession rotated = new RefreshSession(hash(next), session.tokenHash(), now, next,
+                        session.uid(), session.role(), session.infoId(), schoolId,
+                        contextFresh ? session.contextLoadedAt() : now, expiresAt(now));
+                if (store.replace(email, session, rotated)) {
+                    writeBehind.save(email, rotated.tokenHash(), rotated.expiresAt());
+                    return rotation(next, rotated);
+                }
+                continue; // 다른 요청이 먼저 회전함 → 새 상태로 다시 판단 (유예 경로)
+            }
+
+            if (presentedHash.equals(session.previousHash())) {
+                if (session.graceToken() != null
+                        && session.rotatedAt().plusSeconds(reuseGraceSeconds).isAfter(now)) {
+                    return rotation(session.graceToken(), session);
+                }
+                revoke(email);
+                log.warn("[RefreshToken] 폐기된 토큰 재사용 감지 — 세션 폐기: {}", email);
+                throw new IllegalArgumentException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+            }
+            throw mismatch();
+        }
+        throw new IllegalStateException("Refresh Token 갱신 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 사용자의 Refresh Token 세션을 폐기합니다 (로그아웃·재사용 감지).
+     */
+    public void revoke(String email) {
+        store.remove(email);
+        writeBehind.delete(email);
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    /** 저장소에 없는 세션을 반영 대기분 또는 DB 에서 복원 */
+    private RefreshSession load(String email, String refreshToken, String presentedHash, Claims claims,
+                                Supplier<Long> schoolIdLoader, LocalDateTime now) {
+        String storedToken;
+        LocalDateTime expiresAt;
+        RefreshTokenWriteBehind.Pending pending = writeBehind.pending(email);
+        if (pending != null) {
+            if (pending.isDelete()) {
+                throw new IllegalArgumentException("저장된 Refresh Token이 없습니다.");
+            }
+            storedToken = pending.tokenHash();
+            expiresAt = pending.expiresAt();
+        } else {
+            RefreshToken saved = refreshTokenRepository.findByEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("저장된 Refresh Token이 없습니다."));
+            storedToken = saved.getToken();
+            expiresAt = saved.getExpiresAt();
+        }
+
+        // 해시 저장 이전에 발급된 행은 토큰 원문이 들어 있음
+        if (!presentedHash.equals(storedToken) && !refreshToken.equals(storedToken)) {
+            throw mismatch();
+        }
+        return new RefreshSession(presentedHash, null, null, null,
+                claims.get("uid", Long.class), claims.get("role", String.class), claims.get("infoId", Long.class),
+                schoolIdLoader.get(), now, expiresAt);
+    }
+
+    private LocalDateTime expiresAt(LocalDateTime now) {
+        return now.plusSeconds(jwtUtil.getRefreshTokenExpiry() / 1000);
+    }
+
+    private static Rotation rotation(String refreshToken, RefreshSession session) {
+        return new Rotation(refreshToken, session.uid(), session.role(), session.infoId(), session.schoolId());
+    }
+
+    private static IllegalArgumentException mismatch() {
+        return new IllegalArgumentException("만료되었거나 일치하지 않는 Refresh Token입니다.");
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
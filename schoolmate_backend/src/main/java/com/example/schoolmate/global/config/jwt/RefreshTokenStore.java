@@ -0,0 +1,25 @@
+package com.example.schoolmate.global.config.jwt;
+
+/**
+ * 이메일 → {@link RefreshSession} 저장소.
+ *
+ * <p>기본 구현은 노드 메모리({@link LocalRefreshTokenStore})입니다. 여러 노드가 로드밸런서 뒤에서
+ * 세션 고정 없이 동작한다면 같은 연산(조회·저장·조건부 교체·삭제)을 지원하는 공유 저장소(Redis 호환 등)
+ * 구현으로 교체해야 합니다.</p>
+ */
+public interface RefreshTokenStore {
+
+    /** 저장된 상태; 없으면 null */
+    RefreshSession get(String email);
+
+    void put(String email, RefreshSession session);
+
+    /**
+     * 현재 값이 expected 와 같을 때만 updated 로 교체합니다 (동시 갱신 경합 방지).
+     *
+     * @return 교체했으면 true
+     */
+    boolean replace(String email, RefreshSession expected, RefreshSession updated);
+
+    void remove(String email);
+}
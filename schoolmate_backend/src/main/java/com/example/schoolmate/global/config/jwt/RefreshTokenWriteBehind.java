@@ -0,0 +1,142 @@
+package com.example.schoolmate.global.config.jwt;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh Token 상태의 비동기 DB 반영 (write-behind).
+ *
+ * <p>갱신·로그인·로그아웃은 대기 맵에 최신 상태만 남기고 바로 반환하며,
+ * app.refresh-token.flush-interval-ms 마다 이메일별 마지막 상태를 한 트랜잭션으로 refresh_tokens 에 반영합니다.
+ * 같은 사용자가 주기 안에 여러 번 갱신해도 DB 쓰기는 한 번입니다. 종료 시에도 남은 대기분을 반영합니다.</p>
+ *
+ * <p>반영에 실패하면 다음 주기에 다시 시도하며, 그 사이 들어온 더 새 상태는 덮어쓰지 않습니다.
+ * 프로세스가 비정상 종료되면 마지막 주기의 회전은 유실되어 해당 사용자는 다시 로그인해야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class RefreshTokenWriteBehind {
+
+    /** 한 트랜잭션에 반영하는 최대 건수 */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 반영 대기 중인 상태
+     *
+     * @param tokenHash 저장할 토큰 해시; null 이면 삭제
+     */
+    record Pending(String tokenHash, LocalDateTime expiresAt) {
+
+        boolean isDelete() {
+            return tokenHash == null;
+        }
+    }
+
+    private static final Pending DELETE = new Pending(null, null);
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    /** 현재 반영 중인 배치 — 커밋 전까지 {@link #pending(String)} 조회에 포함 */
+    private volatile Map<String, Pending> inFlight = Map.of();
+    /** 주기 반영과 종료 반영의 직렬화 — DB I/O 를 감싸므로 synchronized 대신 사용 (가상 스레드 pinning 방지) */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RefreshTokenWriteBehind(RefreshTokenRepository refreshTokenRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void save(String email, String tokenHash, LocalDateTime expiresAt) {
+        pending.put(email, new Pending(tokenHash, expiresAt));
+    }
+
+    public void delete(String email) {
+        pending.put(email, DELETE);
+    }
+
+    /** 아직 DB 에 반영되지 않은 최신 상태; 없으면 null */
+    Pending pending(String email) {
+        Pending p = pending.get(email);
+        return p != null ? p : inFlight.get(email);
+    }
+
+    @Scheduled(fixedDelayString = "${app.refresh-token.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+        flushLock.lock();
+        try {
+            // 시작 시점 건수만큼만 처리 (반영 실패로 되돌아온 건이나 계속 들어오는 갱신으로 끝나지 않는 일 방지)
+            int remaining = pending.size();
+            while (remaining > 0) {
+                Map<String, Pending> batch = new HashMap<>();
+                for (Map.Entry<String, Pending> e : pending.entrySet()) {
+                    batch.put(e.getKey(), e.getValue());
+                    if (batch.size() >= BATCH_SIZE) break;
+                }
+                if (batch.isEmpty()) break;
+                // 반영 중 배치를 먼저 공개한 뒤 대기 맵에서 제거 → 조회 시 항상 둘 중 한 곳에는 있음.
+                // 그 사이 더 새 상태로 바뀐 항목은 대기 맵에 남겨 다음 배치에서 반영
+                inFlight = batch;
+                batch.forEach(pending::remove);
+                write(batch);
+                remaining -= batch.size();
+            }
+        } finally {
+            inFlight = Map.of();
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private void write(Map<String, Pending> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, RefreshToken> existing = refreshTokenRepository.findAllByEmailIn(batch.keySet()).stream()
+                        .collect(Collectors.toMap(RefreshToken::getEmail, Function.identity()));
+                List<RefreshToken> inserts = new ArrayList<>();
+                batch.forEach((email, p) -> {
+                    RefreshToken row = existing.get(email);
+                    if (p.isDelete()) {
+                        if (row != null) refreshTokenRepository.delete(row);
+                    } else if (row != null) {
+                        row.updateToken(p.tokenHash(), p.expiresAt());
+                    } else {
+                        inserts.add(RefreshToken.builder()
+                                .email(email)
+                                .token(p.tokenHash())
+                                .expiresAt(p.expiresAt())
+                                .build());
+                    }
+                });
+                refreshTokenRepository.saveAll(inserts);
+            });
+        } catch (RuntimeException e) {
+            batch.forEach(pending::putIfAbsent);
+            log.error("[RefreshToken] DB 반영 실패 ({}건, 다음 주기에 재시도): {}", batch.size(), e.getMessage());
+        }
+    }
+}
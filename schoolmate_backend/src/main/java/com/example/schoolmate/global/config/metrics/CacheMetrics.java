@@ -0,0 +1,56 @@
+package com.example.schoolmate.global.config.metrics;
+
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 직접 만든 인메모리 캐시의 적중/미스 지표.
+ *
+ * <p>Micrometer 캐시 바인더와 같은 이름으로 기록하므로 적중률은
+ * {@code cache_gets_total{cache="...",result="hit"} / cache_gets_total{cache="..."}} 로 구합니다.</p>
+ *
+ * <ul>
+ *   <li>cache.gets (cache, result=hit|miss) — 조회 결과별 횟수</li>
+ *   <li>cache.size (cache) — 현재 항목 수</li>
+ * </ul>
+ */
+public final class CacheMetrics {
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private CacheMetrics(MeterRegistry meterRegistry, String cache) {
+        this.hits = counter(meterRegistry, cache, "hit");
+        this.misses = counter(meterRegistry, cache, "miss");
+    }
+
+    /**
+     * @param size 현재 항목 수 (게이지가 읽을 때마다 호출)
+     */
+    public static CacheMetrics register(MeterRegistry meterRegistry, String cache, Supplier<Number> size) {
+        Gauge.builder("cache.size", size)
+                .tag("cache", cache)
+                .description("캐시 항목 수")
+                .register(meterRegistry);
+        return new CacheMetrics(meterRegistry, cache);
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", cache)
+                .tag("result", result)
+                .description("캐시 조회 결과별 횟수")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.schoolmate.global.config.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import io.micrometer.common.KeyValues;
+
+/**
+ * 운영 지표 설정.
+ *
+ * <p>HTTP 엔드포인트 지표(http.server.requests)는 Spring Boot 가 매핑된 URL 패턴(uri 태그)으로 기록하며,
+ * 여기서 요청 사용자의 역할을 role 태그로 더합니다 (미인증 요청은 anonymous).
+ * HikariCP 풀·JVM/GC 지표는 actuator 가 자동으로 등록합니다.
+ * 인메모리 캐시(학급 명단·학교 검색 인덱스·비밀번호 검증)의 적중률은 {@link CacheMetrics} 로 기록합니다.</p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** JwtAuthFilter 가 인증한 사용자의 역할을 담는 요청 속성 */
+    public static final String ROLE_ATTRIBUTE = MetricsConfig.class.getName() + ".role";
+
+    private static final String ANONYMOUS = "anonymous";
+
+    @Bean
+    public ServerRequestObservationConvention roleTaggedServerRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object role = context.getCarrier().getAttribute(ROLE_ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context)
+                        .and("role", role != null ? role.toString() : ANONYMOUS);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.schoolmate.global.config.metrics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * NEIS Open API 호출 지연·오류율 지표 (neis.requests).
+ *
+ * <ul>
+ *   <li>api: 호출한 API 이름 (URL 마지막 경로 — mealServiceDietInfo, SchoolSchedule, hisTimetable, schoolInfo 등)</li>
+ *   <li>outcome: SUCCESS / CLIENT_ERROR / SERVER_ERROR / IO_ERROR (연결 실패·타임아웃)</li>
+ * </ul>
+ *
+ * <p>응답 헤더를 받을 때까지의 시간이며 본문을 읽는 시간은 포함되지 않습니다.
+ * NEIS 는 HTTP 200 본문 안의 RESULT 코드로도 오류를 알리므로, 그 구분은 각 서비스 로그를 봐야 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class NeisMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            outcome = outcomeOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            Timer.builder("neis.requests")
+                    .description("NEIS Open API 호출 지연")
+                    .tag("api", apiOf(request.getURI()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private static String outcomeOf(int status) {
+        if (status >= 500) return "SERVER_ERROR";
+        if (status >= 400) return "CLIENT_ERROR";
+        return "SUCCESS";
+    }
+
+    private static String apiOf(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty()) return "unknown";
+        int slash = path.lastIndexOf('/', path.length() - 2);
+        String api = path.substring(slash + 1);
+        return api.endsWith("/") ? api.substring(0, api.length() - 1) : api;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.schoolmate.global.config.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱을 {@link PasswordHashingExecutor} 의 전용 풀에서 실행하는 PasswordEncoder.
+ *
+ * <p>검증(matches)은 먼저 {@link RecentPasswordVerificationCache} 를 확인하고, 없으면 풀에서 BCrypt 로 검증한 뒤
+ * 성공한 결과를 캐시에 남깁니다. 대기열이 가득 차면 {@link PasswordHashingBusyException} 이 전파됩니다.</p>
+ */
+public class AdmissionControlledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+    private final RecentPasswordVerificationCache recentVerifications;
+
+    public AdmissionControlledPasswordEncoder(PasswordEncoder delegate,
+                                              PasswordHashingExecutor executor,
+                                              RecentPasswordVerificationCache recentVerifications) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.recentVerifications = recentVerifications;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        // 해시가 없는 계정(소셜 전용 등)은 BCrypt 를 돌리지 않고 바로 실패
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        if (recentVerifications.matches(rawPassword, encodedPassword)) {
+            return true;
+        }
+        boolean matched = executor.call(() -> delegate.matches(rawPassword, encodedPassword));
+        if (matched) {
+            recentVerifications.put(rawPassword, encodedPassword);
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.schoolmate.global.config.password;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 해싱 풀의 대기열이 가득 차 요청을 받지 못했을 때 (503 + Retry-After)
+ */
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+
+    /** 클라이언트가 다시 시도하기까지 기다릴 시간 (초) */
+    private final int retryAfterSeconds;
+
+    public PasswordHashingBusyException(int retryAfterSeconds) {
+        super("로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
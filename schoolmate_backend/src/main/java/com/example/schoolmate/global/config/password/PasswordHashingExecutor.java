@@ -0,0 +1,111 @@
+package com.example.schoolmate.global.config.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 해싱 전용 풀 (로그인 입장 제어).
+ *
+ * <p>등교 시간처럼 로그인이 몰리면 CPU 를 전부 쓰는 해싱이 Tomcat 요청 스레드를 점유해
+ * 대시보드·퀴즈 제출 같은 다른 요청까지 느려집니다. 해싱은 코어 수만큼의 워커에서만 실행하고,
+ * 요청 스레드는 결과를 기다리기만 합니다.</p>
+ *
+ * <ul>
+ *   <li>대기열은 도착 순서(FIFO, fair)로 처리하며 용량(app.login-admission.queue-capacity)을 넘으면
+ *       기다리지 않고 {@link PasswordHashingBusyException} (503 + Retry-After) 으로 거절합니다.</li>
+ *   <li>지표: auth.hash.queue.wait (대기열 대기 시간), auth.hash.rejected (거절 수),
+ *       auth.hash.queue.size (대기 중인 작업 수)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final int retryAfterSeconds;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.login-admission.threads:0}") int threads,
+            @Value("${app.login-admission.queue-capacity:200}") int queueCapacity,
+            @Value("${app.login-admission.retry-after-seconds:2}") int retryAfterSeconds) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity, true),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.queueWait = Timer.builder("auth.hash.queue.wait")
+                .description("비밀번호 해싱 대기열 대기 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.hash.rejected")
+                .description("대기열이 가득 차 거절된 비밀번호 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해싱 대기열 길이")
+                .register(meterRegistry);
+        log.info("[PasswordHashing] 워커 {}개, 대기열 {}", workers, queueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 해싱 작업을 풀에서 실행하고 결과를 기다립니다.
+     *
+     * @throws PasswordHashingBusyException 대기열이 가득 찬 경우
+     */
+    public <T> T call(Callable<T> task) {
+        long enqueued = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.schoolmate.global.config.password;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.schoolmate.global.config.metrics.CacheMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 최근 성공한 비밀번호 검증 캐시 — SPA 재로그인처럼 같은 계정·비밀번호가 짧은 간격으로 반복될 때 BCrypt 를 건너뜁니다.
+ *
+ * <ul>
+ *   <li>키는 저장된 BCrypt 해시(솔트 포함)라 계정과 비밀번호 버전을 함께 식별하며,
+ *       비밀번호가 바뀌면 해시가 달라져 자동으로 무효화됩니다.</li>
+ *   <li>값은 평문 대신 프로세스마다 새로 만드는 비밀 키로 계산한 HMAC-SHA256 이므로 메모리에 비밀번호가 남지 않습니다.</li>
+ *   <li>성공한 검증만 저장하므로 틀린 비밀번호는 항상 BCrypt 를 거칩니다.</li>
+ *   <li>TTL(app.login-admission.cache-ttl-seconds, 0 이면 사용 안 함)이 지나거나 최대 개수에 도달하면 새로 저장하지 않습니다.</li>
+ *   <li>적중률: {@link CacheMetrics} (cache=password-verification)</li>
+ * </ul>
+ */
+@Component
+public class RecentPasswordVerificationCache {
+
+    private record Entry(byte[] mac, long expiresAt) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SecretKeySpec key;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final CacheMetrics metrics;
+
+    public RecentPasswordVerificationCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.login-admission.cache-ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.login-admission.cache-max-entries:10000}") int maxEntries) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, "HmacSHA256");
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.metrics = CacheMetrics.register(meterRegistry, "password-verification", entries::size);
+    }
+
+    /** 같은 해시에 대해 같은 비밀번호가 TTL 안에 검증된 적이 있는지 */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (ttlNanos <= 0) return false;
+        Entry entry = entries.get(encodedPassword);
+        if (entry != null && entry.expiresAt() - System.nanoTime() < 0) {
+            entries.remove(encodedPassword, entry);
+            entry = null;
+        }
+        boolean matched = entry != null && MessageDigest.isEqual(entry.mac(), mac(rawPassword, encodedPassword));
+        if (matched) {
+            metrics.hit();
+        } else {
+            metrics.miss();
+        }
+        return matched;
+    }
+
+    /** BCrypt 검증에 성공한 비밀번호를 기록합니다. */
+    public void put(CharSequence rawPassword, String encodedPassword) {
+        if (ttlNanos <= 0) return;
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) return;
+        }
+        entries.put(encodedPassword, new Entry(mac(rawPassword, encodedPassword), System.nanoTime() + ttlNanos));
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(e -> e.expiresAt() - now < 0);
+    }
+
+    private byte[] mac(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 공유 카운터 (app.rate-limit.backend=jdbc) — 여러 인스턴스가 같은 한도를 나눠 씀
+ *
+ * <p>키·구간마다 행 하나(rate_limit_window)를 upsert 로 +1 한 뒤 현재·직전 구간 두 행을 읽어
+ * {@link SlidingWindowCounter} 와 같은 방식으로 추정합니다. 호출당 쿼리 2번이며, 전역 DELETE 없이
+ * 만료 행은 주기적으로 조금씩 지웁니다. 로컬 카운터와 같게 허용된 호출만 세도록, 거절하면 올린 1 을
+ * 되돌립니다 (거절 시 쿼리 3번). 먼저 올리고 확인하므로 동시 호출이 함께 한도를 넘지는 않습니다.</p>
+ *
+ * <p>구간은 epoch 기준이라 인스턴스 간 시계가 맞아야 합니다 (NTP). 테이블은 기동 시 없으면 만듭니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "jdbc")
+public class JdbcRateLimitBackend implements RateLimitBackend, SmartInitializingSingleton {
+
+    private static final int PURGE_BATCH = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS rate_limit_window ("
+                + "limit_key VARCHAR(255) NOT NULL, "
+                + "window_start BIGINT NOT NULL, "
+                + "hits INT NOT NULL, "
+                + "expires_at BIGINT NOT NULL, "
+                + "PRIMARY KEY (limit_key, window_start), "
+                + "KEY idx_rate_limit_window_expires (expires_at))");
+    }
+
+    @Override
+    public Decision acquire(String key, int limit, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        long start = SlidingWindowCounter.alignedStart(now, windowMillis);
+
+        increment(key, start, windowMillis);
+        long[] hits = hits(key, start, windowMillis); // 현재 구간은 이번 호출 포함
+        Decision decision = decide(hits[0], hits[1] - 1, limit, start, windowMillis, now);
+        if (!decision.allowed()) {
+            jdbcTemplate.update("UPDATE rate_limit_window SET hits = hits - 1 "
+                    + "WHERE limit_key = ? AND window_start = ? AND hits > 0", key, start);
+        }
+        return decision;
+    }
+
+    @Override
+    public Decision check(String key, int limit, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        long start = SlidingWindowCounter.alignedStart(now, windowMillis);
+
+        long[] hits = hits(key, start, windowMillis);
+        return decide(hits[0], hits[1], limit, start, windowMillis, now);
+    }
+
+    @Override
+    public void record(String key, Duration window) {
+        long windowMillis = window.toMillis();
+        increment(key, SlidingWindowCounter.alignedStart(System.currentTimeMillis(), windowMillis), windowMillis);
+    }
+
+    /** 만료 행 정리 — 한 번에 PURGE_BATCH 행까지만 지워 잠금을 짧게 유지 */
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        int deleted = jdbcTemplate.update("DELETE FROM rate_limit_window WHERE expires_at < ? LIMIT " + PURGE_BATCH,
+                System.currentTimeMillis());
+        if (deleted > 0) {
+            log.debug("[RateLimit] 만료 카운터 {}행 삭제", deleted);
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private void increment(String key, long start, long windowMillis) {
+        jdbcTemplate.update("INSERT INTO rate_limit_window (limit_key, window_start, hits, expires_at) "
+                + "VALUES (?, ?, 1, ?) ON DUPLICATE KEY UPDATE hits = hits + 1",
+                key, start, start + 2 * windowMillis);
+    }
+
+    /** [직전 구간, 현재 구간] 호출 수 */
+    private long[] hits(String key, long start, long windowMillis) {
+        long[] hits = new long[2];
+        jdbcTemplate.query("SELECT window_start, hits FROM rate_limit_window "
+                        + "WHERE limit_key = ? AND window_start IN (?, ?)",
+                rs -> {
+                    hits[rs.getLong(1) == start ? 1 : 0] = rs.getLong(2);
+                },
+                key, start, start - windowMillis);
+        return hits;
+    }
+
+    private static Decision decide(long previous, long current, int limit, long start, long windowMillis, long now) {
+        if (SlidingWindowCounter.estimate(previous, current, now - start, windowMillis) + 1 > limit) {
+            return Decision.rejected(SlidingWindowCounter.retryAfterSeconds(start, windowMillis, now));
+        }
+        return Decision.ALLOWED;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스 메모리 카운터 (app.rate-limit.backend=local, 기본)
+ *
+ * <ul>
+ *   <li>키 해시로 나눈 구간(stripe)마다 잠금 하나 + 접근 순서 LinkedHashMap — 서로 다른 키는 거의 경합하지 않음</li>
+ *   <li>크기 제한: 구간마다 max-entries / STRIPES 개, 넘치면 가장 오래 안 쓴 키부터 제거 (그 키의 한도는 초기화됨)</li>
+ *   <li>TTL: 두 구간이 지난 카운터는 주기적으로 제거</li>
+ * </ul>
+ *
+ * <p>인스턴스마다 따로 세므로 N 대로 운영하면 실제 한도는 최대 N 배가 됩니다 (공유가 필요하면 jdbc).</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    private static final int STRIPES = 64;
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<String, SlidingWindowCounter> counters;
+
+        Stripe(int maxEntries) {
+            this.counters = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SlidingWindowCounter> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public LocalRateLimitBackend(@Value("${app.rate-limit.max-entries:100000}") int maxEntries) {
+        int perStripe = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    @Override
+    public Decision acquire(String key, int limit, Duration window) {
+        return withCounter(key, window, (counter, now) -> counter.acquire(now, limit));
+    }
+
+    @Override
+    public Decision check(String key, int limit, Duration window) {
+        return withCounter(key, window, (counter, now) -> counter.check(now, limit));
+    }
+
+    @Override
+    public void record(String key, Duration window) {
+        withCounter(key, window, (counter, now) -> {
+            counter.record(now);
+            return Decision.ALLOWED;
+        });
+    }
+
+    /** 만료된 카운터 제거 — 구간 하나씩 잠그므로 요청 처리는 거의 막지 않음 */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.counters.values().removeIf(counter -> counter.isExpired(now));
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    /** key 의 카운터를 구간 잠금 안에서 다룸 (없거나 window 가 바뀌었으면 새로 만듦) */
+    private Decision withCounter(String key, Duration window, BiFunction<SlidingWindowCounter, Long, Decision> action) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        Stripe stripe = stripes[Math.floorMod(key.hashCode(), STRIPES)];
+        stripe.lock.lock();
+        try {
+            SlidingWindowCounter counter = stripe.counters.get(key);
+            if (counter == null || counter.windowMillis() != windowMillis) {
+                counter = new SlidingWindowCounter(windowMillis, now);
+                stripe.counters.put(key, counter);
+            }
+            return action.apply(counter, now);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+}
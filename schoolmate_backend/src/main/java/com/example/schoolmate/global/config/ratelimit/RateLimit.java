@@ -0,0 +1,41 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 호출 횟수 제한 — 초과하면 429 + Retry-After ({@link RateLimitExceededException})
+ *
+ * <p>key 는 메서드 인자를 쓰는 SpEL 입니다. 인자 이름 외에 {@code #ip}(클라이언트 IP),
+ * {@code #uid}(로그인 사용자 uid, 비로그인 null) 를 쓸 수 있고, 비워 두면 클라이언트 IP 기준입니다.
+ * 키가 null 이면(필수 값 누락 등) 해당 제한은 건너뜁니다. 여러 개를 붙이면 모두 검사합니다.</p>
+ *
+ * <pre>
+ * &#64;RateLimit(name = "password-reset", key = "#body['email']", limit = 10, windowSeconds = 300)
+ * &#64;RateLimit(name = "email-code-ip", limit = 30, windowSeconds = 600)
+ * </pre>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimits.class)
+public @interface RateLimit {
+
+    /** 제한 이름 — 카운터 구분 및 지표(ratelimit.rejected) 태그 */
+    String name();
+
+    /** 제한 대상 키 (SpEL). 비우면 클라이언트 IP */
+    String key() default "";
+
+    /** windowSeconds 동안 허용하는 최대 호출 수 */
+    int limit();
+
+    int windowSeconds();
+
+    /** 초과 시 응답 메시지 (비우면 기본 메시지) */
+    String message() default "";
+}
@@ -0,0 +1,95 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.example.schoolmate.domain.user.dto.AuthUserDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link RateLimit} 이 붙은 메서드 실행 전에 한도를 검사합니다.
+ *
+ * <p>요청 본문의 이메일처럼 파싱된 인자로 키를 만들어야 하므로 인터셉터가 아닌 AOP 로 처리합니다.
+ * 키 SpEL 은 애너테이션 문자열별로 한 번만 파싱해 캐시하며, 키는 trim·소문자로 정규화합니다.</p>
+ *
+ * <p>클라이언트 IP 는 request.getRemoteAddr() 입니다 — 위조 가능한 X-Forwarded-For 는 쓰지 않으며,
+ * 프록시 뒤에서는 server.forward-headers-strategy 로 실제 IP 가 들어오게 합니다.</p>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final RateLimiter rateLimiter;
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Before("@annotation(com.example.schoolmate.global.config.ratelimit.RateLimit)"
+            + " || @annotation(com.example.schoolmate.global.config.ratelimit.RateLimits)")
+    public void check(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        for (RateLimit limit : AnnotatedElementUtils.findMergedRepeatableAnnotations(method, RateLimit.class)) {
+            String key = resolveKey(limit, method, joinPoint.getArgs());
+            if (key == null) continue;
+            rateLimiter.acquire(limit.name(), key, limit.limit(), Duration.ofSeconds(limit.windowSeconds()),
+                    limit.message().isEmpty() ? null : limit.message());
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    @Nullable
+    private String resolveKey(RateLimit limit, Method method, Object[] args) {
+        String ip = clientIp();
+        if (limit.key().isEmpty()) {
+            return ip;
+        }
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, args, PARAMETER_NAMES);
+        context.setVariable("ip", ip);
+        context.setVariable("uid", currentUid());
+        Object value = expressions.computeIfAbsent(limit.key(), PARSER::parseExpression).getValue(context);
+        if (value == null) return null;
+        String key = value.toString().trim().toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    @Nullable
+    private static String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Long currentUid() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUserDTO auth) {
+            return auth.getCustomUserDTO().getUid();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 슬라이딩 윈도우 카운터 저장소
+ *
+ * <p>두 구현 모두 허용된 호출만 셉니다 — 거절된 호출은 카운터를 올리지 않으므로 계속 두드려도
+ * 구간이 지나면 다시 허용됩니다.</p>
+ *
+ * <ul>
+ *   <li>{@link LocalRateLimitBackend} (app.rate-limit.backend=local, 기본) — 인스턴스 메모리</li>
+ *   <li>{@link JdbcRateLimitBackend} (jdbc) — DB 테이블을 공유해 여러 인스턴스가 같은 한도를 나눠 씀</li>
+ * </ul>
+ */
+public interface RateLimitBackend {
+
+    /**
+     * @param allowed           이번 호출 허용 여부
+     * @param retryAfterSeconds 거절 시 다시 시도할 수 있을 때까지 최대 대기 시간 (초)
+     */
+    record Decision(boolean allowed, long retryAfterSeconds) {
+
+        static final Decision ALLOWED = new Decision(true, 0);
+
+        static Decision rejected(long retryAfterSeconds) {
+            return new Decision(false, retryAfterSeconds);
+        }
+    }
+
+    /** window 안의 한도(limit) 를 검사하고, 허용되면 key 의 호출 1회를 기록합니다. */
+    Decision acquire(String key, int limit, Duration window);
+
+    /** 기록 없이 한도만 검사합니다 (실패한 시도만 세는 제한 — {@link #record}). */
+    Decision check(String key, int limit, Duration window);
+
+    /** 한도 검사 없이 key 의 호출 1회를 기록합니다. */
+    void record(String key, Duration window);
+}
@@ -0,0 +1,21 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 호출 횟수 제한 초과 (429 + Retry-After)
+ *
+ * <p>기존 서비스 코드가 IllegalStateException 을 잡아 429 로 응답하던 흐름을 그대로 쓰도록
+ * IllegalStateException 을 상속합니다.</p>
+ */
+@Getter
+public class RateLimitExceededException extends IllegalStateException {
+
+    /** 클라이언트가 다시 시도하기까지 기다릴 시간 (초) */
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
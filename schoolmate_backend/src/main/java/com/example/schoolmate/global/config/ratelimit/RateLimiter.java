@@ -0,0 +1,93 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호출 횟수 제한 — {@link RateLimit} 애너테이션과 서비스 코드(예: EmailRateLimitService)가 함께 사용
+ *
+ * <p>카운터는 "이름:키" 단위로 {@link RateLimitBackend} 에 보관합니다.
+ * 거절 수는 ratelimit.rejected{name} 지표로 남고, 공유 저장소 장애 시에는 막지 않고 통과시킵니다 (fail-open).
+ * app.rate-limit.enabled=false 면 검사하지 않습니다 (부하 테스트 등).</p>
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RateLimitBackend backend;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public RateLimiter(RateLimitBackend backend,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.rate-limit.enabled:true}") boolean enabled) {
+        this.backend = backend;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 한도 검사 후 허용되면 호출 1회 기록 (거절된 호출은 세지 않음)
+     *
+     * @param message 초과 시 메시지; null 이면 기본 메시지
+     * @throws RateLimitExceededException 한도 초과
+     */
+    public void acquire(String name, String key, int limit, Duration window, @Nullable String message) {
+        if (!enabled) return;
+        RateLimitBackend.Decision decision;
+        try {
+            decision = backend.acquire(name + ":" + key, limit, window);
+        } catch (DataAccessException e) {
+            log.warn("[RateLimit] 카운터 저장소 오류 — 제한 없이 통과: name={}, {}", name, e.getMessage());
+            return;
+        }
+        throwIfRejected(decision, name, key, limit, window, message);
+    }
+
+    /**
+     * 기록 없이 한도만 검사 — 실패한 시도만 세는 제한에서 {@link #record} 와 함께 사용 (예: 로그인 실패)
+     *
+     * @throws RateLimitExceededException 한도 초과
+     */
+    public void check(String name, String key, int limit, Duration window, @Nullable String message) {
+        if (!enabled) return;
+        RateLimitBackend.Decision decision;
+        try {
+            decision = backend.check(name + ":" + key, limit, window);
+        } catch (DataAccessException e) {
+            log.warn("[RateLimit] 카운터 저장소 오류 — 제한 없이 통과: name={}, {}", name, e.getMessage());
+            return;
+        }
+        throwIfRejected(decision, name, key, limit, window, message);
+    }
+
+    /** 한도 검사 없이 호출 1회 기록 */
+    public void record(String name, String key, Duration window) {
+        if (!enabled) return;
+        try {
+            backend.record(name + ":" + key, window);
+        } catch (DataAccessException e) {
+            log.warn("[RateLimit] 카운터 저장소 오류 — 기록 생략: name={}, {}", name, e.getMessage());
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private void throwIfRejected(RateLimitBackend.Decision decision, String name, String key, int limit,
+                                 Duration window, @Nullable String message) {
+        if (decision.allowed()) return;
+
+        meterRegistry.counter("ratelimit.rejected", "name", name).increment();
+        log.warn("[RateLimit] 한도 초과: name={}, key={}, limit={}/{}s", name, key, limit, window.toSeconds());
+        throw new RateLimitExceededException(
+                message != null ? message : "요청이 너무 많습니다. " + decision.retryAfterSeconds() + "초 후 다시 시도해주세요.",
+                decision.retryAfterSeconds());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.schoolmate.global.config.ratelimit;
+
+/**
+ * 슬라이딩 윈도우 카운터 (근사) — 키마다 값 세 개만 보관
+ *
+ * <p>시간을 window 크기의 고정 구간으로 나누고, 직전 구간 수를 현재 구간에서 지난 비율만큼 줄여 더합니다.
+ * 예: window 5분, 현재 구간 2분 경과 → 추정치 = 직전 구간 × 3/5 + 현재 구간.
+ * 구간 경계에서 한도의 두 배가 몰리는 고정 윈도우의 문제가 없고, 시도 이력을 모두 보관할 필요도 없습니다.</p>
+ *
+ * <p>구간은 epoch 기준으로 정렬하므로 여러 인스턴스(JDBC 저장소)가 같은 구간을 봅니다.
+ * 스레드 안전하지 않음 — 호출하는 쪽이 잠금을 잡습니다.</p>
+ */
+final class SlidingWindowCounter {
+
+    private final long windowMillis;
+    private long windowStart;
+    private long current;
+    private long previous;
+
+    SlidingWindowCounter(long windowMillis, long now) {
+        this.windowMillis = windowMillis;
+        this.windowStart = alignedStart(now, windowMillis);
+    }
+
+    long windowMillis() {
+        return windowMillis;
+    }
+
+    /** 한도 안이면 1회 기록 — 거절된 호출은 세지 않음 */
+    RateLimitBackend.Decision acquire(long now, int limit) {
+        RateLimitBackend.Decision decision = check(now, limit);
+        if (decision.allowed()) {
+            current++;
+        }
+        return decision;
+    }
+
+    RateLimitBackend.Decision check(long now, int limit) {
+        roll(now);
+        if (estimate(previous, current, now - windowStart, windowMillis) + 1 > limit) {
+            return RateLimitBackend.Decision.rejected(retryAfterSeconds(windowStart, windowMillis, now));
+        }
+        return RateLimitBackend.Decision.ALLOWED;
+    }
+
+    void record(long now) {
+        roll(now);
+        current++;
+    }
+
+    /** 두 구간이 지나 더 이상 추정치에 영향을 주지 않으면 만료 */
+    boolean isExpired(long now) {
+        return now >= windowStart + 2 * windowMillis;
+    }
+
+    static long alignedStart(long now, long windowMillis) {
+        return now - Math.floorMod(now, windowMillis);
+    }
+
+    /** 직전 구간 수 × 남은 비율 + 현재 구간 수 */
+    static double estimate(long previous, long current, long elapsedInWindow, long windowMillis) {
+        return previous * (double) (windowMillis - elapsedInWindow) / windowMillis + current;
+    }
+
+    /** 현재 구간이 끝날 때까지 (그 전에 풀릴 수도 있으므로 최대치) */
+    static long retryAfterSeconds(long windowStart, long windowMillis, long now) {
+        return Math.max(1, (windowStart + windowMillis - now + 999) / 1000);
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private void roll(long now) {
+        long start = alignedStart(now, windowMillis);
+        if (start == windowStart) return;
+        previous = start - windowStart == windowMillis ? current : 0;
+        current = 0;
+        windowStart = start;
+    }
+}
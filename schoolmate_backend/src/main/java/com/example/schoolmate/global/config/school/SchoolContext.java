@@ -0,0 +1,78 @@
+package com.example.schoolmate.global.config.school;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 요청의 학교 컨텍스트(schoolId·infoId) 불변 스냅샷.
+ *
+ * <p>다른 스레드로 넘기는 작업은 제출 시점에 {@link #current()} 로 캡처한 뒤 {@link #wrap(Runnable)} 으로 감싸면,
+ * 실행 스레드에서 같은 컨텍스트가 바인딩되고 끝나면 그 스레드의 이전 컨텍스트로 복원됩니다.
+ * 컨텍스트 없이 실행되면 {@link SchoolQueryFilter#schoolIdEq} 가 null 을 돌려 학교 필터가 빠지므로,
+ * 학교 범위 조회를 하는 비동기·병렬 작업은 반드시 이 경로를 거쳐야 합니다.
+ * 스프링 TaskExecutor 는 {@link SchoolContextTaskDecorator} 가 자동으로 처리합니다.</p>
+ *
+ * @param schoolId 현재 학교 ID (없으면 null)
+ * @param infoId   현재 활성 역할 인스턴스 ID (없으면 null)
+ */
+public record SchoolContext(Long schoolId, Long infoId) {
+
+    public static final SchoolContext EMPTY = new SchoolContext(null, null);
+
+    /** 현재 스레드의 컨텍스트 (없으면 {@link #EMPTY}) */
+    public static SchoolContext current() {
+        return SchoolContextHolder.current();
+    }
+
+    public boolean isEmpty() {
+        return schoolId == null && infoId == null;
+    }
+
+    public SchoolContext withSchoolId(Long schoolId) {
+        return new SchoolContext(schoolId, infoId);
+    }
+
+    public SchoolContext withInfoId(Long infoId) {
+        return new SchoolContext(schoolId, infoId);
+    }
+
+    /** 이 컨텍스트를 바인딩한 채 실행하고 이전 컨텍스트로 복원합니다. */
+    public void run(Runnable task) {
+        SchoolContext previous = SchoolContextHolder.bind(this);
+        try {
+            task.run();
+        } finally {
+            SchoolContextHolder.bind(previous);
+        }
+    }
+
+    /** {@link #run(Runnable)} 의 반환값 버전 */
+    public <T> T get(Supplier<T> task) {
+        SchoolContext previous = SchoolContextHolder.bind(this);
+        try {
+            return task.get();
+        } finally {
+            SchoolContextHolder.bind(previous);
+        }
+    }
+
+    /** {@link #run(Runnable)} 의 Callable 버전 */
+    public <T> T call(Callable<T> task) throws Exception {
+        SchoolContext previous = SchoolContextHolder.bind(this);
+        try {
+            return task.call();
+        } finally {
+            SchoolContextHolder.bind(previous);
+        }
+    }
+
+    /** 다른 스레드에서 이 컨텍스트로 실행되도록 감쌉니다. */
+    public Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+
+    /** 다른 스레드에서 이 컨텍스트로 실행되도록 감쌉니다. */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> call(task);
+    }
+}
@@ -5,20 +5,46 @@ package com.example.schoolmate.global.config.school;
  *
  * X-School-Id 헤더로 전달된 학교 ID를 요청 처리 스레드에 바인딩하여,
  * 서비스/레포지토리 레이어에서 별도의 파라미터 전달 없이 학교 컨텍스트를 참조할 수 있습니다.
+ *
+ * 값은 불변 {@link SchoolContext} 하나로 보관하며, setter 는 새 스냅샷으로 교체합니다.
+ * 다른 스레드로의 전파는 {@link SchoolContext#wrap(Runnable)} / {@link SchoolContextTaskDecorator} 를 사용합니다.
+ *
+ * 실행 범위 바인딩은 {@link SchoolContext#run(Runnable)} 계열 → {@link #bind(SchoolContext)} 한 곳을 거치므로,
+ * 툴체인이 ScopedValue(Java 21 preview, 25 정식)를 쓸 수 있게 되면 이 범위 바인딩을 ScopedValue.where(...).run(...) 으로
+ * 옮기고, 필터·인터셉터의 setter 는 요청 진입 시 한 번 바인딩하는 방식으로 바꾸면 됩니다.
  */
 public class SchoolContextHolder {
 
-    private static final ThreadLocal<Long> SCHOOL_ID = new ThreadLocal<>();
-    private static final ThreadLocal<Long> INFO_ID   = new ThreadLocal<>();
+    private static final ThreadLocal<SchoolContext> CURRENT = new ThreadLocal<>();
+
+    public static void setSchoolId(Long schoolId) { bind(current().withSchoolId(schoolId)); }
+    public static Long  getSchoolId()              { return current().schoolId(); }
 
-    public static void setSchoolId(Long schoolId) { SCHOOL_ID.set(schoolId); }
-    public static Long  getSchoolId()              { return SCHOOL_ID.get(); }
+    public static void setInfoId(Long infoId) { bind(current().withInfoId(infoId)); }
+    public static Long  getInfoId()           { return current().infoId(); }
 
-    public static void setInfoId(Long infoId) { INFO_ID.set(infoId); }
-    public static Long  getInfoId()           { return INFO_ID.get(); }
+    /** 현재 스레드의 컨텍스트 스냅샷 (없으면 {@link SchoolContext#EMPTY}) */
+    public static SchoolContext current() {
+        SchoolContext context = CURRENT.get();
+        return context != null ? context : SchoolContext.EMPTY;
+    }
+
+    /**
+     * 컨텍스트를 현재 스레드에 바인딩합니다.
+     *
+     * @return 바인딩 직전의 컨텍스트 (복원용)
+     */
+    static SchoolContext bind(SchoolContext context) {
+        SchoolContext previous = current();
+        if (context == null || context.isEmpty()) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
 
     public static void clear() {
-        SCHOOL_ID.remove();
-        INFO_ID.remove();
+        CURRENT.remove();
     }
 }
@@ -0,0 +1,26 @@
+package com.example.schoolmate.global.config.school;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 제출 시점의 {@link SchoolContext} 를 캡처해 실행 스레드에서 복원하는 TaskDecorator.
+ *
+ * <p>빈으로 등록되어 Spring Boot 가 만드는 applicationTaskExecutor(@Async, MVC 비동기 처리 등)에 자동 적용됩니다.
+ * 직접 만든 스레드 풀은 {@link #wrap(Executor)} 로 감싸거나 제출할 작업을 {@link SchoolContext#wrap(Runnable)} 로 감쌉니다.</p>
+ */
+@Component
+public class SchoolContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return SchoolContext.current().wrap(runnable);
+    }
+
+    /** 제출하는 모든 작업에 현재 컨텍스트를 전파하는 Executor */
+    public static Executor wrap(Executor delegate) {
+        return task -> delegate.execute(SchoolContext.current().wrap(task));
+    }
+}
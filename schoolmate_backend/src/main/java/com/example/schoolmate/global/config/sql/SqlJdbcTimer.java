@@ -0,0 +1,46 @@
+package com.example.schoolmate.global.config.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 JDBC 실행 시간을 현재 요청의 {@link SqlRequestTrace} 에 더합니다.
+ *
+ * <p>hibernate.session.events.auto 로 세션마다 생성되며, 집계 범위가 없는 스레드에서는 아무것도 하지 않습니다.
+ * 실행(execute) 구간만 재므로 결과 행을 읽는 시간은 포함되지 않습니다.</p>
+ */
+public class SqlJdbcTimer implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executeEnd();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executeEnd();
+    }
+
+    private static void executeStart() {
+        SqlRequestTrace trace = SqlStatementCounter.current();
+        if (trace != null) {
+            trace.executeStart();
+        }
+    }
+
+    private static void executeEnd() {
+        SqlRequestTrace trace = SqlStatementCounter.current();
+        if (trace != null) {
+            trace.executeEnd();
+        }
+    }
+}
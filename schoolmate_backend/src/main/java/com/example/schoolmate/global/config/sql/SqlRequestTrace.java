@@ -0,0 +1,114 @@
+package com.example.schoolmate.global.config.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 하나에서 실행된 SQL 집계 — 문 수, JDBC 실행 시간, 문 형태(shape)별 반복 수.
+ *
+ * <p>형태는 리터럴·IN 목록 길이·공백을 지운 SQL 입니다. 같은 형태가 여러 번 나오면
+ * 대개 지연 로딩 N+1 이므로 가장 많이 반복된 형태를 함께 보고합니다.
+ * 요청 스레드 하나에서만 쓰이므로 동기화하지 않습니다.</p>
+ *
+ * <p>Hibernate 가 만드는 SQL 은 바인드 변수를 쓰므로 문자열 종류가 많지 않아, 형태 계산 결과를
+ * SQL 문자열 기준으로 캐시합니다 ({@link #MAX_CACHED_SHAPES} 개까지). 요청 하나가 보관하는 형태 수도
+ * {@link #MAX_SHAPES_PER_REQUEST} 로 제한합니다 (넘으면 문 수만 셈).</p>
+ */
+public final class SqlRequestTrace {
+
+    /** 가장 많이 반복된 문 형태 */
+    public record Repeat(String shape, int count) {}
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    static final int MAX_CACHED_SHAPES = 4096;
+    static final int MAX_SHAPES_PER_REQUEST = 256;
+
+    /** SQL → 형태 캐시 (상한을 넘으면 더 넣지 않고 매번 계산) */
+    private static final Map<String, String> SHAPE_CACHE = new ConcurrentHashMap<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private long executeStart;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    // ── 집계 (SqlStatementCounter / SqlJdbcTimer) ─────────────────────────────
+
+    void statement(String sql) {
+        statements++;
+        String shape = cachedShapeOf(sql);
+        if (shapes.size() < MAX_SHAPES_PER_REQUEST || shapes.containsKey(shape)) {
+            shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    void executeStart() {
+        executeStart = System.nanoTime();
+    }
+
+    void executeEnd() {
+        if (executeStart != 0) {
+            jdbcNanos += System.nanoTime() - executeStart;
+            executeStart = 0;
+        }
+    }
+
+    // ── 결과 ──────────────────────────────────────────────────────────────────
+
+    public int statements() {
+        return statements;
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long jdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    /** 같은 형태가 가장 많이 실행된 횟수 (문이 없으면 0) */
+    public int maxRepeats() {
+        Repeat repeat = mostRepeated();
+        return repeat != null ? repeat.count() : 0;
+    }
+
+    /** 가장 많이 반복된 형태; 문이 없으면 null */
+    public Repeat mostRepeated() {
+        Map.Entry<String, Integer> top = null;
+        for (Map.Entry<String, Integer> e : shapes.entrySet()) {
+            if (top == null || e.getValue() > top.getValue()) {
+                top = e;
+            }
+        }
+        return top != null ? new Repeat(top.getKey(), top.getValue()) : null;
+    }
+
+    private static String cachedShapeOf(String sql) {
+        String shape = SHAPE_CACHE.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = shapeOf(sql);
+        if (SHAPE_CACHE.size() < MAX_CACHED_SHAPES) {
+            SHAPE_CACHE.put(sql, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * SQL → 형태. 문자열·숫자 리터럴은 ?, IN 목록은 (?) 로 접고 공백을 한 칸으로 줄입니다.
+     * (Hibernate 별칭 si1_0 같은 식별자 안의 숫자는 단어 경계가 아니므로 그대로 남습니다)
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.schoolmate.global.config.sql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 에 {@link SqlStatementCounter} 를 StatementInspector 로, {@link SqlJdbcTimer} 를 세션 이벤트 리스너로 등록합니다.
+ * 집계 범위가 열리지 않은 스레드에서는 비용이 거의 없으므로 항상 등록합니다.
+ */
+@Configuration
+public class SqlStatementConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlJdbcTimer.class.getName());
+        };
+    }
+}
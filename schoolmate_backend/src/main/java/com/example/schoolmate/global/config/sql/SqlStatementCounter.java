@@ -0,0 +1,41 @@
+package com.example.schoolmate.global.config.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 요청 스레드 단위로 집계합니다.
+ *
+ * <p>{@link #begin()} ~ {@link #end()} 사이에 현재 스레드에서 실행된 문만 {@link SqlRequestTrace} 에 모으며,
+ * 범위가 열려 있지 않으면 아무것도 하지 않습니다 (ThreadLocal 조회 1회).
+ * JdbcTemplate 으로 직접 실행하는 문은 Hibernate 를 거치지 않으므로 포함되지 않습니다.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<SqlRequestTrace> CURRENT = new ThreadLocal<>();
+
+    /** 현재 스레드의 집계를 새로 시작합니다. */
+    public static void begin() {
+        CURRENT.set(new SqlRequestTrace());
+    }
+
+    /** 집계를 닫고 결과를 반환합니다. 열린 범위가 없으면 빈 집계 */
+    public static SqlRequestTrace end() {
+        SqlRequestTrace trace = CURRENT.get();
+        CURRENT.remove();
+        return trace != null ? trace : new SqlRequestTrace();
+    }
+
+    /** 현재 스레드에서 진행 중인 집계; 범위가 없으면 null */
+    public static SqlRequestTrace current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.statement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.schoolmate.global.config.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트({@code METHOD /route/{pattern}})별 요청 수와 SQL 집계 누적치.
+ * {@link SqlStatementStatsFilter} 가 채우고, 부하 테스트 하네스와 관리자 API 가 읽고 비웁니다.
+ *
+ * <p>요청당 문 수는 {@link #HISTOGRAM_BOUNDS} 구간별 요청 수(히스토그램)로도 쌓습니다.
+ * 엔드포인트 수는 {@link #MAX_ROUTES} 로 제한합니다.</p>
+ */
+@Component
+public class SqlStatementStats {
+
+    /** 히스토그램 구간 상한 (포함) — 마지막 구간은 100 초과 */
+    static final int[] HISTOGRAM_BOUNDS = { 1, 2, 5, 10, 20, 50, 100 };
+
+    /**
+     * 엔드포인트 한 곳의 집계 결과
+     *
+     * @param maxRepeats 한 요청에서 같은 형태의 문이 반복된 최대 횟수
+     * @param overBudget 예산을 넘은 요청 수
+     * @param histogram  요청당 문 수 구간 → 요청 수 (예: "3-5" → 12)
+     */
+    public record Route(long requests, long statements, long maxStatements, long jdbcNanos,
+            long maxRepeats, long overBudget, Map<String, Long> histogram) {
+
+        public double statementsPerRequest() {
+            return requests == 0 ? 0 : (double) statements / requests;
+        }
+
+        public double jdbcMillisPerRequest() {
+            return requests == 0 ? 0 : jdbcNanos / 1_000_000.0 / requests;
+        }
+    }
+
+    private static final class Counter {
+        final LongAdder requests = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        final LongAdder jdbcNanos = new LongAdder();
+        final LongAccumulator maxRepeats = new LongAccumulator(Math::max, 0);
+        final LongAdder overBudget = new LongAdder();
+        final LongAdder[] buckets = new LongAdder[HISTOGRAM_BOUNDS.length + 1];
+
+        Counter() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+    }
+
+    /** 보관할 엔드포인트 최대 수. 넘치면 새 엔드포인트는 {@link #OVERFLOW_ROUTE} 에 합산 */
+    static final int MAX_ROUTES = 500;
+
+    /** 상한을 넘은 엔드포인트를 모아 두는 키 */
+    static final String OVERFLOW_ROUTE = "(other)";
+
+    private final Map<String, Counter> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, SqlRequestTrace trace, boolean overBudget) {
+        Counter counter = routes.get(route);
+        if (counter == null) {
+            // 상한 검사는 대략적이어도 충분 (동시 추가로 몇 개 넘칠 수 있음)
+            String key = routes.size() < MAX_ROUTES ? route : OVERFLOW_ROUTE;
+            counter = routes.computeIfAbsent(key, k -> new Counter());
+        }
+        int statements = trace.statements();
+        counter.requests.increment();
+        counter.statements.add(statements);
+        counter.max.accumulate(statements);
+        counter.jdbcNanos.add(trace.jdbcNanos());
+        counter.maxRepeats.accumulate(trace.maxRepeats());
+        if (overBudget) {
+            counter.overBudget.increment();
+        }
+        counter.buckets[bucketOf(statements)].increment();
+    }
+
+    /** 엔드포인트 이름순 스냅샷 */
+    public Map<String, Route> snapshot() {
+        Map<String, Route> result = new TreeMap<>();
+        routes.forEach((route, c) -> {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < c.buckets.length; i++) {
+                histogram.put(bucketLabel(i), c.buckets[i].sum());
+            }
+            result.put(route, new Route(c.requests.sum(), c.statements.sum(), c.max.get(),
+                    c.jdbcNanos.sum(), c.maxRepeats.get(), c.overBudget.sum(), histogram));
+        });
+        return result;
+    }
+
+    public void reset() {
+        routes.clear();
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private static int bucketOf(int statements) {
+        for (int i = 0; i < HISTOGRAM_BOUNDS.length; i++) {
+            if (statements <= HISTOGRAM_BOUNDS[i]) return i;
+        }
+        return HISTOGRAM_BOUNDS.length;
+    }
+
+    /** 0-1, 2, 3-5, 6-10, ..., 101+ */
+    private static String bucketLabel(int index) {
+        if (index == HISTOGRAM_BOUNDS.length) {
+            return (HISTOGRAM_BOUNDS[index - 1] + 1) + "+";
+        }
+        int from = index == 0 ? 0 : HISTOGRAM_BOUNDS[index - 1] + 1;
+        int to = HISTOGRAM_BOUNDS[index];
+        return from == to ? String.valueOf(to) : from + "-" + to;
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.schoolmate.global.config.sql;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 실행된 SQL 을 집계해 엔드포인트별로 {@link SqlStatementStats} 에 기록하고 예산을 검사합니다.
+ *
+ * <ul>
+ *   <li>구조화 로그: 요청마다 {@code sql route=... statements=... jdbcMs=... maxRepeats=...} (DEBUG),
+ *       예산 초과 시 {@code sql-budget ...} + 가장 많이 반복된 문 형태 (WARN)</li>
+ *   <li>예산: 요청당 문 수(app.sql-stats.budget.max-statements) / 같은 형태 반복 수(max-repeats), 0 이면 검사 안 함.
+ *       action=fail 이면 응답 본문을 메모리에 모아 두었다가, 초과 시 본문을 버리고 IllegalStateException 을 던집니다
+ *       (응답이 커밋되기 전이라 500 으로 끝남 — 테스트에서 N+1 회귀를 실패로 드러냄, 운영에서는 log 사용)</li>
+ *   <li>응답 헤더 (app.sql-stats.headers=true, 개발용): X-Sql-Statements / X-Sql-Jdbc-Ms / X-Sql-Max-Repeats.
+ *       헤더는 본문을 처음 쓰기 직전의 값이므로, 본문 직렬화 중 지연 로딩은 로그·통계에만 반영됩니다</li>
+ * </ul>
+ *
+ * <p>인증 필터의 사용자 조회까지 포함되도록 가장 바깥에서 동작하며,
+ * 엔드포인트는 매핑된 URL 패턴으로 묶습니다 (매핑이 없으면 요청 URI 대신 {@code UNMAPPED} 하나로 —
+ * 임의 URL 스캔이 엔드포인트 키를 무한히 늘리지 않도록).
+ * app.sql-stats.enabled=true 일 때만 등록됩니다.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql-stats.enabled", havingValue = "true")
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    /** 로그에 남기는 문 형태 최대 길이 */
+    private static final int MAX_SHAPE_LOG = 300;
+
+    /** 핸들러 매핑이 없는 요청(404, 정적 리소스, 필터에서 끝난 요청)의 엔드포인트 키 */
+    static final String UNMAPPED = "UNMAPPED";
+
+    private final SqlStatementStats stats;
+    private final boolean headers;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final boolean failOnBudget;
+
+    public SqlStatementStatsFilter(
+            SqlStatementStats stats,
+            @Value("${app.sql-stats.headers:false}") boolean headers,
+            @Value("${app.sql-stats.budget.max-statements:0}") int maxStatements,
+            @Value("${app.sql-stats.budget.max-repeats:0}") int maxRepeats,
+            @Value("${app.sql-stats.budget.action:log}") String action) {
+        this.stats = stats;
+        this.headers = headers;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        if (!"log".equalsIgnoreCase(action) && !"fail".equalsIgnoreCase(action)) {
+            throw new IllegalArgumentException("app.sql-stats.budget.action 은 log 또는 fail 이어야 합니다: " + action);
+        }
+        this.failOnBudget = "fail".equalsIgnoreCase(action);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        HeaderOnCommitResponse wrapped = headers ? new HeaderOnCommitResponse(response) : null;
+        HttpServletResponse target = wrapped != null ? wrapped : response;
+        // fail 모드: 예산 검사 전에 응답이 커밋되지 않도록 본문을 모아 둠
+        ContentCachingResponseWrapper buffered = failOnBudget ? new ContentCachingResponseWrapper(target) : null;
+        SqlRequestTrace trace;
+        String violation;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : target);
+        } finally {
+            trace = SqlStatementCounter.end();
+            if (wrapped != null && buffered == null) {
+                wrapped.writeHeaders(trace);
+            }
+            violation = record(request, response, trace);
+        }
+        if (buffered == null) {
+            return;
+        }
+        if (violation != null) {
+            throw new IllegalStateException("SQL 예산 초과: " + violation);
+        }
+        if (wrapped != null) {
+            wrapped.writeHeaders(trace);
+        }
+        buffered.copyBodyToResponse();
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    /**
+     * 통계·로그 기록
+     *
+     * @return 예산 초과 내용; 예산 안이면 null
+     */
+    private String record(HttpServletRequest request, HttpServletResponse response, SqlRequestTrace trace) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : UNMAPPED;
+        String route = request.getMethod() + " " + path;
+
+        String violation = violation(trace);
+        stats.record(route, trace, violation != null);
+
+        if (violation != null) {
+            SqlRequestTrace.Repeat repeat = trace.mostRepeated();
+            log.warn("sql-budget route=\"{}\" status={} statements={} jdbcMs={} maxRepeats={} violation=\"{}\" repeated=\"{}\"",
+                    route, response.getStatus(), trace.statements(), trace.jdbcMillis(), trace.maxRepeats(),
+                    violation, repeat != null ? abbreviate(repeat.shape()) : "");
+        } else if (log.isDebugEnabled()) {
+            log.debug("sql route=\"{}\" status={} statements={} jdbcMs={} maxRepeats={}",
+                    route, response.getStatus(), trace.statements(), trace.jdbcMillis(), trace.maxRepeats());
+        }
+        return violation;
+    }
+
+    private String violation(SqlRequestTrace trace) {
+        if (maxStatements > 0 && trace.statements() > maxStatements) {
+            return "statements " + trace.statements() + " > " + maxStatements;
+        }
+        if (maxRepeats > 0 && trace.maxRepeats() > maxRepeats) {
+            return "repeats " + trace.maxRepeats() + " > " + maxRepeats;
+        }
+        return null;
+    }
+
+    private static String abbreviate(String shape) {
+        return shape.length() <= MAX_SHAPE_LOG ? shape : shape.substring(0, MAX_SHAPE_LOG) + "...";
+    }
+
+    /**
+     * 본문을 처음 쓰거나 flush·오류·리다이렉트로 응답이 커밋되기 직전에 X-Sql-* 헤더를 붙이는 래퍼.
+     * 비동기 응답처럼 다른 스레드에서 쓰는 경우 집계가 없으므로 헤더를 붙이지 않습니다.
+     */
+    private static final class HeaderOnCommitResponse extends HttpServletResponseWrapper {
+
+        private boolean written;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        HeaderOnCommitResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        /** 커밋 전 마지막 기회 — 요청 종료 시 호출 (본문이 없던 응답) */
+        void writeHeaders(SqlRequestTrace trace) {
+            if (written || isCommitted()) return;
+            written = true;
+            setHeader("X-Sql-Statements", String.valueOf(trace.statements()));
+            setHeader("X-Sql-Jdbc-Ms", String.valueOf(trace.jdbcMillis()));
+            setHeader("X-Sql-Max-Repeats", String.valueOf(trace.maxRepeats()));
+        }
+
+        private void beforeCommit() {
+            if (written) return;
+            SqlRequestTrace trace = SqlStatementCounter.current();
+            if (trace != null) {
+                writeHeaders(trace);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        beforeCommit();
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        beforeCommit();
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        beforeCommit();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        beforeCommit();
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter delegate = super.getWriter();
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] buf, int off, int len) {
+                        beforeCommit();
+                        delegate.write(buf, off, len);
+                    }
+
+                    @Override
+                    public void flush() {
+                        beforeCommit();
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() {
+                        beforeCommit();
+                        delegate.close();
+                    }
+                });
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            beforeCommit();
+            super.sendRedirect(location);
+        }
+    }
+}
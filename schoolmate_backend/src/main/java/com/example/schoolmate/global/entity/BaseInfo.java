@@ -29,6 +29,12 @@ import lombok.ToString;
  * User 엔티티와 1:N 관계를 맺으며, 사용자의 역할(Role)별 구체적인 정보를 담습니다.
  * - 상속 전략: TABLE_PER_CLASS (구현 클래스마다 별도의 테이블 생성)
  * - 공통 필드: 고유 식별 코드(code), 연관된 User(uid)
+ * - ID: 하위 테이블 전체에서 고유해야 하므로 id_generator 테이블로 발급합니다.
+ *   노드마다 {@value #ID_BLOCK_SIZE}개 구간을 한 번에 확보하고(pooled-lo 옵티마이저,
+ *   application.properties 의 hibernate.id.optimizer.pooled.preferred) 메모리에서 나눠 씁니다.
+ *   gen_val 은 지금까지 확보된 마지막 ID 이며, 구간 확보는 행 잠금 + 별도 트랜잭션이라
+ *   여러 인스턴스가 동시에 떠 있어도 구간이 겹치지 않습니다.
+ *   기존 데이터와의 정합은 {@code BaseInfoIdMigration} 이 기동 시 맞춥니다.
  */
 @Entity
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
@@ -37,11 +43,14 @@ import lombok.ToString;
 @ToString(exclude = "user")
 public abstract class BaseInfo extends BaseEntity {
 
+    /** 노드가 한 번에 확보하는 ID 구간 크기 */
+    public static final int ID_BLOCK_SIZE = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.TABLE, generator = "base_info_gen")
     @TableGenerator(name = "base_info_gen", table = "id_generator",
             pkColumnName = "gen_name", valueColumnName = "gen_val",
-            pkColumnValue = "base_info_id", allocationSize = 1)
+            pkColumnValue = "base_info_id", allocationSize = ID_BLOCK_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.example.schoolmate.global.handler;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -7,6 +8,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import com.example.schoolmate.global.config.password.PasswordHashingBusyException;
+import com.example.schoolmate.global.config.ratelimit.RateLimitExceededException;
+
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +46,26 @@ public class GlobalExceptionHandler {
                 .body(Map.of("error", "Conflict", "message", e.getMessage()));
     }
 
+    /** 429 - 호출 횟수 제한 초과 (@RateLimit) */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimited(RateLimitExceededException e,
+                                                                 HttpServletRequest request) {
+        log.warn("[429] {} {} - {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("error", "Too Many Requests", "message", e.getMessage()));
+    }
+
+    /** 503 - 비밀번호 해싱 대기열 초과 (로그인 폭주) */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, Object>> handleHashingBusy(PasswordHashingBusyException e,
+                                                                 HttpServletRequest request) {
+        log.warn("[503] {} {} - {}", request.getMethod(), request.getRequestURI(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("error", "Service Unavailable", "message", e.getMessage()));
+    }
+
     /** 403 - 권한 없음 (Spring Security AccessDeniedException) */
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedException e,
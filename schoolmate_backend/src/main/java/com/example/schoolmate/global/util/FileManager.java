@@ -1,5 +1,6 @@
 package com.example.schoolmate.global.util;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -7,55 +8,117 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import com.example.schoolmate.domain.file.service.ContentStore;
+import com.example.schoolmate.domain.file.storage.StorageKeys;
 
 /**
  * 파일 업로드 통합 관리자.
  *
- * <p>업로드 타입별로 파일명 생성 규칙과 저장 경로를 관리하며,
- * 기존 파일 교체(replace) 시 삭제·업로드를 원자적으로 처리합니다.</p>
+ * <p>파일은 내용(SHA-256) 주소로 저장되며, 반환되는 파일명이 곧 저장소 키({@code {sha256}.{확장자}})입니다.
+ * 같은 내용은 한 번만 저장되고 참조 수로 관리됩니다 ({@link ContentStore}).
+ * 실제 저장 위치는 app.storage.type 에 따라 로컬 샤딩 디렉터리 또는 S3 호환 저장소입니다.</p>
  *
- * <ul>
- *   <li>PROFILE  : UUID 만 사용 (사용자당 1개, DB 로 관리)</li>
- *   <li>HOMEWORK : YYYYMMDD_UUID (날짜 추적)</li>
- *   <li>ASSET    : YYYYMMDD_UUID</li>
- *   <li>FACILITY : YYYYMMDD_UUID</li>
- * </ul>
+ * <p>웹 URL 은 업로드 타입과 무관하게 {@link UploadType#toUrl(String)} 으로 일관되게 생성합니다.
+ * 이관 전 {@code {user.dir}/uploads/{type.dir}/YYYYMMDD_UUID} 파일명도 그대로 서빙·삭제됩니다
+ * (이관 후에는 별칭 표로 키를 찾음).</p>
  *
- * <p>모든 파일은 {@code {user.dir}/uploads/{type.dir}/} 아래에 저장되며,
- * 웹 URL 은 {@link UploadType#toUrl(String)} 을 통해 일관되게 생성합니다.</p>
+ * <p>이미지 타입(프로필·기자재·시설·앨범)은 업로드 직후 {@link ImageDerivativeService} 가
+ * {@link ImageSize} 별 축소본을 백그라운드로 생성하며, {@link UploadType#toUrl(String, ImageSize)} 로
+ * 크기별 URL 을 얻습니다.</p>
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileManager {
 
     /** 타입별 업로드 설정 */
     public enum UploadType {
         /** 프로필 이미지 — UUID 만 사용, 사용자당 1개 */
-        PROFILE("profile"),
+        PROFILE("profile", true),
         /** 과제·제출 첨부파일 */
-        HOMEWORK("homework"),
+        HOMEWORK("homework", false),
         /** 기자재 모델 이미지 */
-        ASSET("assets"),
+        ASSET("assets", true),
         /** 시설 이미지 */
-        FACILITY("facilities"),
+        FACILITY("facilities", true),
         /** [woo] 게시판 첨부파일 (가정통신문 등) */
-        BOARD("board"),
+        BOARD("board", false),
         /** [woo] 학급 앨범 사진 */
-        ALBUM("album");
+        ALBUM("album", true);
 
         final String dir;
+        /** 썸네일 파생본 생성 대상 여부 */
+        final boolean image;
 
-        UploadType(String dir) { this.dir = dir; }
+        UploadType(String dir, boolean image) {
+            this.dir = dir;
+            this.image = image;
+        }
 
         /** 저장된 파일명 → 웹 접근 URL */
         public String toUrl(String filename) {
             return "/upload/" + dir + "/" + filename;
         }
+
+        /**
+         * 저장된 파일명 → 크기별 파생본 URL.
+         * 이미지 타입이 아니거나 size 가 null 이면 원본 URL 을 반환합니다.
+         * (파생본이 아직 생성되지 않았으면 UploadFileController 가 원본으로 응답)
+         */
+        public String toUrl(String filename, @Nullable ImageSize size) {
+            if (!image || size == null) return toUrl(filename);
+            return "/upload/" + dir + "/" + size.dir() + "/" + filename;
+        }
+
+        /** URL 의 디렉터리명 → 업로드 타입 */
+        public static Optional<UploadType> fromDir(String dir) {
+            return Arrays.stream(values()).filter(t -> t.dir.equals(dir)).findFirst();
+        }
+
+        public boolean isImage() {
+            return image;
+        }
+    }
+
+    /** 이미지 파생본 고정 폭 */
+    public enum ImageSize {
+        /** 목록·그리드용 */
+        THUMB(320),
+        /** 라이트박스·상세 보기용 */
+        MEDIUM(1280);
+
+        final int width;
+
+        ImageSize(int width) { this.width = width; }
+
+        /** 파생본 하위 디렉터리명 (예: w320) */
+        public String dir() {
+            return "w" + width;
+        }
+
+        /** 하위 디렉터리명(w320 등) → 크기 */
+        public static Optional<ImageSize> fromDir(String dir) {
+            return Arrays.stream(values()).filter(s -> s.dir().equals(dir)).findFirst();
+        }
     }
 
+    /**
+     * 서빙할 파일 위치 — 로컬 파일(zero-copy) 또는 원격 저장소 URL 중 하나
+     *
+     * @param fallback 요청한 파생본이 없어 원본을 대신 가리키는 경우 (캐시하면 안 됨)
+     */
+    public record StoredFile(@Nullable Path localPath, @Nullable URI remoteUrl, boolean fallback) {}
+
+    private final ContentStore contentStore;
+    private final ImageDerivativeService imageDerivativeService;
+
     private final String uploadRoot = System.getProperty("user.dir") + "/uploads/";
 
     // ── Public API ────────────────────────────────────────────────────────────
@@ -65,15 +128,22 @@ public class FileManager {
      *
      * @param file 업로드할 파일 (null·empty 이면 null 반환)
      * @param type 업로드 타입
-     * @return 저장된 파일명 (DB 에 보관할 값); 파일이 없으면 null
+     * @return 저장된 파일명 (DB 에 보관할 값 — 내용 주소 키); 파일이 없으면 null
      */
     @Nullable
     public String upload(@Nullable MultipartFile file, UploadType type) {
         if (file == null || file.isEmpty()) return null;
-        String filename = generateFilename(file, type);
-        persist(file, type, filename);
-        log.debug("[FileManager] 업로드: {}/{}", type.dir, filename);
-        return filename;
+        String key;
+        try {
+            key = contentStore.store(file);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패: " + file.getOriginalFilename(), e);
+        }
+        log.debug("[FileManager] 업로드: {}/{}", type.dir, key);
+        if (type.image) {
+            imageDerivativeService.submit(key);
+        }
+        return key;
     }
 
     /**
@@ -93,44 +163,81 @@ public class FileManager {
 
     /**
      * 파일을 삭제합니다. filename 이 null 또는 blank 이면 무시합니다.
+     * 내용 주소 파일은 참조 수만 줄이고, 더 이상 참조가 없을 때(트랜잭션 커밋 후) 실제로 삭제됩니다.
      */
     public void delete(@Nullable String filename, UploadType type) {
         if (filename == null || filename.isBlank()) return;
+        if (StorageKeys.isContentKey(filename)) {
+            contentStore.release(filename);
+            return;
+        }
+        // 이관 전 파일: 디렉터리에 남아 있으면 직접 삭제, 이미 이관됐으면 별칭 참조 해제
         File target = new File(uploadRoot + type.dir + "/" + filename);
-        if (target.exists() && target.delete()) {
-            log.debug("[FileManager] 삭제: {}/{}", type.dir, filename);
+        if (target.exists()) {
+            if (target.delete()) {
+                log.debug("[FileManager] 삭제: {}/{}", type.dir, filename);
+            }
+            deleteLegacyDerivatives(type, filename);
+        } else {
+            contentStore.releaseAlias(legacyPath(type, filename));
         }
     }
 
-    // ── Private helpers ───────────────────────────────────────────────────────
-
-    private String generateFilename(MultipartFile file, UploadType type) {
-        String ext = extractExtension(file.getOriginalFilename());
-        return switch (type) {
-            // 프로필: UUID 만 (사용자당 하나, DB 로 추적)
-            case PROFILE -> UUID.randomUUID() + ext;
-            // 나머지: 날짜_UUID (시간대별 파악 용이)
-            default -> LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
-                    + "_" + UUID.randomUUID() + ext;
-        };
+    /**
+     * 업로드 파일 위치를 찾습니다.
+     * size 가 있으면 파생본을, 아직 없으면 원본을 fallback 으로 반환합니다.
+     */
+    public Optional<StoredFile> locate(UploadType type, String filename, @Nullable ImageSize size) {
+        ImageSize derivative = type.image ? size : null;
+        if (StorageKeys.isContentKey(filename)) {
+            return contentStore.locate(filename, derivative);
+        }
+        Path dir = directory(type).toAbsolutePath().normalize();
+        Path original = dir.resolve(filename).normalize();
+        if (!original.startsWith(dir)) {
+            return Optional.empty();
+        }
+        if (derivative != null) {
+            Path legacyDerivative = dir.resolve(derivative.dir()).resolve(original.getFileName());
+            if (Files.isRegularFile(legacyDerivative)) {
+                return Optional.of(new StoredFile(legacyDerivative, null, false));
+            }
+        }
+        if (Files.isRegularFile(original)) {
+            return Optional.of(new StoredFile(original, null, derivative != null));
+        }
+        return contentStore.aliasOf(legacyPath(type, filename))
+                .flatMap(key -> contentStore.locate(key, derivative));
     }
 
-    private String extractExtension(@Nullable String originalFilename) {
-        if (originalFilename != null && originalFilename.contains(".")) {
-            return originalFilename
-                    .substring(originalFilename.lastIndexOf("."))
-                    .toLowerCase();
-        }
-        return "";
+    /**
+     * 타입별 이관 전 파일 디렉터리
+     */
+    public Path directory(UploadType type) {
+        return Paths.get(uploadRoot, type.dir);
     }
 
-    private void persist(MultipartFile file, UploadType type, String filename) {
-        try {
-            File dir = new File(uploadRoot + type.dir);
-            if (!dir.exists()) dir.mkdirs();
-            file.transferTo(new File(dir, filename));
-        } catch (IOException e) {
-            throw new RuntimeException("파일 저장 실패: " + filename, e);
+    /** 별칭 표에 기록되는 이전 파일 경로 ({type.dir}/{파일명}) */
+    public static String legacyPath(UploadType type, String filename) {
+        return type.dir + "/" + filename;
+    }
+
+    /**
+     * 저장소 전체의 누락된 이미지 파생본을 백그라운드로 생성합니다.
+     */
+    public void backfillDerivatives() {
+        imageDerivativeService.backfillAsync(contentStore.keys());
+    }
+
+    /** 이전 방식({type.dir}/w{폭}/{파일명})으로 만들어진 파생본 삭제 */
+    public void deleteLegacyDerivatives(UploadType type, String filename) {
+        if (!type.image) return;
+        for (ImageSize size : ImageSize.values()) {
+            try {
+                Files.deleteIfExists(directory(type).resolve(size.dir()).resolve(filename));
+            } catch (IOException e) {
+                log.warn("[FileManager] 파생본 삭제 실패: {}/{}/{} - {}", type.dir, size.dir(), filename, e.getMessage());
+            }
         }
     }
 }
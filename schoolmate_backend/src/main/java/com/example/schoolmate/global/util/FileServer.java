@@ -0,0 +1,212 @@
+package com.example.schoolmate.global.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 업로드 파일 서빙 도우미.
+ *
+ * <ul>
+ *   <li>ETag: 크기·수정시각 기반 (nginx 와 같은 방식) — 요청 경로에서 파일 내용을 읽지 않음</li>
+ *   <li>조건부 GET: If-None-Match / If-Modified-Since 일치 시 304 (본문 없음)</li>
+ *   <li>Range: 단일 구간 {@code bytes=a-b}, {@code bytes=a-}, {@code bytes=-n} → 206, 범위 밖이면 416.
+ *       다중 구간·형식이 잘못된 요청(b &lt; a 등)은 Range 를 무시하고 전체(200)로 응답 (RFC 9110)</li>
+ *   <li>캐시 정책: 이름이 바뀌지 않는 파일은 {@link CachePolicy#IMMUTABLE} (1년 + immutable),
+ *       그 외는 {@link CachePolicy#REVALIDATE} (매번 검증 → 대부분 304)</li>
+ *   <li>본문 전송: Tomcat sendfile 지원 시 커널 zero-copy 로 위임, 아니면 FileChannel.transferTo</li>
+ * </ul>
+ */
+@Component
+public class FileServer {
+
+    /** 캐시 정책 */
+    public enum CachePolicy {
+        /** 파일명이 곧 버전 (UUID·내용 주소) — 재검증 없이 1년 캐시 */
+        IMMUTABLE("public, max-age=31536000, immutable"),
+        /** 같은 이름이 다른 내용을 가리킬 수 있음 — 매 요청 ETag 검증 */
+        REVALIDATE("no-cache");
+
+        final String header;
+
+        CachePolicy(String header) { this.header = header; }
+    }
+
+    /** Tomcat sendfile 요청 속성 (NIO/NIO2 커넥터) */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** sendfile 은 작은 파일에선 오히려 손해 (Tomcat DefaultServlet 기본값과 동일) */
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    // ── Public API ────────────────────────────────────────────────────────────
+
+    /**
+     * 저장된 업로드 파일을 응답으로 전송합니다.
+     * 로컬 파일은 직접 전송하고, 원격 저장소는 presigned URL 로 리다이렉트합니다.
+     * 파생본 대신 원본을 보내는 경우(fallback)는 나중에 파생본으로 바뀌어야 하므로 재검증 정책을 씁니다.
+     */
+    public void serve(FileManager.StoredFile stored, CachePolicy policy,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (stored.localPath() != null) {
+            serve(stored.localPath(), stored.fallback() ? CachePolicy.REVALIDATE : policy, request, response);
+            return;
+        }
+        // presigned URL 은 만료되므로 리다이렉트 응답 자체는 캐시하지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.sendRedirect(stored.remoteUrl().toString());
+    }
+
+    /**
+     * 파일을 응답으로 전송합니다 (경로 검증은 호출자 책임).
+     */
+    public void serve(Path file, CachePolicy policy,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attrs.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long size = attrs.size();
+        long modified = attrs.lastModifiedTime().toMillis();
+        String etag = etagOf(file, size, modified, policy);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, policy.header);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 304 — checkNotModified 가 ETag / Last-Modified 헤더와 상태 코드를 함께 설정
+        if (new ServletWebRequest(request, response).checkNotModified(etag, modified)) {
+            return;
+        }
+
+        String contentType = URLConnection.guessContentTypeFromName(file.getFileName().toString());
+        response.setContentType(contentType != null ? contentType : "application/octet-stream");
+
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && size > 0 && ifRangeMatches(request, etag, modified)) {
+            long[] parsed = parseRange(range, size);
+            if (parsed == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+        long length = end - start + 1;
+        response.setContentLengthLong(Math.max(length, 0));
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length <= 0) {
+            return;
+        }
+        if (length >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, length, response.getOutputStream());
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private void transfer(Path file, long start, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * IMMUTABLE 은 파일명 자체가 고유하므로 이름 기반 ETag, 그 외는 (크기, 수정시각) ETag.
+     * 같은 이름에 다른 내용이 쓰이면 수정시각이 바뀌므로 재검증에 충분합니다.
+     */
+    private static String etagOf(Path file, long size, long modified, CachePolicy policy) {
+        if (policy == CachePolicy.IMMUTABLE) {
+            return "\"" + file.getFileName() + "-" + size + "\"";
+        }
+        return "\"" + Long.toHexString(modified) + "-" + Long.toHexString(size) + "\"";
+    }
+
+    /**
+     * If-Range 가 없거나 현재 ETag/Last-Modified 와 일치할 때만 Range 적용
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long modified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+        return since >= 0 && modified / 1000 <= since / 1000;
+    }
+
+    /**
+     * @return {start, end} (둘 다 포함), 전체 응답(Range 무시)이면 빈 배열, 만족 불가(416)면 null
+     */
+    static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=")) return new long[0];
+        String spec = header.substring("bytes=".length()).trim();
+        if (spec.contains(",")) return new long[0];
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+        try {
+            String from = spec.substring(0, dash).trim();
+            String to = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (from.isEmpty()) {
+                // bytes=-n : 마지막 n 바이트
+                long suffix = Long.parseLong(to);
+                if (suffix <= 0) return null;
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(from);
+                long last = to.isEmpty() ? size - 1 : Long.parseLong(to);
+                // bytes=5-3 처럼 끝이 시작보다 앞선 구간은 형식 오류 → Range 무시
+                if (start < 0 || last < start) return new long[0];
+                end = Math.min(last, size - 1);
+            }
+            if (start >= size) return null;
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.schoolmate.global.util;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.schoolmate.domain.file.storage.BlobStore;
+import com.example.schoolmate.domain.file.storage.StorageKeys;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+
+/**
+ * 업로드 이미지 파생본(썸네일) 생성기.
+ *
+ * <p>원본 저장 직후 {@link #submit(String)} 로 저장소 키를 넘기면, 크기가 제한된 백그라운드 워커 풀이
+ * {@link FileManager.ImageSize} 의 고정 폭마다 축소본을 만들어
+ * {@code w{폭}/{원본 키}} 로 같은 저장소({@link BlobStore})에 저장합니다.</p>
+ *
+ * <ul>
+ *   <li>EXIF 방향(Orientation)을 반영해 회전한 뒤 다시 인코딩하므로 파생본에는 EXIF(GPS 등)가 남지 않습니다.</li>
+ *   <li>원본보다 큰 폭으로는 확대하지 않습니다.</li>
+ *   <li>JPEG 는 JPEG(품질 0.8)로, PNG 는 투명도 유지를 위해 PNG 로 생성합니다. 그 외 형식은 건너뜁니다.</li>
+ *   <li>임시 파일에 쓴 뒤 저장소로 옮기므로 반쯤 쓰인 파생본이 서빙되지 않습니다.</li>
+ *   <li>디코딩 전에 헤더의 가로·세로만 읽어 app.image.max-pixels 를 넘으면 건너뜁니다
+ *       (작은 파일로 거대한 비트맵을 만드는 압축 폭탄 PNG 로 힙이 고갈되지 않도록).</li>
+ * </ul>
+ *
+ * <p>파생본이 아직 없으면 UploadFileController 가 원본으로 대체 응답합니다.</p>
+ */
+@Slf4j
+@Component
+public class ImageDerivativeService {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final BlobStore blobStore;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(
+            BlobStore blobStore,
+            @Value("${app.image.derivative-workers:2}") int workers,
+            @Value("${app.image.derivative-queue:500}") int queueCapacity,
+            @Value("${app.image.max-pixels:25000000}") long maxPixels) {
+        this.blobStore = blobStore;
+        this.maxPixels = maxPixels;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-derivative-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ── Public API ────────────────────────────────────────────────────────────
+
+    /** 파생본을 만들 수 있는 원본인지 (확장자 기준) */
+    public boolean supports(String filename) {
+        return formatOf(filename) != null;
+    }
+
+    /**
+     * 파생본 생성을 백그라운드 큐에 등록합니다.
+     * 큐가 가득 차면 건너뛰며(원본으로 서빙됨), 이후 backfill 로 보충할 수 있습니다.
+     */
+    public void submit(String key) {
+        if (!supports(key)) return;
+        try {
+            executor.execute(() -> generate(key));
+        } catch (RejectedExecutionException e) {
+            log.warn("[ImageDerivative] 작업 큐가 가득 차 건너뜀: {}", key);
+        }
+    }
+
+    /**
+     * 원본 키의 파생본을 모두 삭제합니다.
+     */
+    public void delete(String key) {
+        if (!supports(key)) return;
+        for (FileManager.ImageSize size : FileManager.ImageSize.values()) {
+            try {
+                blobStore.delete(StorageKeys.derivativeKey(key, size));
+            } catch (IOException | RuntimeException e) {
+                log.warn("[ImageDerivative] 파생본 삭제 실패: {}/{} - {}", size.dir(), key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저장소의 누락된 파생본을 백그라운드에서 채웁니다.
+     * 워커 하나에서 순차 처리하므로 나머지 워커는 신규 업로드 처리에 계속 사용됩니다.
+     */
+    public void backfillAsync(Iterable<String> keys) {
+        try {
+            executor.execute(() -> backfillAll(keys));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("이미지 작업 큐가 가득 찼습니다. 잠시 후 다시 시도하세요.");
+        }
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private void backfillAll(Iterable<String> keys) {
+        long start = System.nanoTime();
+        int created = 0;
+        for (String key : keys) {
+            if (supports(key) && isMissingAny(key)) {
+                created += generate(key);
+            }
+        }
+        log.info("[ImageDerivative] backfill 완료: 파생본 {}개 생성, {}ms",
+                created, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean isMissingAny(String key) {
+        for (FileManager.ImageSize size : FileManager.ImageSize.values()) {
+            if (!blobStore.contains(StorageKeys.derivativeKey(key, size))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 원본을 한 번만 디코딩(EXIF 방향 반영)하고 각 폭으로 축소해 저장합니다.
+     *
+     * @return 새로 만든 파생본 수
+     */
+    int generate(String key) {
+        String format = formatOf(key);
+        if (format == null || !blobStore.contains(key)) return 0;
+        int created = 0;
+        try {
+            BufferedImage oriented = decode(key);
+            for (FileManager.ImageSize size : FileManager.ImageSize.values()) {
+                String target = StorageKeys.derivativeKey(key, size);
+                if (blobStore.contains(target)) continue;
+                Path tmp = blobStore.createTempFile();
+                try {
+                    try (OutputStream out = Files.newOutputStream(tmp)) {
+                        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(oriented)
+                                .width(Math.min(size.width, oriented.getWidth()))
+                                .outputFormat(format);
+                        if ("jpg".equals(format)) {
+                            builder.imageType(BufferedImage.TYPE_INT_RGB).outputQuality(JPEG_QUALITY);
+                        }
+                        builder.toOutputStream(out);
+                    }
+                    blobStore.put(target, tmp);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+                created++;
+            }
+            log.debug("[ImageDerivative] 생성: {} ({}개)", key, created);
+        } catch (IOException | RuntimeException e) {
+            // 손상된 이미지 등 — 원본 서빙으로 대체되므로 경고만 남김
+            log.warn("[ImageDerivative] 생성 실패: {} - {}", key, e.getMessage());
+        }
+        return created;
+    }
+
+    /** 로컬 저장소는 파일에서 바로, 원격 저장소는 스트림으로 디코딩 (크기 검사 후) */
+    private BufferedImage decode(String key) throws IOException {
+        Path local = blobStore.localPath(key);
+        if (local != null) {
+            try (InputStream in = Files.newInputStream(local)) {
+                checkPixels(in);
+            }
+            return Thumbnails.of(local.toFile()).scale(1.0).useExifOrientation(true).asBufferedImage();
+        }
+        try (InputStream in = blobStore.open(key)) {
+            checkPixels(in);
+        }
+        try (InputStream in = blobStore.open(key)) {
+            return Thumbnails.of(in).scale(1.0).useExifOrientation(true).asBufferedImage();
+        }
+    }
+
+    /** 헤더의 가로·세로만 읽어(픽셀 디코딩 없음) 상한을 넘으면 IOException */
+    private void checkPixels(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis != null ? ImageIO.getImageReaders(iis) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지가 너무 큽니다 (" + reader.getWidth(0) + "x" + reader.getHeight(0) + ")");
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static String formatOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0) return null;
+        return switch (filename.substring(dot + 1).toLowerCase(Locale.ROOT)) {
+            case "jpg", "jpeg" -> "jpg";
+            case "png" -> "png";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.schoolmate.global.config.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * SQL 예산 필터 — action=fail 이 응답 커밋 전에 요청을 실패시키는지, log 모드는 응답을 그대로 두는지 확인합니다.
+ */
+class SqlStatementStatsFilterTest {
+
+    private static final String SELECT = "select u1_0.uid from users u1_0 where u1_0.uid=?";
+
+    private final SqlStatementStats stats = new SqlStatementStats();
+
+    @Test
+    void failModeRejectsBeforeCommit() {
+        SqlStatementStatsFilter filter = new SqlStatementStatsFilter(stats, false, 2, 0, "fail");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> filter.doFilter(get(), response, chain(3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("statements 3 > 2");
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(stats.snapshot().get("GET " + SqlStatementStatsFilter.UNMAPPED).overBudget()).isEqualTo(1);
+    }
+
+    @Test
+    void failModeRejectsRepeatedShape() {
+        SqlStatementStatsFilter filter = new SqlStatementStatsFilter(stats, false, 0, 2, "fail");
+
+        assertThatThrownBy(() -> filter.doFilter(get(), new MockHttpServletResponse(), chain(3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("repeats 3 > 2");
+    }
+
+    @Test
+    void failModeWritesBodyWithinBudget() throws Exception {
+        SqlStatementStatsFilter filter = new SqlStatementStatsFilter(stats, true, 5, 5, "fail");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(get(), response, chain(2));
+
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+        assertThat(response.getHeader("X-Sql-Statements")).isEqualTo("2");
+        assertThat(response.getHeader("X-Sql-Max-Repeats")).isEqualTo("2");
+    }
+
+    @Test
+    void logModeKeepsResponse() throws Exception {
+        SqlStatementStatsFilter filter = new SqlStatementStatsFilter(stats, false, 2, 0, "log");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(get(), response, chain(3));
+
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+        assertThat(stats.snapshot().get("GET " + SqlStatementStatsFilter.UNMAPPED).overBudget()).isEqualTo(1);
+    }
+
+    // ── Private helpers ───────────────────────────────────────────────────────
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/test");
+    }
+
+    /** 같은 SELECT 를 statements 번 실행한 것처럼 집계하고 본문 "ok" 를 씁니다. */
+    private static MockFilterChain chain(int statements) {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                for (int i = 0; i < statements; i++) {
+                    counter.inspect(SELECT);
+                }
+                resp.getWriter().write("ok");
+                resp.flushBuffer();
+            }
+        });
+    }
+}
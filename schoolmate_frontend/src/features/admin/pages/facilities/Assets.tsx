@@ -620,7 +620,7 @@ export default function Assets() {
                         <td style={{ ...tdStyle, fontWeight: 600 }}>{m.name}</td>
                         <td style={{ ...tdStyle, textAlign: "center" }}>
                           {m.imageUrl ? (
-                            <img src={m.imageUrl} alt={m.name} style={{ width: "40px", height: "40px", objectFit: "cover", borderRadius: 6 }} />
+                            <img src={m.thumbnailUrl ?? m.imageUrl} alt={m.name} style={{ width: "40px", height: "40px", objectFit: "cover", borderRadius: 6 }} />
                           ) : (
                             <div style={{ width: 40, height: 40, background: "#f3f4f6", borderRadius: 6, display: "inline-flex", alignItems: "center", justifyContent: "center", color: "#9ca3af" }}>
                               <i className="ri-image-line" />
@@ -11,6 +11,8 @@ import ParentBackButton from "@/shared/components/ParentBackButton";
 interface PhotoItem {
   id: number;
   imageUrl: string;
+  thumbnailUrl?: string;
+  mediumUrl?: string;
   caption: string;
 }
 
@@ -489,7 +491,7 @@ export default function ClassAlbum() {
                     style={{ position: "relative", aspectRatio: "4/3", overflow: "hidden", background: "#f3f4f6" }}
                   >
                     <img
-                      src={group.photos[0].imageUrl}
+                      src={group.photos[0].thumbnailUrl ?? group.photos[0].imageUrl}
                       alt={caption}
                       style={{
                         width: "100%",
@@ -656,7 +658,7 @@ export default function ClassAlbum() {
             style={{ maxWidth: 800, width: "100%", textAlign: "center", position: "relative" }}
           >
             <img
-              src={lightbox.group.photos[lightbox.index].imageUrl}
+              src={lightbox.group.photos[lightbox.index].mediumUrl ?? lightbox.group.photos[lightbox.index].imageUrl}
               alt={lightbox.group.photos[lightbox.index].caption}
               style={{ maxWidth: "100%", maxHeight: "75vh", borderRadius: 12, objectFit: "contain" }}
             />
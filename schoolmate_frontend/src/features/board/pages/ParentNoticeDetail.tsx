@@ -48,6 +48,9 @@ export default function ParentNoticeDetail() {
   const [editFile, setEditFile] = useState<File | null>(null);
   const [saving, setSaving] = useState(false);
 
+  // HWP 첨부: 백그라운드 PDF 변환 결과 (null = 변환 작업 없음)
+  const [hwpPreview, setHwpPreview] = useState<{ status: string; pdfUrl?: string } | null>(null);
+
   // [woo] docx 프리뷰 컨테이너 ref
   const docxRef = useRef<HTMLDivElement>(null);
 
@@ -79,6 +82,33 @@ export default function ParentNoticeDetail() {
   }, [id]);
 
   // [woo] docx 첨부파일 렌더링
+  // HWP/HWPX 첨부: 변환 상태를 조회하고, 변환 중이면 완료될 때까지 3초 간격으로 다시 확인
+  useEffect(() => {
+    const url = board?.attachmentUrl;
+    setHwpPreview(null);
+    if (!url || !url.match(/\.(hwp|hwpx)$/i)) return;
+    const filename = url.split("/").pop();
+    let timer: ReturnType<typeof setTimeout> | undefined;
+    let cancelled = false;
+    const check = () => {
+      api
+        .get(`/board/file/${filename}/conversion`)
+        .then((res) => {
+          if (cancelled) return;
+          setHwpPreview({ status: res.data.status, pdfUrl: res.data.pdfUrl });
+          if (res.data.status === "PENDING" || res.data.status === "RUNNING") {
+            timer = setTimeout(check, 3000);
+          }
+        })
+        .catch(() => {});
+    };
+    check();
+    return () => {
+      cancelled = true;
+      if (timer) clearTimeout(timer);
+    };
+  }, [board?.attachmentUrl]);
+
   useEffect(() => {
     if (!board?.attachmentUrl || !docxRef.current) return;
     const url = board.attachmentUrl;
@@ -247,6 +277,22 @@ export default function ParentNoticeDetail() {
           </div>
         )}
 
+        {/* HWP 첨부: 변환된 PDF 미리보기 */}
+        {hwpPreview?.status === "DONE" && hwpPreview.pdfUrl && (
+          <div style={{ background: "#f5f5f5", overflow: "hidden" }}>
+            <iframe
+              src={`${hwpPreview.pdfUrl}#view=FitH&toolbar=0&navpanes=0`}
+              style={{ width: "100%", height: 800, border: "none", display: "block" }}
+              title="PDF 미리보기"
+            />
+          </div>
+        )}
+        {(hwpPreview?.status === "PENDING" || hwpPreview?.status === "RUNNING") && (
+          <div style={{ padding: "16px 24px", fontSize: 13, color: "#6b7280" }}>
+            <i className="ri-loader-4-line" style={{ marginRight: 6 }} />첨부 문서 미리보기를 준비하고 있습니다...
+          </div>
+        )}
+
         {/* 본문 (PDF가 아닐 때) */}
         {ext !== "pdf" && (
           <div className="card-body" style={{ padding: "20px 24px" }}>
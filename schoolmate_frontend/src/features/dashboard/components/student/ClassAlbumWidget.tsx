@@ -10,6 +10,8 @@ import { useAuth } from '@/shared/contexts/AuthContext'
 interface PhotoItem {
   id: number
   imageUrl: string
+  thumbnailUrl?: string
+  mediumUrl?: string
   caption: string
 }
 
@@ -107,7 +109,7 @@ export default function ClassAlbumWidget({ classroomId, moreHref }: Props) {
                     onClick={() => setLightbox(group.photos[0])}
                   >
                     <img
-                      src={group.photos[0].imageUrl}
+                      src={group.photos[0].thumbnailUrl ?? group.photos[0].imageUrl}
                       alt={group.photos[0].caption || '학급 사진'}
                       style={{ width: '100%', height: '100%', objectFit: 'cover' }}
                     />
@@ -217,7 +219,7 @@ export default function ClassAlbumWidget({ classroomId, moreHref }: Props) {
         >
           <div onClick={e => e.stopPropagation()} style={{ maxWidth: 700, width: '100%', textAlign: 'center' }}>
             <img
-              src={lightbox.imageUrl}
+              src={lightbox.mediumUrl ?? lightbox.imageUrl}
               alt={lightbox.caption}
               style={{ maxWidth: '100%', maxHeight: '70vh', borderRadius: 12, objectFit: 'contain' }}
             />